@@ -23,6 +23,7 @@ import org.apache.shardingsphere.infra.config.algorithm.ShardingSphereAlgorithmC
 import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.parser.config.SQLParserRuleConfiguration;
 import org.apache.shardingsphere.sql.parser.api.CacheOption;
+import org.apache.shardingsphere.sql.parser.api.SQLParserEngine;
 
 import javax.sql.DataSource;
 import java.util.Collection;
@@ -49,7 +50,7 @@ public abstract class BaseShadowConfiguration implements ExampleConfiguration {
     protected SQLParserRuleConfiguration createSQLParserRuleConfiguration() {
         CacheOption parseTreeCacheOption = new CacheOption(128, 1024L, 4);
         CacheOption sqlStatementCacheOption = new CacheOption(2000, 65535L, 4);
-        return new SQLParserRuleConfiguration(true, parseTreeCacheOption, sqlStatementCacheOption);
+        return new SQLParserRuleConfiguration(true, parseTreeCacheOption, sqlStatementCacheOption, false, false, SQLParserEngine.DEFAULT_TRIM_PARSE_TREE_THRESHOLD);
     }
     
     protected Collection<String> createShadowAlgorithmNames() {
@@ -49,6 +49,10 @@ public final class MetricIds {
     
     public static final String METADATA_INFO = "meta_data_info";
     
+    public static final String SQL_STATEMENT_CACHE_INFO = "sql_statement_cache_info";
+    
+    public static final String DATA_NODE_STATISTICS = "data_node_statistics";
+    
     public static final String PARSE_SQL_SELECT = "parse_sql_dml_select_total";
     
     public static final String PARSE_SQL_UPDATE = "parse_sql_dml_update_total";
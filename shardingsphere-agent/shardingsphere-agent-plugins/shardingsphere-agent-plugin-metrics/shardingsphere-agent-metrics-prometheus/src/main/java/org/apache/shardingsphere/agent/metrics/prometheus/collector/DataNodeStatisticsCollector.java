@@ -0,0 +1,71 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.agent.metrics.prometheus.collector;
+
+import io.prometheus.client.Collector;
+import io.prometheus.client.GaugeMetricFamily;
+import org.apache.shardingsphere.agent.metrics.api.constant.MetricIds;
+import org.apache.shardingsphere.agent.metrics.api.util.MetricsUtil;
+import org.apache.shardingsphere.agent.metrics.prometheus.wrapper.PrometheusWrapperFactory;
+import org.apache.shardingsphere.infra.statistics.DataNodeStatistics;
+import org.apache.shardingsphere.infra.statistics.DataNodeStatisticsRegistry;
+import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
+
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map.Entry;
+import java.util.Optional;
+
+/**
+ * Data node statistics collector.
+ */
+public final class DataNodeStatisticsCollector extends Collector {
+    
+    private static final String PROXY_CONTEXT_CLASS_STR = "org.apache.shardingsphere.proxy.backend.context.ProxyContext";
+    
+    private static final PrometheusWrapperFactory FACTORY = new PrometheusWrapperFactory();
+    
+    @Override
+    public List<MetricFamilySamples> collect() {
+        List<MetricFamilySamples> result = new LinkedList<>();
+        if (MetricsUtil.classNotExist(PROXY_CONTEXT_CLASS_STR)) {
+            return result;
+        }
+        Optional<GaugeMetricFamily> dataNodeStatistics = FACTORY.createGaugeMetricFamily(MetricIds.DATA_NODE_STATISTICS);
+        if (!dataNodeStatistics.isPresent()) {
+            return result;
+        }
+        for (Entry<String, DataNodeStatisticsRegistry> entry : ProxyContext.getInstance().getContextManager().getMetaDataContexts().getDataNodeStatisticsRegistries().entrySet()) {
+            for (DataNodeStatistics each : entry.getValue().getAllStatistics()) {
+                collectDataNodeStatistics(dataNodeStatistics.get(), entry.getKey(), each);
+            }
+        }
+        result.add(dataNodeStatistics.get());
+        return result;
+    }
+    
+    private void collectDataNodeStatistics(final GaugeMetricFamily metricFamily, final String schemaName, final DataNodeStatistics statistics) {
+        String dataSourceName = statistics.getDataNode().getDataSourceName();
+        String tableName = statistics.getDataNode().getTableName();
+        metricFamily.addMetric(Arrays.asList(schemaName, dataSourceName, tableName, "routed_count"), statistics.getRoutedCount());
+        metricFamily.addMetric(Arrays.asList(schemaName, dataSourceName, tableName, "returned_row_count"), statistics.getReturnedRowCount());
+        metricFamily.addMetric(Arrays.asList(schemaName, dataSourceName, tableName, "execute_count"), statistics.getExecuteTime().getCount());
+        metricFamily.addMetric(Arrays.asList(schemaName, dataSourceName, tableName, "total_execute_time_nanos"), statistics.getExecuteTime().getTotal());
+    }
+}
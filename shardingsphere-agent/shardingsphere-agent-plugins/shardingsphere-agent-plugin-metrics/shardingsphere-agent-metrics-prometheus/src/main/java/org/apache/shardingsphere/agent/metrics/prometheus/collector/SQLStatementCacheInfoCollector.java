@@ -0,0 +1,69 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.agent.metrics.prometheus.collector;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.prometheus.client.Collector;
+import io.prometheus.client.GaugeMetricFamily;
+import org.apache.shardingsphere.agent.metrics.api.constant.MetricIds;
+import org.apache.shardingsphere.agent.metrics.api.util.MetricsUtil;
+import org.apache.shardingsphere.agent.metrics.prometheus.wrapper.PrometheusWrapperFactory;
+import org.apache.shardingsphere.infra.parser.sql.SQLStatementParserEngineFactory;
+
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map.Entry;
+import java.util.Optional;
+
+/**
+ * SQL statement cache information collector.
+ */
+public final class SQLStatementCacheInfoCollector extends Collector {
+    
+    private static final String PARSER_ENGINE_FACTORY_CLASS_STR = "org.apache.shardingsphere.infra.parser.sql.SQLStatementParserEngineFactory";
+    
+    private static final PrometheusWrapperFactory FACTORY = new PrometheusWrapperFactory();
+    
+    @Override
+    public List<MetricFamilySamples> collect() {
+        List<MetricFamilySamples> result = new LinkedList<>();
+        if (MetricsUtil.classNotExist(PARSER_ENGINE_FACTORY_CLASS_STR)) {
+            return result;
+        }
+        Optional<GaugeMetricFamily> cacheInfo = FACTORY.createGaugeMetricFamily(MetricIds.SQL_STATEMENT_CACHE_INFO);
+        if (!cacheInfo.isPresent()) {
+            return result;
+        }
+        for (Entry<String, CacheStats> entry : SQLStatementParserEngineFactory.getCacheStats().entrySet()) {
+            collectCacheStats(cacheInfo.get(), entry.getKey(), entry.getValue());
+        }
+        result.add(cacheInfo.get());
+        return result;
+    }
+    
+    private void collectCacheStats(final GaugeMetricFamily metricFamily, final String databaseType, final CacheStats cacheStats) {
+        metricFamily.addMetric(Arrays.asList(databaseType, "hit_count"), cacheStats.hitCount());
+        metricFamily.addMetric(Arrays.asList(databaseType, "miss_count"), cacheStats.missCount());
+        metricFamily.addMetric(Arrays.asList(databaseType, "eviction_count"), cacheStats.evictionCount());
+        metricFamily.addMetric(Arrays.asList(databaseType, "eviction_weight"), cacheStats.evictionWeight());
+        metricFamily.addMetric(Arrays.asList(databaseType, "load_success_count"), cacheStats.loadSuccessCount());
+        metricFamily.addMetric(Arrays.asList(databaseType, "load_failure_count"), cacheStats.loadFailureCount());
+        metricFamily.addMetric(Arrays.asList(databaseType, "total_load_time_nanos"), cacheStats.totalLoadTime());
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.agent.metrics.prometheus.collector;
+
+import io.prometheus.client.Collector.MetricFamilySamples;
+import org.apache.shardingsphere.infra.instance.ComputeNodeInstance;
+import org.apache.shardingsphere.infra.instance.InstanceContext;
+import org.apache.shardingsphere.infra.statistics.DataNodeStatisticsRegistry;
+import org.apache.shardingsphere.mode.manager.memory.workerid.generator.MemoryWorkerIdGenerator;
+import org.apache.shardingsphere.mode.metadata.MetaDataContexts;
+import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
+import org.apache.shardingsphere.transaction.context.TransactionContexts;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class DataNodeStatisticsCollectorTest {
+    
+    @Test
+    public void assertCollect() {
+        DataNodeStatisticsRegistry registry = new DataNodeStatisticsRegistry();
+        registry.getStatistics("ds_0", "t_order_0").recordRouted();
+        MetaDataContexts metaDataContexts = mock(MetaDataContexts.class);
+        when(metaDataContexts.getDataNodeStatisticsRegistries()).thenReturn(Collections.singletonMap("sharding_db", registry));
+        ProxyContext.getInstance().getContextManager().init(metaDataContexts, mock(TransactionContexts.class), new InstanceContext(new ComputeNodeInstance(), new MemoryWorkerIdGenerator()));
+        List<MetricFamilySamples> actual = new DataNodeStatisticsCollector().collect();
+        assertThat(actual.size(), is(1));
+        assertThat(actual.get(0).samples.size(), is(4));
+        assertThat(actual.get(0).samples.get(0).labelValues, is(Arrays.asList("sharding_db", "ds_0", "t_order_0", "routed_count")));
+    }
+}
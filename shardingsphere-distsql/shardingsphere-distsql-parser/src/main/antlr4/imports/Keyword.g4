@@ -179,6 +179,14 @@ SQL_PARSER
     : S Q L UL_ P A R S E R
     ;
 
+SQL_STATISTICS
+    : S Q L UL_ S T A T I S T I C S
+    ;
+
+DATA_NODE_STATISTICS
+    : D A T A UL_ N O D E UL_ S T A T I S T I C S
+    ;
+
 AUTHORITY
     : A U T H O R I T Y
     ;
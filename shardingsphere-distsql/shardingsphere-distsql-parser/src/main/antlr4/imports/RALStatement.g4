@@ -71,6 +71,14 @@ showSQLParserRule
     : SHOW SQL_PARSER RULE
     ;
 
+showSQLStatistics
+    : SHOW SQL_STATISTICS
+    ;
+
+showDataNodeStatistics
+    : SHOW DATA_NODE_STATISTICS
+    ;
+
 alterSQLParserRule
     : ALTER SQL_PARSER RULE sqlParserRuleDefinition
     ;
@@ -40,6 +40,8 @@ execute
     | showTableMetadata
     | showSQLParserRule
     | alterSQLParserRule
+    | showSQLStatistics
+    | showDataNodeStatistics
     | showAuthorityRule
     | showTransactionRule
     | alterTransactionRule
@@ -45,6 +45,11 @@ public final class EncryptSQLRewriteContextDecorator implements SQLRewriteContex
         sqlRewriteContext.addSQLTokenGenerators(new EncryptTokenGenerateBuilder(encryptRule, encryptRule.isQueryWithCipherColumn()).getSQLTokenGenerators());
     }
     
+    @Override
+    public boolean isCacheable() {
+        return true;
+    }
+    
     @Override
     public int getOrder() {
         return EncryptOrder.ORDER;
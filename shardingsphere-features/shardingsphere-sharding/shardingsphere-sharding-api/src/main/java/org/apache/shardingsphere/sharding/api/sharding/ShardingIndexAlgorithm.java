@@ -0,0 +1,50 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.api.sharding;
+
+/**
+ * Sharding index algorithm, which maps every sharding value to a numeric shard index.
+ */
+public interface ShardingIndexAlgorithm {
+    
+    /**
+     * Get sharding index.
+     *
+     * @param shardingValue sharding value
+     * @return sharding index, negative if sharding value can not be mapped to any shard
+     */
+    int getShardingIndex(Comparable<?> shardingValue);
+    
+    /**
+     * Get sharding index count.
+     *
+     * @return sharding index count, valid sharding indexes are from 0 (inclusive) to count (exclusive)
+     */
+    int getShardingIndexCount();
+    
+    /**
+     * Judge whether target name is the target of sharding index.
+     *
+     * @param targetName target name
+     * @param shardingIndex sharding index
+     * @return is the target of sharding index or not
+     */
+    default boolean isShardingIndexTarget(final String targetName, final int shardingIndex) {
+        return targetName.endsWith(String.valueOf(shardingIndex));
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.support;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Compiled inline expression.
+ */
+@RequiredArgsConstructor(access = AccessLevel.PACKAGE)
+public final class CompiledInlineExpression {
+    
+    static final Object UNSUPPORTED_VALUE = new Object();
+    
+    private final List<String> texts;
+    
+    private final List<Function<Map<String, ?>, Object>> segments;
+    
+    /**
+     * Evaluate inline expression.
+     *
+     * @param variables variables
+     * @return evaluated result, empty if type of any variable is not supported by compiled expression and expression should be evaluated by Groovy
+     */
+    public Optional<String> evaluate(final Map<String, ?> variables) {
+        StringBuilder result = new StringBuilder(texts.get(0));
+        for (int i = 0; i < segments.size(); i++) {
+            Object value = segments.get(i).apply(variables);
+            if (!isPrintable(value)) {
+                return Optional.empty();
+            }
+            result.append(value).append(texts.get(i + 1));
+        }
+        return Optional.of(result.toString());
+    }
+    
+    private boolean isPrintable(final Object value) {
+        return null == value || value instanceof String || value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte
+                || value instanceof Character || value instanceof Boolean;
+    }
+}
@@ -0,0 +1,430 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.support;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Inline expression compiler.
+ * 
+ * <p>
+ * Compiles the common subset of inline expression to Java functions, so that it is not necessary to evaluate by Groovy.
+ * For sharding algorithms, expression in {@code ${...}} can be composed of integer literals, variables, {@code +}, {@code -}, {@code *}, {@code %}, parentheses,
+ * {@code .hashCode()} and {@code Math.abs()}, e.g. {@code t_order_${order_id % 16}}, {@code ds_${user_id.hashCode() % 4}}.
+ * For data nodes, expression in {@code ${...}} can be integer range, list of integer or string literals, or single literal, e.g. {@code ds_${0..1}.t_order_${['a', 'b']}}.
+ * Any other expression is not compiled and should be evaluated by Groovy.
+ * </p>
+ */
+public final class InlineExpressionCompiler {
+    
+    private static final Set<String> UNSUPPORTED_IDENTIFIERS = new HashSet<>(Arrays.asList("it", "this", "super", "owner", "delegate", "true", "false", "null", "new", "in", "as", "def", "Math"));
+    
+    private final String inlineExpression;
+    
+    private int position;
+    
+    public InlineExpressionCompiler(final String inlineExpression) {
+        this.inlineExpression = InlineExpressionParser.handlePlaceHolder(inlineExpression);
+    }
+    
+    /**
+     * Compile inline expression for sharding algorithm.
+     *
+     * @return compiled inline expression, empty if expression can not be compiled
+     */
+    public Optional<CompiledInlineExpression> compile() {
+        position = 0;
+        List<String> texts = new ArrayList<>();
+        List<Function<Map<String, ?>, Object>> segments = new ArrayList<>();
+        try {
+            texts.add(parseText());
+            while (position < inlineExpression.length()) {
+                position += 2;
+                segments.add(parseAdditiveExpression());
+                acceptSegmentEnd();
+                texts.add(parseText());
+            }
+        } catch (final UncompilableExpressionException ignore) {
+            return Optional.empty();
+        }
+        return Optional.of(new CompiledInlineExpression(texts, segments));
+    }
+    
+    /**
+     * Expand inline expression composed of literals, ranges and lists.
+     *
+     * @return expanded values, empty if expression can not be compiled
+     */
+    public Optional<List<String>> expand() {
+        position = 0;
+        List<String> texts = new ArrayList<>();
+        List<Collection<String>> segments = new ArrayList<>();
+        try {
+            texts.add(parseText());
+            while (position < inlineExpression.length()) {
+                position += 2;
+                segments.add(parseValues());
+                acceptSegmentEnd();
+                texts.add(parseText());
+            }
+        } catch (final UncompilableExpressionException ignore) {
+            return Optional.empty();
+        }
+        List<String> result = new LinkedList<>(Collections.singletonList(texts.get(0)));
+        for (int i = 0; i < segments.size(); i++) {
+            result = append(result, segments.get(i), texts.get(i + 1));
+        }
+        return Optional.of(new ArrayList<>(result));
+    }
+    
+    private List<String> append(final List<String> prefixes, final Collection<String> values, final String text) {
+        List<String> result = new LinkedList<>();
+        for (String each : prefixes) {
+            for (String value : values) {
+                result.add(each + value + text);
+            }
+        }
+        return result;
+    }
+    
+    private String parseText() {
+        int start = position;
+        while (position < inlineExpression.length()) {
+            char ch = inlineExpression.charAt(position);
+            if ('$' == ch && position + 1 < inlineExpression.length() && '{' == inlineExpression.charAt(position + 1)) {
+                break;
+            }
+            if ('$' == ch || '\\' == ch || '"' == ch) {
+                throw UncompilableExpressionException.INSTANCE;
+            }
+            position++;
+        }
+        return inlineExpression.substring(start, position);
+    }
+    
+    private void acceptSegmentEnd() {
+        skipWhitespaces();
+        accept('}');
+    }
+    
+    private Collection<String> parseValues() {
+        skipWhitespaces();
+        if (isCurrentChar('[')) {
+            return parseList();
+        }
+        if (isCurrentChar('\'')) {
+            return Collections.singleton(parseStringLiteral());
+        }
+        long from = parseSignedIntegerLiteral();
+        skipWhitespaces();
+        if (!inlineExpression.startsWith("..", position)) {
+            return Collections.singleton(Long.toString(from));
+        }
+        position += 2;
+        boolean exclusive = isCurrentChar('<');
+        if (exclusive) {
+            position++;
+        }
+        skipWhitespaces();
+        return createRange(from, parseSignedIntegerLiteral(), exclusive);
+    }
+    
+    private Collection<String> parseList() {
+        position++;
+        Collection<String> result = new LinkedHashSet<>();
+        skipWhitespaces();
+        if (isCurrentChar(']')) {
+            position++;
+            return result;
+        }
+        while (true) {
+            skipWhitespaces();
+            result.add(isCurrentChar('\'') ? parseStringLiteral() : Long.toString(parseSignedIntegerLiteral()));
+            skipWhitespaces();
+            if (isCurrentChar(']')) {
+                position++;
+                return result;
+            }
+            accept(',');
+        }
+    }
+    
+    private Collection<String> createRange(final long from, final long to, final boolean exclusive) {
+        if (from < Integer.MIN_VALUE || from > Integer.MAX_VALUE || to < Integer.MIN_VALUE || to > Integer.MAX_VALUE) {
+            throw UncompilableExpressionException.INSTANCE;
+        }
+        long step = from <= to ? 1L : -1L;
+        long end = exclusive ? to - step : to;
+        Collection<String> result = new LinkedHashSet<>();
+        if (exclusive && from == to) {
+            return result;
+        }
+        for (long i = from; step > 0 ? i <= end : i >= end; i += step) {
+            result.add(Long.toString(i));
+        }
+        return result;
+    }
+    
+    private String parseStringLiteral() {
+        int start = ++position;
+        while (position < inlineExpression.length() && '\'' != inlineExpression.charAt(position)) {
+            char ch = inlineExpression.charAt(position);
+            if ('\\' == ch || '$' == ch) {
+                throw UncompilableExpressionException.INSTANCE;
+            }
+            position++;
+        }
+        String result = inlineExpression.substring(start, position);
+        accept('\'');
+        return result;
+    }
+    
+    private long parseSignedIntegerLiteral() {
+        if (isCurrentChar('-')) {
+            position++;
+            skipWhitespaces();
+            return -parseIntegerLiteral();
+        }
+        return parseIntegerLiteral();
+    }
+    
+    private Function<Map<String, ?>, Object> parseAdditiveExpression() {
+        Function<Map<String, ?>, Object> result = parseMultiplicativeExpression();
+        while (true) {
+            skipWhitespaces();
+            if (isCurrentChar('+')) {
+                position++;
+                result = createBinaryExpression(result, parseMultiplicativeExpression(), '+');
+            } else if (isCurrentChar('-')) {
+                position++;
+                result = createBinaryExpression(result, parseMultiplicativeExpression(), '-');
+            } else {
+                return result;
+            }
+        }
+    }
+    
+    private Function<Map<String, ?>, Object> parseMultiplicativeExpression() {
+        Function<Map<String, ?>, Object> result = parseUnaryExpression();
+        while (true) {
+            skipWhitespaces();
+            if (isCurrentChar('*')) {
+                position++;
+                result = createBinaryExpression(result, parseUnaryExpression(), '*');
+            } else if (isCurrentChar('%')) {
+                position++;
+                result = createBinaryExpression(result, parseUnaryExpression(), '%');
+            } else if (isCurrentChar('/')) {
+                throw UncompilableExpressionException.INSTANCE;
+            } else {
+                return result;
+            }
+        }
+    }
+    
+    private Function<Map<String, ?>, Object> parseUnaryExpression() {
+        skipWhitespaces();
+        if (isCurrentChar('-')) {
+            position++;
+            Function<Map<String, ?>, Object> operand = parseUnaryExpression();
+            return variables -> negate(operand.apply(variables));
+        }
+        Function<Map<String, ?>, Object> result = parsePrimaryExpression();
+        while (inlineExpression.startsWith(".hashCode()", position)) {
+            position += ".hashCode()".length();
+            Function<Map<String, ?>, Object> operand = result;
+            result = variables -> hashCode(operand.apply(variables));
+        }
+        return result;
+    }
+    
+    private Function<Map<String, ?>, Object> parsePrimaryExpression() {
+        if (isCurrentChar('(')) {
+            position++;
+            Function<Map<String, ?>, Object> result = parseAdditiveExpression();
+            skipWhitespaces();
+            accept(')');
+            return result;
+        }
+        if (inlineExpression.startsWith("Math.abs(", position)) {
+            position += "Math.abs(".length();
+            Function<Map<String, ?>, Object> operand = parseAdditiveExpression();
+            skipWhitespaces();
+            accept(')');
+            return variables -> abs(operand.apply(variables));
+        }
+        if (position < inlineExpression.length() && Character.isDigit(inlineExpression.charAt(position))) {
+            long value = parseIntegerLiteral();
+            Object result = value <= Integer.MAX_VALUE ? (Object) (int) value : (Object) value;
+            return variables -> result;
+        }
+        String variableName = parseIdentifier();
+        return variables -> variables.get(variableName);
+    }
+    
+    private long parseIntegerLiteral() {
+        int start = position;
+        while (position < inlineExpression.length() && Character.isDigit(inlineExpression.charAt(position))) {
+            position++;
+        }
+        if (start == position || position - start > 18 || '0' == inlineExpression.charAt(start) && position - start > 1) {
+            throw UncompilableExpressionException.INSTANCE;
+        }
+        if (position < inlineExpression.length() && isIdentifierPart(inlineExpression.charAt(position))) {
+            throw UncompilableExpressionException.INSTANCE;
+        }
+        if (isCurrentChar('.') && !inlineExpression.startsWith("..", position)) {
+            throw UncompilableExpressionException.INSTANCE;
+        }
+        return Long.parseLong(inlineExpression.substring(start, position));
+    }
+    
+    private String parseIdentifier() {
+        int start = position;
+        if (position >= inlineExpression.length() || !isIdentifierStart(inlineExpression.charAt(position))) {
+            throw UncompilableExpressionException.INSTANCE;
+        }
+        while (position < inlineExpression.length() && isIdentifierPart(inlineExpression.charAt(position))) {
+            position++;
+        }
+        String result = inlineExpression.substring(start, position);
+        if (UNSUPPORTED_IDENTIFIERS.contains(result)) {
+            throw UncompilableExpressionException.INSTANCE;
+        }
+        skipWhitespaces();
+        if (isCurrentChar('(') || isCurrentChar('.') && !inlineExpression.startsWith(".hashCode()", position)) {
+            throw UncompilableExpressionException.INSTANCE;
+        }
+        return result;
+    }
+    
+    private boolean isIdentifierStart(final char ch) {
+        return ch >= 'a' && ch <= 'z' || ch >= 'A' && ch <= 'Z' || '_' == ch;
+    }
+    
+    private boolean isIdentifierPart(final char ch) {
+        return isIdentifierStart(ch) || ch >= '0' && ch <= '9' || '$' == ch;
+    }
+    
+    private boolean isCurrentChar(final char ch) {
+        return position < inlineExpression.length() && ch == inlineExpression.charAt(position);
+    }
+    
+    private void skipWhitespaces() {
+        while (position < inlineExpression.length() && Character.isWhitespace(inlineExpression.charAt(position))) {
+            position++;
+        }
+    }
+    
+    private void accept(final char ch) {
+        if (!isCurrentChar(ch)) {
+            throw UncompilableExpressionException.INSTANCE;
+        }
+        position++;
+    }
+    
+    private static Function<Map<String, ?>, Object> createBinaryExpression(final Function<Map<String, ?>, Object> left, final Function<Map<String, ?>, Object> right, final char operator) {
+        return variables -> calculate(left.apply(variables), right.apply(variables), operator);
+    }
+    
+    private static Object calculate(final Object left, final Object right, final char operator) {
+        if (isInt(left) && isInt(right)) {
+            int leftValue = ((Number) left).intValue();
+            int rightValue = ((Number) right).intValue();
+            switch (operator) {
+                case '+':
+                    return leftValue + rightValue;
+                case '-':
+                    return leftValue - rightValue;
+                case '*':
+                    return leftValue * rightValue;
+                default:
+                    return leftValue % rightValue;
+            }
+        }
+        if (isIntOrLong(left) && isIntOrLong(right)) {
+            long leftValue = ((Number) left).longValue();
+            long rightValue = ((Number) right).longValue();
+            switch (operator) {
+                case '+':
+                    return leftValue + rightValue;
+                case '-':
+                    return leftValue - rightValue;
+                case '*':
+                    return leftValue * rightValue;
+                default:
+                    return leftValue % rightValue;
+            }
+        }
+        return CompiledInlineExpression.UNSUPPORTED_VALUE;
+    }
+    
+    private static Object negate(final Object value) {
+        if (value instanceof Integer) {
+            return -(Integer) value;
+        }
+        if (value instanceof Long) {
+            return -(Long) value;
+        }
+        return CompiledInlineExpression.UNSUPPORTED_VALUE;
+    }
+    
+    private static Object abs(final Object value) {
+        if (isInt(value)) {
+            return Math.abs(((Number) value).intValue());
+        }
+        if (value instanceof Long) {
+            return Math.abs((Long) value);
+        }
+        return CompiledInlineExpression.UNSUPPORTED_VALUE;
+    }
+    
+    private static Object hashCode(final Object value) {
+        return null == value || CompiledInlineExpression.UNSUPPORTED_VALUE == value ? CompiledInlineExpression.UNSUPPORTED_VALUE : value.hashCode();
+    }
+    
+    private static boolean isInt(final Object value) {
+        return value instanceof Integer || value instanceof Short || value instanceof Byte;
+    }
+    
+    private static boolean isIntOrLong(final Object value) {
+        return isInt(value) || value instanceof Long;
+    }
+    
+    private static final class UncompilableExpressionException extends RuntimeException {
+        
+        private static final long serialVersionUID = 6502416939488893457L;
+        
+        private static final UncompilableExpressionException INSTANCE = new UncompilableExpressionException();
+        
+        private UncompilableExpressionException() {
+            super(null, null, false, false);
+        }
+    }
+}
@@ -31,6 +31,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
@@ -89,6 +90,11 @@ public final class InlineExpressionParser {
     private List<Object> evaluate(final List<String> inlineExpressions) {
         List<Object> result = new ArrayList<>(inlineExpressions.size());
         for (String each : inlineExpressions) {
+            Optional<List<String>> expandedValues = new InlineExpressionCompiler(each).expand();
+            if (expandedValues.isPresent()) {
+                result.addAll(expandedValues.get());
+                continue;
+            }
             StringBuilder expression = new StringBuilder(handlePlaceHolder(each));
             if (!each.startsWith("\"")) {
                 expression.insert(0, "\"");
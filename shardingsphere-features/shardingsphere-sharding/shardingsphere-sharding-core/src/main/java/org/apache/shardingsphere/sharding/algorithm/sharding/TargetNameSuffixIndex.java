@@ -0,0 +1,94 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.algorithm.sharding;
+
+import com.google.common.collect.ImmutableCollection;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Index of available target names by the sharding suffixes they end with.
+ *
+ * <p>Indexes are cached only for immutable available target names, which are the actual data source names and actual table names held by table rules.
+ * Other available target names are indexed on every call.</p>
+ */
+public final class TargetNameSuffixIndex {
+    
+    private final Set<String> suffixes;
+    
+    private final Collection<Integer> suffixLengths = new TreeSet<>();
+    
+    private final Map<Collection<String>, Map<String, List<String>>> indexes = new ConcurrentHashMap<>();
+    
+    public TargetNameSuffixIndex(final Collection<String> suffixes) {
+        this.suffixes = new HashSet<>(suffixes);
+        for (String each : suffixes) {
+            suffixLengths.add(each.length());
+        }
+    }
+    
+    /**
+     * Get target names which end with suffix.
+     *
+     * @param availableTargetNames available target names
+     * @param suffix suffix
+     * @return target names which end with suffix, keep the order of available target names
+     */
+    public List<String> getTargetNames(final Collection<String> availableTargetNames, final String suffix) {
+        return getIndex(availableTargetNames).getOrDefault(suffix, Collections.emptyList());
+    }
+    
+    /**
+     * Get index of available target names.
+     *
+     * @param availableTargetNames available target names
+     * @return index, key is suffix and value is target names which end with suffix
+     */
+    public Map<String, List<String>> getIndex(final Collection<String> availableTargetNames) {
+        if (!(availableTargetNames instanceof ImmutableCollection)) {
+            return createIndex(availableTargetNames);
+        }
+        Map<String, List<String>> result = indexes.get(availableTargetNames);
+        return null == result ? indexes.computeIfAbsent(availableTargetNames, this::createIndex) : result;
+    }
+    
+    private Map<String, List<String>> createIndex(final Collection<String> availableTargetNames) {
+        Map<String, List<String>> result = new HashMap<>(suffixes.size(), 1);
+        for (String each : availableTargetNames) {
+            for (int suffixLength : suffixLengths) {
+                if (suffixLength > each.length()) {
+                    break;
+                }
+                String suffix = each.substring(each.length() - suffixLength);
+                if (suffixes.contains(suffix)) {
+                    result.computeIfAbsent(suffix, key -> new LinkedList<>()).add(each);
+                }
+            }
+        }
+        return result;
+    }
+}
@@ -18,6 +18,7 @@ package org.apache.shardingsphere.sharding.algorithm.sharding.cosid;
 import lombok.Getter;
 import lombok.Setter;
 import me.ahoo.cosid.sharding.ModCycle;
+import org.apache.shardingsphere.sharding.api.sharding.ShardingIndexAlgorithm;
 import org.apache.shardingsphere.sharding.api.sharding.standard.PreciseShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.standard.RangeShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.standard.StandardShardingAlgorithm;
@@ -28,7 +29,7 @@ import java.util.Properties;
 /**
  * Modular sharding algorithm.
  */
-public final class CosIdModShardingAlgorithm<T extends Number & Comparable<T>> implements StandardShardingAlgorithm<T> {
+public final class CosIdModShardingAlgorithm<T extends Number & Comparable<T>> implements StandardShardingAlgorithm<T>, ShardingIndexAlgorithm {
 
     public static final String TYPE = CosIdAlgorithm.TYPE_PREFIX + "MOD";
 
@@ -40,6 +41,8 @@ public final class CosIdModShardingAlgorithm<T extends Number & Comparable<T>> i
 
     private volatile ModCycle<T> modCycle;
 
+    private volatile String logicNamePrefix;
+
     @Override
     public String getType() {
         return TYPE;
@@ -55,11 +58,26 @@ public final class CosIdModShardingAlgorithm<T extends Number & Comparable<T>> i
         return modCycle.sharding(shardingValue.getValueRange());
     }
 
+    @Override
+    public int getShardingIndex(final Comparable<?> shardingValue) {
+        return (int) (((Number) shardingValue).longValue() % modCycle.getDivisor());
+    }
+
+    @Override
+    public int getShardingIndexCount() {
+        return modCycle.getDivisor();
+    }
+
+    @Override
+    public boolean isShardingIndexTarget(final String targetName, final int shardingIndex) {
+        return (logicNamePrefix + shardingIndex).equals(targetName);
+    }
+
     @Override
     public void init() {
         String divisorStr = PropertiesUtil.getRequiredValue(getProps(), MODULO_KEY);
         int divisor = Integer.parseInt(divisorStr);
-        String logicNamePrefix = PropertiesUtil.getRequiredValue(getProps(), CosIdAlgorithm.LOGIC_NAME_PREFIX_KEY);
+        logicNamePrefix = PropertiesUtil.getRequiredValue(getProps(), CosIdAlgorithm.LOGIC_NAME_PREFIX_KEY);
         modCycle = new ModCycle<>(divisor, logicNamePrefix);
     }
 }
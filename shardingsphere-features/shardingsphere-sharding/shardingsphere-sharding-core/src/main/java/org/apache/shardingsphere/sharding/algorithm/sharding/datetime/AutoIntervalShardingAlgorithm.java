@@ -19,9 +19,11 @@ package org.apache.shardingsphere.sharding.algorithm.sharding.datetime;
 
 import com.google.common.base.Preconditions;
 import com.google.common.collect.Range;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
 import org.apache.shardingsphere.infra.config.exception.ShardingSphereConfigurationException;
+import org.apache.shardingsphere.sharding.algorithm.sharding.TargetNameSuffixIndex;
 import org.apache.shardingsphere.sharding.api.sharding.ShardingAutoTableAlgorithm;
 import org.apache.shardingsphere.sharding.api.sharding.standard.PreciseShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.standard.RangeShardingValue;
@@ -34,7 +36,11 @@ import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
 import java.util.Properties;
 
 /**
@@ -60,11 +66,23 @@ public final class AutoIntervalShardingAlgorithm implements StandardShardingAlgo
     
     private int autoTablesAmount;
     
+    @Getter(AccessLevel.NONE)
+    private TargetNameSuffixIndex targetNameSuffixIndex;
+    
     @Override
     public void init() {
         dateTimeLower = getDateTime(DATE_TIME_LOWER_KEY);
         shardingSeconds = getShardingSeconds();
         autoTablesAmount = (int) (Math.ceil(parseDate(props.getProperty(DATE_TIME_UPPER_KEY)) / shardingSeconds) + 2);
+        targetNameSuffixIndex = createTargetNameSuffixIndex();
+    }
+    
+    private TargetNameSuffixIndex createTargetNameSuffixIndex() {
+        Collection<String> result = new LinkedList<>();
+        for (int i = 0; i < autoTablesAmount; i++) {
+            result.add(String.valueOf(i));
+        }
+        return new TargetNameSuffixIndex(result);
     }
     
     private LocalDateTime getDateTime(final String dateTimeKey) {
@@ -98,15 +116,11 @@ public final class AutoIntervalShardingAlgorithm implements StandardShardingAlgo
         Collection<String> result = new LinkedHashSet<>(availableTargetNames.size());
         int firstPartition = getFirstPartition(shardingValue.getValueRange());
         int lastPartition = getLastPartition(shardingValue.getValueRange());
-        for (int i = firstPartition; i <= lastPartition; i++) {
-            for (String each : availableTargetNames) {
-                if (each.endsWith(String.valueOf(i))) {
-                    result.add(each);
-                    break;
-                }
-                if (result.size() == availableTargetNames.size()) {
-                    return result;
-                }
+        Map<String, List<String>> targetNames = targetNameSuffixIndex.getIndex(availableTargetNames);
+        for (int i = firstPartition; i <= lastPartition && result.size() < availableTargetNames.size(); i++) {
+            List<String> partitionTargetNames = targetNames.getOrDefault(String.valueOf(i), Collections.emptyList());
+            if (!partitionTargetNames.isEmpty()) {
+                result.add(partitionTargetNames.get(0));
             }
         }
         return result;
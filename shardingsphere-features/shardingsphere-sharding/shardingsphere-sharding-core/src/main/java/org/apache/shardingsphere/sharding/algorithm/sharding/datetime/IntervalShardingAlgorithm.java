@@ -23,6 +23,7 @@ import com.google.common.collect.Range;
 import lombok.Getter;
 import lombok.Setter;
 import org.apache.shardingsphere.infra.config.exception.ShardingSphereConfigurationException;
+import org.apache.shardingsphere.sharding.algorithm.sharding.TargetNameSuffixIndex;
 import org.apache.shardingsphere.sharding.api.sharding.standard.PreciseShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.standard.RangeShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.standard.StandardShardingAlgorithm;
@@ -32,10 +33,15 @@ import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
 import java.time.temporal.ChronoUnit;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.NavigableMap;
 import java.util.Properties;
 import java.util.Set;
-import java.util.stream.Collectors;
+import java.util.TreeMap;
 
 /**
  * Interval sharding algorithm.
@@ -72,6 +78,10 @@ public final class IntervalShardingAlgorithm implements StandardShardingAlgorith
     
     private ChronoUnit stepUnit;
     
+    private NavigableMap<LocalDateTime, String> stepTableSuffixes;
+    
+    private TargetNameSuffixIndex targetNameSuffixIndex;
+    
     @Override
     public void init() {
         String dateTimePattern = getDateTimePattern();
@@ -82,6 +92,8 @@ public final class IntervalShardingAlgorithm implements StandardShardingAlgorith
         tableSuffixPattern = getTableSuffixPattern();
         stepAmount = Integer.parseInt(props.getOrDefault(INTERVAL_AMOUNT_KEY, 1).toString());
         stepUnit = props.containsKey(INTERVAL_UNIT_KEY) ? getStepUnit(props.getProperty(INTERVAL_UNIT_KEY)) : ChronoUnit.DAYS;
+        stepTableSuffixes = createStepTableSuffixes();
+        targetNameSuffixIndex = new TargetNameSuffixIndex(stepTableSuffixes.values());
     }
     
     private String getDateTimePattern() {
@@ -120,6 +132,16 @@ public final class IntervalShardingAlgorithm implements StandardShardingAlgorith
         throw new UnsupportedOperationException(String.format("Cannot find step unit for specified %s property: `%s`", INTERVAL_UNIT_KEY, stepUnit));
     }
     
+    private NavigableMap<LocalDateTime, String> createStepTableSuffixes() {
+        NavigableMap<LocalDateTime, String> result = new TreeMap<>();
+        LocalDateTime calculateTime = dateTimeLower;
+        while (!calculateTime.isAfter(dateTimeUpper)) {
+            result.put(calculateTime, calculateTime.format(tableSuffixPattern));
+            calculateTime = calculateTime.plus(stepAmount, stepUnit);
+        }
+        return result;
+    }
+    
     @Override
     public String doSharding(final Collection<String> availableTargetNames, final PreciseShardingValue<Comparable<?>> shardingValue) {
         return doSharding(availableTargetNames, Range.singleton(shardingValue.getValue())).stream().findFirst().orElse(null);
@@ -132,22 +154,34 @@ public final class IntervalShardingAlgorithm implements StandardShardingAlgorith
     
     private Collection<String> doSharding(final Collection<String> availableTargetNames, final Range<Comparable<?>> range) {
         Set<String> result = new HashSet<>();
-        LocalDateTime calculateTime = dateTimeLower;
-        while (!calculateTime.isAfter(dateTimeUpper)) {
-            if (hasIntersection(Range.closedOpen(calculateTime, calculateTime.plus(stepAmount, stepUnit)), range)) {
-                result.addAll(getMatchedTables(calculateTime, availableTargetNames));
+        if (stepTableSuffixes.isEmpty()) {
+            return result;
+        }
+        Range<LocalDateTime> dateTimeRange = getDateTimeRange(range);
+        Map<String, List<String>> targetNames = targetNameSuffixIndex.getIndex(availableTargetNames);
+        for (Entry<LocalDateTime, String> entry : getCandidateSteps(dateTimeRange).entrySet()) {
+            if (hasIntersection(Range.closedOpen(entry.getKey(), entry.getKey().plus(stepAmount, stepUnit)), dateTimeRange)) {
+                result.addAll(targetNames.getOrDefault(entry.getValue(), Collections.emptyList()));
             }
-            calculateTime = calculateTime.plus(stepAmount, stepUnit);
         }
         return result;
     }
     
-    private boolean hasIntersection(final Range<LocalDateTime> calculateRange, final Range<Comparable<?>> range) {
+    private Range<LocalDateTime> getDateTimeRange(final Range<Comparable<?>> range) {
         LocalDateTime lower = range.hasLowerBound() ? parseDateTime(range.lowerEndpoint().toString()) : dateTimeLower;
         LocalDateTime upper = range.hasUpperBound() ? parseDateTime(range.upperEndpoint().toString()) : dateTimeUpper;
         BoundType lowerBoundType = range.hasLowerBound() ? range.lowerBoundType() : BoundType.CLOSED;
         BoundType upperBoundType = range.hasUpperBound() ? range.upperBoundType() : BoundType.CLOSED;
-        Range<LocalDateTime> dateTimeRange = Range.range(lower, lowerBoundType, upper, upperBoundType);
+        return Range.range(lower, lowerBoundType, upper, upperBoundType);
+    }
+    
+    private NavigableMap<LocalDateTime, String> getCandidateSteps(final Range<LocalDateTime> dateTimeRange) {
+        LocalDateTime firstStep = stepTableSuffixes.floorKey(dateTimeRange.lowerEndpoint());
+        return null == firstStep
+                ? stepTableSuffixes.headMap(dateTimeRange.upperEndpoint(), true) : stepTableSuffixes.subMap(firstStep, true, dateTimeRange.upperEndpoint(), true);
+    }
+    
+    private boolean hasIntersection(final Range<LocalDateTime> calculateRange, final Range<LocalDateTime> dateTimeRange) {
         return calculateRange.isConnected(dateTimeRange) && !calculateRange.intersection(dateTimeRange).isEmpty();
     }
     
@@ -155,11 +189,6 @@ public final class IntervalShardingAlgorithm implements StandardShardingAlgorith
         return LocalDateTime.parse(value.substring(0, dateTimePatternLength), dateTimeFormatter);
     }
     
-    private Collection<String> getMatchedTables(final LocalDateTime dateTime, final Collection<String> availableTargetNames) {
-        String tableSuffix = dateTime.format(tableSuffixPattern);
-        return availableTargetNames.parallelStream().filter(each -> each.endsWith(tableSuffix)).collect(Collectors.toSet());
-    }
-    
     @Override
     public String getType() {
         return "INTERVAL";
@@ -25,9 +25,13 @@ import lombok.Setter;
 import org.apache.shardingsphere.sharding.api.sharding.standard.PreciseShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.standard.RangeShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.standard.StandardShardingAlgorithm;
+import org.apache.shardingsphere.sharding.support.CompiledInlineExpression;
+import org.apache.shardingsphere.sharding.support.InlineExpressionCompiler;
 import org.apache.shardingsphere.sharding.support.InlineExpressionParser;
 
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Optional;
 import java.util.Properties;
 
 /**
@@ -41,6 +45,8 @@ public final class InlineShardingAlgorithm implements StandardShardingAlgorithm<
     
     private String algorithmExpression;
     
+    private CompiledInlineExpression compiledAlgorithmExpression;
+    
     private boolean allowRangeQuery;
     
     @Getter
@@ -50,6 +56,7 @@ public final class InlineShardingAlgorithm implements StandardShardingAlgorithm<
     @Override
     public void init() {
         algorithmExpression = getAlgorithmExpression();
+        compiledAlgorithmExpression = new InlineExpressionCompiler(algorithmExpression).compile().orElse(null);
         allowRangeQuery = isAllowRangeQuery();
     }
     
@@ -65,6 +72,12 @@ public final class InlineShardingAlgorithm implements StandardShardingAlgorithm<
     
     @Override
     public String doSharding(final Collection<String> availableTargetNames, final PreciseShardingValue<Comparable<?>> shardingValue) {
+        if (null != compiledAlgorithmExpression) {
+            Optional<String> result = compiledAlgorithmExpression.evaluate(Collections.singletonMap(shardingValue.getColumnName(), shardingValue.getValue()));
+            if (result.isPresent()) {
+                return result.get();
+            }
+        }
         Closure<?> closure = createClosure();
         closure.setProperty(shardingValue.getColumnName(), shardingValue.getValue());
         return closure.call().toString();
@@ -21,6 +21,7 @@ import com.google.common.base.Preconditions;
 import lombok.Getter;
 import lombok.Setter;
 import org.apache.shardingsphere.sharding.api.sharding.ShardingAutoTableAlgorithm;
+import org.apache.shardingsphere.sharding.api.sharding.ShardingIndexAlgorithm;
 import org.apache.shardingsphere.sharding.api.sharding.standard.PreciseShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.standard.RangeShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.standard.StandardShardingAlgorithm;
@@ -34,7 +35,7 @@ import java.util.Properties;
  */
 @Getter
 @Setter
-public final class HashModShardingAlgorithm implements StandardShardingAlgorithm<Comparable<?>>, ShardingAutoTableAlgorithm {
+public final class HashModShardingAlgorithm implements StandardShardingAlgorithm<Comparable<?>>, ShardingAutoTableAlgorithm, ShardingIndexAlgorithm {
     
     private static final String SHARDING_COUNT_KEY = "sharding-count";
     
@@ -71,6 +72,16 @@ public final class HashModShardingAlgorithm implements StandardShardingAlgorithm
         return Math.abs((long) shardingValue.hashCode());
     }
     
+    @Override
+    public int getShardingIndex(final Comparable<?> shardingValue) {
+        return (int) (hashShardingValue(shardingValue) % shardingCount);
+    }
+    
+    @Override
+    public int getShardingIndexCount() {
+        return shardingCount;
+    }
+    
     @Override
     public int getAutoTablesAmount() {
         return shardingCount;
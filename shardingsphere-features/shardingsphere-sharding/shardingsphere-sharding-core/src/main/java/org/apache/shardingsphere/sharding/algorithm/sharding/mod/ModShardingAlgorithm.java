@@ -21,6 +21,7 @@ import com.google.common.base.Preconditions;
 import lombok.Getter;
 import lombok.Setter;
 import org.apache.shardingsphere.sharding.api.sharding.ShardingAutoTableAlgorithm;
+import org.apache.shardingsphere.sharding.api.sharding.ShardingIndexAlgorithm;
 import org.apache.shardingsphere.sharding.api.sharding.standard.PreciseShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.standard.RangeShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.standard.StandardShardingAlgorithm;
@@ -35,7 +36,7 @@ import java.util.Properties;
  */
 @Getter
 @Setter
-public final class ModShardingAlgorithm implements StandardShardingAlgorithm<Comparable<?>>, ShardingAutoTableAlgorithm {
+public final class ModShardingAlgorithm implements StandardShardingAlgorithm<Comparable<?>>, ShardingAutoTableAlgorithm, ShardingIndexAlgorithm {
     
     private static final String SHARDING_COUNT_KEY = "sharding-count";
     
@@ -89,6 +90,16 @@ public final class ModShardingAlgorithm implements StandardShardingAlgorithm<Com
         return Long.parseLong(value.toString());
     }
     
+    @Override
+    public int getShardingIndex(final Comparable<?> shardingValue) {
+        return (int) (getLongValue(shardingValue) % shardingCount);
+    }
+    
+    @Override
+    public int getShardingIndexCount() {
+        return shardingCount;
+    }
+    
     @Override
     public int getAutoTablesAmount() {
         return shardingCount;
@@ -20,24 +20,35 @@ package org.apache.shardingsphere.sharding.algorithm.sharding.range;
 import com.google.common.collect.Range;
 import lombok.Getter;
 import lombok.Setter;
+import org.apache.shardingsphere.sharding.algorithm.sharding.TargetNameSuffixIndex;
 import org.apache.shardingsphere.sharding.api.sharding.ShardingAutoTableAlgorithm;
+import org.apache.shardingsphere.sharding.api.sharding.ShardingIndexAlgorithm;
 import org.apache.shardingsphere.sharding.api.sharding.standard.PreciseShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.standard.RangeShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.standard.StandardShardingAlgorithm;
 
 import java.util.Collection;
+import java.util.Collections;
 import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.NavigableMap;
 import java.util.Properties;
+import java.util.TreeMap;
 
 /**
  * Abstract range sharding algorithm.
  */
-public abstract class AbstractRangeShardingAlgorithm implements StandardShardingAlgorithm<Comparable<?>>, ShardingAutoTableAlgorithm {
+public abstract class AbstractRangeShardingAlgorithm implements StandardShardingAlgorithm<Comparable<?>>, ShardingAutoTableAlgorithm, ShardingIndexAlgorithm {
     
     private volatile Map<Integer, Range<Comparable<?>>> partitionRange;
     
+    private volatile NavigableMap<Long, Integer> partitionLowerBounds;
+    
+    private volatile TargetNameSuffixIndex targetNameSuffixIndex;
+    
     @Getter
     @Setter
     private Properties props = new Properties();
@@ -45,13 +56,38 @@ public abstract class AbstractRangeShardingAlgorithm implements StandardSharding
     @Override
     public final void init() {
         partitionRange = calculatePartitionRange(props);
+        partitionLowerBounds = createPartitionLowerBounds();
+        targetNameSuffixIndex = createTargetNameSuffixIndex();
+    }
+    
+    private NavigableMap<Long, Integer> createPartitionLowerBounds() {
+        NavigableMap<Long, Integer> result = new TreeMap<>();
+        for (int i = 0; i < partitionRange.size(); i++) {
+            Range<Comparable<?>> range = partitionRange.get(i);
+            if (null != range && !range.isEmpty()) {
+                result.put(range.hasLowerBound() ? getLongValue(range.lowerEndpoint()) : Long.MIN_VALUE, i);
+            }
+        }
+        return result;
+    }
+    
+    private TargetNameSuffixIndex createTargetNameSuffixIndex() {
+        Collection<String> result = new LinkedList<>();
+        for (int i = 0; i < partitionRange.size(); i++) {
+            result.add(String.valueOf(i));
+        }
+        return new TargetNameSuffixIndex(result);
     }
     
     protected abstract Map<Integer, Range<Comparable<?>>> calculatePartitionRange(Properties props);
     
     @Override
     public final String doSharding(final Collection<String> availableTargetNames, final PreciseShardingValue<Comparable<?>> shardingValue) {
-        return availableTargetNames.stream().filter(each -> each.endsWith(String.valueOf(getPartition(shardingValue.getValue())))).findFirst().orElse(null);
+        if (availableTargetNames.isEmpty()) {
+            return null;
+        }
+        List<String> result = targetNameSuffixIndex.getTargetNames(availableTargetNames, String.valueOf(getPartition(shardingValue.getValue())));
+        return result.isEmpty() ? null : result.get(0);
     }
     
     @Override
@@ -59,12 +95,9 @@ public abstract class AbstractRangeShardingAlgorithm implements StandardSharding
         Collection<String> result = new LinkedHashSet<>(availableTargetNames.size());
         int firstPartition = getFirstPartition(shardingValue.getValueRange());
         int lastPartition = getLastPartition(shardingValue.getValueRange());
+        Map<String, List<String>> targetNames = targetNameSuffixIndex.getIndex(availableTargetNames);
         for (int partition = firstPartition; partition <= lastPartition; partition++) {
-            for (String each : availableTargetNames) {
-                if (each.endsWith(String.valueOf(partition))) {
-                    result.add(each);
-                }
-            }
+            result.addAll(targetNames.getOrDefault(String.valueOf(partition), Collections.emptyList()));
         }
         return result;
     }
@@ -78,8 +111,13 @@ public abstract class AbstractRangeShardingAlgorithm implements StandardSharding
     }
     
     private Integer getPartition(final Comparable<?> value) {
+        Long longValue = getLongValue(value);
+        Entry<Long, Integer> floorEntry = partitionLowerBounds.floorEntry(longValue);
+        if (null != floorEntry && partitionRange.get(floorEntry.getValue()).contains(longValue)) {
+            return floorEntry.getValue();
+        }
         for (Entry<Integer, Range<Comparable<?>>> entry : partitionRange.entrySet()) {
-            if (entry.getValue().contains(getLongValue(value))) {
+            if (entry.getValue().contains(longValue)) {
                 return entry.getKey();
             }
         }
@@ -90,6 +128,16 @@ public abstract class AbstractRangeShardingAlgorithm implements StandardSharding
         return Long.parseLong(value.toString());
     }
     
+    @Override
+    public final int getShardingIndex(final Comparable<?> shardingValue) {
+        return getPartition(shardingValue);
+    }
+    
+    @Override
+    public final int getShardingIndexCount() {
+        return partitionRange.size();
+    }
+    
     @Override
     public final int getAutoTablesAmount() {
         return partitionRange.size();
@@ -48,6 +48,11 @@ public final class ShardingSQLRewriteContextDecorator implements SQLRewriteConte
         sqlRewriteContext.addSQLTokenGenerators(new ShardingTokenGenerateBuilder(shardingRule, routeContext).getSQLTokenGenerators());
     }
     
+    @Override
+    public boolean isCacheable() {
+        return true;
+    }
+    
     @Override
     public int getOrder() {
         return ShardingOrder.ORDER;
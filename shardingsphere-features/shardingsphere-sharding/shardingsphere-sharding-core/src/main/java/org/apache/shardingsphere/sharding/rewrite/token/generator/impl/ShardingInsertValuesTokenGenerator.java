@@ -29,6 +29,7 @@ import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.Expressi
 import org.apache.shardingsphere.infra.datanode.DataNode;
 import org.apache.shardingsphere.infra.rewrite.sql.token.generator.OptionalSQLTokenGenerator;
 import org.apache.shardingsphere.infra.rewrite.sql.token.pojo.generic.InsertValuesToken;
+import org.apache.shardingsphere.infra.route.context.OriginalDataNodesIndex;
 import org.apache.shardingsphere.infra.route.context.RouteContext;
 
 import java.util.Collection;
@@ -52,9 +53,10 @@ public final class ShardingInsertValuesTokenGenerator implements OptionalSQLToke
     @Override
     public InsertValuesToken generateSQLToken(final InsertStatementContext insertStatementContext) {
         Collection<InsertValuesSegment> insertValuesSegments = (insertStatementContext.getSqlStatement()).getValues();
-        InsertValuesToken result = new ShardingInsertValuesToken(getStartIndex(insertValuesSegments), getStopIndex(insertValuesSegments));
-        Iterator<Collection<DataNode>> originalDataNodesIterator = null == routeContext || routeContext.getOriginalDataNodes().isEmpty()
-                ? null : routeContext.getOriginalDataNodes().iterator();
+        boolean containsOriginalDataNodes = null != routeContext && !routeContext.getOriginalDataNodes().isEmpty();
+        InsertValuesToken result = new ShardingInsertValuesToken(getStartIndex(insertValuesSegments), getStopIndex(insertValuesSegments),
+                containsOriginalDataNodes ? new OriginalDataNodesIndex(routeContext.getOriginalDataNodes()) : null);
+        Iterator<Collection<DataNode>> originalDataNodesIterator = containsOriginalDataNodes ? routeContext.getOriginalDataNodes().iterator() : null;
         for (InsertValueContext each : insertStatementContext.getInsertValueContexts()) {
             List<ExpressionSegment> expressionSegments = each.getValueExpressions();
             Collection<DataNode> dataNodes = null == originalDataNodesIterator ? Collections.emptyList() : originalDataNodesIterator.next();
@@ -21,15 +21,25 @@ import org.apache.shardingsphere.infra.datanode.DataNode;
 import org.apache.shardingsphere.infra.rewrite.sql.token.pojo.RouteUnitAware;
 import org.apache.shardingsphere.infra.rewrite.sql.token.pojo.generic.InsertValue;
 import org.apache.shardingsphere.infra.rewrite.sql.token.pojo.generic.InsertValuesToken;
+import org.apache.shardingsphere.infra.route.context.OriginalDataNodesIndex;
 import org.apache.shardingsphere.infra.route.context.RouteUnit;
 
+import java.util.BitSet;
+
 /**
  * Insert values token for sharding.
  */
 public final class ShardingInsertValuesToken extends InsertValuesToken implements RouteUnitAware {
     
+    private final OriginalDataNodesIndex originalDataNodesIndex;
+    
     public ShardingInsertValuesToken(final int startIndex, final int stopIndex) {
+        this(startIndex, stopIndex, null);
+    }
+    
+    public ShardingInsertValuesToken(final int startIndex, final int stopIndex, final OriginalDataNodesIndex originalDataNodesIndex) {
         super(startIndex, stopIndex);
+        this.originalDataNodesIndex = originalDataNodesIndex;
     }
     
     @Override
@@ -41,6 +51,10 @@ public final class ShardingInsertValuesToken extends InsertValuesToken implement
     }
     
     private void appendInsertValue(final RouteUnit routeUnit, final StringBuilder stringBuilder) {
+        if (null != originalDataNodesIndex && null != routeUnit) {
+            appendIndexedInsertValue(originalDataNodesIndex.getPositions(routeUnit), stringBuilder);
+            return;
+        }
         for (InsertValue each : getInsertValues()) {
             if (isAppend(routeUnit, (ShardingInsertValue) each)) {
                 stringBuilder.append(each).append(", ");
@@ -48,6 +62,12 @@ public final class ShardingInsertValuesToken extends InsertValuesToken implement
         }
     }
     
+    private void appendIndexedInsertValue(final BitSet positions, final StringBuilder stringBuilder) {
+        for (int i = positions.nextSetBit(0); i >= 0; i = positions.nextSetBit(i + 1)) {
+            stringBuilder.append(getInsertValues().get(i)).append(", ");
+        }
+    }
+    
     private boolean isAppend(final RouteUnit routeUnit, final ShardingInsertValue insertValueToken) {
         if (insertValueToken.getDataNodes().isEmpty() || null == routeUnit) {
             return true;
@@ -0,0 +1,130 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.route.engine;
+
+import com.google.common.collect.Range;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.sharding.route.engine.condition.AlwaysFalseShardingCondition;
+import org.apache.shardingsphere.sharding.route.engine.condition.ShardingCondition;
+import org.apache.shardingsphere.sharding.route.engine.condition.ShardingConditions;
+import org.apache.shardingsphere.sharding.route.engine.condition.value.AlwaysFalseShardingConditionValue;
+import org.apache.shardingsphere.sharding.route.engine.condition.value.ExcludedShardingConditionValue;
+import org.apache.shardingsphere.sharding.route.engine.condition.value.ListShardingConditionValue;
+import org.apache.shardingsphere.sharding.route.engine.condition.value.RangeShardingConditionValue;
+import org.apache.shardingsphere.sharding.route.engine.condition.value.ShardingConditionValue;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.temporal.Temporal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Sharding route cache key generator.
+ * 
+ * <p>Route cache key is generated from sharding condition values, so parameters which are not sharding values do not split cached route contexts.
+ * Values of date types are copied, other mutable values can not be cached.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ShardingRouteCacheKeyGenerator {
+    
+    /**
+     * Generate route cache key.
+     * 
+     * @param shardingConditions sharding conditions
+     * @return route cache key, route context can not be cached if absent
+     */
+    public static Optional<Object> generate(final ShardingConditions shardingConditions) {
+        List<Object> result = new ArrayList<>(shardingConditions.getConditions().size());
+        for (ShardingCondition each : shardingConditions.getConditions()) {
+            Optional<List<Object>> conditionKey = generate(each);
+            if (!conditionKey.isPresent()) {
+                return Optional.empty();
+            }
+            result.add(conditionKey.get());
+        }
+        return Optional.of(result);
+    }
+    
+    private static Optional<List<Object>> generate(final ShardingCondition shardingCondition) {
+        List<Object> result = new ArrayList<>(shardingCondition.getValues().size() + 1);
+        result.add(shardingCondition instanceof AlwaysFalseShardingCondition);
+        for (ShardingConditionValue each : shardingCondition.getValues()) {
+            Optional<List<Object>> valueKey = generate(each);
+            if (!valueKey.isPresent()) {
+                return Optional.empty();
+            }
+            result.add(valueKey.get());
+        }
+        return Optional.of(result);
+    }
+    
+    private static Optional<List<Object>> generate(final ShardingConditionValue shardingConditionValue) {
+        if (shardingConditionValue instanceof ListShardingConditionValue) {
+            return generateValues(shardingConditionValue, "=", ((ListShardingConditionValue<?>) shardingConditionValue).getValues());
+        }
+        if (shardingConditionValue instanceof RangeShardingConditionValue) {
+            return generateRanges(shardingConditionValue, "range", Collections.singletonList(((RangeShardingConditionValue<?>) shardingConditionValue).getValueRange()));
+        }
+        if (shardingConditionValue instanceof ExcludedShardingConditionValue) {
+            return generateRanges(shardingConditionValue, "excluded", ((ExcludedShardingConditionValue) shardingConditionValue).getExcludedRanges());
+        }
+        if (shardingConditionValue instanceof AlwaysFalseShardingConditionValue) {
+            return Optional.of(Arrays.asList("false", "", "", ""));
+        }
+        return Optional.empty();
+    }
+    
+    private static Optional<List<Object>> generateValues(final ShardingConditionValue shardingConditionValue, final String operator, final Collection<?> values) {
+        List<Object> copiedValues = new ArrayList<>(values.size());
+        for (Object each : values) {
+            if (!isCacheableValue(each)) {
+                return Optional.empty();
+            }
+            copiedValues.add(copyValue(each));
+        }
+        return Optional.of(Arrays.asList(operator, shardingConditionValue.getTableName(), shardingConditionValue.getColumnName(), copiedValues));
+    }
+    
+    private static Optional<List<Object>> generateRanges(final ShardingConditionValue shardingConditionValue, final String operator, final Collection<? extends Range<?>> ranges) {
+        List<Object> endpoints = new ArrayList<>(ranges.size() * 4);
+        for (Range<?> each : ranges) {
+            endpoints.add(each.hasLowerBound() ? each.lowerBoundType() : null);
+            endpoints.add(each.hasLowerBound() ? each.lowerEndpoint() : null);
+            endpoints.add(each.hasUpperBound() ? each.upperBoundType() : null);
+            endpoints.add(each.hasUpperBound() ? each.upperEndpoint() : null);
+        }
+        return generateValues(shardingConditionValue, operator, endpoints);
+    }
+    
+    private static boolean isCacheableValue(final Object value) {
+        return null == value || value instanceof String || value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte
+                || value instanceof BigDecimal || value instanceof BigInteger || value instanceof Double || value instanceof Float
+                || value instanceof Boolean || value instanceof Character || value instanceof Enum || value instanceof Temporal || value instanceof Date;
+    }
+    
+    private static Object copyValue(final Object value) {
+        return value instanceof Date ? ((Date) value).clone() : value;
+    }
+}
@@ -18,9 +18,11 @@
 package org.apache.shardingsphere.sharding.route.engine;
 
 import org.apache.shardingsphere.infra.binder.LogicSQL;
+import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
 import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
 import org.apache.shardingsphere.infra.route.SQLRouter;
+import org.apache.shardingsphere.infra.route.context.RouteCacheKey;
 import org.apache.shardingsphere.infra.route.context.RouteContext;
 import org.apache.shardingsphere.sharding.constant.ShardingOrder;
 import org.apache.shardingsphere.sharding.route.engine.condition.ShardingCondition;
@@ -31,9 +33,14 @@ import org.apache.shardingsphere.sharding.route.engine.type.ShardingRouteEngineF
 import org.apache.shardingsphere.sharding.route.engine.validator.ShardingStatementValidator;
 import org.apache.shardingsphere.sharding.route.engine.validator.ShardingStatementValidatorFactory;
 import org.apache.shardingsphere.sharding.rule.ShardingRule;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.assignment.AssignmentSegment;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.DMLStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.InsertStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.SelectStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.UpdateStatement;
 
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
@@ -50,9 +57,19 @@ public final class ShardingSQLRouter implements SQLRouter<ShardingRule> {
         ShardingConditions shardingConditions = createShardingConditions(logicSQL, metaData, rule);
         Optional<ShardingStatementValidator> validator = ShardingStatementValidatorFactory.newInstance(sqlStatement, shardingConditions);
         validator.ifPresent(v -> v.preValidate(rule, logicSQL.getSqlStatementContext(), logicSQL.getParameters(), metaData.getSchema()));
-        if (sqlStatement instanceof DMLStatement && shardingConditions.isNeedMerge()) {
-            shardingConditions.merge();
-        }
+        mergeShardingConditions(sqlStatement, shardingConditions);
+        RouteContext result = ShardingRouteEngineFactory.newInstance(rule, metaData, logicSQL.getSqlStatementContext(), shardingConditions, props).route(rule);
+        validator.ifPresent(v -> v.postValidate(rule, logicSQL.getSqlStatementContext(), logicSQL.getParameters(), metaData.getSchema(), props, result));
+        return result;
+    }
+    
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    @Override
+    public RouteContext createRouteContext(final LogicSQL logicSQL, final ShardingSphereMetaData metaData, final ShardingRule rule, final ConfigurationProperties props,
+                                           final RouteCacheKey routeCacheKey) {
+        ShardingConditions shardingConditions = (ShardingConditions) routeCacheKey.getAttachment();
+        Optional<ShardingStatementValidator> validator = ShardingStatementValidatorFactory.newInstance(logicSQL.getSqlStatementContext().getSqlStatement(), shardingConditions);
+        validator.ifPresent(v -> v.preValidate(rule, logicSQL.getSqlStatementContext(), logicSQL.getParameters(), metaData.getSchema()));
         RouteContext result = ShardingRouteEngineFactory.newInstance(rule, metaData, logicSQL.getSqlStatementContext(), shardingConditions, props).route(rule);
         validator.ifPresent(v -> v.postValidate(rule, logicSQL.getSqlStatementContext(), logicSQL.getParameters(), metaData.getSchema(), props, result));
         return result;
@@ -70,12 +87,67 @@ public final class ShardingSQLRouter implements SQLRouter<ShardingRule> {
         return new ShardingConditions(shardingConditions, logicSQL.getSqlStatementContext(), rule);
     }
     
+    private void mergeShardingConditions(final SQLStatement sqlStatement, final ShardingConditions shardingConditions) {
+        if (sqlStatement instanceof DMLStatement && shardingConditions.isNeedMerge()) {
+            shardingConditions.merge();
+        } else if (sqlStatement instanceof DMLStatement && !(sqlStatement instanceof InsertStatement)) {
+            shardingConditions.coalesce();
+        }
+    }
+    
     @Override
     public void decorateRouteContext(final RouteContext routeContext, final LogicSQL logicSQL, final ShardingSphereMetaData metaData, 
                                      final ShardingRule rule, final ConfigurationProperties props) {
         // TODO
     }
     
+    @Override
+    public Optional<RouteCacheKey> findRouteCacheKey(final LogicSQL logicSQL, final ShardingSphereMetaData metaData, final ShardingRule rule, final ConfigurationProperties props) {
+        SQLStatement sqlStatement = logicSQL.getSqlStatementContext().getSqlStatement();
+        if (!(sqlStatement instanceof DMLStatement) || sqlStatement instanceof InsertStatement || isShardingColumnUpdated(logicSQL.getSqlStatementContext(), rule)) {
+            return Optional.empty();
+        }
+        ShardingConditions shardingConditions = createShardingConditions(logicSQL, metaData, rule);
+        mergeShardingConditions(sqlStatement, shardingConditions);
+        if (isUnicastRoute(logicSQL.getSqlStatementContext(), shardingConditions, rule)) {
+            return Optional.empty();
+        }
+        return ShardingRouteCacheKeyGenerator.generate(shardingConditions).map(each -> new RouteCacheKey(each, shardingConditions));
+    }
+    
+    private boolean isUnicastRoute(final SQLStatementContext<?> sqlStatementContext, final ShardingConditions shardingConditions, final ShardingRule rule) {
+        Collection<String> tableNames = sqlStatementContext.getTablesContext().getTableNames();
+        if (rule.isAllBroadcastTables(tableNames)) {
+            return sqlStatementContext.getSqlStatement() instanceof SelectStatement;
+        }
+        return shardingConditions.isAlwaysFalse() || tableNames.isEmpty();
+    }
+    
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    @Override
+    public void validateCachedRouteContext(final RouteContext routeContext, final LogicSQL logicSQL, final ShardingSphereMetaData metaData, final ShardingRule rule,
+                                           final ConfigurationProperties props, final RouteCacheKey routeCacheKey) {
+        Optional<ShardingStatementValidator> validator = ShardingStatementValidatorFactory.newInstance(
+                logicSQL.getSqlStatementContext().getSqlStatement(), (ShardingConditions) routeCacheKey.getAttachment());
+        validator.ifPresent(v -> v.preValidate(rule, logicSQL.getSqlStatementContext(), logicSQL.getParameters(), metaData.getSchema()));
+        validator.ifPresent(v -> v.postValidate(rule, logicSQL.getSqlStatementContext(), logicSQL.getParameters(), metaData.getSchema(), props, routeContext));
+    }
+    
+    private boolean isShardingColumnUpdated(final SQLStatementContext<?> sqlStatementContext, final ShardingRule rule) {
+        if (!(sqlStatementContext.getSqlStatement() instanceof UpdateStatement)) {
+            return false;
+        }
+        for (AssignmentSegment each : ((UpdateStatement) sqlStatementContext.getSqlStatement()).getSetAssignment().getAssignments()) {
+            String columnName = each.getColumns().get(0).getIdentifier().getValue();
+            for (String tableName : sqlStatementContext.getTablesContext().getTableNames()) {
+                if (rule.findShardingColumn(columnName, tableName).isPresent()) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+    
     @Override
     public int getOrder() {
         return ShardingOrder.ORDER;
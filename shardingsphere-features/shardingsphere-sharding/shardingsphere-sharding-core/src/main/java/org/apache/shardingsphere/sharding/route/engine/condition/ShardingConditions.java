@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.sharding.route.engine.condition;
 
+import com.google.common.collect.Range;
 import lombok.Getter;
 import lombok.ToString;
 import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
@@ -38,6 +39,9 @@ import org.apache.shardingsphere.sql.parser.sql.common.util.SafeNumberOperationU
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -97,6 +101,109 @@ public final class ShardingConditions {
         }
     }
     
+    /**
+     * Coalesce sharding conditions connected by or.
+     * 
+     * <p>Always false conditions are dropped if there are other conditions, conditions with only one list or range value of same column are coalesced
+     * into one list value and disjoint range values, so every data node is routed only once.</p>
+     */
+    public void coalesce() {
+        if (conditions.size() <= 1) {
+            return;
+        }
+        Map<Integer, List<ShardingCondition>> startIndexShardingConditions = conditions.stream()
+                .collect(Collectors.groupingBy(ShardingCondition::getStartIndex, LinkedHashMap::new, Collectors.toList()));
+        List<ShardingCondition> result = new ArrayList<>(conditions.size());
+        for (List<ShardingCondition> each : startIndexShardingConditions.values()) {
+            result.addAll(coalesce(each));
+        }
+        conditions.clear();
+        conditions.addAll(result);
+    }
+    
+    private Collection<ShardingCondition> coalesce(final List<ShardingCondition> conditions) {
+        Map<String, Collection<ShardingConditionValue>> coalescedValues = new LinkedHashMap<>();
+        for (ShardingCondition each : conditions) {
+            findCoalesceKey(each).ifPresent(optional -> coalescedValues.computeIfAbsent(optional, key -> new LinkedList<>()).add(each.getValues().get(0)));
+        }
+        Collection<ShardingCondition> result = new LinkedList<>();
+        for (ShardingCondition each : conditions) {
+            if (each instanceof AlwaysFalseShardingCondition) {
+                continue;
+            }
+            Optional<String> coalesceKey = findCoalesceKey(each);
+            if (!coalesceKey.isPresent()) {
+                result.add(each);
+            } else if (coalescedValues.containsKey(coalesceKey.get())) {
+                for (ShardingConditionValue value : coalesceShardingConditionValues(coalescedValues.remove(coalesceKey.get()))) {
+                    ShardingCondition shardingCondition = new ShardingCondition();
+                    shardingCondition.getValues().add(value);
+                    shardingCondition.setStartIndex(each.getStartIndex());
+                    result.add(shardingCondition);
+                }
+            }
+        }
+        if (result.isEmpty()) {
+            result.add(conditions.get(0));
+        }
+        return result;
+    }
+    
+    private Optional<String> findCoalesceKey(final ShardingCondition condition) {
+        if (condition instanceof AlwaysFalseShardingCondition || 1 != condition.getValues().size()) {
+            return Optional.empty();
+        }
+        ShardingConditionValue value = condition.getValues().get(0);
+        return value instanceof ListShardingConditionValue || value instanceof RangeShardingConditionValue ? Optional.of(value.getTableName() + "." + value.getColumnName()) : Optional.empty();
+    }
+    
+    @SuppressWarnings("unchecked")
+    private Collection<ShardingConditionValue> coalesceShardingConditionValues(final Collection<ShardingConditionValue> values) {
+        Collection<Comparable<?>> listValues = new LinkedHashSet<>();
+        List<Range<Comparable<?>>> rangeValues = new LinkedList<>();
+        for (ShardingConditionValue each : values) {
+            if (each instanceof ListShardingConditionValue) {
+                listValues.addAll(((ListShardingConditionValue<Comparable<?>>) each).getValues());
+            } else {
+                coalesceRangeValue(rangeValues, ((RangeShardingConditionValue<Comparable<?>>) each).getValueRange());
+            }
+        }
+        listValues.removeIf(each -> rangeValues.stream().anyMatch(range -> isContained(range, each)));
+        ShardingConditionValue firstValue = values.iterator().next();
+        Collection<ShardingConditionValue> result = new LinkedList<>();
+        if (!listValues.isEmpty()) {
+            result.add(new ListShardingConditionValue<>(firstValue.getColumnName(), firstValue.getTableName(), new ArrayList<>(listValues)));
+        }
+        for (Range<Comparable<?>> each : rangeValues) {
+            result.add(new RangeShardingConditionValue<>(firstValue.getColumnName(), firstValue.getTableName(), each));
+        }
+        return result;
+    }
+    
+    private void coalesceRangeValue(final List<Range<Comparable<?>>> rangeValues, final Range<Comparable<?>> rangeValue) {
+        Range<Comparable<?>> coalescedRange = rangeValue;
+        Iterator<Range<Comparable<?>>> iterator = rangeValues.iterator();
+        while (iterator.hasNext()) {
+            Range<Comparable<?>> each = iterator.next();
+            try {
+                if (each.isConnected(coalescedRange)) {
+                    coalescedRange = each.span(coalescedRange);
+                    iterator.remove();
+                }
+            } catch (final ClassCastException ignore) {
+            }
+        }
+        rangeValues.add(coalescedRange);
+    }
+    
+    private boolean isContained(final Range<Comparable<?>> range, final Comparable<?> value) {
+        try {
+            return SafeNumberOperationUtil.safeContains(range, value);
+        } catch (final ClassCastException ignore) {
+            return false;
+        }
+    }
+    
     private Optional<ShardingCondition> findUniqueShardingCondition(final List<ShardingCondition> conditions, final ShardingCondition condition) {
         for (ShardingCondition each : conditions) {
             if (isSameShardingCondition(rule, condition, each)) {
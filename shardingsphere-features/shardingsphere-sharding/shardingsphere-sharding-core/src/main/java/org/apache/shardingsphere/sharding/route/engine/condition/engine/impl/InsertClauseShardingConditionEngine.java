@@ -37,6 +37,7 @@ import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.simple.L
 import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.simple.ParameterMarkerExpressionSegment;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.simple.SimpleExpressionSegment;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
@@ -67,9 +68,18 @@ public final class InsertClauseShardingConditionEngine implements ShardingCondit
     private List<ShardingCondition> createShardingConditionsWithInsertValues(final InsertStatementContext sqlStatementContext, final List<Object> parameters) {
         List<ShardingCondition> result = new LinkedList<>();
         String tableName = sqlStatementContext.getSqlStatement().getTable().getTableName().getIdentifier().getValue();
-        Collection<String> columnNames = getColumnNames(sqlStatementContext);
+        List<Optional<String>> shardingColumns = getShardingColumns(tableName, getColumnNames(sqlStatementContext));
+        DatetimeService datetimeService = RequiredSPIRegistry.getRegisteredService(DatetimeService.class);
         for (InsertValueContext each : sqlStatementContext.getInsertValueContexts()) {
-            result.add(createShardingCondition(tableName, columnNames.iterator(), each, parameters));
+            result.add(createShardingCondition(tableName, shardingColumns.iterator(), each, parameters, datetimeService));
+        }
+        return result;
+    }
+    
+    private List<Optional<String>> getShardingColumns(final String tableName, final Collection<String> columnNames) {
+        List<Optional<String>> result = new ArrayList<>(columnNames.size());
+        for (String each : columnNames) {
+            result.add(shardingRule.findShardingColumn(each, tableName));
         }
         return result;
     }
@@ -84,11 +94,11 @@ public final class InsertClauseShardingConditionEngine implements ShardingCondit
         return insertStatementContext.getColumnNames();
     }
     
-    private ShardingCondition createShardingCondition(final String tableName, final Iterator<String> columnNames, final InsertValueContext insertValueContext, final List<Object> parameters) {
+    private ShardingCondition createShardingCondition(final String tableName, final Iterator<Optional<String>> shardingColumns, final InsertValueContext insertValueContext,
+                                                      final List<Object> parameters, final DatetimeService datetimeService) {
         ShardingCondition result = new ShardingCondition();
-        DatetimeService datetimeService = RequiredSPIRegistry.getRegisteredService(DatetimeService.class);
         for (ExpressionSegment each : insertValueContext.getValueExpressions()) {
-            Optional<String> shardingColumn = shardingRule.findShardingColumn(columnNames.next(), tableName);
+            Optional<String> shardingColumn = shardingColumns.next();
             if (shardingColumn.isPresent()) {
                 if (each instanceof SimpleExpressionSegment) {
                     result.getValues().add(new ListShardingConditionValue<>(shardingColumn.get(), tableName, Collections.singletonList(getShardingValue((SimpleExpressionSegment) each, parameters))));
@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.sharding.route.engine.condition.engine.impl;
 
+import com.google.common.collect.BoundType;
 import com.google.common.collect.Range;
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.infra.binder.segment.select.projection.impl.ColumnProjection;
@@ -30,6 +31,7 @@ import org.apache.shardingsphere.sharding.route.engine.condition.ShardingConditi
 import org.apache.shardingsphere.sharding.route.engine.condition.engine.ShardingConditionEngine;
 import org.apache.shardingsphere.sharding.route.engine.condition.generator.ConditionValueGeneratorFactory;
 import org.apache.shardingsphere.sharding.route.engine.condition.value.AlwaysFalseShardingConditionValue;
+import org.apache.shardingsphere.sharding.route.engine.condition.value.ExcludedShardingConditionValue;
 import org.apache.shardingsphere.sharding.route.engine.condition.value.ListShardingConditionValue;
 import org.apache.shardingsphere.sharding.route.engine.condition.value.RangeShardingConditionValue;
 import org.apache.shardingsphere.sharding.route.engine.condition.value.ShardingConditionValue;
@@ -86,6 +88,9 @@ public final class WhereClauseShardingConditionEngine implements ShardingConditi
                 return Collections.emptyList();
             }
             ShardingCondition shardingCondition = createShardingCondition(shardingConditionValues);
+            if (shardingCondition.getValues().isEmpty() && !(shardingCondition instanceof AlwaysFalseShardingCondition)) {
+                return Collections.emptyList();
+            }
             // TODO remove startIndex when federation has perfect support for subquery
             shardingCondition.setStartIndex(expression.getStartIndex());
             result.add(shardingCondition);
@@ -163,7 +168,9 @@ public final class WhereClauseShardingConditionEngine implements ShardingConditi
                 if (shardingConditionValue instanceof AlwaysFalseShardingConditionValue) {
                     return new AlwaysFalseShardingCondition();
                 }
-                result.getValues().add(shardingConditionValue);
+                if (null != shardingConditionValue) {
+                    result.getValues().add(shardingConditionValue);
+                }
             } catch (final ClassCastException ex) {
                 throw new ShardingSphereException("Found different types for sharding value `%s`.", entry.getKey());
             }
@@ -175,6 +182,7 @@ public final class WhereClauseShardingConditionEngine implements ShardingConditi
     private ShardingConditionValue mergeShardingConditionValues(final Column column, final Collection<ShardingConditionValue> shardingConditionValues) {
         Collection<Comparable<?>> listValue = null;
         Range<Comparable<?>> rangeValue = null;
+        Collection<Range<Comparable<?>>> excludedRanges = new LinkedList<>();
         for (ShardingConditionValue each : shardingConditionValues) {
             if (each instanceof ListShardingConditionValue) {
                 listValue = mergeListShardingValues(((ListShardingConditionValue) each).getValues(), listValue);
@@ -187,15 +195,21 @@ public final class WhereClauseShardingConditionEngine implements ShardingConditi
                 } catch (final IllegalArgumentException ex) {
                     return new AlwaysFalseShardingConditionValue();
                 }
+            } else if (each instanceof ExcludedShardingConditionValue) {
+                excludedRanges.addAll(((ExcludedShardingConditionValue) each).getExcludedRanges());
             }
         }
+        if (null == listValue && null == rangeValue) {
+            return null;
+        }
         if (null == listValue) {
-            return new RangeShardingConditionValue<>(column.getName(), column.getTableName(), rangeValue);
+            rangeValue = mergeRangeAndExcludedShardingValues(rangeValue, excludedRanges);
+            return null == rangeValue ? new AlwaysFalseShardingConditionValue() : new RangeShardingConditionValue<>(column.getName(), column.getTableName(), rangeValue);
         }
-        if (null == rangeValue) {
-            return new ListShardingConditionValue<>(column.getName(), column.getTableName(), listValue);
+        if (null != rangeValue) {
+            listValue = mergeListAndRangeShardingValues(listValue, rangeValue);
         }
-        listValue = mergeListAndRangeShardingValues(listValue, rangeValue);
+        listValue = mergeListAndExcludedShardingValues(listValue, excludedRanges);
         return listValue.isEmpty() ? new AlwaysFalseShardingConditionValue() : new ListShardingConditionValue<>(column.getName(), column.getTableName(), listValue);
     }
     
@@ -220,4 +234,49 @@ public final class WhereClauseShardingConditionEngine implements ShardingConditi
         }
         return result;
     }
+    
+    private Collection<Comparable<?>> mergeListAndExcludedShardingValues(final Collection<Comparable<?>> listValue, final Collection<Range<Comparable<?>>> excludedRanges) {
+        if (excludedRanges.isEmpty()) {
+            return listValue;
+        }
+        Collection<Comparable<?>> result = new LinkedList<>();
+        for (Comparable<?> each : listValue) {
+            if (excludedRanges.stream().noneMatch(excludedRange -> SafeNumberOperationUtil.safeContains(excludedRange, each))) {
+                result.add(each);
+            }
+        }
+        return result;
+    }
+    
+    private Range<Comparable<?>> mergeRangeAndExcludedShardingValues(final Range<Comparable<?>> rangeValue, final Collection<Range<Comparable<?>>> excludedRanges) {
+        Range<Comparable<?>> result = rangeValue;
+        for (Range<Comparable<?>> each : excludedRanges) {
+            // complement of excluded range is at most two ranges, keep the whole range if both of them intersect it
+            Optional<Range<Comparable<?>>> below = each.hasLowerBound()
+                    ? findIntersection(result, Range.upTo(each.lowerEndpoint(), flip(each.lowerBoundType()))) : Optional.empty();
+            Optional<Range<Comparable<?>>> above = each.hasUpperBound()
+                    ? findIntersection(result, Range.downTo(each.upperEndpoint(), flip(each.upperBoundType()))) : Optional.empty();
+            if (below.isPresent() && above.isPresent()) {
+                continue;
+            }
+            if (!below.isPresent() && !above.isPresent()) {
+                return null;
+            }
+            result = below.orElseGet(above::get);
+        }
+        return result;
+    }
+    
+    private Optional<Range<Comparable<?>>> findIntersection(final Range<Comparable<?>> range, final Range<Comparable<?>> complement) {
+        try {
+            Range<Comparable<?>> result = SafeNumberOperationUtil.safeIntersection(range, complement);
+            return result.isEmpty() ? Optional.empty() : Optional.of(result);
+        } catch (final IllegalArgumentException ignore) {
+            return Optional.empty();
+        }
+    }
+    
+    private BoundType flip(final BoundType boundType) {
+        return BoundType.OPEN == boundType ? BoundType.CLOSED : BoundType.OPEN;
+    }
 }
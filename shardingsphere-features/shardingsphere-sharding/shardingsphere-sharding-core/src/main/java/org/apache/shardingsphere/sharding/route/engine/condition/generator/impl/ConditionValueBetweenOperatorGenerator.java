@@ -24,11 +24,13 @@ import org.apache.shardingsphere.sharding.route.engine.condition.Column;
 import org.apache.shardingsphere.sharding.route.engine.condition.ExpressionConditionUtils;
 import org.apache.shardingsphere.sharding.route.engine.condition.generator.ConditionValue;
 import org.apache.shardingsphere.sharding.route.engine.condition.generator.ConditionValueGenerator;
+import org.apache.shardingsphere.sharding.route.engine.condition.value.ExcludedShardingConditionValue;
 import org.apache.shardingsphere.sharding.route.engine.condition.value.RangeShardingConditionValue;
 import org.apache.shardingsphere.sharding.route.engine.condition.value.ShardingConditionValue;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.BetweenExpression;
 import org.apache.shardingsphere.sql.parser.sql.common.util.SafeNumberOperationUtil;
 
+import java.util.Collections;
 import java.util.Date;
 import java.util.List;
 import java.util.Optional;
@@ -43,7 +45,7 @@ public final class ConditionValueBetweenOperatorGenerator implements ConditionVa
         Optional<Comparable<?>> betweenConditionValue = new ConditionValue(predicate.getBetweenExpr(), parameters).getValue();
         Optional<Comparable<?>> andConditionValue = new ConditionValue(predicate.getAndExpr(), parameters).getValue();
         if (betweenConditionValue.isPresent() && andConditionValue.isPresent()) {
-            return Optional.of(new RangeShardingConditionValue<>(column.getName(), column.getTableName(), SafeNumberOperationUtil.safeClosed(betweenConditionValue.get(), andConditionValue.get())));
+            return Optional.of(createShardingConditionValue(predicate, column, SafeNumberOperationUtil.safeClosed(betweenConditionValue.get(), andConditionValue.get())));
         }
         Date datetime = RequiredSPIRegistry.getRegisteredService(DatetimeService.class).getDatetime();
         if (!betweenConditionValue.isPresent() && ExpressionConditionUtils.isNowExpression(predicate.getBetweenExpr())) {
@@ -53,7 +55,12 @@ public final class ConditionValueBetweenOperatorGenerator implements ConditionVa
             andConditionValue = Optional.of(datetime);
         }
         return betweenConditionValue.isPresent() && andConditionValue.isPresent()
-                ? Optional.of(new RangeShardingConditionValue<>(column.getName(), column.getTableName(), Range.closed(betweenConditionValue.get(), andConditionValue.get())))
+                ? Optional.of(createShardingConditionValue(predicate, column, Range.closed(betweenConditionValue.get(), andConditionValue.get())))
                 : Optional.empty();
     }
+    
+    private ShardingConditionValue createShardingConditionValue(final BetweenExpression predicate, final Column column, final Range<Comparable<?>> range) {
+        return predicate.isNot() ? new ExcludedShardingConditionValue(column.getName(), column.getTableName(), Collections.singletonList(range))
+                : new RangeShardingConditionValue<>(column.getName(), column.getTableName(), range);
+    }
 }
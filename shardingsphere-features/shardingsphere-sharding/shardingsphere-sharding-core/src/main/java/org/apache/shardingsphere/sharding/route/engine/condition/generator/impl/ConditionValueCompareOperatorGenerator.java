@@ -25,6 +25,7 @@ import org.apache.shardingsphere.sharding.route.engine.condition.Column;
 import org.apache.shardingsphere.sharding.route.engine.condition.ExpressionConditionUtils;
 import org.apache.shardingsphere.sharding.route.engine.condition.generator.ConditionValue;
 import org.apache.shardingsphere.sharding.route.engine.condition.generator.ConditionValueGenerator;
+import org.apache.shardingsphere.sharding.route.engine.condition.value.ExcludedShardingConditionValue;
 import org.apache.shardingsphere.sharding.route.engine.condition.value.ListShardingConditionValue;
 import org.apache.shardingsphere.sharding.route.engine.condition.value.RangeShardingConditionValue;
 import org.apache.shardingsphere.sharding.route.engine.condition.value.ShardingConditionValue;
@@ -34,6 +35,7 @@ import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.BinaryOp
 import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.ExpressionSegment;
 
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 
@@ -44,6 +46,10 @@ public final class ConditionValueCompareOperatorGenerator implements ConditionVa
     
     private static final String EQUAL = "=";
     
+    private static final String NOT_EQUAL = "!=";
+    
+    private static final String NOT_EQUAL_ANSI = "<>";
+    
     private static final String GREATER_THAN = ">";
     
     private static final String LESS_THAN = "<";
@@ -52,7 +58,7 @@ public final class ConditionValueCompareOperatorGenerator implements ConditionVa
     
     private static final String AT_LEAST = ">=";
     
-    private static final Collection<String> OPERATORS = Sets.newHashSet(EQUAL, GREATER_THAN, LESS_THAN, AT_LEAST, AT_MOST);
+    private static final Collection<String> OPERATORS = Sets.newHashSet(EQUAL, NOT_EQUAL, NOT_EQUAL_ANSI, GREATER_THAN, LESS_THAN, AT_LEAST, AT_MOST);
     
     @Override
     public Optional<ShardingConditionValue> generate(final BinaryOperationExpression predicate, final Column column, final List<Object> parameters) {
@@ -77,6 +83,9 @@ public final class ConditionValueCompareOperatorGenerator implements ConditionVa
         switch (operator) {
             case EQUAL:
                 return Optional.of(new ListShardingConditionValue<>(columnName, tableName, Lists.newArrayList(comparable)));
+            case NOT_EQUAL:
+            case NOT_EQUAL_ANSI:
+                return Optional.of(new ExcludedShardingConditionValue(columnName, tableName, Collections.singletonList(Range.singleton(comparable))));
             case GREATER_THAN:
                 return Optional.of(new RangeShardingConditionValue<>(columnName, tableName, Range.greaterThan(comparable)));
             case LESS_THAN:
@@ -17,12 +17,14 @@
 
 package org.apache.shardingsphere.sharding.route.engine.condition.generator.impl;
 
+import com.google.common.collect.Range;
 import org.apache.shardingsphere.spi.required.RequiredSPIRegistry;
 import org.apache.shardingsphere.infra.datetime.DatetimeService;
 import org.apache.shardingsphere.sharding.route.engine.condition.Column;
 import org.apache.shardingsphere.sharding.route.engine.condition.ExpressionConditionUtils;
 import org.apache.shardingsphere.sharding.route.engine.condition.generator.ConditionValue;
 import org.apache.shardingsphere.sharding.route.engine.condition.generator.ConditionValueGenerator;
+import org.apache.shardingsphere.sharding.route.engine.condition.value.ExcludedShardingConditionValue;
 import org.apache.shardingsphere.sharding.route.engine.condition.value.ListShardingConditionValue;
 import org.apache.shardingsphere.sharding.route.engine.condition.value.ShardingConditionValue;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.ExpressionSegment;
@@ -31,6 +33,7 @@ import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.InExpres
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 /**
  * Condition value generator for in operator.
@@ -49,8 +52,20 @@ public final class ConditionValueInOperatorGenerator implements ConditionValueGe
             }
             if (ExpressionConditionUtils.isNowExpression(each)) {
                 shardingConditionValues.add(datetimeService.getDatetime());
+                continue;
+            }
+            if (!predicate.isNot()) {
+                return Optional.empty();
             }
         }
-        return shardingConditionValues.isEmpty() ? Optional.empty() : Optional.of(new ListShardingConditionValue<>(column.getName(), column.getTableName(), shardingConditionValues));
+        if (shardingConditionValues.isEmpty()) {
+            return Optional.empty();
+        }
+        return predicate.isNot() ? Optional.of(createExcludedShardingConditionValue(column, shardingConditionValues))
+                : Optional.of(new ListShardingConditionValue<>(column.getName(), column.getTableName(), shardingConditionValues));
+    }
+    
+    private ShardingConditionValue createExcludedShardingConditionValue(final Column column, final List<Comparable<?>> excludedValues) {
+        return new ExcludedShardingConditionValue(column.getName(), column.getTableName(), excludedValues.stream().<Range<Comparable<?>>>map(Range::singleton).collect(Collectors.toList()));
     }
 }
@@ -0,0 +1,42 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.route.engine.condition.value;
+
+import com.google.common.collect.Range;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+import java.util.Collection;
+
+/**
+ * Sharding condition value for excluded ranges, such as not equal, not in and not between.
+ *
+ * <p>Excluded value only narrows other sharding condition values of the same column, it is never routed by itself.</p>
+ */
+@RequiredArgsConstructor
+@Getter
+@ToString
+public final class ExcludedShardingConditionValue implements ShardingConditionValue {
+    
+    private final String columnName;
+    
+    private final String tableName;
+    
+    private final Collection<Range<Comparable<?>>> excludedRanges;
+}
@@ -17,7 +17,8 @@
 
 package org.apache.shardingsphere.sharding.route.engine.type.complex;
 
-import com.google.common.collect.Sets;
+import com.google.common.collect.Lists;
+import com.google.common.math.LongMath;
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.infra.route.context.RouteContext;
 import org.apache.shardingsphere.infra.route.context.RouteMapper;
@@ -26,92 +27,120 @@ import org.apache.shardingsphere.sharding.route.engine.type.ShardingRouteEngine;
 import org.apache.shardingsphere.sharding.rule.ShardingRule;
 
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collection;
-import java.util.HashMap;
-import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
-import java.util.Optional;
 import java.util.Set;
+import java.util.TreeMap;
 import java.util.stream.Collectors;
 
 /**
  * Sharding cartesian routing engine.
+ *
+ * <p>Data sources of every route context are kept as bit set, so the data sources to be routed are intersected at once,
+ * actual tables of each logic table are grouped by data source in one pass. Data source names are matched case insensitively.</p>
  */
 @RequiredArgsConstructor
 public final class ShardingCartesianRoutingEngine implements ShardingRouteEngine {
     
     private final Collection<RouteContext> routeContexts;
     
+    private Map<String, List<List<RouteMapper>>> dataSourceRoutingTableGroups;
+    
     @Override
     public RouteContext route(final ShardingRule shardingRule) {
         RouteContext result = new RouteContext();
-        for (Entry<String, Set<String>> entry : getDataSourceLogicTablesMap().entrySet()) {
-            List<Set<String>> actualTableGroups = getActualTableGroups(entry.getKey(), entry.getValue());
-            List<Set<RouteMapper>> routingTableGroups = toRoutingTableGroups(entry.getKey(), actualTableGroups);
-            result.getRouteUnits().addAll(getRouteUnits(entry.getKey(), Sets.cartesianProduct(routingTableGroups)));
+        for (Entry<String, List<List<RouteMapper>>> entry : getDataSourceRoutingTableGroups().entrySet()) {
+            result.getRouteUnits().addAll(getRouteUnits(entry.getKey(), Lists.cartesianProduct(entry.getValue())));
         }
         return result;
     }
     
-    private Map<String, Set<String>> getDataSourceLogicTablesMap() {
-        Collection<String> intersectionDataSources = getIntersectionDataSources();
-        Map<String, Set<String>> result = new HashMap<>(routeContexts.size());
-        for (RouteContext each : routeContexts) {
-            for (Entry<String, Set<String>> entry : each.getDataSourceLogicTablesMap(intersectionDataSources).entrySet()) {
-                if (result.containsKey(entry.getKey())) {
-                    result.get(entry.getKey()).addAll(entry.getValue());
-                } else {
-                    result.put(entry.getKey(), entry.getValue());
-                }
+    /**
+     * Get route unit count of cartesian product.
+     *
+     * @return route unit count, {@code Long.MAX_VALUE} if overflow
+     */
+    public long getRouteUnitCount() {
+        long result = 0L;
+        for (List<List<RouteMapper>> each : getDataSourceRoutingTableGroups().values()) {
+            long routeUnitCount = 1L;
+            for (List<RouteMapper> routingTableGroup : each) {
+                routeUnitCount = LongMath.saturatedMultiply(routeUnitCount, routingTableGroup.size());
             }
+            result = LongMath.saturatedAdd(result, routeUnitCount);
         }
         return result;
     }
     
-    private Collection<String> getIntersectionDataSources() {
-        Collection<String> result = new HashSet<>();
-        for (RouteContext each : routeContexts) {
-            if (result.isEmpty()) {
-                result.addAll(each.getActualDataSourceNames());
-            }
-            result.retainAll(each.getActualDataSourceNames());
+    private Map<String, List<List<RouteMapper>>> getDataSourceRoutingTableGroups() {
+        if (null == dataSourceRoutingTableGroups) {
+            dataSourceRoutingTableGroups = createDataSourceRoutingTableGroups();
         }
-        return result;
+        return dataSourceRoutingTableGroups;
     }
     
-    private List<Set<String>> getActualTableGroups(final String dataSourceName, final Set<String> logicTables) {
-        List<Set<String>> result = new ArrayList<>(logicTables.size());
-        for (RouteContext each : routeContexts) {
-            result.addAll(each.getActualTableNameGroups(dataSourceName, logicTables));
+    private Map<String, List<List<RouteMapper>>> createDataSourceRoutingTableGroups() {
+        List<Map<String, Map<String, Set<RouteMapper>>>> routingTableIndexes = routeContexts.stream().map(this::createRoutingTableIndex).collect(Collectors.toList());
+        Map<String, Integer> dataSourceIndexes = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        List<String> dataSourceNames = new ArrayList<>();
+        BitSet intersectionDataSources = null;
+        for (Map<String, Map<String, Set<RouteMapper>>> each : routingTableIndexes) {
+            BitSet dataSources = new BitSet(dataSourceIndexes.size());
+            for (String dataSource : each.keySet()) {
+                Integer dataSourceIndex = dataSourceIndexes.get(dataSource);
+                if (null == dataSourceIndex) {
+                    dataSourceIndex = dataSourceIndexes.size();
+                    dataSourceIndexes.put(dataSource, dataSourceIndex);
+                    dataSourceNames.add(dataSource);
+                }
+                dataSources.set(dataSourceIndex);
+            }
+            if (null == intersectionDataSources) {
+                intersectionDataSources = dataSources;
+            } else {
+                intersectionDataSources.and(dataSources);
+            }
         }
-        return result;
-    }
-    
-    private List<Set<RouteMapper>> toRoutingTableGroups(final String dataSource, final List<Set<String>> actualTableGroups) {
-        List<Set<RouteMapper>> result = new ArrayList<>(actualTableGroups.size());
-        for (Set<String> each : actualTableGroups) {
-            result.add(new LinkedHashSet<>(new ArrayList<>(each).stream().map(input -> findRoutingTable(dataSource, input)).collect(Collectors.toList())));
+        Map<String, List<List<RouteMapper>>> result = new LinkedHashMap<>();
+        if (null == intersectionDataSources) {
+            return result;
+        }
+        for (int i = intersectionDataSources.nextSetBit(0); i >= 0; i = intersectionDataSources.nextSetBit(i + 1)) {
+            String dataSource = dataSourceNames.get(i);
+            List<List<RouteMapper>> routingTableGroups = new ArrayList<>(routingTableIndexes.size());
+            for (Map<String, Map<String, Set<RouteMapper>>> each : routingTableIndexes) {
+                for (Set<RouteMapper> routingTables : each.get(dataSource).values()) {
+                    routingTableGroups.add(new ArrayList<>(routingTables));
+                }
+            }
+            if (!routingTableGroups.isEmpty()) {
+                result.put(dataSource, routingTableGroups);
+            }
         }
         return result;
     }
     
-    private RouteMapper findRoutingTable(final String dataSource, final String actualTable) {
-        for (RouteContext each : routeContexts) {
-            Optional<RouteMapper> result = each.findTableMapper(dataSource, actualTable);
-            if (result.isPresent()) {
-                return result.get();
+    private Map<String, Map<String, Set<RouteMapper>>> createRoutingTableIndex(final RouteContext routeContext) {
+        Map<String, Map<String, Set<RouteMapper>>> result = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        for (RouteUnit each : routeContext.getRouteUnits()) {
+            Map<String, Set<RouteMapper>> logicTableRoutingTables = result.computeIfAbsent(each.getDataSourceMapper().getActualName(), key -> new LinkedHashMap<>());
+            for (RouteMapper tableMapper : each.getTableMappers()) {
+                logicTableRoutingTables.computeIfAbsent(tableMapper.getLogicName().toLowerCase(), key -> new LinkedHashSet<>()).add(tableMapper);
             }
         }
-        throw new IllegalStateException(String.format("Cannot found routing table factor, data source: %s, actual table: %s", dataSource, actualTable));
+        return result;
     }
     
-    private Collection<RouteUnit> getRouteUnits(final String dataSource, final Set<List<RouteMapper>> cartesianRoutingTableGroups) {
-        Collection<RouteUnit> result = new LinkedHashSet<>();
+    private Collection<RouteUnit> getRouteUnits(final String dataSource, final List<List<RouteMapper>> cartesianRoutingTableGroups) {
+        RouteMapper dataSourceMapper = new RouteMapper(dataSource, dataSource);
+        Collection<RouteUnit> result = new ArrayList<>(cartesianRoutingTableGroups.size());
         for (List<RouteMapper> each : cartesianRoutingTableGroups) {
-            result.add(new RouteUnit(new RouteMapper(dataSource, dataSource), each));
+            result.add(new RouteUnit(dataSourceMapper, each));
         }
         return result;
     }
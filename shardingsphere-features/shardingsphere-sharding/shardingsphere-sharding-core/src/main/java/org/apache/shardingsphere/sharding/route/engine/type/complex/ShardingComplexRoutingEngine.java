@@ -18,11 +18,15 @@
 package org.apache.shardingsphere.sharding.route.engine.type.complex;
 
 import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
 import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.exception.ShardingSphereException;
 import org.apache.shardingsphere.infra.route.context.RouteContext;
 import org.apache.shardingsphere.sharding.route.engine.condition.ShardingConditions;
 import org.apache.shardingsphere.sharding.route.engine.type.ShardingRouteEngine;
+import org.apache.shardingsphere.sharding.route.engine.type.federated.ShardingFederatedRoutingEngine;
 import org.apache.shardingsphere.sharding.route.engine.type.standard.ShardingStandardRoutingEngine;
 import org.apache.shardingsphere.sharding.rule.ShardingRule;
 import org.apache.shardingsphere.sharding.rule.TableRule;
@@ -38,10 +42,12 @@ import java.util.TreeSet;
 @RequiredArgsConstructor
 public final class ShardingComplexRoutingEngine implements ShardingRouteEngine {
     
+    private final SQLStatementContext<?> sqlStatementContext;
+    
     private final ShardingConditions shardingConditions;
     
     private final ConfigurationProperties props;
-
+    
     private final Collection<String> logicTables;
     
     @Override
@@ -66,10 +72,22 @@ public final class ShardingComplexRoutingEngine implements ShardingRouteEngine {
             result.getOriginalDataNodes().addAll(newRouteContext.getOriginalDataNodes());
             result.getRouteUnits().addAll(newRouteContext.getRouteUnits());
         } else {
-            RouteContext routeContext = new ShardingCartesianRoutingEngine(routeContexts).route(shardingRule);
+            ShardingCartesianRoutingEngine cartesianRoutingEngine = new ShardingCartesianRoutingEngine(routeContexts);
+            if (isFederatedRoutingRequired(cartesianRoutingEngine)) {
+                return new ShardingFederatedRoutingEngine(logicTables).route(shardingRule);
+            }
+            RouteContext routeContext = cartesianRoutingEngine.route(shardingRule);
             result.getOriginalDataNodes().addAll(routeContext.getOriginalDataNodes());
             result.getRouteUnits().addAll(routeContext.getRouteUnits());    
         }
         return result;
     }
+    
+    private boolean isFederatedRoutingRequired(final ShardingCartesianRoutingEngine cartesianRoutingEngine) {
+        int federationThreshold = props.getValue(ConfigurationPropertyKey.CARTESIAN_ROUTE_FEDERATION_THRESHOLD);
+        if (federationThreshold <= 0 || !props.<Boolean>getValue(ConfigurationPropertyKey.SQL_FEDERATION_ENABLED) || !(sqlStatementContext instanceof SelectStatementContext)) {
+            return false;
+        }
+        return !((SelectStatementContext) sqlStatementContext).getPaginationContext().isHasPagination() && cartesianRoutingEngine.getRouteUnitCount() > federationThreshold;
+    }
 }
@@ -27,6 +27,7 @@ import org.apache.shardingsphere.infra.route.context.RouteMapper;
 import org.apache.shardingsphere.infra.route.context.RouteUnit;
 import org.apache.shardingsphere.sharding.api.config.strategy.sharding.HintShardingStrategyConfiguration;
 import org.apache.shardingsphere.sharding.api.config.strategy.sharding.ShardingStrategyConfiguration;
+import org.apache.shardingsphere.sharding.api.sharding.ShardingIndexAlgorithm;
 import org.apache.shardingsphere.sharding.route.engine.condition.ShardingCondition;
 import org.apache.shardingsphere.sharding.route.engine.condition.ShardingConditions;
 import org.apache.shardingsphere.sharding.route.engine.condition.value.ListShardingConditionValue;
@@ -36,6 +37,7 @@ import org.apache.shardingsphere.sharding.route.strategy.ShardingStrategy;
 import org.apache.shardingsphere.sharding.route.strategy.ShardingStrategyFactory;
 import org.apache.shardingsphere.sharding.route.strategy.type.hint.HintShardingStrategy;
 import org.apache.shardingsphere.sharding.route.strategy.type.none.NoneShardingStrategy;
+import org.apache.shardingsphere.sharding.route.strategy.type.standard.StandardShardingStrategy;
 import org.apache.shardingsphere.sharding.rule.BindingTableRule;
 import org.apache.shardingsphere.sharding.rule.ShardingRule;
 import org.apache.shardingsphere.sharding.rule.TableRule;
@@ -113,6 +115,12 @@ public final class ShardingStandardRoutingEngine implements ShardingRouteEngine
     
     private Collection<DataNode> routeByShardingConditionsWithCondition(final ShardingRule shardingRule, final TableRule tableRule, 
                                                                         final ShardingStrategy databaseShardingStrategy, final ShardingStrategy tableShardingStrategy) {
+        if (shardingConditions.getConditions().size() > 1) {
+            Optional<Collection<DataNode>> result = routeByShardingIndexes(shardingRule, tableRule, databaseShardingStrategy, tableShardingStrategy);
+            if (result.isPresent()) {
+                return result.get();
+            }
+        }
         Collection<DataNode> result = new LinkedList<>();
         for (ShardingCondition each : shardingConditions.getConditions()) {
             Collection<DataNode> dataNodes = route0(tableRule, 
@@ -124,6 +132,102 @@ public final class ShardingStandardRoutingEngine implements ShardingRouteEngine
         return result;
     }
     
+    private Optional<Collection<DataNode>> routeByShardingIndexes(final ShardingRule shardingRule, final TableRule tableRule, 
+                                                                  final ShardingStrategy databaseShardingStrategy, final ShardingStrategy tableShardingStrategy) {
+        if (databaseShardingStrategy instanceof NoneShardingStrategy) {
+            return routeByTableShardingIndexes(shardingRule, tableRule, tableShardingStrategy);
+        }
+        Optional<ShardingIndexAlgorithm> databaseShardingIndexAlgorithm = findShardingIndexAlgorithm(databaseShardingStrategy);
+        Optional<ShardingIndexAlgorithm> tableShardingIndexAlgorithm = findShardingIndexAlgorithm(tableShardingStrategy);
+        if (!databaseShardingIndexAlgorithm.isPresent() || !tableShardingIndexAlgorithm.isPresent()) {
+            return Optional.empty();
+        }
+        int[] databaseShardingIndexes = getShardingIndexes(shardingRule, databaseShardingStrategy.getShardingColumns(), databaseShardingIndexAlgorithm.get());
+        int[] tableShardingIndexes = null == databaseShardingIndexes ? null : getShardingIndexes(shardingRule, tableShardingStrategy.getShardingColumns(), tableShardingIndexAlgorithm.get());
+        if (null == tableShardingIndexes) {
+            return Optional.empty();
+        }
+        DataNode[][] dataNodes = new DataNode[databaseShardingIndexAlgorithm.get().getShardingIndexCount()][];
+        for (int i = 0; i < databaseShardingIndexes.length; i++) {
+            if (null == dataNodes[databaseShardingIndexes[i]]) {
+                dataNodes[databaseShardingIndexes[i]] = new DataNode[tableShardingIndexAlgorithm.get().getShardingIndexCount()];
+            }
+            if (null == dataNodes[databaseShardingIndexes[i]][tableShardingIndexes[i]]) {
+                Optional<DataNode> dataNode = findActualDataNode(
+                        tableRule, databaseShardingIndexAlgorithm.get(), databaseShardingIndexes[i], tableShardingIndexAlgorithm.get(), tableShardingIndexes[i]);
+                if (!dataNode.isPresent()) {
+                    return Optional.empty();
+                }
+                dataNodes[databaseShardingIndexes[i]][tableShardingIndexes[i]] = dataNode.get();
+            }
+        }
+        Collection<DataNode> result = new LinkedHashSet<>();
+        for (int i = 0; i < databaseShardingIndexes.length; i++) {
+            DataNode dataNode = dataNodes[databaseShardingIndexes[i]][tableShardingIndexes[i]];
+            result.add(dataNode);
+            originalDataNodes.add(Collections.singletonList(dataNode));
+        }
+        return Optional.of(result);
+    }
+    
+    private Optional<Collection<DataNode>> routeByTableShardingIndexes(final ShardingRule shardingRule, final TableRule tableRule, final ShardingStrategy tableShardingStrategy) {
+        Optional<ShardingIndexAlgorithm> tableShardingIndexAlgorithm = findShardingIndexAlgorithm(tableShardingStrategy);
+        if (!tableShardingIndexAlgorithm.isPresent()) {
+            return Optional.empty();
+        }
+        int[] tableShardingIndexes = getShardingIndexes(shardingRule, tableShardingStrategy.getShardingColumns(), tableShardingIndexAlgorithm.get());
+        if (null == tableShardingIndexes) {
+            return Optional.empty();
+        }
+        List<Collection<DataNode>> dataNodes = new ArrayList<>(Collections.nCopies(tableShardingIndexAlgorithm.get().getShardingIndexCount(), null));
+        for (int each : tableShardingIndexes) {
+            if (null == dataNodes.get(each)) {
+                Collection<DataNode> actualDataNodes = findActualDataNodes(tableRule, tableShardingIndexAlgorithm.get(), each);
+                if (actualDataNodes.isEmpty()) {
+                    return Optional.empty();
+                }
+                dataNodes.set(each, actualDataNodes);
+            }
+        }
+        Collection<DataNode> result = new LinkedHashSet<>();
+        for (int each : tableShardingIndexes) {
+            result.addAll(dataNodes.get(each));
+            originalDataNodes.add(dataNodes.get(each));
+        }
+        return Optional.of(result);
+    }
+    
+    private Collection<DataNode> findActualDataNodes(final TableRule tableRule, final ShardingIndexAlgorithm tableShardingIndexAlgorithm, final int tableShardingIndex) {
+        Collection<DataNode> result = new LinkedList<>();
+        for (String each : tableRule.getActualDatasourceNames()) {
+            tableRule.findActualDataNode(each, tableShardingIndexAlgorithm, tableShardingIndex).ifPresent(result::add);
+        }
+        return result;
+    }
+    
+    private int[] getShardingIndexes(final ShardingRule shardingRule, final Collection<String> shardingColumns, final ShardingIndexAlgorithm shardingIndexAlgorithm) {
+        int[] result = new int[shardingConditions.getConditions().size()];
+        int position = 0;
+        for (ShardingCondition each : shardingConditions.getConditions()) {
+            List<ShardingConditionValue> shardingValues = getShardingValuesFromShardingConditions(shardingRule, shardingColumns, each);
+            if (!isSingleShardingValue(shardingValues)) {
+                return null;
+            }
+            int shardingIndex = getShardingIndex(shardingIndexAlgorithm, shardingValues);
+            if (shardingIndex < 0 || shardingIndex >= shardingIndexAlgorithm.getShardingIndexCount()) {
+                return null;
+            }
+            result[position++] = shardingIndex;
+        }
+        return result;
+    }
+    
+    private Optional<DataNode> findActualDataNode(final TableRule tableRule, final ShardingIndexAlgorithm databaseShardingIndexAlgorithm, final int databaseShardingIndex,
+                                                  final ShardingIndexAlgorithm tableShardingIndexAlgorithm, final int tableShardingIndex) {
+        Optional<String> dataSourceName = tableRule.findActualDataSourceName(databaseShardingIndexAlgorithm, databaseShardingIndex);
+        return dataSourceName.isPresent() ? tableRule.findActualDataNode(dataSourceName.get(), tableShardingIndexAlgorithm, tableShardingIndex) : Optional.empty();
+    }
+    
     private Collection<DataNode> routeByMixedConditions(final ShardingRule shardingRule, final TableRule tableRule, 
                                                         final ShardingStrategy databaseShardingStrategy, final ShardingStrategy tableShardingStrategy) {
         return shardingConditions.getConditions().isEmpty()
@@ -204,6 +308,13 @@ public final class ShardingStandardRoutingEngine implements ShardingRouteEngine
         if (databaseShardingValues.isEmpty()) {
             return tableRule.getActualDatasourceNames();
         }
+        Optional<ShardingIndexAlgorithm> shardingIndexAlgorithm = findShardingIndexAlgorithm(databaseShardingStrategy, databaseShardingValues);
+        if (shardingIndexAlgorithm.isPresent()) {
+            Optional<String> dataSourceName = tableRule.findActualDataSourceName(shardingIndexAlgorithm.get(), getShardingIndex(shardingIndexAlgorithm.get(), databaseShardingValues));
+            if (dataSourceName.isPresent()) {
+                return Collections.singletonList(dataSourceName.get());
+            }
+        }
         Collection<String> result = new LinkedHashSet<>(databaseShardingStrategy.doSharding(tableRule.getActualDatasourceNames(), databaseShardingValues, properties));
         Preconditions.checkState(!result.isEmpty(), "no database route info");
         Preconditions.checkState(tableRule.getActualDatasourceNames().containsAll(result), 
@@ -213,6 +324,13 @@ public final class ShardingStandardRoutingEngine implements ShardingRouteEngine
     
     private Collection<DataNode> routeTables(final TableRule tableRule, final String routedDataSource, 
                                              final ShardingStrategy tableShardingStrategy, final List<ShardingConditionValue> tableShardingValues) {
+        Optional<ShardingIndexAlgorithm> shardingIndexAlgorithm = findShardingIndexAlgorithm(tableShardingStrategy, tableShardingValues);
+        if (shardingIndexAlgorithm.isPresent()) {
+            Optional<DataNode> dataNode = tableRule.findActualDataNode(routedDataSource, shardingIndexAlgorithm.get(), getShardingIndex(shardingIndexAlgorithm.get(), tableShardingValues));
+            if (dataNode.isPresent()) {
+                return Collections.singletonList(dataNode.get());
+            }
+        }
         Collection<String> availableTargetTables = tableRule.getActualTableNames(routedDataSource);
         Collection<String> routedTables = new LinkedHashSet<>(tableShardingValues.isEmpty()
                 ? availableTargetTables : tableShardingStrategy.doSharding(availableTargetTables, tableShardingValues, properties));
@@ -223,6 +341,26 @@ public final class ShardingStandardRoutingEngine implements ShardingRouteEngine
         return result;
     }
     
+    private Optional<ShardingIndexAlgorithm> findShardingIndexAlgorithm(final ShardingStrategy shardingStrategy, final List<ShardingConditionValue> shardingValues) {
+        return isSingleShardingValue(shardingValues) ? findShardingIndexAlgorithm(shardingStrategy) : Optional.empty();
+    }
+    
+    private Optional<ShardingIndexAlgorithm> findShardingIndexAlgorithm(final ShardingStrategy shardingStrategy) {
+        if (!(shardingStrategy instanceof StandardShardingStrategy)) {
+            return Optional.empty();
+        }
+        ShardingAlgorithm shardingAlgorithm = ((StandardShardingStrategy) shardingStrategy).getShardingAlgorithm();
+        return shardingAlgorithm instanceof ShardingIndexAlgorithm ? Optional.of((ShardingIndexAlgorithm) shardingAlgorithm) : Optional.empty();
+    }
+    
+    private boolean isSingleShardingValue(final List<ShardingConditionValue> shardingValues) {
+        return 1 == shardingValues.size() && shardingValues.get(0) instanceof ListShardingConditionValue && 1 == ((ListShardingConditionValue<?>) shardingValues.get(0)).getValues().size();
+    }
+    
+    private int getShardingIndex(final ShardingIndexAlgorithm shardingIndexAlgorithm, final List<ShardingConditionValue> shardingValues) {
+        return shardingIndexAlgorithm.getShardingIndex(((ListShardingConditionValue<?>) shardingValues.get(0)).getValues().iterator().next());
+    }
+    
     private ShardingStrategy createShardingStrategy(final ShardingStrategyConfiguration shardingStrategyConfig, final Map<String, ShardingAlgorithm> shardingAlgorithms,
                                                     final String defaultShardingColumn) {
         return null == shardingStrategyConfig ? new NoneShardingStrategy()
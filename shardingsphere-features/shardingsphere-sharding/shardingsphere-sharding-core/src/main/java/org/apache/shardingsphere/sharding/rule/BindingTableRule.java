@@ -17,14 +17,19 @@
 
 package org.apache.shardingsphere.sharding.rule;
 
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.infra.config.exception.ShardingSphereConfigurationException;
+import org.apache.shardingsphere.infra.datanode.DataNode;
 
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
-import java.util.Optional;
+import java.util.Map.Entry;
 
 /**
  * Binding table rule.
@@ -37,6 +42,9 @@ public final class BindingTableRule {
     
     private final Map<String, TableRule> tableRules = new LinkedHashMap<>();
     
+    @Getter(AccessLevel.NONE)
+    private volatile BindingActualTableIndex bindingActualTableIndex;
+    
     /**
      * Judge contains this logic table in this rule.
      * 
@@ -56,23 +64,27 @@ public final class BindingTableRule {
      * @return actual table name
      */
     public String getBindingActualTable(final String dataSource, final String logicTable, final String otherActualTable) {
-        int index = -1;
-        for (TableRule each : tableRules.values()) {
-            index = each.findActualTableIndex(dataSource, otherActualTable);
-            if (-1 != index) {
-                break;
-            }
-        }
-        if (-1 == index) {
+        BindingActualTableIndex index = getBindingActualTableIndex();
+        Integer position = index.actualTablePositions.get(BindingActualTableIndex.getKey(dataSource, otherActualTable));
+        if (null == position) {
             throw new ShardingSphereConfigurationException("Actual table [%s].[%s] is not in table config", dataSource, otherActualTable);
         }
-        Optional<TableRule> tableRule = Optional.ofNullable(tableRules.get(logicTable.toLowerCase()));
-        if (tableRule.isPresent()) {
-            return tableRule.get().getActualDataNodes().get(index).getTableName();
+        String[] actualTableNames = index.positionActualTableNames.get(logicTable.toLowerCase());
+        if (null != actualTableNames) {
+            return actualTableNames[position];
         }
         throw new ShardingSphereConfigurationException("Cannot find binding actual table, data source: %s, logic table: %s, other actual table: %s", dataSource, logicTable, otherActualTable);
     }
     
+    private BindingActualTableIndex getBindingActualTableIndex() {
+        BindingActualTableIndex result = bindingActualTableIndex;
+        if (null == result) {
+            result = new BindingActualTableIndex(tableRules);
+            bindingActualTableIndex = result;
+        }
+        return result;
+    }
+    
     /**
      * Get list of logical table.
      *
@@ -92,4 +104,37 @@ public final class BindingTableRule {
         }
         return result;
     }
+    
+    /**
+     * Binding actual table index.
+     * 
+     * <p>Actual tables in same position of different table rules are bound together, index is built once when binding table rule is used at first time.</p>
+     */
+    private static final class BindingActualTableIndex {
+        
+        private final Map<String, Integer> actualTablePositions;
+        
+        private final Map<String, String[]> positionActualTableNames;
+        
+        BindingActualTableIndex(final Map<String, TableRule> tableRules) {
+            Map<String, Integer> positions = new HashMap<>();
+            Map<String, String[]> actualTableNamesMap = new HashMap<>(tableRules.size(), 1);
+            for (Entry<String, TableRule> entry : tableRules.entrySet()) {
+                List<DataNode> actualDataNodes = entry.getValue().getActualDataNodes();
+                String[] actualTableNames = new String[actualDataNodes.size()];
+                for (int i = 0; i < actualTableNames.length; i++) {
+                    DataNode dataNode = actualDataNodes.get(i);
+                    positions.putIfAbsent(getKey(dataNode.getDataSourceName(), dataNode.getTableName()), i);
+                    actualTableNames[i] = dataNode.getTableName();
+                }
+                actualTableNamesMap.put(entry.getKey(), actualTableNames);
+            }
+            actualTablePositions = Collections.unmodifiableMap(positions);
+            positionActualTableNames = Collections.unmodifiableMap(actualTableNamesMap);
+        }
+        
+        private static String getKey(final String dataSourceName, final String actualTableName) {
+            return String.join(".", dataSourceName, actualTableName).toUpperCase();
+        }
+    }
 }
@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.sharding.rule;
 
 import com.google.common.base.Strings;
+import com.google.common.collect.ImmutableSet;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.ToString;
@@ -31,28 +32,32 @@ import org.apache.shardingsphere.sharding.api.config.strategy.keygen.KeyGenerate
 import org.apache.shardingsphere.sharding.api.config.strategy.sharding.NoneShardingStrategyConfiguration;
 import org.apache.shardingsphere.sharding.api.config.strategy.sharding.ShardingStrategyConfiguration;
 import org.apache.shardingsphere.sharding.api.sharding.ShardingAutoTableAlgorithm;
+import org.apache.shardingsphere.sharding.api.sharding.ShardingIndexAlgorithm;
 import org.apache.shardingsphere.sharding.support.InlineExpressionParser;
 
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
-import java.util.LinkedHashSet;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 /**
  * Table rule.
  */
 @Getter
-@ToString(exclude = {"dataNodeIndexMap", "actualTables", "actualDatasourceNames", "datasourceToTablesMap"})
+@ToString(exclude = {"dataNodeIndexMap", "actualTables", "actualDatasourceNames", "datasourceToTablesMap", "shardingIndexDataSourceNames", "shardingIndexDataNodes"})
 public final class TableRule {
     
+    private static final int MAX_SHARDING_INDEX_COUNT = 1024;
+    
     private final String logicTable;
     
     private final List<DataNode> actualDataNodes;
@@ -72,15 +77,23 @@ public final class TableRule {
     
     private final String keyGeneratorName;
     
-    private final Collection<String> actualDatasourceNames = new LinkedHashSet<>();
+    private final Collection<String> actualDatasourceNames;
+    
+    private final Map<String, Collection<String>> datasourceToTablesMap;
+    
+    @Getter(AccessLevel.NONE)
+    private volatile String[] shardingIndexDataSourceNames;
     
-    private final Map<String, Collection<String>> datasourceToTablesMap = new HashMap<>();
+    @Getter(AccessLevel.NONE)
+    private final Map<String, DataNode[]> shardingIndexDataNodes = new ConcurrentHashMap<>();
     
     public TableRule(final Collection<String> dataSourceNames, final String logicTableName) {
         logicTable = logicTableName;
         dataNodeIndexMap = new HashMap<>(dataSourceNames.size(), 1);
         actualDataNodes = generateDataNodes(logicTableName, dataSourceNames);
         actualTables = getActualTables();
+        actualDatasourceNames = createActualDatasourceNames();
+        datasourceToTablesMap = createDatasourceToTablesMap();
         databaseShardingStrategyConfig = null;
         tableShardingStrategyConfig = null;
         generateKeyColumn = null;
@@ -93,6 +106,8 @@ public final class TableRule {
         dataNodeIndexMap = new HashMap<>(dataNodes.size(), 1);
         actualDataNodes = isEmptyDataNodes(dataNodes) ? generateDataNodes(tableRuleConfig.getLogicTable(), dataSourceNames) : generateDataNodes(dataNodes, dataSourceNames);
         actualTables = getActualTables();
+        actualDatasourceNames = createActualDatasourceNames();
+        datasourceToTablesMap = createDatasourceToTablesMap();
         databaseShardingStrategyConfig = tableRuleConfig.getDatabaseShardingStrategy();
         tableShardingStrategyConfig = tableRuleConfig.getTableShardingStrategy();
         KeyGenerateStrategyConfiguration keyGeneratorConfig = tableRuleConfig.getKeyGenerateStrategy();
@@ -110,6 +125,8 @@ public final class TableRule {
         dataNodeIndexMap = new HashMap<>(dataNodes.size(), 1);
         actualDataNodes = isEmptyDataNodes(dataNodes) ? generateDataNodes(tableRuleConfig.getLogicTable(), dataSourceNames) : generateDataNodes(dataNodes, dataSourceNames);
         actualTables = getActualTables();
+        actualDatasourceNames = createActualDatasourceNames();
+        datasourceToTablesMap = createDatasourceToTablesMap();
         KeyGenerateStrategyConfiguration keyGeneratorConfig = tableRuleConfig.getKeyGenerateStrategy();
         generateKeyColumn = null != keyGeneratorConfig && !Strings.isNullOrEmpty(keyGeneratorConfig.getColumn()) ? keyGeneratorConfig.getColumn() : defaultGenerateKeyColumn;
         keyGeneratorName = null == keyGeneratorConfig ? null : keyGeneratorConfig.getKeyGeneratorName();
@@ -141,8 +158,18 @@ public final class TableRule {
         return actualDataNodes.stream().map(DataNode::getTableName).collect(Collectors.toCollection(() -> new TreeSet<>(String.CASE_INSENSITIVE_ORDER)));
     }
     
-    private void addActualTable(final String datasourceName, final String tableName) {
-        datasourceToTablesMap.computeIfAbsent(datasourceName, key -> new LinkedHashSet<>()).add(tableName);
+    private Collection<String> createActualDatasourceNames() {
+        return actualDataNodes.stream().map(DataNode::getDataSourceName).collect(ImmutableSet.toImmutableSet());
+    }
+    
+    private Map<String, Collection<String>> createDatasourceToTablesMap() {
+        Map<String, ImmutableSet.Builder<String>> builders = new LinkedHashMap<>();
+        for (DataNode each : actualDataNodes) {
+            builders.computeIfAbsent(each.getDataSourceName(), key -> ImmutableSet.builder()).add(each.getTableName());
+        }
+        Map<String, Collection<String>> result = new HashMap<>(builders.size(), 1);
+        builders.forEach((key, value) -> result.put(key, value.build()));
+        return result;
     }
     
     private boolean isEmptyDataNodes(final List<String> dataNodes) {
@@ -156,8 +183,6 @@ public final class TableRule {
             DataNode dataNode = new DataNode(each, logicTable);
             result.add(dataNode);
             dataNodeIndexMap.put(dataNode, index);
-            actualDatasourceNames.add(each);
-            addActualTable(dataNode.getDataSourceName(), dataNode.getTableName());
             index++;
         }
         return result;
@@ -173,8 +198,6 @@ public final class TableRule {
             }
             result.add(dataNode);
             dataNodeIndexMap.put(dataNode, index);
-            actualDatasourceNames.add(dataNode.getDataSourceName());
-            addActualTable(dataNode.getDataSourceName(), dataNode.getTableName());
             index++;
         }
         return result;
@@ -208,6 +231,59 @@ public final class TableRule {
         return datasourceToTablesMap.getOrDefault(targetDataSource, Collections.emptySet());
     }
     
+    /**
+     * Find actual data source name via sharding index of database sharding algorithm.
+     *
+     * @param databaseShardingAlgorithm database sharding algorithm of this table rule
+     * @param shardingIndex sharding index
+     * @return actual data source name which is the target of sharding index
+     */
+    public Optional<String> findActualDataSourceName(final ShardingIndexAlgorithm databaseShardingAlgorithm, final int shardingIndex) {
+        if (null == shardingIndexDataSourceNames) {
+            shardingIndexDataSourceNames = createShardingIndexTargetNames(databaseShardingAlgorithm, actualDatasourceNames);
+        }
+        return shardingIndex >= 0 && shardingIndex < shardingIndexDataSourceNames.length ? Optional.ofNullable(shardingIndexDataSourceNames[shardingIndex]) : Optional.empty();
+    }
+    
+    /**
+     * Find actual data node via sharding index of table sharding algorithm.
+     *
+     * @param dataSourceName data source name
+     * @param tableShardingAlgorithm table sharding algorithm of this table rule
+     * @param shardingIndex sharding index
+     * @return actual data node which is the target of sharding index in data source
+     */
+    public Optional<DataNode> findActualDataNode(final String dataSourceName, final ShardingIndexAlgorithm tableShardingAlgorithm, final int shardingIndex) {
+        DataNode[] dataNodes = shardingIndexDataNodes.computeIfAbsent(dataSourceName, key -> createShardingIndexDataNodes(key, tableShardingAlgorithm));
+        return shardingIndex >= 0 && shardingIndex < dataNodes.length ? Optional.ofNullable(dataNodes[shardingIndex]) : Optional.empty();
+    }
+    
+    private DataNode[] createShardingIndexDataNodes(final String dataSourceName, final ShardingIndexAlgorithm tableShardingAlgorithm) {
+        String[] tableNames = createShardingIndexTargetNames(tableShardingAlgorithm, getActualTableNames(dataSourceName));
+        DataNode[] result = new DataNode[tableNames.length];
+        for (int i = 0; i < tableNames.length; i++) {
+            result[i] = null == tableNames[i] ? null : new DataNode(dataSourceName, tableNames[i]);
+        }
+        return result;
+    }
+    
+    private String[] createShardingIndexTargetNames(final ShardingIndexAlgorithm shardingAlgorithm, final Collection<String> availableTargetNames) {
+        int shardingIndexCount = shardingAlgorithm.getShardingIndexCount();
+        if (shardingIndexCount <= 0 || shardingIndexCount > MAX_SHARDING_INDEX_COUNT) {
+            return new String[0];
+        }
+        String[] result = new String[shardingIndexCount];
+        for (int i = 0; i < shardingIndexCount; i++) {
+            for (String each : availableTargetNames) {
+                if (shardingAlgorithm.isShardingIndexTarget(each, i)) {
+                    result[i] = each;
+                    break;
+                }
+            }
+        }
+        return result;
+    }
+    
     int findActualTableIndex(final String dataSourceName, final String actualTableName) {
         return dataNodeIndexMap.getOrDefault(new DataNode(dataSourceName, actualTableName), -1);
     }
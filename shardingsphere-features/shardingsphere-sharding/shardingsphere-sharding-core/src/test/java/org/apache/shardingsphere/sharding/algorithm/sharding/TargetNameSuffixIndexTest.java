@@ -0,0 +1,71 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.algorithm.sharding;
+
+import com.google.common.collect.ImmutableSet;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class TargetNameSuffixIndexTest {
+    
+    @Test
+    public void assertGetTargetNames() {
+        TargetNameSuffixIndex targetNameSuffixIndex = new TargetNameSuffixIndex(Arrays.asList("1", "2", "11", "12"));
+        Collection<String> availableTargetNames = Arrays.asList("t_order_1", "t_order_2", "t_order_11", "t_order_12");
+        assertThat(targetNameSuffixIndex.getTargetNames(availableTargetNames, "1"), is(Arrays.asList("t_order_1", "t_order_11")));
+        assertThat(targetNameSuffixIndex.getTargetNames(availableTargetNames, "12"), is(Collections.singletonList("t_order_12")));
+        assertTrue(targetNameSuffixIndex.getTargetNames(availableTargetNames, "3").isEmpty());
+    }
+    
+    @Test
+    public void assertGetTargetNamesWithDifferentSuffixLengths() {
+        TargetNameSuffixIndex targetNameSuffixIndex = new TargetNameSuffixIndex(Arrays.asList("2021", "202101"));
+        Collection<String> availableTargetNames = Arrays.asList("t_2021", "t_202101", "t_202102");
+        assertThat(targetNameSuffixIndex.getTargetNames(availableTargetNames, "2021"), is(Collections.singletonList("t_2021")));
+        assertThat(targetNameSuffixIndex.getTargetNames(availableTargetNames, "202101"), is(Collections.singletonList("t_202101")));
+        assertTrue(targetNameSuffixIndex.getTargetNames(availableTargetNames, "202102").isEmpty());
+    }
+    
+    @Test
+    public void assertGetIndexCachedByImmutableAvailableTargetNames() {
+        TargetNameSuffixIndex targetNameSuffixIndex = new TargetNameSuffixIndex(Arrays.asList("0", "1"));
+        assertThat(targetNameSuffixIndex.getIndex(ImmutableSet.of("t_order_0", "t_order_1")), sameInstance(targetNameSuffixIndex.getIndex(ImmutableSet.of("t_order_0", "t_order_1"))));
+    }
+    
+    @Test
+    public void assertGetIndexNotCachedByMutableAvailableTargetNames() {
+        TargetNameSuffixIndex targetNameSuffixIndex = new TargetNameSuffixIndex(Arrays.asList("0", "1"));
+        Collection<String> availableTargetNames = new LinkedList<>(Arrays.asList("t_order_0", "t_order_1"));
+        Map<String, List<String>> actual = targetNameSuffixIndex.getIndex(availableTargetNames);
+        availableTargetNames.remove("t_order_1");
+        assertThat(targetNameSuffixIndex.getIndex(availableTargetNames), not(actual));
+        assertTrue(targetNameSuffixIndex.getTargetNames(availableTargetNames, "1").isEmpty());
+    }
+}
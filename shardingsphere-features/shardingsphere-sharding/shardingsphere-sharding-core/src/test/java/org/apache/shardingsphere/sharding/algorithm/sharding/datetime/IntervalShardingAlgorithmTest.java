@@ -25,12 +25,14 @@ import org.junit.Test;
 
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.LinkedList;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
 
 public final class IntervalShardingAlgorithmTest {
     
@@ -127,6 +129,14 @@ public final class IntervalShardingAlgorithmTest {
         assertThat(actual.size(), is(7));
     }
     
+    @Test
+    public void assertRangeDoShardingByMonthWithOpenBoundaries() {
+        Collection<String> actual = shardingAlgorithmByMonth.doSharding(
+                availableTablesForMonthDataSources, new RangeShardingValue<>("t_order", "create_time", Range.open("2019-10-31 23:59:59", "2020-01-01 00:00:00")));
+        assertThat(actual.size(), is(3));
+        assertTrue(actual.containsAll(Arrays.asList("t_order_201910", "t_order_201911", "t_order_201912")));
+    }
+    
     @Test
     public void assertLowerHalfRangeDoSharding() {
         Collection<String> actual = shardingAlgorithmByQuarter.doSharding(
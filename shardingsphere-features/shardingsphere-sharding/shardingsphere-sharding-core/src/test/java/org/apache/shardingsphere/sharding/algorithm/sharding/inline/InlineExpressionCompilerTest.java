@@ -0,0 +1,115 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.algorithm.sharding.inline;
+
+import groovy.lang.Closure;
+import groovy.lang.GroovyRuntimeException;
+import groovy.util.Expando;
+import org.apache.shardingsphere.sharding.support.InlineExpressionCompiler;
+import org.apache.shardingsphere.sharding.support.InlineExpressionParser;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class InlineExpressionCompilerTest {
+    
+    @Test
+    public void assertCompileSameAsGroovy() {
+        String[] expressions = {"t_order_${order_id % 16}", "ds_${user_id.hashCode() % 4}", "ds_${Math.abs(user_id.hashCode()) % 4}", "t_${order_id}", "t_order",
+            "t_${(order_id + 1) * 2 - -3}", "t_${order_id % 2}_${user_id % 3}", "t_$->{order_id % 8}", "t_${ order_id * 65537 }", "t_${order_id - 9999999999}"};
+        Object[] values = {0, 1, 7, -5, 15L, -9L, Integer.MAX_VALUE, Long.MIN_VALUE, (short) 3, (byte) -2, "foo", 'c'};
+        for (String each : expressions) {
+            for (Object value : values) {
+                Map<String, Object> variables = new HashMap<>(2, 1);
+                variables.put("order_id", value);
+                variables.put("user_id", value);
+                String expected = evaluateByGroovy(each, variables);
+                new InlineExpressionCompiler(each).compile().get().evaluate(variables).ifPresent(optional -> assertThat(each + " with " + value, optional, is(expected)));
+            }
+        }
+    }
+    
+    @Test
+    public void assertEvaluateWithUnsupportedValue() {
+        assertFalse(new InlineExpressionCompiler("t_${order_id % 2}").compile().get().evaluate(Collections.singletonMap("order_id", new BigDecimal("1"))).isPresent());
+        assertFalse(new InlineExpressionCompiler("t_${order_id % 2}").compile().get().evaluate(Collections.singletonMap("order_id", "1")).isPresent());
+        assertFalse(new InlineExpressionCompiler("t_${order_id}").compile().get().evaluate(Collections.singletonMap("order_id", Collections.singletonList(1))).isPresent());
+    }
+    
+    @Test
+    public void assertEvaluateWithMissingVariable() {
+        assertThat(new InlineExpressionCompiler("t_${order_id}").compile().get().evaluate(Collections.emptyMap()).get(), is("t_null"));
+    }
+    
+    @Test
+    public void assertNotCompile() {
+        for (String each : Arrays.asList("t_${order_id / 2}", "t_${order_id.toString()}", "t_${it}", "t_$order_id", "t_${order_id % 016}", "t_${1.5}", "t_${'a'}", "t_\"${order_id}\"",
+                "t_${order_id", "t_${Math.max(order_id, 1)}", "t_${order_id ? 1 : 0}")) {
+            assertFalse(each, new InlineExpressionCompiler(each).compile().isPresent());
+        }
+    }
+    
+    @Test
+    public void assertExpand() {
+        assertThat(new InlineExpressionCompiler("ds_${0..1}.t_order_${['a', 'b', 'a']}").expand().get(), is(Arrays.asList("ds_0.t_order_a", "ds_0.t_order_b", "ds_1.t_order_a", "ds_1.t_order_b")));
+        assertThat(new InlineExpressionCompiler("t_${2..0}").expand().get(), is(Arrays.asList("t_2", "t_1", "t_0")));
+        assertThat(new InlineExpressionCompiler("t_$->{0..<3}").expand().get(), is(Arrays.asList("t_0", "t_1", "t_2")));
+        assertThat(new InlineExpressionCompiler("t_${-1..1}").expand().get(), is(Arrays.asList("t_-1", "t_0", "t_1")));
+        assertThat(new InlineExpressionCompiler("t_${[0, 10]}").expand().get(), is(Arrays.asList("t_0", "t_10")));
+        assertThat(new InlineExpressionCompiler("t_${'xx'}").expand().get(), is(Collections.singletonList("t_xx")));
+        assertThat(new InlineExpressionCompiler("t_config").expand().get(), is(Collections.singletonList("t_config")));
+        assertTrue(new InlineExpressionCompiler("t_${0..<0}").expand().get().isEmpty());
+    }
+    
+    @Test
+    public void assertExpandSameAsGroovy() {
+        for (String each : Arrays.asList("ds_${0..3}.t_${[1, 3]}_${0..<2}", "t_${3..<0}", "t_${[' a', 'b ']}", "t_${5}")) {
+            assertThat(each, new InlineExpressionCompiler(each).expand().get(), is(new InlineExpressionParser("\"" + each + "\"").splitAndEvaluate()));
+        }
+    }
+    
+    @Test
+    public void assertNotExpand() {
+        for (String each : Arrays.asList("t_${null}", "t_${[\"new${1+2}\",'old']}", "t_${0..order_id}", "t_${'a\\'b'}", "\"t_0\"")) {
+            assertFalse(each, new InlineExpressionCompiler(each).expand().isPresent());
+        }
+    }
+    
+    private String evaluateByGroovy(final String expression, final Map<String, Object> variables) {
+        Closure<?> closure = new InlineExpressionParser(InlineExpressionParser.handlePlaceHolder(expression)).evaluateClosure().rehydrate(new Expando(), null, null);
+        closure.setResolveStrategy(Closure.DELEGATE_ONLY);
+        for (Entry<String, Object> entry : variables.entrySet()) {
+            closure.setProperty(entry.getKey(), entry.getValue());
+        }
+        try {
+            return closure.call().toString();
+        } catch (final GroovyRuntimeException ex) {
+            return ex.getClass().getName();
+        }
+    }
+}
@@ -47,6 +47,12 @@ public final class HashModShardingAlgorithmTest {
         assertThat(shardingAlgorithm.doSharding(availableTargetNames, new PreciseShardingValue<>("t_order", "order_type", "a")), is("t_order_1"));
     }
     
+    @Test
+    public void assertGetShardingIndex() {
+        assertThat(shardingAlgorithm.getShardingIndex("a"), is(1));
+        assertThat(shardingAlgorithm.getShardingIndexCount(), is(4));
+    }
+    
     @Test
     public void assertRangeDoSharding() {
         List<String> availableTargetNames = Arrays.asList("t_order_0", "t_order_1", "t_order_2", "t_order_3");
@@ -48,6 +48,13 @@ public final class ModShardingAlgorithmTest {
         assertThat(shardingAlgorithm.doSharding(availableTargetNames, new PreciseShardingValue<>("t_order", "order_id", 13L)), is("t_order_1"));
     }
     
+    @Test
+    public void assertGetShardingIndex() {
+        assertThat(shardingAlgorithm.getShardingIndex(13L), is(1));
+        assertThat(shardingAlgorithm.getShardingIndex("14"), is(2));
+        assertThat(shardingAlgorithm.getShardingIndexCount(), is(4));
+    }
+    
     @Test
     public void assertRangeDoShardingWithAllTargets() {
         List<String> availableTargetNames = Arrays.asList("t_order_0", "t_order_1", "t_order_2", "t_order_3");
@@ -116,6 +116,13 @@ public final class VolumeBasedRangeShardingAlgorithmTest {
         assertRangeDoSharding(new RangeShardingValue<>("t_order", "order_id", Range.closed(12, 55)));
     }
     
+    @Test
+    public void assertGetShardingIndex() {
+        assertThat(shardingAlgorithm.getShardingIndex(12L), is(1));
+        assertThat(shardingAlgorithm.getShardingIndex(50L), is(5));
+        assertThat(shardingAlgorithm.getShardingIndexCount(), is(6));
+    }
+    
     @Test
     public void assertGetAutoTablesAmount() {
         VolumeBasedRangeShardingAlgorithm shardingAlgorithm = new VolumeBasedRangeShardingAlgorithm();
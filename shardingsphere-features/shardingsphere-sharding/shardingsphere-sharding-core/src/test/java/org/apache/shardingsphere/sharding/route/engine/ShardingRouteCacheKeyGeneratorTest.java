@@ -0,0 +1,70 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.route.engine;
+
+import com.google.common.collect.Range;
+import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.sharding.route.engine.condition.ShardingCondition;
+import org.apache.shardingsphere.sharding.route.engine.condition.ShardingConditions;
+import org.apache.shardingsphere.sharding.route.engine.condition.value.ListShardingConditionValue;
+import org.apache.shardingsphere.sharding.route.engine.condition.value.RangeShardingConditionValue;
+import org.apache.shardingsphere.sharding.route.engine.condition.value.ShardingConditionValue;
+import org.apache.shardingsphere.sharding.rule.ShardingRule;
+import org.junit.Test;
+
+import java.sql.Timestamp;
+import java.util.Collections;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+
+public final class ShardingRouteCacheKeyGeneratorTest {
+    
+    @Test
+    public void assertGenerateWithSameShardingValues() {
+        Object expected = generate(new ListShardingConditionValue<>("order_id", "t_order", Collections.singleton(1))).get();
+        assertThat(generate(new ListShardingConditionValue<>("order_id", "t_order", Collections.singleton(1))).get(), is(expected));
+        assertThat(generate(new ListShardingConditionValue<>("order_id", "t_order", Collections.singleton(2))).get(), not(expected));
+        assertThat(generate(new RangeShardingConditionValue<>("order_id", "t_order", Range.singleton(1))).get(), not(expected));
+    }
+    
+    @Test
+    public void assertGenerateWithTimestampValue() {
+        Timestamp timestamp = new Timestamp(0L);
+        Object expected = generate(new RangeShardingConditionValue<>("create_time", "t_order", Range.atLeast(timestamp))).get();
+        assertThat(generate(new RangeShardingConditionValue<>("create_time", "t_order", Range.atLeast(new Timestamp(0L)))).get(), is(expected));
+        timestamp.setTime(1000L);
+        assertThat(generate(new RangeShardingConditionValue<>("create_time", "t_order", Range.atLeast(timestamp))).get(), not(expected));
+    }
+    
+    @Test
+    public void assertGenerateWithUnsupportedValue() {
+        assertFalse(generate(new ListShardingConditionValue<>("order_id", "t_order", Collections.singleton(UUID.randomUUID()))).isPresent());
+    }
+    
+    private Optional<Object> generate(final ShardingConditionValue shardingConditionValue) {
+        ShardingCondition shardingCondition = new ShardingCondition();
+        shardingCondition.getValues().add(shardingConditionValue);
+        return ShardingRouteCacheKeyGenerator.generate(new ShardingConditions(Collections.singletonList(shardingCondition), mock(SQLStatementContext.class), mock(ShardingRule.class)));
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.route.engine.condition;
+
+import com.google.common.collect.Range;
+import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.sharding.route.engine.condition.value.ListShardingConditionValue;
+import org.apache.shardingsphere.sharding.route.engine.condition.value.RangeShardingConditionValue;
+import org.apache.shardingsphere.sharding.route.engine.condition.value.ShardingConditionValue;
+import org.apache.shardingsphere.sharding.rule.ShardingRule;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+
+public final class ShardingConditionsTest {
+    
+    @Test
+    public void assertCoalesceListValues() {
+        ShardingConditions shardingConditions = createShardingConditions(new ListShardingConditionValue<>("order_id", "t_order", Arrays.asList(1, 2)),
+                new ListShardingConditionValue<>("order_id", "t_order", Arrays.asList(2, 3)));
+        shardingConditions.getConditions().add(new AlwaysFalseShardingCondition());
+        shardingConditions.coalesce();
+        assertThat(shardingConditions.getConditions().size(), is(1));
+        assertThat(((ListShardingConditionValue<?>) shardingConditions.getConditions().get(0).getValues().get(0)).getValues(), is(Arrays.asList(1, 2, 3)));
+    }
+    
+    @Test
+    public void assertCoalesceRangeValues() {
+        ShardingConditions shardingConditions = createShardingConditions(new RangeShardingConditionValue<>("order_id", "t_order", Range.closed(1, 5)),
+                new RangeShardingConditionValue<>("order_id", "t_order", Range.closed(4, 8)), new ListShardingConditionValue<>("order_id", "t_order", Arrays.asList(3, 10)),
+                new RangeShardingConditionValue<>("order_id", "t_order", Range.greaterThan(20)));
+        shardingConditions.coalesce();
+        assertThat(shardingConditions.getConditions().size(), is(3));
+        assertThat(((ListShardingConditionValue<?>) shardingConditions.getConditions().get(0).getValues().get(0)).getValues(), is(Collections.singletonList(10)));
+        assertThat(((RangeShardingConditionValue<?>) shardingConditions.getConditions().get(1).getValues().get(0)).getValueRange(), is(Range.closed(1, 8)));
+        assertThat(((RangeShardingConditionValue<?>) shardingConditions.getConditions().get(2).getValues().get(0)).getValueRange(), is(Range.greaterThan(20)));
+    }
+    
+    @Test
+    public void assertCoalesceWithDifferentColumns() {
+        ShardingConditions shardingConditions = createShardingConditions(new ListShardingConditionValue<>("order_id", "t_order", Collections.singletonList(1)),
+                new ListShardingConditionValue<>("user_id", "t_order", Collections.singletonList(1)));
+        shardingConditions.coalesce();
+        assertThat(shardingConditions.getConditions().size(), is(2));
+        assertThat(shardingConditions.getConditions().get(0).getValues().get(0).getColumnName(), is("order_id"));
+        assertThat(shardingConditions.getConditions().get(1).getValues().get(0).getColumnName(), is("user_id"));
+    }
+    
+    @Test
+    public void assertCoalesceAlwaysFalseConditions() {
+        ShardingConditions shardingConditions = new ShardingConditions(new ArrayList<>(Arrays.asList(new AlwaysFalseShardingCondition(), new AlwaysFalseShardingCondition())),
+                mock(SQLStatementContext.class), mock(ShardingRule.class));
+        shardingConditions.coalesce();
+        assertThat(shardingConditions.getConditions().size(), is(1));
+        assertThat(shardingConditions.getConditions().get(0), instanceOf(AlwaysFalseShardingCondition.class));
+    }
+    
+    private ShardingConditions createShardingConditions(final ShardingConditionValue... values) {
+        List<ShardingCondition> conditions = new ArrayList<>(values.length);
+        for (ShardingConditionValue each : values) {
+            ShardingCondition shardingCondition = new ShardingCondition();
+            shardingCondition.getValues().add(each);
+            conditions.add(shardingCondition);
+        }
+        return new ShardingConditions(conditions, mock(SQLStatementContext.class), mock(ShardingRule.class));
+    }
+}
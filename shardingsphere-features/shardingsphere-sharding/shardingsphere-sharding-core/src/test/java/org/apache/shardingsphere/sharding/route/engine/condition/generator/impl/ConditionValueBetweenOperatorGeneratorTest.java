@@ -20,6 +20,7 @@ package org.apache.shardingsphere.sharding.route.engine.condition.generator.impl
 import com.google.common.collect.Range;
 import org.apache.shardingsphere.infra.datetime.DatetimeService;
 import org.apache.shardingsphere.sharding.route.engine.condition.Column;
+import org.apache.shardingsphere.sharding.route.engine.condition.value.ExcludedShardingConditionValue;
 import org.apache.shardingsphere.sharding.route.engine.condition.value.RangeShardingConditionValue;
 import org.apache.shardingsphere.sharding.route.engine.condition.value.ShardingConditionValue;
 import org.apache.shardingsphere.spi.ShardingSphereServiceLoader;
@@ -35,6 +36,7 @@ import org.junit.Test;
 
 import java.util.Arrays;
 import java.util.Calendar;
+import java.util.Collections;
 import java.util.Date;
 import java.util.LinkedList;
 import java.util.Optional;
@@ -55,6 +57,15 @@ public final class ConditionValueBetweenOperatorGeneratorTest {
         ShardingSphereServiceLoader.register(DatetimeService.class);
     }
     
+    @Test
+    public void assertGenerateConditionValueWithNotBetween() {
+        BetweenExpression value = new BetweenExpression(0, 0, null, new LiteralExpressionSegment(0, 0, 1), new LiteralExpressionSegment(0, 0, 2), true);
+        Optional<ShardingConditionValue> shardingConditionValue = generator.generate(value, column, new LinkedList<>());
+        assertTrue(shardingConditionValue.isPresent());
+        assertThat(shardingConditionValue.get(), instanceOf(ExcludedShardingConditionValue.class));
+        assertThat(((ExcludedShardingConditionValue) shardingConditionValue.get()).getExcludedRanges(), is(Collections.singletonList(Range.closed(1, 2))));
+    }
+    
     @SuppressWarnings("unchecked")
     @Test
     public void assertGenerateConditionValue() {
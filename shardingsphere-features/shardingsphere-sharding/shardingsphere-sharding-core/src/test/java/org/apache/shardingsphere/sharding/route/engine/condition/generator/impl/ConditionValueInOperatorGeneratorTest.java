@@ -19,6 +19,8 @@ package org.apache.shardingsphere.sharding.route.engine.condition.generator.impl
 
 import org.apache.shardingsphere.infra.datetime.DatetimeService;
 import org.apache.shardingsphere.sharding.route.engine.condition.Column;
+import com.google.common.collect.Range;
+import org.apache.shardingsphere.sharding.route.engine.condition.value.ExcludedShardingConditionValue;
 import org.apache.shardingsphere.sharding.route.engine.condition.value.ListShardingConditionValue;
 import org.apache.shardingsphere.sharding.route.engine.condition.value.ShardingConditionValue;
 import org.apache.shardingsphere.spi.ShardingSphereServiceLoader;
@@ -31,6 +33,7 @@ import org.apache.shardingsphere.sql.parser.sql.common.value.identifier.Identifi
 import org.junit.Before;
 import org.junit.Test;
 
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Date;
 import java.util.LinkedList;
@@ -88,4 +91,27 @@ public final class ConditionValueInOperatorGeneratorTest {
         Optional<ShardingConditionValue> actual = generator.generate(predicate, column, new LinkedList<>());
         assertFalse(actual.isPresent());
     }
+    
+    @Test
+    public void assertGenerateConditionValueWithPartialParameter() {
+        ColumnSegment left = new ColumnSegment(0, 0, new IdentifierValue("id"));
+        ListExpression right = new ListExpression(0, 0);
+        right.getItems().add(new ParameterMarkerExpressionSegment(0, 0, 0));
+        right.getItems().add(new ParameterMarkerExpressionSegment(0, 0, 1));
+        InExpression predicate = new InExpression(0, 0, left, right, false);
+        assertFalse(generator.generate(predicate, column, Collections.singletonList(1)).isPresent());
+    }
+    
+    @Test
+    public void assertGenerateConditionValueWithNotIn() {
+        ColumnSegment left = new ColumnSegment(0, 0, new IdentifierValue("id"));
+        ListExpression right = new ListExpression(0, 0);
+        right.getItems().add(new ParameterMarkerExpressionSegment(0, 0, 0));
+        right.getItems().add(new ParameterMarkerExpressionSegment(0, 0, 1));
+        InExpression predicate = new InExpression(0, 0, left, right, true);
+        Optional<ShardingConditionValue> actual = generator.generate(predicate, column, Arrays.asList(1, 2));
+        assertTrue(actual.isPresent());
+        assertThat(actual.get(), instanceOf(ExcludedShardingConditionValue.class));
+        assertThat(((ExcludedShardingConditionValue) actual.get()).getExcludedRanges(), is(Arrays.asList(Range.singleton(1), Range.singleton(2))));
+    }
 }
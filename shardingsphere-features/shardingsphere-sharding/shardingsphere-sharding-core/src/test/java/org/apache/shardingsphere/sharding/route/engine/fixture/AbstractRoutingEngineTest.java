@@ -25,6 +25,7 @@ import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
 import org.apache.shardingsphere.parser.rule.SQLParserRule;
 import org.apache.shardingsphere.parser.rule.builder.DefaultSQLParserRuleConfigurationBuilder;
 import org.apache.shardingsphere.sharding.api.config.ShardingRuleConfiguration;
+import org.apache.shardingsphere.sharding.api.config.rule.ShardingAutoTableRuleConfiguration;
 import org.apache.shardingsphere.sharding.api.config.rule.ShardingTableRuleConfiguration;
 import org.apache.shardingsphere.sharding.api.config.strategy.sharding.HintShardingStrategyConfiguration;
 import org.apache.shardingsphere.sharding.api.config.strategy.sharding.ShardingStrategyConfiguration;
@@ -173,6 +174,28 @@ public abstract class AbstractRoutingEngineTest {
         return new ShardingRule(shardingRuleConfig, createDataSourceNames());
     }
     
+    protected final ShardingRule createModShardingRule() {
+        ShardingRuleConfiguration shardingRuleConfig = new ShardingRuleConfiguration();
+        shardingRuleConfig.getTables().add(createTableRuleConfig("t_mod_test", "ds_${0..1}.t_mod_test_${0..1}",
+                new StandardShardingStrategyConfiguration("user_id", "ds_mod"), new StandardShardingStrategyConfiguration("order_id", "t_mod_test_mod")));
+        Properties props = new Properties();
+        props.setProperty("sharding-count", "2");
+        shardingRuleConfig.getShardingAlgorithms().put("ds_mod", new ShardingSphereAlgorithmConfiguration("MOD", props));
+        shardingRuleConfig.getShardingAlgorithms().put("t_mod_test_mod", new ShardingSphereAlgorithmConfiguration("MOD", props));
+        return new ShardingRule(shardingRuleConfig, createDataSourceNames());
+    }
+    
+    protected final ShardingRule createAutoModShardingRule() {
+        ShardingRuleConfiguration shardingRuleConfig = new ShardingRuleConfiguration();
+        ShardingAutoTableRuleConfiguration autoTableRuleConfig = new ShardingAutoTableRuleConfiguration("t_mod_auto", "ds_0,ds_1");
+        autoTableRuleConfig.setShardingStrategy(new StandardShardingStrategyConfiguration("order_id", "t_mod_auto_mod"));
+        shardingRuleConfig.getAutoTables().add(autoTableRuleConfig);
+        Properties props = new Properties();
+        props.setProperty("sharding-count", "4");
+        shardingRuleConfig.getShardingAlgorithms().put("t_mod_auto_mod", new ShardingSphereAlgorithmConfiguration("MOD", props));
+        return new ShardingRule(shardingRuleConfig, createDataSourceNames());
+    }
+    
     private ShardingTableRuleConfiguration createInlineTableRuleConfig(final String tableName, final String actualDataNodes, final String algorithmExpression, final String dsAlgorithmExpression) {
         return createTableRuleConfig(tableName, actualDataNodes,
             createStandardShardingStrategyConfiguration("ds_inline", dsAlgorithmExpression), createStandardShardingStrategyConfiguration(tableName + "_inline", algorithmExpression));
@@ -211,6 +234,17 @@ public abstract class AbstractRoutingEngineTest {
         return new ShardingConditions(result, mock(SQLStatementContext.class), mock(ShardingRule.class));
     }
     
+    protected final ShardingConditions createMultipleShardingConditions(final String tableName, final long[][] shardingValues) {
+        List<ShardingCondition> result = new ArrayList<>(shardingValues.length);
+        for (long[] each : shardingValues) {
+            ShardingCondition shardingCondition = new ShardingCondition();
+            shardingCondition.getValues().add(new ListShardingConditionValue<>("user_id", tableName, Collections.singleton(each[0])));
+            shardingCondition.getValues().add(new ListShardingConditionValue<>("order_id", tableName, Collections.singleton(each[1])));
+            result.add(shardingCondition);
+        }
+        return new ShardingConditions(result, mock(SQLStatementContext.class), mock(ShardingRule.class));
+    }
+    
     protected final ShardingConditions createErrorShardingConditions(final String tableName) {
         List<ShardingCondition> result = new ArrayList<>(1);
         ShardingConditionValue shardingConditionValue1 = new ListShardingConditionValue<>("user_id", tableName, Collections.singleton(1L));
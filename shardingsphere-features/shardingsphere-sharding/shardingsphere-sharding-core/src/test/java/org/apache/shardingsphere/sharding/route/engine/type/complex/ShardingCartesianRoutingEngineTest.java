@@ -0,0 +1,60 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.route.engine.type.complex;
+
+import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.infra.route.context.RouteMapper;
+import org.apache.shardingsphere.infra.route.context.RouteUnit;
+import org.apache.shardingsphere.sharding.rule.ShardingRule;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+
+public final class ShardingCartesianRoutingEngineTest {
+    
+    @Test
+    public void assertRouteWithDataSourceNamesInDifferentCases() {
+        RouteContext actual = new ShardingCartesianRoutingEngine(Arrays.asList(
+                createRouteContext("DS_0", new RouteMapper("t_order", "t_order_0")), createRouteContext("ds_0", new RouteMapper("t_order_item", "t_order_item_0")))).route(mock(ShardingRule.class));
+        List<RouteUnit> routeUnits = new ArrayList<>(actual.getRouteUnits());
+        assertThat(routeUnits.size(), is(1));
+        assertThat(routeUnits.get(0).getDataSourceMapper().getActualName(), is("DS_0"));
+        assertThat(new ArrayList<>(routeUnits.get(0).getTableMappers()), is(Arrays.asList(new RouteMapper("t_order", "t_order_0"), new RouteMapper("t_order_item", "t_order_item_0"))));
+    }
+    
+    @Test
+    public void assertRouteWithDisjointDataSources() {
+        RouteContext actual = new ShardingCartesianRoutingEngine(Arrays.asList(
+                createRouteContext("ds_0", new RouteMapper("t_order", "t_order_0")), createRouteContext("ds_1", new RouteMapper("t_order_item", "t_order_item_0")))).route(mock(ShardingRule.class));
+        assertTrue(actual.getRouteUnits().isEmpty());
+    }
+    
+    private RouteContext createRouteContext(final String dataSourceName, final RouteMapper tableMapper) {
+        RouteContext result = new RouteContext();
+        result.getRouteUnits().add(new RouteUnit(new RouteMapper(dataSourceName, dataSourceName), Collections.singletonList(tableMapper)));
+        return result;
+    }
+}
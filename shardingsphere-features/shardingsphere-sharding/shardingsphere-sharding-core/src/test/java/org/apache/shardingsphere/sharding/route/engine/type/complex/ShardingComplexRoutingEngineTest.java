@@ -17,9 +17,13 @@
 
 package org.apache.shardingsphere.sharding.route.engine.type.complex;
 
+import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
 import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.exception.ShardingSphereException;
 import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.infra.route.context.RouteMapper;
 import org.apache.shardingsphere.infra.route.context.RouteUnit;
 import org.apache.shardingsphere.sharding.route.engine.fixture.AbstractRoutingEngineTest;
 import org.apache.shardingsphere.sharding.rule.ShardingRule;
@@ -33,13 +37,15 @@ import java.util.Properties;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
 
 public final class ShardingComplexRoutingEngineTest extends AbstractRoutingEngineTest {
     
     @Test
     public void assertRoutingForBindingTables() {
-        ShardingComplexRoutingEngine complexRoutingEngine = new ShardingComplexRoutingEngine(createShardingConditions("t_order"), 
+        ShardingComplexRoutingEngine complexRoutingEngine = new ShardingComplexRoutingEngine(mock(SQLStatementContext.class), createShardingConditions("t_order"), 
                 new ConfigurationProperties(new Properties()), Arrays.asList("t_order", "t_order_item"));
         RouteContext routeContext = complexRoutingEngine.route(createBindingShardingRule());
         List<RouteUnit> routeUnits = new ArrayList<>(routeContext.getRouteUnits());
@@ -52,7 +58,7 @@ public final class ShardingComplexRoutingEngineTest extends AbstractRoutingEngin
     
     @Test
     public void assertRoutingForShardingTableJoinBroadcastTable() {
-        ShardingComplexRoutingEngine complexRoutingEngine = new ShardingComplexRoutingEngine(createShardingConditions("t_order"), 
+        ShardingComplexRoutingEngine complexRoutingEngine = new ShardingComplexRoutingEngine(mock(SQLStatementContext.class), createShardingConditions("t_order"), 
                 new ConfigurationProperties(new Properties()), Arrays.asList("t_order", "t_config"));
         RouteContext routeContext = complexRoutingEngine.route(createBroadcastShardingRule());
         List<RouteUnit> routeUnits = new ArrayList<>(routeContext.getRouteUnits());
@@ -63,9 +69,35 @@ public final class ShardingComplexRoutingEngineTest extends AbstractRoutingEngin
         assertThat(routeUnits.get(0).getTableMappers().iterator().next().getLogicName(), is("t_order"));
     }
     
+    @Test
+    public void assertRoutingForNonBindingTables() {
+        assertNonBindingTablesRouteContext(new ShardingComplexRoutingEngine(mock(SQLStatementContext.class), createShardingConditions("t_order"),
+                new ConfigurationProperties(new Properties()), Arrays.asList("t_order", "t_order_item")).route(createBroadcastShardingRule()));
+    }
+    
+    private void assertNonBindingTablesRouteContext(final RouteContext routeContext) {
+        List<RouteUnit> routeUnits = new ArrayList<>(routeContext.getRouteUnits());
+        assertThat(routeUnits.size(), is(2));
+        assertThat(routeUnits.get(0).getDataSourceMapper().getActualName(), is("ds_1"));
+        assertThat(new ArrayList<>(routeUnits.get(0).getTableMappers()), is(Arrays.asList(new RouteMapper("t_order", "t_order_1"), new RouteMapper("t_order_item", "t_order_item_0"))));
+        assertThat(routeUnits.get(1).getDataSourceMapper().getActualName(), is("ds_1"));
+        assertThat(new ArrayList<>(routeUnits.get(1).getTableMappers()), is(Arrays.asList(new RouteMapper("t_order", "t_order_1"), new RouteMapper("t_order_item", "t_order_item_1"))));
+    }
+    
+    @Test
+    public void assertRoutingForNonBindingTablesWithFederation() {
+        Properties props = new Properties();
+        props.setProperty(ConfigurationPropertyKey.SQL_FEDERATION_ENABLED.getKey(), Boolean.TRUE.toString());
+        props.setProperty(ConfigurationPropertyKey.CARTESIAN_ROUTE_FEDERATION_THRESHOLD.getKey(), "1");
+        RouteContext routeContext = new ShardingComplexRoutingEngine(mock(SelectStatementContext.class, RETURNS_DEEP_STUBS), createShardingConditions("t_order"),
+                new ConfigurationProperties(props), Arrays.asList("t_order", "t_order_item")).route(createBroadcastShardingRule());
+        assertTrue(routeContext.isFederated());
+        assertThat(routeContext.getRouteUnits().size(), is(2));
+    }
+    
     @Test(expected = ShardingSphereException.class)
     public void assertRoutingForNonLogicTable() {
-        ShardingComplexRoutingEngine complexRoutingEngine = new ShardingComplexRoutingEngine(createShardingConditions("t_order"), 
+        ShardingComplexRoutingEngine complexRoutingEngine = new ShardingComplexRoutingEngine(mock(SQLStatementContext.class), createShardingConditions("t_order"), 
                 new ConfigurationProperties(new Properties()), Collections.emptyList());
         RouteContext routeContext = complexRoutingEngine.route(mock(ShardingRule.class));
     }
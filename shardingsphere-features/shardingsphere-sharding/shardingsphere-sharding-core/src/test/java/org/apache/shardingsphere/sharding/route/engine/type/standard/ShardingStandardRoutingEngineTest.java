@@ -19,6 +19,7 @@ package org.apache.shardingsphere.sharding.route.engine.type.standard;
 
 import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.datanode.DataNode;
 import org.apache.shardingsphere.infra.exception.ShardingSphereException;
 import org.apache.shardingsphere.infra.hint.HintManager;
 import org.apache.shardingsphere.infra.route.context.RouteContext;
@@ -30,6 +31,7 @@ import org.junit.After;
 import org.junit.Test;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Properties;
@@ -182,6 +184,64 @@ public final class ShardingStandardRoutingEngineTest extends AbstractRoutingEngi
         assertThat(routeUnits.get(0).getTableMappers().iterator().next().getLogicName(), is("t_interval_test"));
     }
     
+    @Test
+    public void assertRouteByShardingIndexAlgorithm() {
+        ShardingStandardRoutingEngine standardRoutingEngine = createShardingStandardRoutingEngine("t_mod_test", createShardingConditions("t_mod_test"));
+        RouteContext routeContext = standardRoutingEngine.route(createModShardingRule());
+        List<RouteUnit> routeUnits = new ArrayList<>(routeContext.getRouteUnits());
+        assertThat(routeContext.getRouteUnits().size(), is(1));
+        assertThat(routeUnits.get(0).getDataSourceMapper().getActualName(), is("ds_1"));
+        assertThat(routeUnits.get(0).getTableMappers().size(), is(1));
+        assertThat(routeUnits.get(0).getTableMappers().iterator().next().getActualName(), is("t_mod_test_1"));
+        assertThat(routeUnits.get(0).getTableMappers().iterator().next().getLogicName(), is("t_mod_test"));
+    }
+    
+    @Test
+    public void assertRouteMultipleShardingConditionsByShardingIndexAlgorithm() {
+        ShardingStandardRoutingEngine standardRoutingEngine = createShardingStandardRoutingEngine("t_mod_test", 
+                createMultipleShardingConditions("t_mod_test", new long[][]{{1L, 1L}, {0L, 1L}, {1L, 0L}, {1L, 1L}}));
+        RouteContext routeContext = standardRoutingEngine.route(createModShardingRule());
+        List<RouteUnit> routeUnits = new ArrayList<>(routeContext.getRouteUnits());
+        assertThat(routeUnits.size(), is(3));
+        assertThat(routeUnits.get(0).getDataSourceMapper().getActualName(), is("ds_1"));
+        assertThat(routeUnits.get(0).getTableMappers().iterator().next().getActualName(), is("t_mod_test_1"));
+        assertThat(routeUnits.get(1).getDataSourceMapper().getActualName(), is("ds_0"));
+        assertThat(routeUnits.get(1).getTableMappers().iterator().next().getActualName(), is("t_mod_test_1"));
+        assertThat(routeUnits.get(2).getDataSourceMapper().getActualName(), is("ds_1"));
+        assertThat(routeUnits.get(2).getTableMappers().iterator().next().getActualName(), is("t_mod_test_0"));
+        List<Collection<DataNode>> originalDataNodes = new ArrayList<>(routeContext.getOriginalDataNodes());
+        assertThat(originalDataNodes.size(), is(4));
+        assertThat(originalDataNodes.get(0), is(Collections.singletonList(new DataNode("ds_1", "t_mod_test_1"))));
+        assertThat(originalDataNodes.get(2), is(Collections.singletonList(new DataNode("ds_1", "t_mod_test_0"))));
+        assertThat(originalDataNodes.get(3), is(Collections.singletonList(new DataNode("ds_1", "t_mod_test_1"))));
+    }
+    
+    @Test
+    public void assertRouteMultipleShardingConditionsByTableShardingIndexAlgorithmOnly() {
+        ShardingStandardRoutingEngine standardRoutingEngine = createShardingStandardRoutingEngine("t_mod_auto", 
+                createMultipleShardingConditions("t_mod_auto", new long[][]{{0L, 1L}, {0L, 2L}, {0L, 5L}, {0L, 1L}}));
+        RouteContext routeContext = standardRoutingEngine.route(createAutoModShardingRule());
+        List<RouteUnit> routeUnits = new ArrayList<>(routeContext.getRouteUnits());
+        assertThat(routeUnits.size(), is(2));
+        assertThat(routeUnits.get(0).getDataSourceMapper().getActualName(), is("ds_1"));
+        assertThat(routeUnits.get(0).getTableMappers().iterator().next().getActualName(), is("t_mod_auto_1"));
+        assertThat(routeUnits.get(1).getDataSourceMapper().getActualName(), is("ds_0"));
+        assertThat(routeUnits.get(1).getTableMappers().iterator().next().getActualName(), is("t_mod_auto_2"));
+        List<Collection<DataNode>> originalDataNodes = new ArrayList<>(routeContext.getOriginalDataNodes());
+        assertThat(originalDataNodes.size(), is(4));
+        assertThat(originalDataNodes.get(1), is(Collections.singletonList(new DataNode("ds_0", "t_mod_auto_2"))));
+        assertThat(originalDataNodes.get(2), is(Collections.singletonList(new DataNode("ds_1", "t_mod_auto_1"))));
+    }
+    
+    @Test
+    public void assertRouteMultipleShardingConditionsWithoutShardingIndexAlgorithm() {
+        ShardingStandardRoutingEngine standardRoutingEngine = createShardingStandardRoutingEngine("t_order", 
+                createMultipleShardingConditions("t_order", new long[][]{{1L, 1L}, {0L, 0L}, {1L, 1L}}));
+        RouteContext routeContext = standardRoutingEngine.route(createBasedShardingRule());
+        assertThat(routeContext.getRouteUnits().size(), is(2));
+        assertThat(routeContext.getOriginalDataNodes().size(), is(3));
+    }
+    
     private ShardingStandardRoutingEngine createShardingStandardRoutingEngine(final String logicTableName, final ShardingConditions shardingConditions) {
         return new ShardingStandardRoutingEngine(logicTableName, shardingConditions, new ConfigurationProperties(new Properties()));
     }
@@ -53,6 +53,13 @@ public final class BindingTableRuleTest {
         assertThat(createBindingTableRule().getBindingActualTable("ds1", "Sub_Logic_Table", "table_1"), is("SUB_TABLE_1"));
     }
     
+    @Test
+    public void assertGetBindingActualTablesIgnoreCase() {
+        BindingTableRule bindingTableRule = createBindingTableRule();
+        assertThat(bindingTableRule.getBindingActualTable("DS1", "Sub_Logic_Table", "TABLE_1"), is("SUB_TABLE_1"));
+        assertThat(bindingTableRule.getBindingActualTable("ds0", "Logic_Table", "sub_table_0"), is("table_0"));
+    }
+    
     @Test(expected = ShardingSphereConfigurationException.class)
     public void assertGetBindingActualTablesFailureWhenNotFound() {
         createBindingTableRule().getBindingActualTable("no_ds", "Sub_Logic_Table", "table_1");
@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.sharding.rule;
 
+import com.google.common.collect.ImmutableCollection;
 import com.google.common.collect.Sets;
 import org.apache.shardingsphere.infra.config.exception.ShardingSphereConfigurationException;
 import org.apache.shardingsphere.infra.datanode.DataNode;
@@ -33,7 +34,9 @@ import org.junit.Test;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Optional;
 
+import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
@@ -114,6 +117,7 @@ public final class TableRuleTest {
     public void assertGetActualDatasourceNames() {
         TableRule actual = new TableRule(new ShardingTableRuleConfiguration("LOGIC_TABLE", "ds${0..1}.table_${0..2}"), Arrays.asList("ds0", "ds1"), null);
         assertThat(actual.getActualDatasourceNames(), is(Sets.newLinkedHashSet(Arrays.asList("ds0", "ds1"))));
+        assertThat(actual.getActualDatasourceNames(), instanceOf(ImmutableCollection.class));
     }
     
     @Test
@@ -121,9 +125,45 @@ public final class TableRuleTest {
         TableRule actual = new TableRule(new ShardingTableRuleConfiguration("LOGIC_TABLE", "ds${0..1}.table_${0..2}"), Arrays.asList("ds0", "ds1"), null);
         assertThat(actual.getActualTableNames("ds0"), is(Sets.newLinkedHashSet(Arrays.asList("table_0", "table_1", "table_2"))));
         assertThat(actual.getActualTableNames("ds1"), is(Sets.newLinkedHashSet(Arrays.asList("table_0", "table_1", "table_2"))));
+        assertThat(actual.getActualTableNames("ds1"), instanceOf(ImmutableCollection.class));
         assertThat(actual.getActualTableNames("ds2"), is(Collections.emptySet()));
     }
     
+    @Test
+    public void assertFindActualDataSourceName() {
+        TableRule actual = new TableRule(new ShardingTableRuleConfiguration("LOGIC_TABLE", "ds_${0..1}.table_${0..2}"), Arrays.asList("ds_0", "ds_1"), null);
+        ModShardingAlgorithm shardingAlgorithm = createModShardingAlgorithm(2);
+        assertThat(actual.findActualDataSourceName(shardingAlgorithm, 1), is(Optional.of("ds_1")));
+        assertFalse(actual.findActualDataSourceName(shardingAlgorithm, 2).isPresent());
+        assertFalse(actual.findActualDataSourceName(shardingAlgorithm, -1).isPresent());
+    }
+    
+    @Test
+    public void assertFindActualDataNode() {
+        TableRule actual = new TableRule(new ShardingTableRuleConfiguration("LOGIC_TABLE", "ds_${0..1}.table_${0..2}"), Arrays.asList("ds_0", "ds_1"), null);
+        ModShardingAlgorithm shardingAlgorithm = createModShardingAlgorithm(4);
+        assertThat(actual.findActualDataNode("ds_1", shardingAlgorithm, 2), is(Optional.of(new DataNode("ds_1", "table_2"))));
+        assertFalse(actual.findActualDataNode("ds_1", shardingAlgorithm, 3).isPresent());
+        assertFalse(actual.findActualDataNode("ds_2", shardingAlgorithm, 0).isPresent());
+    }
+    
+    @Test
+    public void assertFindActualDataNodeOfAutoTableRule() {
+        ShardingAutoTableRuleConfiguration tableRuleConfig = new ShardingAutoTableRuleConfiguration("LOGIC_TABLE", "ds0,ds1");
+        tableRuleConfig.setShardingStrategy(new StandardShardingStrategyConfiguration("col_1", "MOD"));
+        ModShardingAlgorithm shardingAlgorithm = createModShardingAlgorithm(4);
+        TableRule actual = new TableRule(tableRuleConfig, Arrays.asList("ds0", "ds1"), shardingAlgorithm, null);
+        assertThat(actual.findActualDataNode("ds1", shardingAlgorithm, shardingAlgorithm.getShardingIndex(7L)), is(Optional.of(new DataNode("ds1", "logic_table_3"))));
+        assertFalse(actual.findActualDataNode("ds0", shardingAlgorithm, shardingAlgorithm.getShardingIndex(7L)).isPresent());
+    }
+    
+    private ModShardingAlgorithm createModShardingAlgorithm(final int shardingCount) {
+        ModShardingAlgorithm result = new ModShardingAlgorithm();
+        result.getProps().setProperty("sharding-count", String.valueOf(shardingCount));
+        result.init();
+        return result;
+    }
+    
     @Test
     public void assertFindActualTableIndex() {
         TableRule actual = new TableRule(new ShardingTableRuleConfiguration("LOGIC_TABLE", "ds${0..1}.table_${0..2}"), Arrays.asList("ds0", "ds1"), null);
@@ -17,9 +17,15 @@
 
 package org.apache.shardingsphere.infra.binder;
 
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.binder.statement.CommonSQLStatementContext;
 import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.database.type.DatabaseType;
+import org.apache.shardingsphere.infra.database.type.DatabaseTypeRegistry;
+import org.apache.shardingsphere.infra.parser.digest.SQLDigest;
+import org.apache.shardingsphere.infra.parser.digest.SQLDigestGenerator;
 
 import java.util.List;
 
@@ -35,4 +41,26 @@ public final class LogicSQL {
     private final String sql;
     
     private final List<Object> parameters;
+    
+    @Getter(AccessLevel.NONE)
+    private volatile SQLDigest sqlDigest;
+    
+    /**
+     * Get SQL digest.
+     * 
+     * <p>SQL digest is generated on first access with lexical rules of database type of SQL statement.</p>
+     *
+     * @return SQL digest
+     */
+    public SQLDigest getSqlDigest() {
+        if (null == sqlDigest) {
+            sqlDigest = new SQLDigestGenerator(sql, getDatabaseType()).generate();
+        }
+        return sqlDigest;
+    }
+    
+    private DatabaseType getDatabaseType() {
+        DatabaseType result = sqlStatementContext instanceof CommonSQLStatementContext ? ((CommonSQLStatementContext<?>) sqlStatementContext).getDatabaseType() : null;
+        return null == result ? DatabaseTypeRegistry.getDefaultDatabaseType() : result;
+    }
 }
@@ -0,0 +1,125 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.binder;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.binder.aware.ParameterAware;
+import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.metadata.schema.ShardingSphereSchema;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
+
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * SQL statement context cache.
+ * 
+ * <p>
+ * Reuses SQL statement context of the same SQL statement instance for prepared statements, only parameter relevant parts are set up again for each execution.
+ * Cached SQL statement context is discarded once meta data map is replaced or any schema is changed.
+ * It is not thread safe, every prepared statement or client connection should hold its own cache.
+ * </p>
+ */
+@RequiredArgsConstructor
+public final class SQLStatementContextCache {
+    
+    private final int maximumSize;
+    
+    private final Map<SQLStatement, CachedSQLStatementContext> cachedContexts = new IdentityHashMap<>();
+    
+    /**
+     * Get SQL statement context.
+     *
+     * @param metaDataMap metaData map
+     * @param parameters SQL parameters
+     * @param sqlStatement SQL statement
+     * @param defaultSchemaName default schema name
+     * @return SQL statement context
+     */
+    public SQLStatementContext<?> get(final Map<String, ShardingSphereMetaData> metaDataMap, final List<Object> parameters, final SQLStatement sqlStatement, final String defaultSchemaName) {
+        CachedSQLStatementContext cachedContext = cachedContexts.get(sqlStatement);
+        if (null != cachedContext && cachedContext.isAvailable(metaDataMap, defaultSchemaName)) {
+            if (cachedContext.getSqlStatementContext() instanceof ParameterAware) {
+                ((ParameterAware) cachedContext.getSqlStatementContext()).setUpParameters(parameters);
+            }
+            return cachedContext.getSqlStatementContext();
+        }
+        SQLStatementContext<?> result = SQLStatementContextFactory.newInstance(metaDataMap, parameters, sqlStatement, defaultSchemaName);
+        if (null == cachedContext && cachedContexts.size() >= maximumSize) {
+            cachedContexts.clear();
+        }
+        cachedContexts.put(sqlStatement, new CachedSQLStatementContext(result, metaDataMap, defaultSchemaName));
+        return result;
+    }
+    
+    /**
+     * Remove cached SQL statement context.
+     *
+     * @param sqlStatement SQL statement
+     */
+    public void remove(final SQLStatement sqlStatement) {
+        cachedContexts.remove(sqlStatement);
+    }
+    
+    @Getter
+    private static final class CachedSQLStatementContext {
+        
+        private final SQLStatementContext<?> sqlStatementContext;
+        
+        private final Map<String, ShardingSphereMetaData> metaDataMap;
+        
+        private final String defaultSchemaName;
+        
+        private final ShardingSphereSchema[] schemas;
+        
+        private final long[] schemaVersions;
+        
+        CachedSQLStatementContext(final SQLStatementContext<?> sqlStatementContext, final Map<String, ShardingSphereMetaData> metaDataMap, final String defaultSchemaName) {
+            this.sqlStatementContext = sqlStatementContext;
+            this.metaDataMap = metaDataMap;
+            this.defaultSchemaName = defaultSchemaName;
+            schemas = new ShardingSphereSchema[metaDataMap.size()];
+            schemaVersions = new long[metaDataMap.size()];
+            int index = 0;
+            for (ShardingSphereMetaData each : metaDataMap.values()) {
+                schemas[index] = each.getSchema();
+                schemaVersions[index] = each.getSchema().getVersion();
+                index++;
+            }
+        }
+        
+        boolean isAvailable(final Map<String, ShardingSphereMetaData> metaDataMap, final String defaultSchemaName) {
+            if (this.metaDataMap != metaDataMap || metaDataMap.size() != schemas.length || !Objects.equals(this.defaultSchemaName, defaultSchemaName)) {
+                return false;
+            }
+            Iterator<ShardingSphereMetaData> metaDataIterator = metaDataMap.values().iterator();
+            for (int i = 0; i < schemas.length; i++) {
+                ShardingSphereSchema schema = metaDataIterator.next().getSchema();
+                if (schemas[i] != schema || schemaVersions[i] != schema.getVersion()) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
@@ -54,6 +54,8 @@ import org.apache.shardingsphere.infra.binder.statement.dml.InsertStatementConte
 import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
 import org.apache.shardingsphere.infra.binder.statement.dml.UpdateStatementContext;
 import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.statistics.SQLExecuteStage;
+import org.apache.shardingsphere.infra.statistics.SQLStageRecorder;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.dal.AnalyzeTableStatement;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.dal.DALStatement;
@@ -112,6 +114,14 @@ public final class SQLStatementContextFactory {
      */
     public static SQLStatementContext<?> newInstance(final Map<String, ShardingSphereMetaData> metaDataMap, final List<Object> parameters, 
                                                      final SQLStatement sqlStatement, final String defaultSchemaName) {
+        long startNanos = SQLStageRecorder.start();
+        SQLStatementContext<?> result = newInstance0(metaDataMap, parameters, sqlStatement, defaultSchemaName);
+        SQLStageRecorder.record(sqlStatement, SQLExecuteStage.BIND, startNanos);
+        return result;
+    }
+    
+    private static SQLStatementContext<?> newInstance0(final Map<String, ShardingSphereMetaData> metaDataMap, final List<Object> parameters,
+                                                       final SQLStatement sqlStatement, final String defaultSchemaName) {
         if (sqlStatement instanceof DMLStatement) {
             return getDMLStatementContext(metaDataMap, parameters, (DMLStatement) sqlStatement, defaultSchemaName);
         }
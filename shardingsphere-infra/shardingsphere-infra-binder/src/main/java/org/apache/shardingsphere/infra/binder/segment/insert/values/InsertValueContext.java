@@ -17,7 +17,7 @@
 
 package org.apache.shardingsphere.infra.binder.segment.insert.values;
 
-import com.google.common.base.Preconditions;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.ToString;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.ExpressionSegment;
@@ -45,11 +45,15 @@ public final class InsertValueContext {
     
     private final List<Object> parameters;
     
+    @Getter(AccessLevel.NONE)
+    private final int[] parameterIndexes;
+    
     public InsertValueContext(final Collection<ExpressionSegment> assignments, final List<Object> parameters, final int parametersOffset) {
         valueExpressions = getValueExpressions(assignments);
         parameterMarkerExpressions = ExpressionExtractUtil.getParameterMarkerExpressions(assignments);
         parameterCount = parameterMarkerExpressions.size();
         this.parameters = getParameters(parameters, parametersOffset);
+        parameterIndexes = getParameterIndexes();
     }
     
     private List<ExpressionSegment> getValueExpressions(final Collection<ExpressionSegment> assignments) {
@@ -67,6 +71,23 @@ public final class InsertValueContext {
         return result;
     }
     
+    private int[] getParameterIndexes() {
+        int[] result = new int[valueExpressions.size()];
+        int parameterIndex = 0;
+        for (int i = 0; i < result.length; i++) {
+            ExpressionSegment valueExpression = valueExpressions.get(i);
+            if (valueExpression instanceof ParameterMarkerExpressionSegment) {
+                while (parameterMarkerExpressions.get(parameterIndex) != valueExpression) {
+                    parameterIndex++;
+                }
+                result[i] = parameterIndex++;
+            } else {
+                result[i] = -1;
+            }
+        }
+        return result;
+    }
+    
     /**
      * Get value.
      *
@@ -74,15 +95,8 @@ public final class InsertValueContext {
      * @return value
      */
     public Object getValue(final int index) {
-        ExpressionSegment valueExpression = valueExpressions.get(index);
-        return valueExpression instanceof ParameterMarkerExpressionSegment 
-                ? parameters.get(getParameterIndex((ParameterMarkerExpressionSegment) valueExpression)) : ((LiteralExpressionSegment) valueExpression).getLiterals();
-    }
-    
-    private int getParameterIndex(final ParameterMarkerExpressionSegment parameterMarkerExpression) {
-        int parameterIndex = parameterMarkerExpressions.indexOf(parameterMarkerExpression);
-        Preconditions.checkArgument(parameterIndex >= 0, "Can not get parameter index.");
-        return parameterIndex;
+        int parameterIndex = parameterIndexes[index];
+        return parameterIndex >= 0 ? parameters.get(parameterIndex) : ((LiteralExpressionSegment) valueExpressions.get(index)).getLiterals();
     }
     
     /**
@@ -92,7 +106,6 @@ public final class InsertValueContext {
      * @return parameter index
      */
     public int getParameterIndex(final int index) {
-        ExpressionSegment valueExpression = valueExpressions.get(index);
-        return valueExpression instanceof ParameterMarkerExpressionSegment ? getParameterIndex((ParameterMarkerExpressionSegment) valueExpression) : -1;
+        return parameterIndexes[index];
     }
 }
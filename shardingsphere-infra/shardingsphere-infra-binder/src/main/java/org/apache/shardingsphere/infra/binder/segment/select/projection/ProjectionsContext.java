@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.infra.binder.segment.select.projection;
 
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.ToString;
 import org.apache.shardingsphere.infra.binder.segment.select.projection.impl.AggregationDistinctProjection;
@@ -35,7 +36,7 @@ import java.util.Optional;
  * Projections context.
  */
 @Getter
-@ToString
+@ToString(exclude = "expandProjections")
 public final class ProjectionsContext {
     
     private final int startIndex;
@@ -48,6 +49,12 @@ public final class ProjectionsContext {
     
     private final Collection<AggregationDistinctProjection> aggregationDistinctProjections = new LinkedList<>();
     
+    @Getter(AccessLevel.NONE)
+    private volatile List<Projection> expandProjections;
+    
+    @Getter(AccessLevel.NONE)
+    private volatile int expandedProjectionCount;
+    
     public ProjectionsContext(final int startIndex, final int stopIndex, final boolean distinctRow, final Collection<Projection> projections) {
         this.startIndex = startIndex;
         this.stopIndex = stopIndex;
@@ -134,9 +141,21 @@ public final class ProjectionsContext {
     /**
      * Get expand projections with shorthand projections.
      * 
+     * <p>Expand projections are calculated on first access and reused until projections changed.</p>
+     * 
      * @return expand projections
      */
     public List<Projection> getExpandProjections() {
+        List<Projection> result = expandProjections;
+        if (null == result || expandedProjectionCount != projections.size()) {
+            expandedProjectionCount = projections.size();
+            result = createExpandProjections();
+            expandProjections = result;
+        }
+        return result;
+    }
+    
+    private List<Projection> createExpandProjections() {
         List<Projection> result = new ArrayList<>();
         for (Projection each : projections) {
             if (each instanceof ShorthandProjection) {
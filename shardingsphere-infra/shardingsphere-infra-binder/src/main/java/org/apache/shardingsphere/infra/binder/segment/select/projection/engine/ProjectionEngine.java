@@ -109,11 +109,7 @@ public final class ProjectionEngine {
     
     private ShorthandProjection createProjection(final TableSegment table, final ShorthandProjectionSegment projectionSegment) {
         String owner = projectionSegment.getOwner().map(ownerSegment -> ownerSegment.getIdentifier().getValue()).orElse(null);
-        Collection<ColumnProjection> columnProjections = new LinkedHashSet<>();
-        columnProjections.addAll(getShorthandColumnsFromSimpleTableSegment(table, owner));
-        columnProjections.addAll(getShorthandColumnsFromSubqueryTableSegment(table));
-        columnProjections.addAll(getShorthandColumnsFromJoinTableSegment(table, projectionSegment));
-        return new ShorthandProjection(owner, columnProjections);
+        return new ShorthandProjection(owner, () -> new ProjectionEngine(schema, databaseType).getShorthandColumns(table, owner, projectionSegment));
     }
     
     private ColumnProjection createProjection(final ColumnProjectionSegment projectionSegment) {
@@ -146,6 +142,14 @@ public final class ProjectionEngine {
         return result;
     }
     
+    private Collection<ColumnProjection> getShorthandColumns(final TableSegment table, final String owner, final ShorthandProjectionSegment projectionSegment) {
+        Collection<ColumnProjection> result = new LinkedHashSet<>();
+        result.addAll(getShorthandColumnsFromSimpleTableSegment(table, owner));
+        result.addAll(getShorthandColumnsFromSubqueryTableSegment(table));
+        result.addAll(getShorthandColumnsFromJoinTableSegment(table, projectionSegment));
+        return result;
+    }
+    
     private Collection<ColumnProjection> getShorthandColumnsFromSimpleTableSegment(final TableSegment table, final String owner) {
         if (!(table instanceof SimpleTableSegment)) {
             return Collections.emptyList();
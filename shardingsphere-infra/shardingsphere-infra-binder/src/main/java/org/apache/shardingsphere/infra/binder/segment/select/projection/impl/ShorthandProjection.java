@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.infra.binder.segment.select.projection.impl;
 
 import com.google.common.base.Strings;
+import lombok.AccessLevel;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.ToString;
@@ -27,22 +28,46 @@ import java.util.Collection;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 /**
  * Shorthand projection.
+ * 
+ * <p>Actual columns are expanded on first access only.</p>
  */
 @Getter
-@EqualsAndHashCode
-@ToString
+@EqualsAndHashCode(exclude = "columnProjectionsSupplier")
+@ToString(exclude = "columnProjectionsSupplier")
 public final class ShorthandProjection implements Projection {
     
     private final String owner;
     
-    private final Map<String, ColumnProjection> actualColumns = new LinkedHashMap<>();
+    @Getter(AccessLevel.NONE)
+    private final Supplier<Collection<ColumnProjection>> columnProjectionsSupplier;
+    
+    private volatile Map<String, ColumnProjection> actualColumns;
     
     public ShorthandProjection(final String owner, final Collection<ColumnProjection> columnProjections) {
+        this(owner, () -> columnProjections);
+    }
+    
+    public ShorthandProjection(final String owner, final Supplier<Collection<ColumnProjection>> columnProjectionsSupplier) {
         this.owner = owner;
-        columnProjections.forEach(each -> actualColumns.put(each.getExpression().toLowerCase(), each));
+        this.columnProjectionsSupplier = columnProjectionsSupplier;
+    }
+    
+    /**
+     * Get actual columns.
+     * 
+     * @return actual columns, key is lower case expression of column
+     */
+    public Map<String, ColumnProjection> getActualColumns() {
+        if (null == actualColumns) {
+            Map<String, ColumnProjection> result = new LinkedHashMap<>();
+            columnProjectionsSupplier.get().forEach(each -> result.put(each.getExpression().toLowerCase(), each));
+            actualColumns = result;
+        }
+        return actualColumns;
     }
     
     @Override
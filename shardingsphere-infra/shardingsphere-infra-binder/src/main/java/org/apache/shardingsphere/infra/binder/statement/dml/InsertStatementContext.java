@@ -17,7 +17,9 @@
 
 package org.apache.shardingsphere.infra.binder.statement.dml;
 
+import lombok.AccessLevel;
 import lombok.Getter;
+import org.apache.shardingsphere.infra.binder.aware.ParameterAware;
 import org.apache.shardingsphere.infra.binder.segment.insert.keygen.GeneratedKeyContext;
 import org.apache.shardingsphere.infra.binder.segment.insert.keygen.engine.GeneratedKeyContextEngine;
 import org.apache.shardingsphere.infra.binder.segment.insert.values.InsertSelectContext;
@@ -56,22 +58,25 @@ import java.util.concurrent.atomic.AtomicInteger;
  * Insert SQL statement context.
  */
 @Getter
-public final class InsertStatementContext extends CommonSQLStatementContext<InsertStatement> implements TableAvailable, SchemaAvailable {
+public final class InsertStatementContext extends CommonSQLStatementContext<InsertStatement> implements TableAvailable, SchemaAvailable, ParameterAware {
     
     private final TablesContext tablesContext;
     
     private final List<String> columnNames;
     
-    private final List<InsertValueContext> insertValueContexts;
+    private List<InsertValueContext> insertValueContexts;
     
-    private final InsertSelectContext insertSelectContext;
+    private InsertSelectContext insertSelectContext;
     
-    private final OnDuplicateUpdateContext onDuplicateKeyUpdateValueContext;
+    private OnDuplicateUpdateContext onDuplicateKeyUpdateValueContext;
     
-    private final GeneratedKeyContext generatedKeyContext;
+    private GeneratedKeyContext generatedKeyContext;
     
     private final String schemaName;
     
+    @Getter(AccessLevel.NONE)
+    private final ShardingSphereSchema schema;
+    
     public InsertStatementContext(final Map<String, ShardingSphereMetaData> metaDataMap, final List<Object> parameters, final InsertStatement sqlStatement, final String defaultSchemaName) {
         super(sqlStatement);
         AtomicInteger parametersOffset = new AtomicInteger(0);
@@ -79,13 +84,26 @@ public final class InsertStatementContext extends CommonSQLStatementContext<Inse
         insertSelectContext = getInsertSelectContext(metaDataMap, parameters, parametersOffset, defaultSchemaName).orElse(null);
         onDuplicateKeyUpdateValueContext = getOnDuplicateKeyUpdateValueContext(parameters, parametersOffset).orElse(null);
         tablesContext = new TablesContext(getAllSimpleTableSegments());
-        ShardingSphereSchema schema = getSchema(metaDataMap, defaultSchemaName);
+        schema = getSchema(metaDataMap, defaultSchemaName);
         List<String> insertColumnNames = getInsertColumnNames();
         columnNames = useDefaultColumns() ? schema.getAllColumnNames(sqlStatement.getTable().getTableName().getIdentifier().getValue()) : insertColumnNames;
-        generatedKeyContext = new GeneratedKeyContextEngine(sqlStatement, schema).createGenerateKeyContext(insertColumnNames, getAllValueExpressions(sqlStatement), parameters).orElse(null);
+        generatedKeyContext = createGeneratedKeyContext(insertColumnNames, parameters);
         this.schemaName = defaultSchemaName;
     }
     
+    @Override
+    public void setUpParameters(final List<Object> parameters) {
+        AtomicInteger parametersOffset = new AtomicInteger(0);
+        insertValueContexts = getInsertValueContexts(parameters, parametersOffset);
+        insertSelectContext = null == insertSelectContext ? null : getInsertSelectContext(insertSelectContext.getSelectStatementContext(), parameters, parametersOffset);
+        onDuplicateKeyUpdateValueContext = getOnDuplicateKeyUpdateValueContext(parameters, parametersOffset).orElse(null);
+        generatedKeyContext = createGeneratedKeyContext(getInsertColumnNames(), parameters);
+    }
+    
+    private GeneratedKeyContext createGeneratedKeyContext(final List<String> insertColumnNames, final List<Object> parameters) {
+        return new GeneratedKeyContextEngine(getSqlStatement(), schema).createGenerateKeyContext(insertColumnNames, getAllValueExpressions(getSqlStatement()), parameters).orElse(null);
+    }
+    
     private ShardingSphereSchema getSchema(final Map<String, ShardingSphereMetaData> metaDataMap, final String defaultSchemaName) {
         String schemaName = tablesContext.getSchemaName().orElse(defaultSchemaName);
         ShardingSphereMetaData metaData = metaDataMap.get(schemaName);
@@ -102,8 +120,8 @@ public final class InsertStatementContext extends CommonSQLStatementContext<Inse
     }
     
     private List<InsertValueContext> getInsertValueContexts(final List<Object> parameters, final AtomicInteger parametersOffset) {
-        List<InsertValueContext> result = new LinkedList<>();
         List<List<ExpressionSegment>> allValueExpressions = getAllValueExpressions(getSqlStatement());
+        List<InsertValueContext> result = new ArrayList<>(allValueExpressions.size());
         for (Collection<ExpressionSegment> each : allValueExpressions) {
             InsertValueContext insertValueContext = new InsertValueContext(each, parameters, parametersOffset.get());
             result.add(insertValueContext);
@@ -124,6 +142,13 @@ public final class InsertStatementContext extends CommonSQLStatementContext<Inse
         return Optional.of(insertSelectContext);
     }
     
+    private InsertSelectContext getInsertSelectContext(final SelectStatementContext selectStatementContext, final List<Object> parameters, final AtomicInteger parametersOffset) {
+        selectStatementContext.setUpParameters(parameters);
+        InsertSelectContext result = new InsertSelectContext(selectStatementContext, parameters, parametersOffset.get());
+        parametersOffset.addAndGet(result.getParameterCount());
+        return result;
+    }
+    
     private Optional<OnDuplicateUpdateContext> getOnDuplicateKeyUpdateValueContext(final List<Object> parameters, final AtomicInteger parametersOffset) {
         Optional<OnDuplicateKeyColumnsSegment> onDuplicateKeyColumnsSegment = InsertStatementHandler.getOnDuplicateKeyColumnsSegment(getSqlStatement());
         if (!onDuplicateKeyColumnsSegment.isPresent()) {
@@ -0,0 +1,97 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.binder;
+
+import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.database.DefaultSchema;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.metadata.schema.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.schema.model.TableMetaData;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.item.ProjectionsSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.pagination.limit.LimitSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.pagination.limit.ParameterMarkerLimitValueSegment;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dml.MySQLSelectStatement;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class SQLStatementContextCacheTest {
+    
+    private final ShardingSphereSchema schema = new ShardingSphereSchema();
+    
+    private Map<String, ShardingSphereMetaData> metaDataMap;
+    
+    private MySQLSelectStatement selectStatement;
+    
+    @Before
+    public void setUp() {
+        ShardingSphereMetaData metaData = mock(ShardingSphereMetaData.class);
+        when(metaData.getSchema()).thenReturn(schema);
+        metaDataMap = new HashMap<>(2, 1);
+        metaDataMap.put(DefaultSchema.LOGIC_NAME, metaData);
+        metaDataMap.put("other_schema", metaData);
+        selectStatement = new MySQLSelectStatement();
+        selectStatement.setProjections(new ProjectionsSegment(0, 0));
+        selectStatement.setLimit(new LimitSegment(0, 0, null, new ParameterMarkerLimitValueSegment(0, 0, 0)));
+    }
+    
+    @Test
+    public void assertGetWithSameStatement() {
+        SQLStatementContextCache cache = new SQLStatementContextCache(1);
+        SQLStatementContext<?> expected = cache.get(metaDataMap, Collections.singletonList(10), selectStatement, DefaultSchema.LOGIC_NAME);
+        SQLStatementContext<?> actual = cache.get(metaDataMap, Collections.singletonList(20), selectStatement, DefaultSchema.LOGIC_NAME);
+        assertThat(actual, sameInstance(expected));
+        assertThat(((SelectStatementContext) actual).getPaginationContext().getActualRowCount().orElse(null), is(20L));
+    }
+    
+    @Test
+    public void assertGetWithChangedSchema() {
+        SQLStatementContextCache cache = new SQLStatementContextCache(1);
+        SQLStatementContext<?> expected = cache.get(metaDataMap, Collections.singletonList(10), selectStatement, DefaultSchema.LOGIC_NAME);
+        schema.put("t_order", mock(TableMetaData.class));
+        assertThat(cache.get(metaDataMap, Collections.singletonList(10), selectStatement, DefaultSchema.LOGIC_NAME), not(sameInstance(expected)));
+    }
+    
+    @Test
+    public void assertGetWithDifferentSchemaName() {
+        SQLStatementContextCache cache = new SQLStatementContextCache(1);
+        SQLStatementContext<?> expected = cache.get(metaDataMap, Collections.singletonList(10), selectStatement, DefaultSchema.LOGIC_NAME);
+        assertThat(cache.get(metaDataMap, Collections.singletonList(10), selectStatement, "other_schema"), not(sameInstance(expected)));
+    }
+    
+    @Test
+    public void assertGetWhenCacheIsFull() {
+        SQLStatementContextCache cache = new SQLStatementContextCache(1);
+        SQLStatementContext<?> expected = cache.get(metaDataMap, Collections.singletonList(10), selectStatement, DefaultSchema.LOGIC_NAME);
+        MySQLSelectStatement otherSelectStatement = new MySQLSelectStatement();
+        otherSelectStatement.setProjections(new ProjectionsSegment(0, 0));
+        cache.get(metaDataMap, Collections.emptyList(), otherSelectStatement, DefaultSchema.LOGIC_NAME);
+        assertThat(cache.get(metaDataMap, Collections.singletonList(10), selectStatement, DefaultSchema.LOGIC_NAME), not(sameInstance(expected)));
+    }
+}
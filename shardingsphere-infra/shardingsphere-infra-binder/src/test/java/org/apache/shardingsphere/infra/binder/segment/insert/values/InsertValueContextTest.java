@@ -96,4 +96,38 @@ public final class InsertValueContextTest {
         InsertValueContext insertValueContext = new InsertValueContext(expressions, parameters, 0);
         assertThat(insertValueContext.getParameterCount(), is(2));
     }
+    
+    @Test
+    public void assertGetParameterIndexWithRepeatedLiteralsAndExpressions() {
+        ParameterMarkerExpressionSegment firstParameterMarker = new ParameterMarkerExpressionSegment(0, 0, 0);
+        BinaryOperationExpression expression = new BinaryOperationExpression(0, 0, new LiteralExpressionSegment(0, 0, 1), new ParameterMarkerExpressionSegment(0, 0, 1), "+", "1 + ?");
+        ParameterMarkerExpressionSegment secondParameterMarker = new ParameterMarkerExpressionSegment(0, 0, 2);
+        ParameterMarkerExpressionSegment thirdParameterMarker = new ParameterMarkerExpressionSegment(0, 0, 3);
+        Collection<ExpressionSegment> assignments = Arrays.asList(new LiteralExpressionSegment(0, 0, 1), firstParameterMarker, new LiteralExpressionSegment(0, 0, 1), expression, 
+                secondParameterMarker, expression, thirdParameterMarker);
+        InsertValueContext insertValueContext = new InsertValueContext(assignments, Arrays.asList("skipped", "p0", "p1", "p2", "p3", "p4", "p5"), 1);
+        assertThat(insertValueContext.getParameterCount(), is(5));
+        assertThat(insertValueContext.getParameterIndex(0), is(-1));
+        assertThat(insertValueContext.getParameterIndex(1), is(0));
+        assertThat(insertValueContext.getParameterIndex(2), is(-1));
+        assertThat(insertValueContext.getParameterIndex(3), is(-1));
+        assertThat(insertValueContext.getParameterIndex(4), is(2));
+        assertThat(insertValueContext.getParameterIndex(5), is(-1));
+        assertThat(insertValueContext.getParameterIndex(6), is(4));
+        assertThat(insertValueContext.getValue(0), is((Object) 1));
+        assertThat(insertValueContext.getValue(1), is((Object) "p0"));
+        assertThat(insertValueContext.getValue(4), is((Object) "p2"));
+        assertThat(insertValueContext.getValue(6), is((Object) "p4"));
+    }
+    
+    @Test
+    public void assertGetParameterIndexWithEqualParameterMarkers() {
+        ParameterMarkerExpressionSegment parameterMarker = new ParameterMarkerExpressionSegment(0, 0, 0);
+        Collection<ExpressionSegment> assignments = Arrays.asList(parameterMarker, new ParameterMarkerExpressionSegment(0, 0, 0), parameterMarker);
+        InsertValueContext insertValueContext = new InsertValueContext(assignments, Arrays.asList("p0", "p1", "p2"), 0);
+        assertThat(insertValueContext.getParameterIndex(0), is(0));
+        assertThat(insertValueContext.getParameterIndex(1), is(1));
+        assertThat(insertValueContext.getParameterIndex(2), is(2));
+        assertThat(insertValueContext.getValue(2), is((Object) "p2"));
+    }
 }
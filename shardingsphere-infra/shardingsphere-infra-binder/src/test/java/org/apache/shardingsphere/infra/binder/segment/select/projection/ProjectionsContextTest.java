@@ -29,10 +29,12 @@ import org.junit.Test;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedList;
 import java.util.List;
 import java.util.Optional;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
@@ -145,4 +147,14 @@ public final class ProjectionsContextTest {
         assertThat(actual.getExpandProjections().get(1), is(columnProjection2));
         assertThat(actual.getExpandProjections().get(2), is(columnProjection3));
     }
+    
+    @Test
+    public void assertGetExpandProjectionsAfterProjectionsChanged() {
+        ColumnProjection columnProjection = new ColumnProjection(null, "col1", null);
+        ProjectionsContext actual = new ProjectionsContext(0, 0, false, new LinkedList<>(Collections.singletonList(columnProjection)));
+        List<Projection> expandProjections = actual.getExpandProjections();
+        assertThat(actual.getExpandProjections(), is(sameInstance(expandProjections)));
+        actual.getProjections().add(new ColumnProjection(null, "col2", null));
+        assertThat(actual.getExpandProjections().size(), is(2));
+    }
 }
@@ -459,5 +459,6 @@ public final class ProjectionsContextEngineTest {
         ProjectionsContext actual = new ProjectionsContextEngine(schema, selectStatementContext.getDatabaseType())
                 .createProjectionsContext(selectStatement.getFrom(), projectionsSegment, new GroupByContext(Collections.emptyList()), orderByContext);
         assertThat(actual.getProjections().size(), is(2));
+        assertThat(actual.getExpandProjections().size(), is(2));
     }
 }
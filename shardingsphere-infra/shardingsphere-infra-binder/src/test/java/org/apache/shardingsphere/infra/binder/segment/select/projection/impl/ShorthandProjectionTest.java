@@ -20,6 +20,7 @@ package org.apache.shardingsphere.infra.binder.segment.select.projection.impl;
 import org.junit.Test;
 
 import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertFalse;
@@ -47,4 +48,17 @@ public final class ShorthandProjectionTest {
     public void assertContains() {
         assertTrue(new ShorthandProjection("owner", Collections.emptyList()).getOwner().isPresent());
     }
+    
+    @Test
+    public void assertGetActualColumnsLazily() {
+        AtomicInteger expandedTimes = new AtomicInteger();
+        ShorthandProjection actual = new ShorthandProjection("owner", () -> {
+            expandedTimes.incrementAndGet();
+            return Collections.singletonList(new ColumnProjection("owner", "Order_Id", null));
+        });
+        assertThat(expandedTimes.get(), is(0));
+        assertTrue(actual.getActualColumns().containsKey("owner.order_id"));
+        assertThat(actual.getActualColumns().size(), is(1));
+        assertThat(expandedTimes.get(), is(1));
+    }
 }
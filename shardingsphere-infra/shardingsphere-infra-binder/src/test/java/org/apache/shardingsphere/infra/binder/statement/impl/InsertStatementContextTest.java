@@ -153,6 +153,21 @@ public final class InsertStatementContextTest {
         assertThat(actual.getGroupedParameters().iterator().next(), is(Collections.emptyList()));
     }
     
+    @Test
+    public void assertSetUpParameters() {
+        InsertStatement insertStatement = new MySQLInsertStatement();
+        insertStatement.setTable(new SimpleTableSegment(new TableNameSegment(0, 0, new IdentifierValue("tbl"))));
+        setUpInsertValues(insertStatement);
+        InsertStatementContext actual = createInsertStatementContext(Arrays.asList(1, "Tom", 2, "Jerry"), insertStatement);
+        actual.setUpParameters(Arrays.asList(3, "Mike", 4, "Lucy"));
+        assertThat(actual.getInsertValueContexts().size(), is(2));
+        assertThat(actual.getInsertValueContexts().get(0).getValue(0), is(3));
+        assertThat(actual.getInsertValueContexts().get(0).getValue(1), is("Mike"));
+        assertThat(actual.getInsertValueContexts().get(1).getValue(0), is(4));
+        assertThat(actual.getInsertValueContexts().get(1).getValue(1), is("Lucy"));
+        assertThat(actual.getGroupedParameters(), is(Arrays.asList(Arrays.<Object>asList(3, "Mike"), Arrays.<Object>asList(4, "Lucy"))));
+    }
+    
     private void setUpInsertValues(final InsertStatement insertStatement) {
         insertStatement.getValues().add(new InsertValuesSegment(0, 0, Arrays.asList(
                 new ParameterMarkerExpressionSegment(0, 0, 1), new ParameterMarkerExpressionSegment(0, 0, 2), new LiteralExpressionSegment(0, 0, "init"))));
@@ -119,6 +119,22 @@ public enum ConfigurationPropertyKey implements TypedPropertyKey {
      */
     SQL_FEDERATION_ENABLED("sql-federation-enabled", String.valueOf(Boolean.FALSE), boolean.class),
     
+    /**
+     * Route unit count of cartesian routing above which query is routed by sql federation instead, only works when sql federation is enabled.
+     * Less than or equal to 0 means no limitation.
+     */
+    CARTESIAN_ROUTE_FEDERATION_THRESHOLD("cartesian-route-federation-threshold", String.valueOf(0), int.class),
+    
+    /**
+     * Whether collect elapsed time of execute stages and fan out per SQL digest.
+     */
+    SQL_STATISTICS_ENABLED("sql-statistics-enabled", String.valueOf(Boolean.FALSE), boolean.class),
+    
+    /**
+     * Whether collect routed count, returned rows and execute time per data node of each schema.
+     */
+    DATA_NODE_STATISTICS_ENABLED("data-node-statistics-enabled", String.valueOf(Boolean.FALSE), boolean.class),
+    
     /**
      * Proxy backend driver type. Default driver is JDBC.
      */
@@ -0,0 +1,84 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.statistics;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.datanode.DataNode;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Data node statistics.
+ */
+@RequiredArgsConstructor
+@Getter
+public final class DataNodeStatistics {
+    
+    private final DataNode dataNode;
+    
+    @Getter(AccessLevel.NONE)
+    private final LongAdder routedCount = new LongAdder();
+    
+    @Getter(AccessLevel.NONE)
+    private final LongAdder returnedRowCount = new LongAdder();
+    
+    private final StatisticsAccumulator executeTime = new StatisticsAccumulator();
+    
+    /**
+     * Record one SQL routed to data node.
+     */
+    public void recordRouted() {
+        routedCount.increment();
+    }
+    
+    /**
+     * Record one row returned from data node.
+     */
+    public void recordReturnedRow() {
+        returnedRowCount.increment();
+    }
+    
+    /**
+     * Record elapsed time of executing SQL on data node.
+     *
+     * @param elapsedNanos elapsed nanoseconds
+     */
+    public void recordExecuteTime(final long elapsedNanos) {
+        executeTime.accumulate(elapsedNanos);
+    }
+    
+    /**
+     * Get count of SQLs routed to data node.
+     *
+     * @return routed count
+     */
+    public long getRoutedCount() {
+        return routedCount.sum();
+    }
+    
+    /**
+     * Get count of rows returned from data node.
+     *
+     * @return returned row count
+     */
+    public long getReturnedRowCount() {
+        return returnedRowCount.sum();
+    }
+}
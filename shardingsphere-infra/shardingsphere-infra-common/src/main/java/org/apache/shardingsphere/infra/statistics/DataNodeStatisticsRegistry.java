@@ -0,0 +1,63 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.statistics;
+
+import org.apache.shardingsphere.infra.datanode.DataNode;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Data node statistics registry of schema.
+ * 
+ * <p>Statistics are kept per actual data source and actual table, which helps to find hot data nodes and skewed sharding values.
+ * Data nodes of a schema are bounded by its rules, so statistics are never evicted while schema is alive.</p>
+ */
+public final class DataNodeStatisticsRegistry {
+    
+    private final Map<String, DataNodeStatistics> statistics = new ConcurrentHashMap<>();
+    
+    /**
+     * Get or create statistics of data node.
+     *
+     * @param dataSourceName actual data source name
+     * @param tableName actual table name
+     * @return data node statistics
+     */
+    public DataNodeStatistics getStatistics(final String dataSourceName, final String tableName) {
+        return statistics.computeIfAbsent(dataSourceName + "." + tableName, key -> new DataNodeStatistics(new DataNode(dataSourceName, tableName)));
+    }
+    
+    /**
+     * Get all statistics.
+     *
+     * @return all data node statistics
+     */
+    public Collection<DataNodeStatistics> getAllStatistics() {
+        return new ArrayList<>(statistics.values());
+    }
+    
+    /**
+     * Clear all statistics.
+     */
+    public void clear() {
+        statistics.clear();
+    }
+}
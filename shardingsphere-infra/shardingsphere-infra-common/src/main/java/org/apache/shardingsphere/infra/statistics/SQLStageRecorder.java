@@ -0,0 +1,153 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.statistics;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * SQL stage recorder.
+ * 
+ * <p>
+ * Elapsed time of stages is traced per thread and bound to the SQL statement being processed.
+ * Parse, bind, route and rewrite time is published to {@link SQLStatisticsRegistry} together with fan out by kernel processor,
+ * execute and merge time which comes after is recorded to the published statistics directly.
+ * Tracing only reads nano time into a thread local buffer, whether to publish is decided by caller with its own configuration properties,
+ * so SQL statistics of data sources which share the JVM are switched independently.
+ * </p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class SQLStageRecorder {
+    
+    private static final ThreadLocal<SQLStageTrace> TRACE = ThreadLocal.withInitial(SQLStageTrace::new);
+    
+    /**
+     * Start timing of stage.
+     *
+     * @return start nanoseconds
+     */
+    public static long start() {
+        return System.nanoTime();
+    }
+    
+    /**
+     * Record elapsed time of stage.
+     *
+     * @param sqlStatement SQL statement being processed
+     * @param stage SQL execute stage
+     * @param startNanos start nanoseconds returned by {@link #start()}
+     */
+    public static void record(final SQLStatement sqlStatement, final SQLExecuteStage stage, final long startNanos) {
+        TRACE.get().record(sqlStatement, stage, System.nanoTime() - startNanos);
+    }
+    
+    /**
+     * Publish traced stages and fan out of SQL statement to statistics of SQL digest.
+     *
+     * @param sqlStatement SQL statement being processed
+     * @param sqlDigest SQL digest
+     * @param executionUnitCount count of execution units which the SQL is routed to
+     */
+    public static void publish(final SQLStatement sqlStatement, final String sqlDigest, final int executionUnitCount) {
+        TRACE.get().publish(sqlStatement, SQLStatisticsRegistry.getStatistics(sqlDigest), executionUnitCount);
+    }
+    
+    /**
+     * Get traced elapsed nanoseconds of stages of SQL statement in current thread.
+     *
+     * @param sqlStatement SQL statement
+     * @return elapsed nanoseconds of traced stages, empty if SQL statement is not traced
+     */
+    public static Map<SQLExecuteStage, Long> getTracedStages(final SQLStatement sqlStatement) {
+        return TRACE.get().getTracedStages(sqlStatement);
+    }
+    
+    private static final class SQLStageTrace {
+        
+        private final long[] elapsedNanos = new long[SQLExecuteStage.values().length];
+        
+        private SQLStatement sqlStatement;
+        
+        private int tracedStages;
+        
+        private SQLStatistics statistics;
+        
+        private void record(final SQLStatement sqlStatement, final SQLExecuteStage stage, final long nanos) {
+            if (SQLExecuteStage.EXECUTE == stage || SQLExecuteStage.MERGE == stage) {
+                if (this.sqlStatement == sqlStatement && null != statistics) {
+                    trace(stage, nanos);
+                    statistics.recordStage(stage, nanos);
+                }
+                return;
+            }
+            if (this.sqlStatement != sqlStatement || null != statistics) {
+                reset(sqlStatement);
+            }
+            trace(stage, nanos);
+        }
+        
+        private void publish(final SQLStatement sqlStatement, final SQLStatistics statistics, final int executionUnitCount) {
+            if (this.sqlStatement != sqlStatement || null != this.statistics) {
+                reset(sqlStatement);
+            }
+            this.statistics = statistics;
+            statistics.recordFanOut(executionUnitCount);
+            for (SQLExecuteStage each : SQLExecuteStage.values()) {
+                if (isTraced(each)) {
+                    statistics.recordStage(each, elapsedNanos[each.ordinal()]);
+                }
+            }
+        }
+        
+        private Map<SQLExecuteStage, Long> getTracedStages(final SQLStatement sqlStatement) {
+            if (this.sqlStatement != sqlStatement) {
+                return Collections.emptyMap();
+            }
+            Map<SQLExecuteStage, Long> result = new EnumMap<>(SQLExecuteStage.class);
+            for (SQLExecuteStage each : SQLExecuteStage.values()) {
+                if (isTraced(each)) {
+                    result.put(each, elapsedNanos[each.ordinal()]);
+                }
+            }
+            return result;
+        }
+        
+        private void trace(final SQLExecuteStage stage, final long nanos) {
+            elapsedNanos[stage.ordinal()] += nanos;
+            tracedStages |= 1 << stage.ordinal();
+        }
+        
+        private boolean isTraced(final SQLExecuteStage stage) {
+            return 0 != (tracedStages & 1 << stage.ordinal());
+        }
+        
+        private void reset(final SQLStatement sqlStatement) {
+            this.sqlStatement = sqlStatement;
+            tracedStages = 0;
+            statistics = null;
+            for (int i = 0; i < elapsedNanos.length; i++) {
+                elapsedNanos[i] = 0L;
+            }
+        }
+    }
+}
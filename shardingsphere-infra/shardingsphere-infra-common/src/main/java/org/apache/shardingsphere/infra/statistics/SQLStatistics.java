@@ -0,0 +1,81 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.statistics;
+
+import lombok.Getter;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * SQL statistics of one SQL digest.
+ */
+@Getter
+public final class SQLStatistics {
+    
+    private final String sqlDigest;
+    
+    private final StatisticsAccumulator fanOut = new StatisticsAccumulator();
+    
+    private final Map<SQLExecuteStage, StatisticsAccumulator> stages = new EnumMap<>(SQLExecuteStage.class);
+    
+    public SQLStatistics(final String sqlDigest) {
+        this.sqlDigest = sqlDigest;
+        for (SQLExecuteStage each : SQLExecuteStage.values()) {
+            stages.put(each, new StatisticsAccumulator());
+        }
+    }
+    
+    /**
+     * Record fan out of one execution.
+     *
+     * @param executionUnitCount count of execution units which the SQL is routed to
+     */
+    public void recordFanOut(final int executionUnitCount) {
+        fanOut.accumulate(executionUnitCount);
+    }
+    
+    /**
+     * Record elapsed time of stage.
+     *
+     * @param stage SQL execute stage
+     * @param elapsedNanos elapsed nanoseconds
+     */
+    public void recordStage(final SQLExecuteStage stage, final long elapsedNanos) {
+        stages.get(stage).accumulate(elapsedNanos);
+    }
+    
+    /**
+     * Get statistics of stage.
+     *
+     * @param stage SQL execute stage
+     * @return statistics accumulator of stage
+     */
+    public StatisticsAccumulator getStage(final SQLExecuteStage stage) {
+        return stages.get(stage);
+    }
+    
+    /**
+     * Get execute count.
+     *
+     * @return execute count
+     */
+    public long getExecuteCount() {
+        return fanOut.getCount();
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.statistics;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.Collection;
+
+/**
+ * SQL statistics registry.
+ * 
+ * <p>Statistics are kept per SQL digest, the least recently used digests are evicted when there are too many of them.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class SQLStatisticsRegistry {
+    
+    private static final int MAXIMUM_SIZE = 1024;
+    
+    private static final Cache<String, SQLStatistics> STATISTICS = Caffeine.newBuilder().maximumSize(MAXIMUM_SIZE).build();
+    
+    /**
+     * Get or create statistics of SQL digest.
+     *
+     * @param sqlDigest SQL digest
+     * @return SQL statistics
+     */
+    public static SQLStatistics getStatistics(final String sqlDigest) {
+        return STATISTICS.get(sqlDigest, SQLStatistics::new);
+    }
+    
+    /**
+     * Get all statistics.
+     *
+     * @return all SQL statistics
+     */
+    public static Collection<SQLStatistics> getAllStatistics() {
+        return new ArrayList<>(STATISTICS.asMap().values());
+    }
+    
+    /**
+     * Clear all statistics.
+     */
+    public static void clear() {
+        STATISTICS.invalidateAll();
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.statistics;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Statistics accumulator, which accumulates count, total and maximum of sampled values without locking.
+ */
+public final class StatisticsAccumulator {
+    
+    private final LongAdder count = new LongAdder();
+    
+    private final LongAdder total = new LongAdder();
+    
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0L);
+    
+    /**
+     * Accumulate sampled value.
+     *
+     * @param value sampled value
+     */
+    public void accumulate(final long value) {
+        count.increment();
+        total.add(value);
+        max.accumulate(value);
+    }
+    
+    /**
+     * Get count of sampled values.
+     *
+     * @return count of sampled values
+     */
+    public long getCount() {
+        return count.sum();
+    }
+    
+    /**
+     * Get total of sampled values.
+     *
+     * @return total of sampled values
+     */
+    public long getTotal() {
+        return total.sum();
+    }
+    
+    /**
+     * Get maximum of sampled values.
+     *
+     * @return maximum of sampled values
+     */
+    public long getMax() {
+        return max.get();
+    }
+    
+    /**
+     * Get average of sampled values.
+     *
+     * @return average of sampled values, 0 if nothing sampled
+     */
+    public long getAverage() {
+        long sampledCount = getCount();
+        return 0L == sampledCount ? 0L : getTotal() / sampledCount;
+    }
+}
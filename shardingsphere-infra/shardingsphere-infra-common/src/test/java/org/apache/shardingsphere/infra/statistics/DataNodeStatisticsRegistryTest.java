@@ -0,0 +1,67 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.statistics;
+
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class DataNodeStatisticsRegistryTest {
+    
+    private final DataNodeStatisticsRegistry registry = new DataNodeStatisticsRegistry();
+    
+    @Test
+    public void assertGetStatistics() {
+        DataNodeStatistics actual = registry.getStatistics("ds_0", "t_order_0");
+        actual.recordRouted();
+        actual.recordReturnedRow();
+        actual.recordReturnedRow();
+        actual.recordExecuteTime(100L);
+        assertThat(registry.getStatistics("ds_0", "t_order_0"), sameInstance(actual));
+        assertThat(actual.getDataNode().getDataSourceName(), is("ds_0"));
+        assertThat(actual.getDataNode().getTableName(), is("t_order_0"));
+        assertThat(actual.getRoutedCount(), is(1L));
+        assertThat(actual.getReturnedRowCount(), is(2L));
+        assertThat(actual.getExecuteTime().getMax(), is(100L));
+    }
+    
+    @Test
+    public void assertGetAllStatistics() {
+        registry.getStatistics("ds_0", "t_order_0");
+        registry.getStatistics("ds_1", "t_order_0");
+        assertThat(registry.getAllStatistics().size(), is(2));
+    }
+    
+    @Test
+    public void assertNotEvictLiveStatistics() {
+        for (int i = 0; i < 20000; i++) {
+            registry.getStatistics("ds_" + i % 2, "t_order_" + i).recordRouted();
+        }
+        assertThat(registry.getAllStatistics().size(), is(20000));
+    }
+    
+    @Test
+    public void assertClear() {
+        registry.getStatistics("ds_0", "t_order_0");
+        registry.clear();
+        assertTrue(registry.getAllStatistics().isEmpty());
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.statistics;
+
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+
+public final class SQLStageRecorderTest {
+    
+    @After
+    public void tearDown() {
+        SQLStatisticsRegistry.clear();
+    }
+    
+    @Test
+    public void assertRecordWithoutPublish() {
+        SQLStatement sqlStatement = mock(SQLStatement.class);
+        SQLStageRecorder.record(sqlStatement, SQLExecuteStage.PARSE, SQLStageRecorder.start());
+        assertThat(SQLStageRecorder.getTracedStages(sqlStatement).size(), is(1));
+        assertTrue(SQLStatisticsRegistry.getAllStatistics().isEmpty());
+    }
+    
+    @Test
+    public void assertRecordAndPublish() {
+        SQLStatement sqlStatement = mock(SQLStatement.class);
+        SQLStageRecorder.record(sqlStatement, SQLExecuteStage.PARSE, SQLStageRecorder.start());
+        SQLStageRecorder.record(sqlStatement, SQLExecuteStage.BIND, SQLStageRecorder.start());
+        SQLStageRecorder.record(sqlStatement, SQLExecuteStage.ROUTE, SQLStageRecorder.start());
+        SQLStageRecorder.record(sqlStatement, SQLExecuteStage.REWRITE, SQLStageRecorder.start());
+        SQLStageRecorder.publish(sqlStatement, "SELECT * FROM t_order WHERE order_id = ?", 2);
+        SQLStageRecorder.record(sqlStatement, SQLExecuteStage.EXECUTE, SQLStageRecorder.start());
+        SQLStageRecorder.record(sqlStatement, SQLExecuteStage.MERGE, SQLStageRecorder.start());
+        assertThat(SQLStageRecorder.getTracedStages(sqlStatement).size(), is(6));
+        SQLStatistics actual = SQLStatisticsRegistry.getStatistics("SELECT * FROM t_order WHERE order_id = ?");
+        assertThat(actual.getExecuteCount(), is(1L));
+        assertThat(actual.getFanOut().getMax(), is(2L));
+        for (SQLExecuteStage each : SQLExecuteStage.values()) {
+            assertThat(actual.getStage(each).getCount(), is(1L));
+        }
+    }
+    
+    @Test
+    public void assertRecordExecuteWithoutPublish() {
+        SQLStatement sqlStatement = mock(SQLStatement.class);
+        SQLStageRecorder.record(sqlStatement, SQLExecuteStage.PARSE, SQLStageRecorder.start());
+        SQLStageRecorder.record(sqlStatement, SQLExecuteStage.EXECUTE, SQLStageRecorder.start());
+        Map<SQLExecuteStage, Long> actual = SQLStageRecorder.getTracedStages(sqlStatement);
+        assertThat(actual.size(), is(1));
+        assertTrue(actual.containsKey(SQLExecuteStage.PARSE));
+    }
+    
+    @Test
+    public void assertRecordAnotherSQLStatement() {
+        SQLStatement sqlStatement = mock(SQLStatement.class);
+        SQLStageRecorder.record(sqlStatement, SQLExecuteStage.PARSE, SQLStageRecorder.start());
+        SQLStatement anotherSQLStatement = mock(SQLStatement.class);
+        SQLStageRecorder.record(anotherSQLStatement, SQLExecuteStage.ROUTE, SQLStageRecorder.start());
+        assertTrue(SQLStageRecorder.getTracedStages(sqlStatement).isEmpty());
+        assertThat(SQLStageRecorder.getTracedStages(anotherSQLStatement).size(), is(1));
+    }
+    
+    @Test
+    public void assertRecordSameSQLStatementAfterPublish() {
+        SQLStatement sqlStatement = mock(SQLStatement.class);
+        SQLStageRecorder.record(sqlStatement, SQLExecuteStage.PARSE, SQLStageRecorder.start());
+        SQLStageRecorder.publish(sqlStatement, "SELECT * FROM t_order", 1);
+        SQLStageRecorder.record(sqlStatement, SQLExecuteStage.ROUTE, SQLStageRecorder.start());
+        Map<SQLExecuteStage, Long> actual = SQLStageRecorder.getTracedStages(sqlStatement);
+        assertThat(actual.size(), is(1));
+        assertFalse(actual.containsKey(SQLExecuteStage.PARSE));
+    }
+}
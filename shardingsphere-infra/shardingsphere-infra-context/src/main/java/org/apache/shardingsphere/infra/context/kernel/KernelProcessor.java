@@ -25,15 +25,28 @@ import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContextBuil
 import org.apache.shardingsphere.infra.executor.sql.log.SQLLogger;
 import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
 import org.apache.shardingsphere.infra.rewrite.SQLRewriteEntry;
+import org.apache.shardingsphere.infra.rewrite.engine.SQLRewriteCache;
 import org.apache.shardingsphere.infra.rewrite.engine.result.SQLRewriteResult;
 import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.infra.route.engine.RouteContextCache;
 import org.apache.shardingsphere.infra.route.engine.SQLRouteEngine;
+import org.apache.shardingsphere.infra.statistics.SQLStageRecorder;
 
 /**
  * Kernel processor.
  */
 public final class KernelProcessor {
     
+    private final boolean statisticsPublished;
+    
+    public KernelProcessor() {
+        this(true);
+    }
+    
+    public KernelProcessor(final boolean statisticsPublished) {
+        this.statisticsPublished = statisticsPublished;
+    }
+    
     /**
      * Generate execution context.
      *
@@ -43,26 +56,50 @@ public final class KernelProcessor {
      * @return execution context
      */
     public ExecutionContext generateExecutionContext(final LogicSQL logicSQL, final ShardingSphereMetaData metaData, final ConfigurationProperties props) {
-        RouteContext routeContext = route(logicSQL, metaData, props);
-        SQLRewriteResult rewriteResult = rewrite(logicSQL, metaData, props, routeContext);
+        RouteContext routeContext = new SQLRouteEngine(metaData.getRuleMetaData().getRules(), props).route(logicSQL, metaData);
+        SQLRewriteResult rewriteResult = createSQLRewriteEntry(metaData, props).rewrite(logicSQL.getSql(), logicSQL.getParameters(), logicSQL.getSqlStatementContext(), routeContext);
+        return generateExecutionContext(logicSQL, metaData, props, routeContext, rewriteResult);
+    }
+    
+    /**
+     * Generate execution context with route context cache and SQL rewrite cache.
+     *
+     * @param logicSQL logic SQL
+     * @param metaData ShardingSphere meta data
+     * @param props configuration properties
+     * @param routeContextCache route context cache
+     * @param sqlRewriteCache SQL rewrite cache
+     * @return execution context
+     */
+    public ExecutionContext generateExecutionContext(final LogicSQL logicSQL, final ShardingSphereMetaData metaData, final ConfigurationProperties props, 
+                                                     final RouteContextCache routeContextCache, final SQLRewriteCache sqlRewriteCache) {
+        RouteContext routeContext = new SQLRouteEngine(metaData.getRuleMetaData().getRules(), props).route(logicSQL, metaData, routeContextCache);
+        SQLRewriteResult rewriteResult = createSQLRewriteEntry(metaData, props).rewrite(logicSQL.getSql(), logicSQL.getParameters(), logicSQL.getSqlStatementContext(), routeContext, sqlRewriteCache);
+        return generateExecutionContext(logicSQL, metaData, props, routeContext, rewriteResult);
+    }
+    
+    private ExecutionContext generateExecutionContext(final LogicSQL logicSQL, final ShardingSphereMetaData metaData, final ConfigurationProperties props, 
+                                                      final RouteContext routeContext, final SQLRewriteResult rewriteResult) {
         ExecutionContext result = createExecutionContext(logicSQL, metaData, routeContext, rewriteResult);
         logSQL(logicSQL, props, result);
+        publishStatistics(logicSQL, props, result);
         return result;
     }
     
-    private RouteContext route(final LogicSQL logicSQL, final ShardingSphereMetaData metaData, final ConfigurationProperties props) {
-        return new SQLRouteEngine(metaData.getRuleMetaData().getRules(), props).route(logicSQL, metaData);
-    }
-    
-    private SQLRewriteResult rewrite(final LogicSQL logicSQL, final ShardingSphereMetaData metaData, final ConfigurationProperties props, final RouteContext routeContext) {
-        return new SQLRewriteEntry(
-                metaData.getSchema(), props, metaData.getRuleMetaData().getRules()).rewrite(logicSQL.getSql(), logicSQL.getParameters(), logicSQL.getSqlStatementContext(), routeContext);
+    private SQLRewriteEntry createSQLRewriteEntry(final ShardingSphereMetaData metaData, final ConfigurationProperties props) {
+        return new SQLRewriteEntry(metaData.getSchema(), props, metaData.getRuleMetaData().getRules());
     }
     
     private ExecutionContext createExecutionContext(final LogicSQL logicSQL, final ShardingSphereMetaData metaData, final RouteContext routeContext, final SQLRewriteResult rewriteResult) {
         return new ExecutionContext(logicSQL, ExecutionContextBuilder.build(metaData, rewriteResult, logicSQL.getSqlStatementContext()), routeContext);
     }
     
+    private void publishStatistics(final LogicSQL logicSQL, final ConfigurationProperties props, final ExecutionContext executionContext) {
+        if (statisticsPublished && props.<Boolean>getValue(ConfigurationPropertyKey.SQL_STATISTICS_ENABLED)) {
+            SQLStageRecorder.publish(logicSQL.getSqlStatementContext().getSqlStatement(), logicSQL.getSqlDigest().getValue(), executionContext.getExecutionUnits().size());
+        }
+    }
+    
     private void logSQL(final LogicSQL logicSQL, final ConfigurationProperties props, final ExecutionContext executionContext) {
         if (props.<Boolean>getValue(ConfigurationPropertyKey.SQL_SHOW)) {
             SQLLogger.logSQL(logicSQL, props.<Boolean>getValue(ConfigurationPropertyKey.SQL_SIMPLE), executionContext);
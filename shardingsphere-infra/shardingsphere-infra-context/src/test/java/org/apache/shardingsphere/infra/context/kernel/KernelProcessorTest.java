@@ -27,6 +27,7 @@ import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
 import org.apache.shardingsphere.infra.metadata.resource.ShardingSphereResource;
 import org.apache.shardingsphere.infra.metadata.rule.ShardingSphereRuleMetaData;
 import org.apache.shardingsphere.infra.metadata.schema.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.statistics.SQLStatisticsRegistry;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.SelectStatement;
 import org.junit.Test;
@@ -55,6 +56,34 @@ public final class KernelProcessorTest {
         assertThat(actual.getExecutionUnits().size(), is(1));
     }
     
+    @Test
+    public void assertGenerateExecutionContextWithSQLStatisticsEnabled() {
+        Properties props = createProperties();
+        props.setProperty(ConfigurationPropertyKey.SQL_STATISTICS_ENABLED.getKey(), Boolean.TRUE.toString());
+        LogicSQL logicSQL = createLogicSQL("SELECT * FROM tbl_enabled");
+        new KernelProcessor().generateExecutionContext(logicSQL, createMetaData(), new ConfigurationProperties(props));
+        assertThat(SQLStatisticsRegistry.getStatistics(logicSQL.getSqlDigest().getValue()).getExecuteCount(), is(1L));
+    }
+    
+    @Test
+    public void assertGenerateExecutionContextWithSQLStatisticsDisabled() {
+        LogicSQL logicSQL = createLogicSQL("SELECT * FROM tbl_disabled");
+        new KernelProcessor().generateExecutionContext(logicSQL, createMetaData(), new ConfigurationProperties(createProperties()));
+        assertThat(SQLStatisticsRegistry.getStatistics(logicSQL.getSqlDigest().getValue()).getExecuteCount(), is(0L));
+    }
+    
+    @SuppressWarnings("unchecked")
+    private LogicSQL createLogicSQL(final String sql) {
+        SQLStatementContext<SQLStatement> sqlStatementContext = mock(CommonSQLStatementContext.class);
+        when(sqlStatementContext.getSqlStatement()).thenReturn(mock(SelectStatement.class));
+        return new LogicSQL(sqlStatementContext, sql, Collections.emptyList());
+    }
+    
+    private ShardingSphereMetaData createMetaData() {
+        return new ShardingSphereMetaData("logic_schema",
+                mock(ShardingSphereResource.class, RETURNS_DEEP_STUBS), new ShardingSphereRuleMetaData(Collections.emptyList(), Collections.emptyList()), mock(ShardingSphereSchema.class));
+    }
+    
     private Properties createProperties() {
         Properties result = new Properties();
         result.setProperty(ConfigurationPropertyKey.SQL_SHOW.getKey(), Boolean.TRUE.toString());
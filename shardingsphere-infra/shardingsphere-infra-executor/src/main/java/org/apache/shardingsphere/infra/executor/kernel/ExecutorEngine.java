@@ -41,10 +41,15 @@ import java.util.concurrent.ExecutionException;
 @Getter
 public final class ExecutorEngine implements AutoCloseable {
     
+    private static final String SQL_PARSER_NAME_FORMAT = "SQL-Parser-%d";
+    
     private final ExecutorServiceManager executorServiceManager;
     
+    private final ExecutorServiceManager sqlParserExecutorServiceManager;
+    
     public ExecutorEngine(final int executorSize) {
         executorServiceManager = new ExecutorServiceManager(executorSize);
+        sqlParserExecutorServiceManager = new ExecutorServiceManager(Runtime.getRuntime().availableProcessors(), SQL_PARSER_NAME_FORMAT);
     }
     
     /**
@@ -136,5 +141,6 @@ public final class ExecutorEngine implements AutoCloseable {
     @Override
     public void close() {
         executorServiceManager.close();
+        sqlParserExecutorServiceManager.close();
     }
 }
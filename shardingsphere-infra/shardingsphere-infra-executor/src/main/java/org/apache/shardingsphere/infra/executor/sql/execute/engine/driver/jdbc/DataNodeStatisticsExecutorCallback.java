@@ -0,0 +1,81 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutorCallback;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.statistics.DataNodeStatisticsQueryResult;
+import org.apache.shardingsphere.infra.route.context.RouteMapper;
+import org.apache.shardingsphere.infra.statistics.DataNodeStatistics;
+import org.apache.shardingsphere.infra.statistics.DataNodeStatisticsRegistry;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.Map;
+
+/**
+ * Executor callback which collects routed count, returned rows and execute time of data nodes.
+ * 
+ * @param <T> class type of return value
+ */
+@RequiredArgsConstructor
+public final class DataNodeStatisticsExecutorCallback<T> implements ExecutorCallback<JDBCExecutionUnit, T> {
+    
+    private final ExecutorCallback<JDBCExecutionUnit, T> callback;
+    
+    private final DataNodeStatisticsRegistry dataNodeStatisticsRegistry;
+    
+    @Override
+    public Collection<T> execute(final Collection<JDBCExecutionUnit> executionUnits, final boolean isTrunkThread, final Map<String, Object> dataMap) throws SQLException {
+        Collection<T> result = new LinkedList<>();
+        for (JDBCExecutionUnit each : executionUnits) {
+            result.addAll(execute(each, isTrunkThread, dataMap));
+        }
+        return result;
+    }
+    
+    @SuppressWarnings("unchecked")
+    private Collection<T> execute(final JDBCExecutionUnit jdbcExecutionUnit, final boolean isTrunkThread, final Map<String, Object> dataMap) throws SQLException {
+        ExecutionUnit executionUnit = jdbcExecutionUnit.getExecutionUnit();
+        Collection<DataNodeStatistics> dataNodeStatistics = new ArrayList<>(executionUnit.getSqlUnit().getTableRouteMappers().size());
+        for (RouteMapper each : executionUnit.getSqlUnit().getTableRouteMappers()) {
+            DataNodeStatistics statistics = dataNodeStatisticsRegistry.getStatistics(executionUnit.getDataSourceName(), each.getActualName());
+            statistics.recordRouted();
+            dataNodeStatistics.add(statistics);
+        }
+        long startNanos = System.nanoTime();
+        Collection<T> executeResults = callback.execute(Collections.singletonList(jdbcExecutionUnit), isTrunkThread, dataMap);
+        long elapsedNanos = System.nanoTime() - startNanos;
+        if (dataNodeStatistics.isEmpty()) {
+            return executeResults;
+        }
+        Collection<T> result = new ArrayList<>(executeResults.size());
+        for (T each : executeResults) {
+            result.add(each instanceof QueryResult ? (T) new DataNodeStatisticsQueryResult((QueryResult) each, dataNodeStatistics) : each);
+        }
+        for (DataNodeStatistics each : dataNodeStatistics) {
+            each.recordExecuteTime(elapsedNanos);
+        }
+        return result;
+    }
+}
@@ -21,6 +21,7 @@ import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.infra.executor.kernel.ExecutorEngine;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.SQLExecutorExceptionHandler;
+import org.apache.shardingsphere.infra.statistics.DataNodeStatisticsRegistry;
 
 import java.sql.SQLException;
 import java.util.Collections;
@@ -68,4 +69,26 @@ public final class JDBCExecutor {
             return Collections.emptyList();
         }
     }
+    
+    /**
+     * Execute and collect statistics of data nodes.
+     *
+     * @param executionGroupContext execution group context
+     * @param firstCallback first JDBC execute callback
+     * @param callback JDBC execute callback
+     * @param dataNodeStatisticsRegistry data node statistics registry of schema
+     * @param <T> class type of return value
+     * @return execute result
+     * @throws SQLException SQL exception
+     */
+    public <T> List<T> execute(final ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext, final JDBCExecutorCallback<T> firstCallback,
+                               final JDBCExecutorCallback<T> callback, final DataNodeStatisticsRegistry dataNodeStatisticsRegistry) throws SQLException {
+        try {
+            return executorEngine.execute(executionGroupContext, null == firstCallback ? null : new DataNodeStatisticsExecutorCallback<>(firstCallback, dataNodeStatisticsRegistry),
+                    new DataNodeStatisticsExecutorCallback<>(callback, dataNodeStatisticsRegistry), serial);
+        } catch (final SQLException ex) {
+            SQLExecutorExceptionHandler.handleException(ex);
+            return Collections.emptyList();
+        }
+    }
 }
@@ -34,6 +34,8 @@ import java.util.Collections;
 import java.util.Objects;
 import java.util.List;
 import org.apache.shardingsphere.infra.executor.sql.process.ExecuteProcessEngine;
+import org.apache.shardingsphere.infra.statistics.SQLExecuteStage;
+import org.apache.shardingsphere.infra.statistics.SQLStageRecorder;
 
 /**
  * Raw executor.
@@ -60,9 +62,11 @@ public final class RawExecutor {
                                              final LogicSQL logicSQL,
                                              final RawSQLExecutorCallback callback) throws SQLException {
         try {
+            long startNanos = SQLStageRecorder.start();
             ExecuteProcessEngine.initialize(logicSQL, executionGroupContext, props);
             // TODO Load query header for first query
             List<ExecuteResult> results = execute(executionGroupContext, (RawSQLExecutorCallback) null, callback);
+            SQLStageRecorder.record(logicSQL.getSqlStatementContext().getSqlStatement(), SQLExecuteStage.EXECUTE, startNanos);
             ExecuteProcessEngine.finish(executionGroupContext.getExecutionID());
             return CollectionUtils.isEmpty(results) || Objects.isNull(results.get(0)) ? Collections
                 .singleton(new UpdateResult(0, 0L)) : results;
@@ -0,0 +1,90 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.engine.jdbc;
+
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutorCallback;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.DataNodeStatisticsExecutorCallback;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.route.context.RouteMapper;
+import org.apache.shardingsphere.infra.statistics.DataNodeStatistics;
+import org.apache.shardingsphere.infra.statistics.DataNodeStatisticsRegistry;
+import org.junit.Test;
+
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class DataNodeStatisticsExecutorCallbackTest {
+    
+    private final DataNodeStatisticsRegistry registry = new DataNodeStatisticsRegistry();
+    
+    @SuppressWarnings("unchecked")
+    @Test
+    public void assertExecuteQuery() throws SQLException {
+        QueryResult queryResult = mock(QueryResult.class);
+        when(queryResult.next()).thenReturn(true, true, false);
+        ExecutorCallback<JDBCExecutionUnit, QueryResult> callback = mock(ExecutorCallback.class);
+        when(callback.execute(any(), anyBoolean(), any())).thenReturn(Collections.singletonList(queryResult));
+        Collection<QueryResult> actual = new DataNodeStatisticsExecutorCallback<>(callback, registry).execute(
+                Arrays.asList(createExecutionUnit("ds_0", "t_order_0"), createExecutionUnit("ds_1", "t_order_1")), true, Collections.emptyMap());
+        assertThat(actual.size(), is(2));
+        QueryResult first = actual.iterator().next();
+        assertTrue(first.next());
+        assertTrue(first.next());
+        assertFalse(first.next());
+        DataNodeStatistics hotDataNode = registry.getStatistics("ds_0", "t_order_0");
+        assertThat(hotDataNode.getRoutedCount(), is(1L));
+        assertThat(hotDataNode.getReturnedRowCount(), is(2L));
+        assertThat(hotDataNode.getExecuteTime().getCount(), is(1L));
+        DataNodeStatistics coldDataNode = registry.getStatistics("ds_1", "t_order_1");
+        assertThat(coldDataNode.getRoutedCount(), is(1L));
+        assertThat(coldDataNode.getReturnedRowCount(), is(0L));
+    }
+    
+    @SuppressWarnings("unchecked")
+    @Test
+    public void assertExecuteWithoutTableRouteMappers() throws SQLException {
+        ExecutorCallback<JDBCExecutionUnit, Integer> callback = mock(ExecutorCallback.class);
+        when(callback.execute(any(), anyBoolean(), any())).thenReturn(Collections.singletonList(1));
+        JDBCExecutionUnit executionUnit = new JDBCExecutionUnit(
+                new ExecutionUnit("ds_0", new SQLUnit("SET NAMES utf8", Collections.emptyList())), ConnectionMode.MEMORY_STRICTLY, mock(Statement.class));
+        Collection<Integer> actual = new DataNodeStatisticsExecutorCallback<>(callback, registry).execute(Collections.singletonList(executionUnit), true, Collections.emptyMap());
+        assertThat(actual.iterator().next(), is(1));
+        assertTrue(registry.getAllStatistics().isEmpty());
+    }
+    
+    private JDBCExecutionUnit createExecutionUnit(final String dataSourceName, final String actualTableName) {
+        SQLUnit sqlUnit = new SQLUnit("SELECT * FROM " + actualTableName, Collections.emptyList(), Collections.singletonList(new RouteMapper("t_order", actualTableName)));
+        return new JDBCExecutionUnit(new ExecutionUnit(dataSourceName, sqlUnit), ConnectionMode.MEMORY_STRICTLY, mock(Statement.class));
+    }
+}
@@ -32,6 +32,7 @@ import org.apache.shardingsphere.parser.config.SQLParserRuleConfiguration;
 import org.apache.shardingsphere.parser.rule.SQLParserRule;
 import org.apache.shardingsphere.parser.rule.builder.DefaultSQLParserRuleConfigurationBuilder;
 import org.apache.shardingsphere.sql.parser.api.CacheOption;
+import org.apache.shardingsphere.sql.parser.api.SQLParserEngine;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
 import org.junit.Before;
 import org.junit.Test;
@@ -112,7 +113,7 @@ public final class ShardingSphereOptimizerTest {
     private ShardingSphereRuleMetaData createGlobalRuleMetaData() {
         Collection<ShardingSphereRule> rules = new LinkedList<>();
         CacheOption cacheOption = new CacheOption(128, 1024L, 4);
-        rules.add(new SQLParserRule(new SQLParserRuleConfiguration(false, cacheOption, cacheOption)));
+        rules.add(new SQLParserRule(new SQLParserRuleConfiguration(false, cacheOption, cacheOption, false, false, SQLParserEngine.DEFAULT_TRIM_PARSE_TREE_THRESHOLD)));
         return new ShardingSphereRuleMetaData(Collections.emptyList(), rules);
     }
     
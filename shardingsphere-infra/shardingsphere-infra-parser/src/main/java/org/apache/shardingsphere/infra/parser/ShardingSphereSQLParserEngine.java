@@ -17,16 +17,23 @@
 
 package org.apache.shardingsphere.infra.parser;
 
-import com.google.common.util.concurrent.UncheckedExecutionException;
 import org.antlr.v4.runtime.misc.ParseCancellationException;
 import org.apache.shardingsphere.distsql.parser.engine.api.DistSQLStatementParserEngine;
+import org.apache.shardingsphere.infra.parser.parameterized.ParameterizedSQL;
+import org.apache.shardingsphere.infra.parser.parameterized.ParameterizedSQLStatement;
+import org.apache.shardingsphere.infra.parser.parameterized.SQLLiteralParameterizer;
 import org.apache.shardingsphere.infra.parser.sql.SQLStatementParserEngine;
 import org.apache.shardingsphere.infra.parser.sql.SQLStatementParserEngineFactory;
+import org.apache.shardingsphere.infra.statistics.SQLExecuteStage;
+import org.apache.shardingsphere.infra.statistics.SQLStageRecorder;
 import org.apache.shardingsphere.parser.rule.SQLParserRule;
 import org.apache.shardingsphere.sql.parser.exception.SQLParsingException;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
 import org.apache.shardingsphere.sql.parser.sql.common.util.SQLUtil;
 
+import java.util.Collections;
+import java.util.Optional;
+
 /**
  * ShardingSphere SQL parser engine.
  */
@@ -55,8 +62,11 @@ public final class ShardingSphereSQLParserEngine {
      */
     @SuppressWarnings("OverlyBroadCatchBlock")
     public SQLStatement parse(final String sql, final boolean useCache) {
+        long startNanos = SQLStageRecorder.start();
         try {
-            return parse0(sql, useCache);
+            SQLStatement result = parse0(sql, useCache);
+            SQLStageRecorder.record(result, SQLExecuteStage.PARSE, startNanos);
+            return result;
             // CHECKSTYLE:OFF
             // TODO check whether throw SQLParsingException only
         } catch (final Exception ex) {
@@ -65,10 +75,43 @@ public final class ShardingSphereSQLParserEngine {
         }
     }
     
+    /**
+     * Parse to parameterized SQL statement.
+     * 
+     * <p>
+     * Literals are extracted as parameters before parsing, SQLs which only differ in literals share the same cached SQL statement.
+     * SQL which can not be parameterized is parsed with cache as it is.
+     * </p>
+     *
+     * @param sql SQL to be parsed
+     * @return parameterized SQL statement
+     */
+    public ParameterizedSQLStatement parseParameterized(final String sql) {
+        long startNanos = SQLStageRecorder.start();
+        Optional<ParameterizedSQL> parameterizedSQL = new SQLLiteralParameterizer(sql).parameterize();
+        if (parameterizedSQL.isPresent()) {
+            Optional<SQLStatement> sqlStatement = parseParameterized(parameterizedSQL.get());
+            if (sqlStatement.isPresent()) {
+                SQLStageRecorder.record(sqlStatement.get(), SQLExecuteStage.PARSE, startNanos);
+                return new ParameterizedSQLStatement(parameterizedSQL.get().getSql(), parameterizedSQL.get().getParameters(), sqlStatement.get());
+            }
+        }
+        return new ParameterizedSQLStatement(sql, Collections.emptyList(), parse(sql, true));
+    }
+    
+    private Optional<SQLStatement> parseParameterized(final ParameterizedSQL parameterizedSQL) {
+        try {
+            SQLStatement result = sqlStatementParserEngine.parse(parameterizedSQL.getSql(), true);
+            return result.getParameterCount() == parameterizedSQL.getParameters().size() ? Optional.of(result) : Optional.empty();
+        } catch (final SQLParsingException | ParseCancellationException ignore) {
+            return Optional.empty();
+        }
+    }
+    
     private SQLStatement parse0(final String sql, final boolean useCache) {
         try {
             return sqlStatementParserEngine.parse(sql, useCache);
-        } catch (final SQLParsingException | ParseCancellationException | UncheckedExecutionException originalEx) {
+        } catch (final SQLParsingException | ParseCancellationException originalEx) {
             try {
                 String trimSQL = SQLUtil.trimComment(sql);
                 return distSQLStatementParserEngine.parse(trimSQL);
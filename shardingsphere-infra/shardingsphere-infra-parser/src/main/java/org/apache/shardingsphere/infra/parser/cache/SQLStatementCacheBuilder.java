@@ -17,12 +17,13 @@
 
 package org.apache.shardingsphere.infra.parser.cache;
 
-import com.google.common.cache.CacheBuilder;
-import com.google.common.cache.LoadingCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 import org.apache.shardingsphere.parser.rule.SQLParserRule;
 import org.apache.shardingsphere.sql.parser.api.CacheOption;
+import org.apache.shardingsphere.sql.parser.core.database.cache.SQLLengthWeigher;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
 
 /**
@@ -39,8 +40,11 @@ public final class SQLStatementCacheBuilder {
      * @return built SQL statement cache
      */
     public static LoadingCache<String, SQLStatement> build(final SQLParserRule sqlParserRule, final String databaseType) {
-        CacheOption sqlStatementCache = sqlParserRule.getSqlStatementCache();
-        return CacheBuilder.newBuilder().softValues().initialCapacity(sqlStatementCache.getInitialCapacity()).maximumSize(sqlStatementCache.getMaximumSize())
-                .concurrencyLevel(sqlStatementCache.getConcurrencyLevel()).build(new SQLStatementCacheLoader(databaseType, sqlParserRule));
+        CacheOption option = sqlParserRule.getSqlStatementCache();
+        Caffeine<Object, Object> builder = Caffeine.newBuilder().initialCapacity(option.getInitialCapacity()).recordStats();
+        SQLStatementCacheLoader loader = new SQLStatementCacheLoader(databaseType, sqlParserRule);
+        return option.isWeighted()
+                ? builder.maximumWeight(option.getMaximumWeight()).weigher(new SQLLengthWeigher()).build(loader)
+                : builder.maximumSize(option.getMaximumSize()).build(loader);
     }
 }
@@ -17,17 +17,15 @@
 
 package org.apache.shardingsphere.infra.parser.cache;
 
-import com.google.common.cache.CacheLoader;
+import com.github.benmanes.caffeine.cache.CacheLoader;
 import org.apache.shardingsphere.infra.parser.sql.SQLStatementParserExecutor;
 import org.apache.shardingsphere.parser.rule.SQLParserRule;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
 
-import javax.annotation.ParametersAreNonnullByDefault;
-
 /**
  * SQL statement cache loader.
  */
-public final class SQLStatementCacheLoader extends CacheLoader<String, SQLStatement> {
+public final class SQLStatementCacheLoader implements CacheLoader<String, SQLStatement> {
     
     private final SQLStatementParserExecutor sqlStatementParserExecutor;
     
@@ -35,7 +33,6 @@ public final class SQLStatementCacheLoader extends CacheLoader<String, SQLStatem
         sqlStatementParserExecutor = new SQLStatementParserExecutor(databaseType, sqlParserRule);
     }
     
-    @ParametersAreNonnullByDefault
     @Override
     public SQLStatement load(final String sql) {
         return sqlStatementParserExecutor.parse(sql);
@@ -0,0 +1,395 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.parser.digest;
+
+import org.apache.shardingsphere.infra.database.type.DatabaseType;
+import org.apache.shardingsphere.infra.database.type.DatabaseTypeRegistry;
+
+import java.util.Deque;
+import java.util.LinkedList;
+
+/**
+ * SQL digest generator.
+ * 
+ * <p>
+ * Generate SQL digest by a single lexical scan without parsing.
+ * Literals and parameter markers are replaced with {@code ?}, comments are removed, unquoted words are upper cased and tokens are separated by canonical whitespaces.
+ * Value lists of IN are collapsed to {@code (...)}, and rows of VALUES which have the same shape with the first row are collapsed to {@code , ...}.
+ * </p>
+ * <p>
+ * Lexical rules follow trunk database type: MySQL treats {@code #} as line comment, requires whitespace or control character after {@code --} and escapes quotes in strings by backslash,
+ * other databases treat {@code #} as operator and only escape by backslash in strings with {@code E} prefix.
+ * </p>
+ */
+public final class SQLDigestGenerator {
+    
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    
+    private static final long FNV_PRIME = 0x100000001b3L;
+    
+    private static final String COLLAPSED_VALUE_LIST = "(...)";
+    
+    private static final String COLLAPSED_ROWS = ", ...";
+    
+    private final String sql;
+    
+    private final boolean mySQLDialect;
+    
+    private final StringBuilder result;
+    
+    private final Deque<Parenthesis> parentheses = new LinkedList<>();
+    
+    private int position;
+    
+    private TokenType lastTokenType = TokenType.NONE;
+    
+    private boolean lastWordIn;
+    
+    private boolean valuesClause;
+    
+    private String firstRow;
+    
+    private int lastCommaIndex;
+    
+    private boolean rowsCollapsed;
+    
+    public SQLDigestGenerator(final String sql, final DatabaseType databaseType) {
+        this.sql = sql;
+        mySQLDialect = "MySQL".equals(DatabaseTypeRegistry.getTrunkDatabaseTypeName(databaseType));
+        result = new StringBuilder(sql.length());
+    }
+    
+    /**
+     * Generate SQL digest.
+     *
+     * @return SQL digest
+     */
+    public SQLDigest generate() {
+        while (position < sql.length()) {
+            scanNextToken();
+        }
+        while (result.length() > 0 && ';' == result.charAt(result.length() - 1)) {
+            result.setLength(result.length() - 1);
+        }
+        String value = result.toString();
+        return new SQLDigest(value, hash(value));
+    }
+    
+    private void scanNextToken() {
+        char current = sql.charAt(position);
+        if (Character.isWhitespace(current)) {
+            position++;
+        } else if (isLineCommentStart()) {
+            skipLineComment();
+        } else if ('/' == current && '*' == peek(1)) {
+            skipBlockComment();
+        } else if ('\'' == current) {
+            scanString(mySQLDialect);
+        } else if ('"' == current || '`' == current) {
+            scanQuotedIdentifier(current);
+        } else if (isDigit(current) || '.' == current && isDigit(peek(1)) && isOperandExpected() || isSignedNumberStart(current)) {
+            scanNumber();
+        } else if ('?' == current || '$' == current && isDigit(peek(1))) {
+            scanParameterMarker();
+        } else if (isWordPart(current)) {
+            scanWord();
+        } else if (isOperator(current)) {
+            scanOperator();
+        } else {
+            scanSymbol(current);
+        }
+    }
+    
+    private void skipLineComment() {
+        while (position < sql.length() && '\n' != sql.charAt(position)) {
+            position++;
+        }
+    }
+    
+    private void skipBlockComment() {
+        int end = sql.indexOf("*/", position + 2);
+        position = end < 0 ? sql.length() : end + 2;
+    }
+    
+    private boolean isLineCommentStart() {
+        if ('-' == peek(0) && '-' == peek(1)) {
+            return !mySQLDialect || peek(2) <= ' ';
+        }
+        return mySQLDialect && '#' == peek(0);
+    }
+    
+    private void scanString(final boolean backslashEscapes) {
+        position++;
+        while (position < sql.length()) {
+            char each = sql.charAt(position++);
+            if (backslashEscapes && '\\' == each) {
+                position++;
+            } else if ('\'' == each) {
+                if ('\'' != peek(0)) {
+                    break;
+                }
+                position++;
+            }
+        }
+        appendLiteral();
+    }
+    
+    private void scanQuotedIdentifier(final char quote) {
+        int start = position++;
+        while (position < sql.length()) {
+            if (quote == sql.charAt(position++)) {
+                if (quote != peek(0)) {
+                    break;
+                }
+                position++;
+            }
+        }
+        appendSeparator(TokenType.WORD);
+        result.append(sql, start, position);
+        completeToken(TokenType.WORD);
+    }
+    
+    private void scanNumber() {
+        if ('-' == peek(0) || '+' == peek(0)) {
+            position++;
+        }
+        if ('0' == peek(0) && ('x' == peek(1) || 'X' == peek(1))) {
+            position += 2;
+        }
+        while (isWordPart(peek(0)) || '.' == peek(0)) {
+            if (('e' == peek(0) || 'E' == peek(0)) && ('+' == peek(1) || '-' == peek(1))) {
+                position++;
+            }
+            position++;
+        }
+        appendLiteral();
+    }
+    
+    private void scanParameterMarker() {
+        position++;
+        while (isDigit(peek(0))) {
+            position++;
+        }
+        appendLiteral();
+    }
+    
+    private void scanWord() {
+        int start = position;
+        while (isWordPart(peek(0))) {
+            position++;
+        }
+        if (1 == position - start && '\'' == peek(0)) {
+            scanString(mySQLDialect || 'E' == Character.toUpperCase(sql.charAt(start)));
+            return;
+        }
+        appendSeparator(TokenType.WORD);
+        int wordStart = result.length();
+        for (int i = start; i < position; i++) {
+            result.append(Character.toUpperCase(sql.charAt(i)));
+        }
+        boolean valuesKeyword = isWord(wordStart, "VALUES") || isWord(wordStart, "VALUE");
+        if (parentheses.isEmpty() && (valuesKeyword || valuesClause)) {
+            valuesClause = valuesKeyword;
+            firstRow = null;
+            rowsCollapsed = false;
+        }
+        lastWordIn = isWord(wordStart, "IN");
+        completeToken(TokenType.WORD);
+    }
+    
+    private boolean isWord(final int start, final String word) {
+        if (result.length() - start != word.length()) {
+            return false;
+        }
+        for (int i = 0; i < word.length(); i++) {
+            if (word.charAt(i) != result.charAt(start + i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private void scanOperator() {
+        final int start = position;
+        position++;
+        while (isOperator(peek(0)) && !isCommentStart() && !(('-' == peek(0) || '+' == peek(0)) && isDigit(peek(1)))) {
+            position++;
+        }
+        appendSeparator(TokenType.OPERATOR);
+        result.append(sql, start, position);
+        completeToken(TokenType.OPERATOR);
+    }
+    
+    private boolean isCommentStart() {
+        return isLineCommentStart() || '/' == peek(0) && '*' == peek(1);
+    }
+    
+    private void scanSymbol(final char symbol) {
+        position++;
+        if ('(' == symbol) {
+            appendOpenParenthesis();
+        } else if (')' == symbol) {
+            appendCloseParenthesis();
+        } else if (',' == symbol) {
+            if (parentheses.isEmpty()) {
+                lastCommaIndex = result.length();
+            }
+            result.append(',');
+            completeToken(TokenType.COMMA);
+        } else if ('.' == symbol) {
+            result.append('.');
+            completeToken(TokenType.DOT);
+        } else if (';' == symbol) {
+            result.append(';');
+            completeToken(TokenType.COMMA);
+        } else {
+            appendSeparator(TokenType.OPERATOR);
+            result.append(symbol);
+            completeToken(TokenType.OPERATOR);
+        }
+    }
+    
+    private void appendOpenParenthesis() {
+        boolean valueList = TokenType.WORD == lastTokenType && lastWordIn;
+        appendSeparator(TokenType.OPEN);
+        Parenthesis parenthesis = new Parenthesis(result.length(), valueList);
+        result.append('(');
+        completeToken(TokenType.OPEN);
+        parentheses.push(parenthesis);
+    }
+    
+    private void appendCloseParenthesis() {
+        Parenthesis parenthesis = parentheses.poll();
+        if (null != parenthesis && parenthesis.valueList && parenthesis.onlyValues && TokenType.LITERAL == lastTokenType) {
+            result.setLength(parenthesis.start);
+            result.append(COLLAPSED_VALUE_LIST);
+        } else {
+            result.append(')');
+        }
+        if (null != parenthesis && parentheses.isEmpty() && valuesClause) {
+            collapseRow(parenthesis.start);
+        }
+        completeToken(TokenType.CLOSE);
+    }
+    
+    private void collapseRow(final int rowStart) {
+        if (null == firstRow) {
+            firstRow = result.substring(rowStart);
+            return;
+        }
+        if (rowStart > lastCommaIndex && isSameAsFirstRow(rowStart)) {
+            result.setLength(lastCommaIndex);
+            if (!rowsCollapsed) {
+                result.append(COLLAPSED_ROWS);
+                rowsCollapsed = true;
+            }
+        }
+    }
+    
+    private boolean isSameAsFirstRow(final int rowStart) {
+        if (result.length() - rowStart != firstRow.length()) {
+            return false;
+        }
+        for (int i = 0; i < firstRow.length(); i++) {
+            if (firstRow.charAt(i) != result.charAt(rowStart + i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private void appendLiteral() {
+        appendSeparator(TokenType.LITERAL);
+        result.append('?');
+        completeToken(TokenType.LITERAL);
+    }
+    
+    private void appendSeparator(final TokenType tokenType) {
+        if (TokenType.NONE == lastTokenType || TokenType.OPEN == lastTokenType || TokenType.DOT == lastTokenType) {
+            return;
+        }
+        if (TokenType.OPEN == tokenType && TokenType.WORD == lastTokenType) {
+            return;
+        }
+        result.append(' ');
+    }
+    
+    private void completeToken(final TokenType tokenType) {
+        Parenthesis parenthesis = parentheses.peek();
+        if (null != parenthesis && TokenType.LITERAL != tokenType && TokenType.COMMA != tokenType) {
+            parenthesis.onlyValues = false;
+        }
+        if (TokenType.WORD != tokenType) {
+            lastWordIn = false;
+        }
+        lastTokenType = tokenType;
+    }
+    
+    private boolean isOperandExpected() {
+        return TokenType.NONE == lastTokenType || TokenType.OPERATOR == lastTokenType || TokenType.OPEN == lastTokenType || TokenType.COMMA == lastTokenType;
+    }
+    
+    private boolean isSignedNumberStart(final char ch) {
+        return ('-' == ch || '+' == ch) && (isDigit(peek(1)) || '.' == peek(1) && isDigit(peek(2))) && isOperandExpected();
+    }
+    
+    private char peek(final int offset) {
+        return position + offset < sql.length() ? sql.charAt(position + offset) : '\0';
+    }
+    
+    private boolean isDigit(final char ch) {
+        return ch >= '0' && ch <= '9';
+    }
+    
+    private boolean isWordPart(final char ch) {
+        return Character.isLetterOrDigit(ch) || '_' == ch || '$' == ch;
+    }
+    
+    private boolean isOperator(final char ch) {
+        return '=' == ch || '<' == ch || '>' == ch || '!' == ch || '|' == ch || '&' == ch || '+' == ch || '-' == ch || '*' == ch || '/' == ch
+                || '%' == ch || '^' == ch || '~' == ch || ':' == ch || '@' == ch || '#' == ch;
+    }
+    
+    private long hash(final String value) {
+        long result = FNV_OFFSET_BASIS;
+        for (int i = 0; i < value.length(); i++) {
+            result ^= value.charAt(i);
+            result *= FNV_PRIME;
+        }
+        return result;
+    }
+    
+    private enum TokenType {
+        
+        NONE, WORD, LITERAL, OPERATOR, OPEN, CLOSE, COMMA, DOT
+    }
+    
+    private static final class Parenthesis {
+        
+        private final int start;
+        
+        private final boolean valueList;
+        
+        private boolean onlyValues = true;
+        
+        Parenthesis(final int start, final boolean valueList) {
+            this.start = start;
+            this.valueList = valueList;
+        }
+    }
+}
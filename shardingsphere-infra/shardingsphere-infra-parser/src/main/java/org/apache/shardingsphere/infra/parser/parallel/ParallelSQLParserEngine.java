@@ -0,0 +1,101 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.parser.parallel;
+
+import org.apache.shardingsphere.infra.exception.ShardingSphereException;
+import org.apache.shardingsphere.infra.parser.ShardingSphereSQLParserEngine;
+import org.apache.shardingsphere.parser.rule.SQLParserRule;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+/**
+ * Parallel SQL parser engine.
+ * 
+ * <p>
+ * Parse multiple statements concurrently on the given executor service, SQL statements are returned in original order.
+ * Executor service is owned and closed by caller, such as executor engine of metadata contexts.
+ * Every statement goes through {@link ShardingSphereSQLParserEngine}, so SQL statement cache is shared with single statement parsing.
+ * </p>
+ */
+public final class ParallelSQLParserEngine {
+    
+    private final ShardingSphereSQLParserEngine sqlParserEngine;
+    
+    private final ExecutorService executorService;
+    
+    public ParallelSQLParserEngine(final String databaseTypeName, final SQLParserRule sqlParserRule, final ExecutorService executorService) {
+        sqlParserEngine = new ShardingSphereSQLParserEngine(databaseTypeName, sqlParserRule);
+        this.executorService = executorService;
+    }
+    
+    /**
+     * Parse SQLs to SQL statements.
+     * 
+     * <p>
+     * Exception of the first failed SQL in original order is thrown, and parsing of the remaining SQLs is cancelled.
+     * </p>
+     *
+     * @param sqls SQLs to be parsed
+     * @param useCache whether use cache
+     * @return SQL statements in original order
+     */
+    public List<SQLStatement> parse(final List<String> sqls, final boolean useCache) {
+        List<SQLStatement> result = new ArrayList<>(sqls.size());
+        if (1 == sqls.size()) {
+            result.add(sqlParserEngine.parse(sqls.get(0), useCache));
+            return result;
+        }
+        List<Future<SQLStatement>> futures = new ArrayList<>(sqls.size());
+        for (String each : sqls) {
+            futures.add(executorService.submit(() -> sqlParserEngine.parse(each, useCache)));
+        }
+        try {
+            for (Future<SQLStatement> each : futures) {
+                result.add(getSQLStatement(each));
+            }
+        } finally {
+            if (result.size() < futures.size()) {
+                futures.forEach(each -> each.cancel(true));
+            }
+        }
+        return result;
+    }
+    
+    private SQLStatement getSQLStatement(final Future<SQLStatement> future) {
+        try {
+            return future.get();
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new ShardingSphereException(ex);
+        } catch (final ExecutionException ex) {
+            Throwable cause = ex.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new ShardingSphereException(ex);
+        }
+    }
+}
@@ -0,0 +1,292 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.parser.parameterized;
+
+import org.apache.shardingsphere.sql.parser.sql.common.value.literal.impl.NumberLiteralValue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * SQL literal parameterizer.
+ * 
+ * <p>
+ * Replace literals of DML with parameter markers by a lightweight lexical scan, so that SQLs which only differ in literals share the same shape.
+ * Only literals at positions where parameter marker is always acceptable are replaced, such as right operand of comparison, IN list, VALUES list, BETWEEN, LIMIT and OFFSET.
+ * SQLs with comments, parameter markers, escaped strings or multiple statements are not parameterized.
+ * </p>
+ */
+public final class SQLLiteralParameterizer {
+    
+    private static final Collection<String> DML_KEYWORDS = new HashSet<>(Arrays.asList("SELECT", "INSERT", "UPDATE", "DELETE"));
+    
+    private static final Collection<String> LITERAL_PRECEDING_TOKENS = new HashSet<>(Arrays.asList("=", "<=>", "<>", "!=", "<", ">", "<=", ">=", "LIKE", "BETWEEN", "LIMIT", "OFFSET"));
+    
+    private static final String LITERAL = "'";
+    
+    private final String sql;
+    
+    private final StringBuilder parameterizedSQL;
+    
+    private final List<Object> parameters = new ArrayList<>();
+    
+    private final Deque<Boolean> valueListFlags = new LinkedList<>();
+    
+    private int position;
+    
+    private String previousToken = "";
+    
+    private String expectedFollowingToken = "";
+    
+    private boolean literalFollowingAllowed;
+    
+    private boolean valuesClause;
+    
+    private boolean projection;
+    
+    public SQLLiteralParameterizer(final String sql) {
+        this.sql = sql;
+        parameterizedSQL = new StringBuilder(sql.length());
+    }
+    
+    /**
+     * Parameterize SQL.
+     *
+     * @return parameterized SQL, empty if SQL has no literal to be parameterized or can not be parameterized safely
+     */
+    public Optional<ParameterizedSQL> parameterize() {
+        if (!isDMLStatement()) {
+            return Optional.empty();
+        }
+        while (position < sql.length()) {
+            if (!scanNextToken()) {
+                return Optional.empty();
+            }
+        }
+        return parameters.isEmpty() || !valueListFlags.isEmpty() ? Optional.empty() : Optional.of(new ParameterizedSQL(parameterizedSQL.toString(), parameters));
+    }
+    
+    private boolean isDMLStatement() {
+        int start = 0;
+        while (start < sql.length() && Character.isWhitespace(sql.charAt(start))) {
+            start++;
+        }
+        int end = start;
+        while (end < sql.length() && Character.isLetter(sql.charAt(end))) {
+            end++;
+        }
+        return DML_KEYWORDS.contains(sql.substring(start, end).toUpperCase());
+    }
+    
+    private boolean scanNextToken() {
+        char current = sql.charAt(position);
+        if (Character.isWhitespace(current)) {
+            parameterizedSQL.append(current);
+            position++;
+            return true;
+        }
+        if ('\'' == current) {
+            return scanString();
+        }
+        if ('"' == current || '`' == current) {
+            return scanQuotedIdentifier(current);
+        }
+        if (isDigit(current) || '.' == current && isDigit(peek(1))) {
+            return scanNumber();
+        }
+        if ('-' == current && isDigit(peek(1)) && isLiteralAllowed()) {
+            return scanNumber();
+        }
+        if (Character.isLetter(current) || '_' == current) {
+            scanWord();
+            return true;
+        }
+        if (isOperator(current)) {
+            scanOperator();
+            return true;
+        }
+        return scanSymbol(current);
+    }
+    
+    private boolean scanString() {
+        if (LITERAL.equals(previousToken)) {
+            return false;
+        }
+        int start = position++;
+        StringBuilder value = new StringBuilder();
+        while (position < sql.length()) {
+            char each = sql.charAt(position++);
+            if ('\\' == each) {
+                return false;
+            }
+            if ('\'' != each) {
+                value.append(each);
+            } else if ('\'' == peek(0)) {
+                value.append(each);
+                position++;
+            } else {
+                appendLiteral(sql.substring(start, position), value.toString());
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    private boolean scanQuotedIdentifier(final char quote) {
+        int start = position++;
+        while (position < sql.length()) {
+            if (quote == sql.charAt(position++)) {
+                if (quote != peek(0)) {
+                    parameterizedSQL.append(sql, start, position);
+                    setPreviousToken(String.valueOf(quote));
+                    return true;
+                }
+                position++;
+            }
+        }
+        return false;
+    }
+    
+    private boolean scanNumber() {
+        if (LITERAL.equals(previousToken)) {
+            return false;
+        }
+        final int start = position;
+        if ('-' == sql.charAt(position)) {
+            position++;
+        }
+        while (isDigit(peek(0)) || '.' == peek(0)) {
+            position++;
+        }
+        if (('e' == peek(0) || 'E' == peek(0)) && (isDigit(peek(1)) || ('+' == peek(1) || '-' == peek(1)) && isDigit(peek(2)))) {
+            position += 2;
+            while (isDigit(peek(0))) {
+                position++;
+            }
+        }
+        if (Character.isLetterOrDigit(peek(0)) || '_' == peek(0) || '$' == peek(0)) {
+            return false;
+        }
+        String literal = sql.substring(start, position);
+        appendLiteral(literal, new NumberLiteralValue(literal).getValue());
+        return true;
+    }
+    
+    private void appendLiteral(final String literal, final Object value) {
+        if (isLiteralAllowed()) {
+            parameterizedSQL.append('?');
+            parameters.add(value);
+            expectedFollowingToken = "BETWEEN".equals(previousToken) ? "AND" : "LIMIT".equals(previousToken) ? "," : "";
+        } else {
+            parameterizedSQL.append(literal);
+            expectedFollowingToken = "";
+        }
+        previousToken = LITERAL;
+        literalFollowingAllowed = false;
+    }
+    
+    private boolean isLiteralAllowed() {
+        if (projection) {
+            return false;
+        }
+        if (LITERAL_PRECEDING_TOKENS.contains(previousToken) || literalFollowingAllowed) {
+            return true;
+        }
+        return ("(".equals(previousToken) || ",".equals(previousToken)) && Boolean.TRUE.equals(valueListFlags.peek());
+    }
+    
+    private void scanWord() {
+        int start = position;
+        while (Character.isLetterOrDigit(peek(0)) || '_' == peek(0) || '$' == peek(0)) {
+            position++;
+        }
+        parameterizedSQL.append(sql, start, position);
+        String word = sql.substring(start, position).toUpperCase();
+        if (valueListFlags.isEmpty()) {
+            valuesClause = "VALUES".equals(word) || "VALUE".equals(word);
+        }
+        if ("SELECT".equals(word)) {
+            projection = true;
+        } else if ("FROM".equals(word)) {
+            projection = false;
+        }
+        setPreviousToken(word);
+    }
+    
+    private void scanOperator() {
+        int start = position;
+        while (isOperator(peek(0))) {
+            position++;
+        }
+        parameterizedSQL.append(sql, start, position);
+        setPreviousToken(sql.substring(start, position));
+    }
+    
+    private boolean scanSymbol(final char symbol) {
+        if ('?' == symbol || '$' == symbol || ';' == symbol || '#' == symbol || isCommentStart(symbol)) {
+            return false;
+        }
+        if ('(' == symbol) {
+            valueListFlags.push(isValueListStart());
+        } else if (')' == symbol) {
+            if (valueListFlags.isEmpty()) {
+                return false;
+            }
+            valueListFlags.pop();
+        }
+        parameterizedSQL.append(symbol);
+        position++;
+        setPreviousToken(String.valueOf(symbol));
+        return true;
+    }
+    
+    private boolean isValueListStart() {
+        if ("IN".equals(previousToken)) {
+            return true;
+        }
+        return valueListFlags.isEmpty() && valuesClause && ("VALUES".equals(previousToken) || "VALUE".equals(previousToken) || ",".equals(previousToken));
+    }
+    
+    private boolean isCommentStart(final char symbol) {
+        return '-' == symbol && '-' == peek(1) || '/' == symbol && '*' == peek(1);
+    }
+    
+    private void setPreviousToken(final String token) {
+        literalFollowingAllowed = !expectedFollowingToken.isEmpty() && expectedFollowingToken.equals(token);
+        expectedFollowingToken = "";
+        previousToken = token;
+    }
+    
+    private char peek(final int offset) {
+        return position + offset < sql.length() ? sql.charAt(position + offset) : '\0';
+    }
+    
+    private boolean isDigit(final char ch) {
+        return ch >= '0' && ch <= '9';
+    }
+    
+    private boolean isOperator(final char ch) {
+        return '=' == ch || '<' == ch || '>' == ch || '!' == ch;
+    }
+}
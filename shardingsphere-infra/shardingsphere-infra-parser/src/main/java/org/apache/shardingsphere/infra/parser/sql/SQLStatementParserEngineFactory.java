@@ -17,10 +17,12 @@
 
 package org.apache.shardingsphere.infra.parser.sql;
 
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 import org.apache.shardingsphere.parser.rule.SQLParserRule;
 
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
@@ -46,4 +48,15 @@ public final class SQLStatementParserEngineFactory {
         }
         return result;
     }
+    
+    /**
+     * Get SQL statement cache statistics.
+     *
+     * @return SQL statement cache statistics, key is name of database type
+     */
+    public static Map<String, CacheStats> getCacheStats() {
+        Map<String, CacheStats> result = new LinkedHashMap<>(ENGINES.size(), 1);
+        ENGINES.forEach((key, value) -> result.put(key, value.getCacheStats()));
+        return result;
+    }
 }
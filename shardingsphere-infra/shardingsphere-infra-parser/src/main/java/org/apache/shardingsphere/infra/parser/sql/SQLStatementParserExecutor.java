@@ -18,10 +18,12 @@
 package org.apache.shardingsphere.infra.parser.sql;
 
 import org.apache.shardingsphere.parser.rule.SQLParserRule;
+import org.apache.shardingsphere.sql.parser.api.SQLFastPathParserEngine;
 import org.apache.shardingsphere.sql.parser.api.SQLParserEngine;
 import org.apache.shardingsphere.sql.parser.api.SQLVisitorEngine;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
 
+import java.util.Optional;
 import java.util.Properties;
 
 /**
@@ -29,12 +31,15 @@ import java.util.Properties;
  */
 public final class SQLStatementParserExecutor {
     
+    private final SQLFastPathParserEngine fastPathParserEngine;
+    
     private final SQLParserEngine parserEngine;
     
     private final SQLVisitorEngine visitorEngine;
     
     public SQLStatementParserExecutor(final String databaseType, final SQLParserRule sqlParserRule) {
-        parserEngine = new SQLParserEngine(databaseType, sqlParserRule.getParseTreeCache(), sqlParserRule.isSqlCommentParseEnabled());
+        fastPathParserEngine = sqlParserRule.isFastPathParseEnabled() ? new SQLFastPathParserEngine(databaseType) : null;
+        parserEngine = new SQLParserEngine(databaseType, sqlParserRule.getParseTreeCache(), sqlParserRule.isSqlCommentParseEnabled(), sqlParserRule.getTrimParseTreeThreshold());
         visitorEngine = new SQLVisitorEngine(databaseType, "STATEMENT", new Properties());
     }
     
@@ -45,6 +50,7 @@ public final class SQLStatementParserExecutor {
      * @return SQL statement
      */
     public SQLStatement parse(final String sql) {
-        return visitorEngine.visit(parserEngine.parse(sql, false));
+        Optional<SQLStatement> result = null == fastPathParserEngine ? Optional.empty() : fastPathParserEngine.parse(sql);
+        return result.isPresent() ? result.get() : visitorEngine.visit(parserEngine.parse(sql, false));
     }
 }
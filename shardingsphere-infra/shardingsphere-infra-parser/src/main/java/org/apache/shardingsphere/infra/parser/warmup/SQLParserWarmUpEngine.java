@@ -0,0 +1,72 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.parser.warmup;
+
+import org.antlr.v4.runtime.misc.ParseCancellationException;
+import org.apache.shardingsphere.infra.parser.ShardingSphereSQLParserEngine;
+import org.apache.shardingsphere.parser.rule.SQLParserRule;
+import org.apache.shardingsphere.sql.parser.exception.SQLParsingException;
+
+import java.util.Collection;
+
+/**
+ * SQL parser warm up engine.
+ * 
+ * <p>
+ * Replay SQLs through SQL parser engine without cache and with cache, before serving.
+ * Parsing without cache is the path of text protocol, it builds DFA states of ANTLR parser, parsing with cache fills SQL statement cache for prepared statements.
+ * </p>
+ */
+public final class SQLParserWarmUpEngine {
+    
+    private final ShardingSphereSQLParserEngine sqlParserEngine;
+    
+    public SQLParserWarmUpEngine(final String databaseTypeName, final SQLParserRule sqlParserRule) {
+        this(new ShardingSphereSQLParserEngine(databaseTypeName, sqlParserRule));
+    }
+    
+    public SQLParserWarmUpEngine(final ShardingSphereSQLParserEngine sqlParserEngine) {
+        this.sqlParserEngine = sqlParserEngine;
+    }
+    
+    /**
+     * Warm up SQL parser.
+     *
+     * @param sqls SQLs to be replayed
+     * @return count of parsed SQLs, SQLs which can not be parsed are skipped
+     */
+    public int warmUp(final Collection<String> sqls) {
+        int result = 0;
+        for (String each : sqls) {
+            if (parse(each)) {
+                result++;
+            }
+        }
+        return result;
+    }
+    
+    private boolean parse(final String sql) {
+        try {
+            sqlParserEngine.parse(sql, false);
+            sqlParserEngine.parse(sql, true);
+            return true;
+        } catch (final SQLParsingException | ParseCancellationException ignore) {
+            return false;
+        }
+    }
+}
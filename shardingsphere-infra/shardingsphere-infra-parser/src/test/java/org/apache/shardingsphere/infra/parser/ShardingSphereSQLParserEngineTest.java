@@ -0,0 +1,66 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.parser;
+
+import org.apache.shardingsphere.infra.parser.parameterized.ParameterizedSQLStatement;
+import org.apache.shardingsphere.parser.config.SQLParserRuleConfiguration;
+import org.apache.shardingsphere.parser.rule.SQLParserRule;
+import org.apache.shardingsphere.parser.rule.builder.DefaultSQLParserRuleConfigurationBuilder;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.SelectStatement;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+public final class ShardingSphereSQLParserEngineTest {
+    
+    private final ShardingSphereSQLParserEngine sqlParserEngine = new ShardingSphereSQLParserEngine("MySQL", createSQLParserRule());
+    
+    private SQLParserRule createSQLParserRule() {
+        SQLParserRuleConfiguration ruleConfig = new DefaultSQLParserRuleConfigurationBuilder().build();
+        ruleConfig.setSqlLiteralParameterizeEnabled(true);
+        return new SQLParserRule(ruleConfig);
+    }
+    
+    @Test
+    public void assertParseParameterizedWithSameStatementForDifferentLiterals() {
+        ParameterizedSQLStatement actual1 = sqlParserEngine.parseParameterized("SELECT * FROM t_order WHERE order_id = 1 AND status = 'init'");
+        ParameterizedSQLStatement actual2 = sqlParserEngine.parseParameterized("SELECT * FROM t_order WHERE order_id = 2 AND status = 'paid'");
+        assertThat(actual1.getSql(), is("SELECT * FROM t_order WHERE order_id = ? AND status = ?"));
+        assertThat(actual2.getSql(), is(actual1.getSql()));
+        assertThat(actual1.getParameters(), is(Arrays.<Object>asList(1, "init")));
+        assertThat(actual2.getParameters(), is(Arrays.<Object>asList(2, "paid")));
+        assertThat(actual1.getSqlStatement(), instanceOf(SelectStatement.class));
+        assertThat(actual2.getSqlStatement(), sameInstance(actual1.getSqlStatement()));
+        assertThat(actual1.getSqlStatement().getParameterCount(), is(2));
+    }
+    
+    @Test
+    public void assertParseParameterizedWithoutLiterals() {
+        String sql = "SELECT * FROM t_order WHERE order_id = order_id";
+        ParameterizedSQLStatement actual = sqlParserEngine.parseParameterized(sql);
+        assertThat(actual.getSql(), is(sql));
+        assertThat(actual.getParameters(), is(Collections.emptyList()));
+        assertThat(actual.getSqlStatement(), sameInstance(sqlParserEngine.parse(sql, true)));
+    }
+}
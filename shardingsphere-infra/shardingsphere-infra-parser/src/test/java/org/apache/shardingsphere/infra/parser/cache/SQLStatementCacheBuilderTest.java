@@ -17,13 +17,17 @@
 
 package org.apache.shardingsphere.infra.parser.cache;
 
-import com.google.common.cache.LoadingCache;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import org.apache.shardingsphere.parser.config.SQLParserRuleConfiguration;
 import org.apache.shardingsphere.parser.rule.SQLParserRule;
 import org.apache.shardingsphere.parser.rule.builder.DefaultSQLParserRuleConfigurationBuilder;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
 import org.junit.Test;
 
+import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.isA;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
 
 public final class SQLStatementCacheBuilderTest {
     
@@ -32,4 +36,13 @@ public final class SQLStatementCacheBuilderTest {
         SQLParserRule sqlParserRule = new SQLParserRule(new DefaultSQLParserRuleConfigurationBuilder().build());
         assertThat(SQLStatementCacheBuilder.build(sqlParserRule, "MySQL"), isA(LoadingCache.class));
     }
+    
+    @Test
+    public void assertBuildWeighted() {
+        SQLParserRuleConfiguration ruleConfig = new DefaultSQLParserRuleConfigurationBuilder().build();
+        ruleConfig.getSqlStatementCache().setMaximumWeight(65536L);
+        LoadingCache<String, SQLStatement> actual = SQLStatementCacheBuilder.build(new SQLParserRule(ruleConfig), "MySQL");
+        assertTrue(actual.policy().eviction().get().isWeighted());
+        assertThat(actual.policy().eviction().get().getMaximum(), is(65536L));
+    }
 }
@@ -0,0 +1,109 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.parser.digest;
+
+import org.apache.shardingsphere.infra.database.type.DatabaseType;
+import org.apache.shardingsphere.infra.database.type.DatabaseTypeRegistry;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.junit.Assert.assertThat;
+
+public final class SQLDigestGeneratorTest {
+    
+    private static final DatabaseType MYSQL = DatabaseTypeRegistry.getActualDatabaseType("MySQL");
+    
+    private static final DatabaseType POSTGRESQL = DatabaseTypeRegistry.getActualDatabaseType("PostgreSQL");
+    
+    @Test
+    public void assertGenerateWithLiterals() {
+        assertThat(generate("select * from t_order where order_id = 1 and status='OK' and price > -1.5e3"), is("SELECT * FROM T_ORDER WHERE ORDER_ID = ? AND STATUS = ? AND PRICE > ?"));
+    }
+    
+    @Test
+    public void assertGenerateWithNormalizedWhitespaces() {
+        assertThat(generate("SELECT  o.order_id,\n\tCOUNT( * )FROM t_order o  WHERE o.user_id=?;"), is(generate("select o.order_id, count(*) from t_order o where o.user_id = 10")));
+    }
+    
+    @Test
+    public void assertGenerateWithComments() {
+        assertThat(generate("/* comment */ SELECT id FROM t_order -- comment\n WHERE id = 1 # comment"), is("SELECT ID FROM T_ORDER WHERE ID = ?"));
+    }
+    
+    @Test
+    public void assertGenerateWithCollapsedInList() {
+        assertThat(generate("SELECT id FROM t_order WHERE id IN (1, 2, 3)"), is("SELECT ID FROM T_ORDER WHERE ID IN(...)"));
+        assertThat(generate("SELECT id FROM t_order WHERE id IN (?)"), is(generate("SELECT id FROM t_order WHERE id IN ('a', 'b')")));
+    }
+    
+    @Test
+    public void assertGenerateWithSubqueryInList() {
+        assertThat(generate("SELECT id FROM t_order WHERE id IN (SELECT order_id FROM t_order_item WHERE status = 'OK')"),
+                is("SELECT ID FROM T_ORDER WHERE ID IN(SELECT ORDER_ID FROM T_ORDER_ITEM WHERE STATUS = ?)"));
+    }
+    
+    @Test
+    public void assertGenerateWithCollapsedValuesRows() {
+        assertThat(generate("INSERT INTO t_order (order_id, user_id) VALUES (1, 1), (2, 2), (3, NOW())"), is("INSERT INTO T_ORDER(ORDER_ID, USER_ID) VALUES(?, ?), ..., (?, NOW())"));
+        assertThat(generate("INSERT INTO t_order VALUES (1, 2), (3, 4) ON DUPLICATE KEY UPDATE status = 'OK'"), is("INSERT INTO T_ORDER VALUES(?, ?), ... ON DUPLICATE KEY UPDATE STATUS = ?"));
+    }
+    
+    @Test
+    public void assertGenerateWithQuotedIdentifiers() {
+        assertThat(generate("SELECT `Order`.\"Id\" FROM `Order`"), is("SELECT `Order`.\"Id\" FROM `Order`"));
+    }
+    
+    @Test
+    public void assertGenerateWithEscapedString() {
+        assertThat(generate("SELECT id FROM t_order WHERE status = 'it''s \\' ok' AND id = $1"), is("SELECT ID FROM T_ORDER WHERE STATUS = ? AND ID = ?"));
+    }
+    
+    @Test
+    public void assertHash() {
+        SQLDigest actual = new SQLDigestGenerator("SELECT id FROM t_order WHERE id = 1", MYSQL).generate();
+        assertThat(actual.getHash(), is(new SQLDigestGenerator("select id from t_order where id = 2", MYSQL).generate().getHash()));
+        assertThat(actual.getHash(), not(new SQLDigestGenerator("select id from t_order where user_id = 2", MYSQL).generate().getHash()));
+    }
+    
+    @Test
+    public void assertGenerateWithMySQLDashWithoutWhitespace() {
+        assertThat(generate("SELECT id FROM t_order WHERE id = 1--1"), is("SELECT ID FROM T_ORDER WHERE ID = ? - ?"));
+        assertThat(generate("SELECT id FROM t_order WHERE id = 1 --\tcomment"), is("SELECT ID FROM T_ORDER WHERE ID = ?"));
+    }
+    
+    @Test
+    public void assertGenerateWithPostgreSQLHashOperator() {
+        assertThat(generate("SELECT id FROM t_order WHERE flag # 1 = 0", POSTGRESQL), is("SELECT ID FROM T_ORDER WHERE FLAG # ? = ?"));
+        assertThat(generate("SELECT id FROM t_order WHERE id = 1--comment", POSTGRESQL), is("SELECT ID FROM T_ORDER WHERE ID = ?"));
+    }
+    
+    @Test
+    public void assertGenerateWithPostgreSQLStandardString() {
+        assertThat(generate("SELECT id FROM t_order WHERE path = 'C:\\' AND id = 1", POSTGRESQL), is("SELECT ID FROM T_ORDER WHERE PATH = ? AND ID = ?"));
+        assertThat(generate("SELECT id FROM t_order WHERE path = E'it\\'s' AND id = 1", POSTGRESQL), is("SELECT ID FROM T_ORDER WHERE PATH = ? AND ID = ?"));
+    }
+    
+    private String generate(final String sql) {
+        return generate(sql, MYSQL);
+    }
+    
+    private String generate(final String sql, final DatabaseType databaseType) {
+        return new SQLDigestGenerator(sql, databaseType).generate().getValue();
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.parser.parallel;
+
+import lombok.SneakyThrows;
+import org.apache.shardingsphere.infra.parser.ShardingSphereSQLParserEngine;
+import org.apache.shardingsphere.parser.rule.SQLParserRule;
+import org.apache.shardingsphere.parser.rule.builder.DefaultSQLParserRuleConfigurationBuilder;
+import org.apache.shardingsphere.sql.parser.exception.SQLParsingException;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.lang.reflect.Field;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class ParallelSQLParserEngineTest {
+    
+    private final ExecutorService executorService = Executors.newFixedThreadPool(2);
+    
+    private final ParallelSQLParserEngine parallelSQLParserEngine = new ParallelSQLParserEngine("MySQL", new SQLParserRule(new DefaultSQLParserRuleConfigurationBuilder().build()), executorService);
+    
+    private final ShardingSphereSQLParserEngine sqlParserEngine = mock(ShardingSphereSQLParserEngine.class);
+    
+    private final SQLStatement selectStatement = mock(SQLStatement.class);
+    
+    private final SQLStatement deleteStatement = mock(SQLStatement.class);
+    
+    @SneakyThrows(ReflectiveOperationException.class)
+    @Before
+    public void setUp() {
+        when(sqlParserEngine.parse("SELECT * FROM t_order WHERE status = 'a;b'", true)).thenReturn(selectStatement);
+        when(sqlParserEngine.parse("DELETE FROM t_order", true)).thenReturn(deleteStatement);
+        when(sqlParserEngine.parse("invalid sql", true)).thenThrow(new SQLParsingException("You have an error in your SQL syntax"));
+        Field field = ParallelSQLParserEngine.class.getDeclaredField("sqlParserEngine");
+        field.setAccessible(true);
+        field.set(parallelSQLParserEngine, sqlParserEngine);
+    }
+    
+    @After
+    public void tearDown() {
+        executorService.shutdownNow();
+    }
+    
+    @Test
+    public void assertParse() {
+        List<SQLStatement> actual = parallelSQLParserEngine.parse(Arrays.asList("DELETE FROM t_order", "SELECT * FROM t_order WHERE status = 'a;b'", "DELETE FROM t_order"), true);
+        assertThat(actual, is(Arrays.asList(deleteStatement, selectStatement, deleteStatement)));
+    }
+    
+    @Test(expected = SQLParsingException.class)
+    public void assertParseWithInvalidSQL() {
+        parallelSQLParserEngine.parse(Arrays.asList("DELETE FROM t_order", "invalid sql"), true);
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.parser.parameterized;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class SQLLiteralParameterizerTest {
+    
+    @Test
+    public void assertParameterizeSelectWithComparison() {
+        Optional<ParameterizedSQL> actual = new SQLLiteralParameterizer("SELECT * FROM t_order WHERE order_id = 10 AND status <> 'paid' LIMIT 5, 10").parameterize();
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getSql(), is("SELECT * FROM t_order WHERE order_id = ? AND status <> ? LIMIT ?, ?"));
+        assertThat(actual.get().getParameters(), is(Arrays.<Object>asList(10, "paid", 5, 10)));
+    }
+    
+    @Test
+    public void assertParameterizeSelectWithInAndBetween() {
+        Optional<ParameterizedSQL> actual = new SQLLiteralParameterizer("select * from t_order where user_id in (1, 2) and order_id between -1 and 100.5").parameterize();
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getSql(), is("select * from t_order where user_id in (?, ?) and order_id between ? and ?"));
+        assertThat(actual.get().getParameters().size(), is(4));
+        assertThat(actual.get().getParameters().get(2), is((Object) (-1)));
+    }
+    
+    @Test
+    public void assertParameterizeInsertValues() {
+        Optional<ParameterizedSQL> actual = new SQLLiteralParameterizer("INSERT INTO t_order (order_id, status) VALUES (1, 'it''s'), (2, now())").parameterize();
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getSql(), is("INSERT INTO t_order (order_id, status) VALUES (?, ?), (?, now())"));
+        assertThat(actual.get().getParameters(), is(Arrays.<Object>asList(1, "it's", 2)));
+    }
+    
+    @Test
+    public void assertNotParameterizeLiteralsWithUnsafePosition() {
+        Optional<ParameterizedSQL> actual = new SQLLiteralParameterizer("SELECT 1, `a=1` FROM t_order WHERE order_id = 1 ORDER BY 1 LIMIT 10").parameterize();
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getSql(), is("SELECT 1, `a=1` FROM t_order WHERE order_id = ? ORDER BY 1 LIMIT ?"));
+    }
+    
+    @Test
+    public void assertNotParameterizeNonDMLStatement() {
+        assertFalse(new SQLLiteralParameterizer("CREATE TABLE t_order (order_id INT DEFAULT 1)").parameterize().isPresent());
+    }
+    
+    @Test
+    public void assertNotParameterizeWithComment() {
+        assertFalse(new SQLLiteralParameterizer("SELECT * FROM t_order WHERE order_id = 1 /* hint */").parameterize().isPresent());
+    }
+    
+    @Test
+    public void assertNotParameterizeWithParameterMarker() {
+        assertFalse(new SQLLiteralParameterizer("SELECT * FROM t_order WHERE order_id = 1 AND user_id = ?").parameterize().isPresent());
+    }
+    
+    @Test
+    public void assertNotParameterizeWithEscapedString() {
+        assertFalse(new SQLLiteralParameterizer("SELECT * FROM t_order WHERE status = 'a\\'b'").parameterize().isPresent());
+    }
+    
+    @Test
+    public void assertNotParameterizeWithoutLiteral() {
+        assertFalse(new SQLLiteralParameterizer("SELECT * FROM t_order").parameterize().isPresent());
+    }
+}
@@ -0,0 +1,44 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.parser.warmup;
+
+import org.apache.shardingsphere.infra.parser.ShardingSphereSQLParserEngine;
+import org.apache.shardingsphere.sql.parser.exception.SQLParsingException;
+import org.junit.Test;
+
+import java.util.Arrays;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public final class SQLParserWarmUpEngineTest {
+    
+    @Test
+    public void assertWarmUp() {
+        ShardingSphereSQLParserEngine sqlParserEngine = mock(ShardingSphereSQLParserEngine.class);
+        when(sqlParserEngine.parse("invalid sql", false)).thenThrow(new SQLParsingException("You have an error in your SQL syntax"));
+        assertThat(new SQLParserWarmUpEngine(sqlParserEngine).warmUp(Arrays.asList("SELECT * FROM t_order WHERE order_id = ?", "invalid sql")), is(1));
+        verify(sqlParserEngine).parse("SELECT * FROM t_order WHERE order_id = ?", false);
+        verify(sqlParserEngine).parse("SELECT * FROM t_order WHERE order_id = ?", true);
+        verify(sqlParserEngine, never()).parse("invalid sql", true);
+    }
+}
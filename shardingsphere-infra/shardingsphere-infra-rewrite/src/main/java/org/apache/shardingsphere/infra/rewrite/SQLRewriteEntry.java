@@ -24,16 +24,28 @@ import org.apache.shardingsphere.infra.rewrite.context.SQLRewriteContext;
 import org.apache.shardingsphere.infra.rewrite.context.SQLRewriteContextDecorator;
 import org.apache.shardingsphere.infra.rewrite.engine.GenericSQLRewriteEngine;
 import org.apache.shardingsphere.infra.rewrite.engine.RouteSQLRewriteEngine;
+import org.apache.shardingsphere.infra.rewrite.engine.SQLRewriteCache;
+import org.apache.shardingsphere.infra.rewrite.engine.result.RouteSQLRewriteResult;
 import org.apache.shardingsphere.infra.rewrite.engine.result.SQLRewriteResult;
+import org.apache.shardingsphere.infra.rewrite.engine.result.SQLRewriteUnit;
 import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.infra.route.context.RouteUnit;
 import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
+import org.apache.shardingsphere.infra.statistics.SQLExecuteStage;
+import org.apache.shardingsphere.infra.statistics.SQLStageRecorder;
 import org.apache.shardingsphere.spi.ShardingSphereServiceLoader;
 import org.apache.shardingsphere.spi.ordered.OrderedSPIRegistry;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.DeleteStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.SelectStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.UpdateStatement;
 
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Optional;
 
 /**
  * SQL rewrite entry.
@@ -48,12 +60,15 @@ public final class SQLRewriteEntry {
     
     private final ConfigurationProperties props;
     
+    private final Collection<ShardingSphereRule> rules;
+    
     @SuppressWarnings("rawtypes")
     private final Map<ShardingSphereRule, SQLRewriteContextDecorator> decorators;
     
     public SQLRewriteEntry(final ShardingSphereSchema schema, final ConfigurationProperties props, final Collection<ShardingSphereRule> rules) {
         this.schema = schema;
         this.props = props;
+        this.rules = rules;
         decorators = OrderedSPIRegistry.getRegisteredServices(SQLRewriteContextDecorator.class, rules);
     }
     
@@ -67,15 +82,78 @@ public final class SQLRewriteEntry {
      * @return route unit and SQL rewrite result map
      */
     public SQLRewriteResult rewrite(final String sql, final List<Object> parameters, final SQLStatementContext<?> sqlStatementContext, final RouteContext routeContext) {
+        long startNanos = SQLStageRecorder.start();
         SQLRewriteContext sqlRewriteContext = createSQLRewriteContext(sql, parameters, sqlStatementContext, routeContext);
-        return routeContext.getRouteUnits().isEmpty()
+        SQLRewriteResult result = routeContext.getRouteUnits().isEmpty()
                 ? new GenericSQLRewriteEngine().rewrite(sqlRewriteContext) : new RouteSQLRewriteEngine().rewrite(sqlRewriteContext, routeContext);
+        SQLStageRecorder.record(sqlStatementContext.getSqlStatement(), SQLExecuteStage.REWRITE, startNanos);
+        return result;
+    }
+    
+    /**
+     * Rewrite with SQL rewrite cache.
+     * 
+     * <p>Only rewritten SQL of select, update and delete statements are cached, SQL tokens are not generated again if rewritten SQL of same route units are cached.</p>
+     *
+     * @param sql SQL
+     * @param parameters SQL parameters
+     * @param sqlStatementContext SQL statement context
+     * @param routeContext route context
+     * @param sqlRewriteCache SQL rewrite cache
+     * @return route unit and SQL rewrite result map
+     */
+    public SQLRewriteResult rewrite(final String sql, final List<Object> parameters, final SQLStatementContext<?> sqlStatementContext, final RouteContext routeContext, 
+                                    final SQLRewriteCache sqlRewriteCache) {
+        if (!isCacheable(sqlStatementContext, routeContext)) {
+            return rewrite(sql, parameters, sqlStatementContext, routeContext);
+        }
+        long startNanos = SQLStageRecorder.start();
+        Optional<Map<RouteUnit, String>> cachedRewrittenSQLs = sqlRewriteCache.get(sqlStatementContext, routeContext, schema, rules, props);
+        RouteSQLRewriteResult result;
+        if (cachedRewrittenSQLs.isPresent()) {
+            SQLRewriteContext sqlRewriteContext = createDecoratedSQLRewriteContext(sql, parameters, sqlStatementContext, routeContext);
+            result = new RouteSQLRewriteEngine().rewrite(sqlRewriteContext, routeContext, cachedRewrittenSQLs.get());
+        } else {
+            result = new RouteSQLRewriteEngine().rewrite(createSQLRewriteContext(sql, parameters, sqlStatementContext, routeContext), routeContext);
+            sqlRewriteCache.put(sqlStatementContext, routeContext, schema, rules, props, getRewrittenSQLs(result));
+        }
+        SQLStageRecorder.record(sqlStatementContext.getSqlStatement(), SQLExecuteStage.REWRITE, startNanos);
+        return result;
+    }
+    
+    private boolean isCacheable(final SQLStatementContext<?> sqlStatementContext, final RouteContext routeContext) {
+        if (routeContext.getRouteUnits().isEmpty() || routeContext.isFederated() || !isCacheableStatement(sqlStatementContext.getSqlStatement())) {
+            return false;
+        }
+        for (SQLRewriteContextDecorator<?> each : decorators.values()) {
+            if (!each.isCacheable()) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private boolean isCacheableStatement(final SQLStatement sqlStatement) {
+        return sqlStatement instanceof SelectStatement || sqlStatement instanceof UpdateStatement || sqlStatement instanceof DeleteStatement;
+    }
+    
+    private Map<RouteUnit, String> getRewrittenSQLs(final RouteSQLRewriteResult sqlRewriteResult) {
+        Map<RouteUnit, String> result = new HashMap<>(sqlRewriteResult.getSqlRewriteUnits().size(), 1);
+        for (Entry<RouteUnit, SQLRewriteUnit> entry : sqlRewriteResult.getSqlRewriteUnits().entrySet()) {
+            result.put(entry.getKey(), entry.getValue().getSql());
+        }
+        return result;
     }
     
     private SQLRewriteContext createSQLRewriteContext(final String sql, final List<Object> parameters, final SQLStatementContext<?> sqlStatementContext, final RouteContext routeContext) {
+        SQLRewriteContext result = createDecoratedSQLRewriteContext(sql, parameters, sqlStatementContext, routeContext);
+        result.generateSQLTokens();
+        return result;
+    }
+    
+    private SQLRewriteContext createDecoratedSQLRewriteContext(final String sql, final List<Object> parameters, final SQLStatementContext<?> sqlStatementContext, final RouteContext routeContext) {
         SQLRewriteContext result = new SQLRewriteContext(schema, sqlStatementContext, sql, parameters);
         decorate(decorators, result, routeContext);
-        result.generateSQLTokens();
         return result;
     }
     
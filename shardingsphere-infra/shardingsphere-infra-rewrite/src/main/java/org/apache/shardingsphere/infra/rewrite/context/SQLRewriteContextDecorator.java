@@ -38,4 +38,13 @@ public interface SQLRewriteContextDecorator<T extends ShardingSphereRule> extend
      * @param routeContext route context
      */
     void decorate(T rule, ConfigurationProperties props, SQLRewriteContext sqlRewriteContext, RouteContext routeContext);
+    
+    /**
+     * Judge whether SQL tokens generated by this decorator are only decided by SQL statement and route units for select, update and delete statements, and can be cached.
+     *
+     * @return can be cached or not
+     */
+    default boolean isCacheable() {
+        return false;
+    }
 }
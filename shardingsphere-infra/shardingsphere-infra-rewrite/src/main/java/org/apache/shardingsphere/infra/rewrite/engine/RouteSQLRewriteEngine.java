@@ -19,7 +19,6 @@ package org.apache.shardingsphere.infra.rewrite.engine;
 
 import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
-import org.apache.shardingsphere.infra.datanode.DataNode;
 import org.apache.shardingsphere.infra.rewrite.context.SQLRewriteContext;
 import org.apache.shardingsphere.infra.rewrite.engine.result.RouteSQLRewriteResult;
 import org.apache.shardingsphere.infra.rewrite.engine.result.SQLRewriteUnit;
@@ -27,17 +26,23 @@ import org.apache.shardingsphere.infra.rewrite.parameter.builder.ParameterBuilde
 import org.apache.shardingsphere.infra.rewrite.parameter.builder.impl.GroupedParameterBuilder;
 import org.apache.shardingsphere.infra.rewrite.parameter.builder.impl.StandardParameterBuilder;
 import org.apache.shardingsphere.infra.rewrite.sql.impl.RouteSQLBuilder;
+import org.apache.shardingsphere.infra.rewrite.sql.template.SQLRewriteTemplate;
+import org.apache.shardingsphere.infra.route.context.OriginalDataNodesIndex;
 import org.apache.shardingsphere.infra.route.context.RouteContext;
 import org.apache.shardingsphere.infra.route.context.RouteUnit;
 import org.apache.shardingsphere.sql.parser.sql.common.util.SQLUtil;
 import org.apache.shardingsphere.sql.parser.sql.dialect.handler.dml.SelectStatementHandler;
 
+import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.function.Function;
 
 /**
  * Route SQL rewrite engine.
@@ -52,39 +57,77 @@ public final class RouteSQLRewriteEngine {
      * @return SQL rewrite result
      */
     public RouteSQLRewriteResult rewrite(final SQLRewriteContext sqlRewriteContext, final RouteContext routeContext) {
+        SQLRewriteTemplate template = new SQLRewriteTemplate(sqlRewriteContext);
+        return rewrite(sqlRewriteContext, routeContext, each -> toSQL(template, each));
+    }
+    
+    /**
+     * Rewrite parameters with rewritten SQL of route units, SQL tokens of SQL rewrite context are not used.
+     *
+     * @param sqlRewriteContext SQL rewrite context
+     * @param routeContext route context
+     * @param rewrittenSQLs rewritten SQL of route units, which should be rewritten with same SQL statement and route units before
+     * @return SQL rewrite result
+     */
+    public RouteSQLRewriteResult rewrite(final SQLRewriteContext sqlRewriteContext, final RouteContext routeContext, final Map<RouteUnit, String> rewrittenSQLs) {
+        return rewrite(sqlRewriteContext, routeContext, each -> rewrittenSQLs.get(each.iterator().next()));
+    }
+    
+    private RouteSQLRewriteResult rewrite(final SQLRewriteContext sqlRewriteContext, final RouteContext routeContext, final Function<Collection<RouteUnit>, String> sqlProvider) {
+        OriginalDataNodesIndex originalDataNodesIndex = createOriginalDataNodesIndex(sqlRewriteContext.getParameterBuilder(), routeContext);
+        List<Collection<RouteUnit>> rewriteGroups = getRewriteGroups(sqlRewriteContext.getSqlStatementContext(), routeContext.getRouteUnits());
         Map<RouteUnit, SQLRewriteUnit> result = new LinkedHashMap<>(routeContext.getRouteUnits().size(), 1);
-        for (Entry<String, Collection<RouteUnit>> entry : aggregateRouteUnitGroups(routeContext.getRouteUnits()).entrySet()) {
-            Collection<RouteUnit> routeUnits = entry.getValue();
-            if (isNeedAggregateRewrite(sqlRewriteContext.getSqlStatementContext(), routeUnits)) {
-                result.put(routeUnits.iterator().next(), createSQLRewriteUnit(sqlRewriteContext, routeContext, routeUnits));
+        for (Collection<RouteUnit> each : rewriteGroups) {
+            result.put(each.iterator().next(), 1 == each.size()
+                    ? createSQLRewriteUnit(sqlRewriteContext, originalDataNodesIndex, each.iterator().next(), sqlProvider.apply(each))
+                    : createAggregatedSQLRewriteUnit(sqlRewriteContext, originalDataNodesIndex, each, sqlProvider.apply(each)));
+        }
+        return new RouteSQLRewriteResult(result);
+    }
+    
+    private List<Collection<RouteUnit>> getRewriteGroups(final SQLStatementContext<?> sqlStatementContext, final Collection<RouteUnit> routeUnits) {
+        List<Collection<RouteUnit>> result = new ArrayList<>(routeUnits.size());
+        for (Entry<String, Collection<RouteUnit>> entry : aggregateRouteUnitGroups(routeUnits).entrySet()) {
+            if (isNeedAggregateRewrite(sqlStatementContext, entry.getValue())) {
+                result.add(entry.getValue());
             } else {
-                result.putAll(createSQLRewriteUnits(sqlRewriteContext, routeContext, routeUnits));
+                entry.getValue().forEach(each -> result.add(Collections.singletonList(each)));
             }
         }
-        return new RouteSQLRewriteResult(result);
+        return result;
     }
     
-    private SQLRewriteUnit createSQLRewriteUnit(final SQLRewriteContext sqlRewriteContext, final RouteContext routeContext, final Collection<RouteUnit> routeUnits) {
-        Collection<String> sql = new LinkedList<>();
+    private OriginalDataNodesIndex createOriginalDataNodesIndex(final ParameterBuilder parameterBuilder, final RouteContext routeContext) {
+        return parameterBuilder instanceof GroupedParameterBuilder && !routeContext.getOriginalDataNodes().isEmpty() ? new OriginalDataNodesIndex(routeContext.getOriginalDataNodes()) : null;
+    }
+    
+    private String toSQL(final SQLRewriteTemplate template, final Collection<RouteUnit> routeUnits) {
+        if (1 == routeUnits.size()) {
+            return new RouteSQLBuilder(template, routeUnits.iterator().next()).toSQL();
+        }
+        Collection<String> result = new LinkedList<>();
+        for (RouteUnit each : routeUnits) {
+            result.add(SQLUtil.trimSemicolon(new RouteSQLBuilder(template, each).toSQL()));
+        }
+        return String.join(" UNION ALL ", result);
+    }
+    
+    private SQLRewriteUnit createAggregatedSQLRewriteUnit(final SQLRewriteContext sqlRewriteContext, 
+                                                          final OriginalDataNodesIndex originalDataNodesIndex, final Collection<RouteUnit> routeUnits, final String sql) {
         List<Object> parameters = new LinkedList<>();
         boolean containsDollarMarker = sqlRewriteContext.getSqlStatementContext() instanceof SelectStatementContext 
                 && ((SelectStatementContext) (sqlRewriteContext.getSqlStatementContext())).isContainsDollarParameterMarker();
         for (RouteUnit each : routeUnits) {
-            sql.add(SQLUtil.trimSemicolon(new RouteSQLBuilder(sqlRewriteContext, each).toSQL()));
             if (containsDollarMarker && !parameters.isEmpty()) {
                 continue;
             }
-            parameters.addAll(getParameters(sqlRewriteContext.getParameterBuilder(), routeContext, each));
+            parameters.addAll(getParameters(sqlRewriteContext.getParameterBuilder(), originalDataNodesIndex, each));
         }
-        return new SQLRewriteUnit(String.join(" UNION ALL ", sql), parameters);
+        return new SQLRewriteUnit(sql, parameters);
     }
     
-    private Map<RouteUnit, SQLRewriteUnit> createSQLRewriteUnits(final SQLRewriteContext sqlRewriteContext, final RouteContext routeContext, final Collection<RouteUnit> routeUnits) {
-        Map<RouteUnit, SQLRewriteUnit> result = new LinkedHashMap<>(routeContext.getRouteUnits().size(), 1);
-        for (RouteUnit each : routeUnits) {
-            result.put(each, new SQLRewriteUnit(new RouteSQLBuilder(sqlRewriteContext, each).toSQL(), getParameters(sqlRewriteContext.getParameterBuilder(), routeContext, each)));
-        }
-        return result;
+    private SQLRewriteUnit createSQLRewriteUnit(final SQLRewriteContext sqlRewriteContext, final OriginalDataNodesIndex originalDataNodesIndex, final RouteUnit routeUnit, final String sql) {
+        return new SQLRewriteUnit(sql, getParameters(sqlRewriteContext.getParameterBuilder(), originalDataNodesIndex, routeUnit));
     }
     
     private boolean isNeedAggregateRewrite(final SQLStatementContext<?> sqlStatementContext, final Collection<RouteUnit> routeUnits) {
@@ -112,36 +155,20 @@ public final class RouteSQLRewriteEngine {
         return result;
     }
     
-    private List<Object> getParameters(final ParameterBuilder parameterBuilder, final RouteContext routeContext, final RouteUnit routeUnit) {
+    private List<Object> getParameters(final ParameterBuilder parameterBuilder, final OriginalDataNodesIndex originalDataNodesIndex, final RouteUnit routeUnit) {
         if (parameterBuilder instanceof StandardParameterBuilder) {
             return parameterBuilder.getParameters();
         }
-        return routeContext.getOriginalDataNodes().isEmpty()
-                ? ((GroupedParameterBuilder) parameterBuilder).getParameters() : buildRouteParameters((GroupedParameterBuilder) parameterBuilder, routeContext, routeUnit);
+        return null == originalDataNodesIndex
+                ? ((GroupedParameterBuilder) parameterBuilder).getParameters() : buildRouteParameters((GroupedParameterBuilder) parameterBuilder, originalDataNodesIndex.getPositions(routeUnit));
     }
     
-    private List<Object> buildRouteParameters(final GroupedParameterBuilder parameterBuilder, final RouteContext routeContext, final RouteUnit routeUnit) {
-        List<Object> result = new LinkedList<>();
-        int count = 0;
-        for (Collection<DataNode> each : routeContext.getOriginalDataNodes()) {
-            if (isInSameDataNode(each, routeUnit)) {
-                result.addAll(parameterBuilder.getParameters(count));
-            }
-            count++;
+    private List<Object> buildRouteParameters(final GroupedParameterBuilder parameterBuilder, final BitSet positions) {
+        List<Object> result = new ArrayList<>();
+        for (int i = positions.nextSetBit(0); i >= 0; i = positions.nextSetBit(i + 1)) {
+            result.addAll(parameterBuilder.getParameters(i));
         }
         result.addAll(parameterBuilder.getGenericParameterBuilder().getParameters());
         return result;
     }
-    
-    private boolean isInSameDataNode(final Collection<DataNode> dataNodes, final RouteUnit routeUnit) {
-        if (dataNodes.isEmpty()) {
-            return true;
-        }
-        for (DataNode each : dataNodes) {
-            if (routeUnit.findTableMapper(each.getDataSourceName(), each.getTableName()).isPresent()) {
-                return true;
-            }
-        }
-        return false;
-    }
 }
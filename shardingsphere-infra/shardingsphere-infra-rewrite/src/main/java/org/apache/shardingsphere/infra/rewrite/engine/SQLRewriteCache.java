@@ -0,0 +1,125 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.rewrite.engine;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.metadata.schema.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.infra.route.context.RouteUnit;
+import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
+
+/**
+ * SQL rewrite cache.
+ * 
+ * <p>
+ * Caches rewritten SQL of route units by SQL statement instance and route units, for prepared statements whose rewritten SQL only depends on route units.
+ * Cached SQL are discarded once schema, rules, properties or schema version are changed.
+ * It is not thread safe, every prepared statement should hold its own cache.
+ * </p>
+ */
+@RequiredArgsConstructor
+public final class SQLRewriteCache {
+    
+    private final int maximumSize;
+    
+    private final Map<SQLStatement, Map<List<RouteUnit>, Map<RouteUnit, String>>> cachedRewrittenSQLs = new IdentityHashMap<>();
+    
+    private ShardingSphereSchema schema;
+    
+    private Collection<ShardingSphereRule> rules;
+    
+    private ConfigurationProperties props;
+    
+    private long schemaVersion;
+    
+    /**
+     * Get cached rewritten SQL of route units.
+     *
+     * @param sqlStatementContext SQL statement context
+     * @param routeContext route context
+     * @param schema ShardingSphere schema
+     * @param rules rules
+     * @param props configuration properties
+     * @return cached rewritten SQL of route units
+     */
+    public Optional<Map<RouteUnit, String>> get(final SQLStatementContext<?> sqlStatementContext, final RouteContext routeContext, 
+                                                final ShardingSphereSchema schema, final Collection<ShardingSphereRule> rules, final ConfigurationProperties props) {
+        if (!isAvailable(schema, rules, props)) {
+            cachedRewrittenSQLs.clear();
+            return Optional.empty();
+        }
+        Map<List<RouteUnit>, Map<RouteUnit, String>> rewrittenSQLs = cachedRewrittenSQLs.get(sqlStatementContext.getSqlStatement());
+        return null == rewrittenSQLs ? Optional.empty() : Optional.ofNullable(rewrittenSQLs.get(new ArrayList<>(routeContext.getRouteUnits())));
+    }
+    
+    private boolean isAvailable(final ShardingSphereSchema schema, final Collection<ShardingSphereRule> rules, final ConfigurationProperties props) {
+        return this.schema == schema && this.rules == rules && this.props == props && schemaVersion == schema.getVersion();
+    }
+    
+    /**
+     * Put rewritten SQL of route units.
+     *
+     * @param sqlStatementContext SQL statement context
+     * @param routeContext route context
+     * @param schema ShardingSphere schema
+     * @param rules rules
+     * @param props configuration properties
+     * @param rewrittenSQLs rewritten SQL of route units
+     */
+    public void put(final SQLStatementContext<?> sqlStatementContext, final RouteContext routeContext, 
+                    final ShardingSphereSchema schema, final Collection<ShardingSphereRule> rules, final ConfigurationProperties props, final Map<RouteUnit, String> rewrittenSQLs) {
+        if (!isAvailable(schema, rules, props)) {
+            cachedRewrittenSQLs.clear();
+            this.schema = schema;
+            this.rules = rules;
+            this.props = props;
+            schemaVersion = schema.getVersion();
+        }
+        cachedRewrittenSQLs.computeIfAbsent(sqlStatementContext.getSqlStatement(), key -> new LimitedLinkedHashMap<>(maximumSize))
+                .put(new ArrayList<>(routeContext.getRouteUnits()), rewrittenSQLs);
+    }
+    
+    private static final class LimitedLinkedHashMap<K, V> extends LinkedHashMap<K, V> {
+        
+        private static final long serialVersionUID = 2738496012375218549L;
+        
+        private final int maximumSize;
+        
+        LimitedLinkedHashMap(final int maximumSize) {
+            super(16, 0.75f, true);
+            this.maximumSize = maximumSize;
+        }
+        
+        @Override
+        protected boolean removeEldestEntry(final Entry<K, V> eldest) {
+            return size() > maximumSize;
+        }
+    }
+}
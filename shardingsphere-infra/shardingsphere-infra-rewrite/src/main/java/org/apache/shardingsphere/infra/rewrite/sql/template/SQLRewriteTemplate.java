@@ -0,0 +1,115 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.rewrite.sql.template;
+
+import org.apache.shardingsphere.infra.rewrite.context.SQLRewriteContext;
+import org.apache.shardingsphere.infra.rewrite.sql.token.pojo.RouteUnitAware;
+import org.apache.shardingsphere.infra.rewrite.sql.token.pojo.SQLToken;
+import org.apache.shardingsphere.infra.rewrite.sql.token.pojo.Substitutable;
+import org.apache.shardingsphere.infra.rewrite.sql.token.pojo.generic.ComposableSQLToken;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * SQL rewrite template.
+ * 
+ * <p>
+ * SQL is split into literal fragments and SQL token slots once. Texts of SQL tokens which are not aware of route unit are rendered once too,
+ * so every route unit only fills rest slots into a presized buffer.
+ * </p>
+ */
+public final class SQLRewriteTemplate {
+    
+    private final String sql;
+    
+    private final List<SQLToken> sqlTokens;
+    
+    private final String[] fragments;
+    
+    private final String[] sqlTokenTexts;
+    
+    private final int fixedLength;
+    
+    private volatile int lastLength;
+    
+    public SQLRewriteTemplate(final SQLRewriteContext context) {
+        sql = context.getSql();
+        Collections.sort(context.getSqlTokens());
+        sqlTokens = Arrays.asList(context.getSqlTokens().toArray(new SQLToken[0]));
+        fragments = new String[sqlTokens.size() + 1];
+        sqlTokenTexts = new String[sqlTokens.size()];
+        int length = 0;
+        for (int i = 0; i < sqlTokens.size(); i++) {
+            SQLToken sqlToken = sqlTokens.get(i);
+            fragments[i + 1] = sql.substring(getStartIndex(sqlToken), getStopIndex(i));
+            length += fragments[i + 1].length();
+            if (!(sqlToken instanceof RouteUnitAware) && !(sqlToken instanceof ComposableSQLToken)) {
+                sqlTokenTexts[i] = sqlToken.toString();
+                length += sqlTokenTexts[i].length();
+            }
+        }
+        fragments[0] = sqlTokens.isEmpty() ? sql : sql.substring(0, sqlTokens.get(0).getStartIndex());
+        fixedLength = length + fragments[0].length();
+    }
+    
+    /**
+     * Fill SQL token slots of template.
+     * 
+     * @param sqlTokenTextProvider provider of SQL token text which is aware of route unit
+     * @return SQL
+     */
+    public String toSQL(final Function<SQLToken, String> sqlTokenTextProvider) {
+        if (sqlTokens.isEmpty()) {
+            return sql;
+        }
+        StringBuilder result = new StringBuilder(Math.max(fixedLength, lastLength));
+        result.append(fragments[0]);
+        for (int i = 0; i < sqlTokenTexts.length; i++) {
+            SQLToken sqlToken = sqlTokens.get(i);
+            if (null != sqlTokenTexts[i]) {
+                result.append(sqlTokenTexts[i]);
+            } else if (sqlToken instanceof ComposableSQLToken) {
+                appendComposableSQLTokenText((ComposableSQLToken) sqlToken, sqlTokenTextProvider, result);
+            } else {
+                result.append(sqlTokenTextProvider.apply(sqlToken));
+            }
+            result.append(fragments[i + 1]);
+        }
+        lastLength = result.length();
+        return result.toString();
+    }
+    
+    private void appendComposableSQLTokenText(final ComposableSQLToken composableSQLToken, final Function<SQLToken, String> sqlTokenTextProvider, final StringBuilder stringBuilder) {
+        for (SQLToken each : composableSQLToken.getSqlTokens()) {
+            stringBuilder.append(sqlTokenTextProvider.apply(each));
+            stringBuilder.append(sql, getStartIndex(each), getStopIndex(sqlTokens.indexOf(each)));
+        }
+    }
+    
+    private int getStartIndex(final SQLToken sqlToken) {
+        int startIndex = sqlToken instanceof Substitutable ? ((Substitutable) sqlToken).getStopIndex() + 1 : sqlToken.getStartIndex();
+        return Math.min(startIndex, sql.length());
+    }
+    
+    private int getStopIndex(final int sqlTokenIndex) {
+        return sqlTokens.size() - 1 == sqlTokenIndex ? sql.length() : sqlTokens.get(sqlTokenIndex + 1).getStartIndex();
+    }
+}
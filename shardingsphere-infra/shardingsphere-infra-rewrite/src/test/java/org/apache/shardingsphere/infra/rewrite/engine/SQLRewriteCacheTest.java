@@ -0,0 +1,127 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.rewrite.engine;
+
+import org.apache.shardingsphere.infra.binder.statement.CommonSQLStatementContext;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.metadata.schema.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.schema.model.TableMetaData;
+import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.infra.route.context.RouteMapper;
+import org.apache.shardingsphere.infra.route.context.RouteUnit;
+import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.SelectStatement;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class SQLRewriteCacheTest {
+    
+    private final Collection<ShardingSphereRule> rules = Collections.emptyList();
+    
+    private final ConfigurationProperties props = new ConfigurationProperties(new Properties());
+    
+    private ShardingSphereSchema schema;
+    
+    private CommonSQLStatementContext<?> sqlStatementContext;
+    
+    @Before
+    public void setUp() {
+        schema = new ShardingSphereSchema();
+        sqlStatementContext = mock(CommonSQLStatementContext.class);
+        when(sqlStatementContext.getSqlStatement()).thenReturn(mock(SelectStatement.class));
+    }
+    
+    @Test
+    public void assertGetAfterPut() {
+        SQLRewriteCache sqlRewriteCache = new SQLRewriteCache(16);
+        Map<RouteUnit, String> rewrittenSQLs = createRewrittenSQLs(0);
+        sqlRewriteCache.put(sqlStatementContext, createRouteContext(0), schema, rules, props, rewrittenSQLs);
+        assertThat(sqlRewriteCache.get(sqlStatementContext, createRouteContext(0), schema, rules, props).get(), sameInstance(rewrittenSQLs));
+        assertFalse(sqlRewriteCache.get(sqlStatementContext, createRouteContext(1), schema, rules, props).isPresent());
+    }
+    
+    @Test
+    public void assertGetWithOtherSQLStatement() {
+        SQLRewriteCache sqlRewriteCache = new SQLRewriteCache(16);
+        sqlRewriteCache.put(sqlStatementContext, createRouteContext(0), schema, rules, props, createRewrittenSQLs(0));
+        CommonSQLStatementContext<?> otherSQLStatementContext = mock(CommonSQLStatementContext.class);
+        when(otherSQLStatementContext.getSqlStatement()).thenReturn(mock(SelectStatement.class));
+        assertFalse(sqlRewriteCache.get(otherSQLStatementContext, createRouteContext(0), schema, rules, props).isPresent());
+    }
+    
+    @Test
+    public void assertGetAfterSchemaChanged() {
+        SQLRewriteCache sqlRewriteCache = new SQLRewriteCache(16);
+        sqlRewriteCache.put(sqlStatementContext, createRouteContext(0), schema, rules, props, createRewrittenSQLs(0));
+        schema.put("tbl", new TableMetaData("tbl"));
+        assertFalse(sqlRewriteCache.get(sqlStatementContext, createRouteContext(0), schema, rules, props).isPresent());
+    }
+    
+    @Test
+    public void assertGetAfterRulesChanged() {
+        SQLRewriteCache sqlRewriteCache = new SQLRewriteCache(16);
+        sqlRewriteCache.put(sqlStatementContext, createRouteContext(0), schema, rules, props, createRewrittenSQLs(0));
+        assertFalse(sqlRewriteCache.get(sqlStatementContext, createRouteContext(0), schema, Collections.singletonList(mock(ShardingSphereRule.class)), props).isPresent());
+        assertFalse(sqlRewriteCache.get(sqlStatementContext, createRouteContext(0), schema, rules, props).isPresent());
+    }
+    
+    @Test
+    public void assertGetAfterPropsChanged() {
+        SQLRewriteCache sqlRewriteCache = new SQLRewriteCache(16);
+        sqlRewriteCache.put(sqlStatementContext, createRouteContext(0), schema, rules, props, createRewrittenSQLs(0));
+        assertFalse(sqlRewriteCache.get(sqlStatementContext, createRouteContext(0), schema, rules, new ConfigurationProperties(new Properties())).isPresent());
+    }
+    
+    @Test
+    public void assertEvictLeastRecentlyUsed() {
+        SQLRewriteCache sqlRewriteCache = new SQLRewriteCache(2);
+        Map<RouteUnit, String> rewrittenSQLs = createRewrittenSQLs(0);
+        sqlRewriteCache.put(sqlStatementContext, createRouteContext(0), schema, rules, props, rewrittenSQLs);
+        sqlRewriteCache.put(sqlStatementContext, createRouteContext(1), schema, rules, props, createRewrittenSQLs(1));
+        sqlRewriteCache.get(sqlStatementContext, createRouteContext(0), schema, rules, props);
+        sqlRewriteCache.put(sqlStatementContext, createRouteContext(2), schema, rules, props, createRewrittenSQLs(2));
+        assertThat(sqlRewriteCache.get(sqlStatementContext, createRouteContext(0), schema, rules, props).get(), is(rewrittenSQLs));
+        assertFalse(sqlRewriteCache.get(sqlStatementContext, createRouteContext(1), schema, rules, props).isPresent());
+    }
+    
+    private RouteContext createRouteContext(final int index) {
+        RouteContext result = new RouteContext();
+        result.getRouteUnits().add(createRouteUnit(index));
+        return result;
+    }
+    
+    private Map<RouteUnit, String> createRewrittenSQLs(final int index) {
+        return Collections.singletonMap(createRouteUnit(index), "SELECT * FROM tbl_" + index + " WHERE id = ?");
+    }
+    
+    private RouteUnit createRouteUnit(final int index) {
+        return new RouteUnit(new RouteMapper("ds", "ds_" + index), Collections.singletonList(new RouteMapper("tbl", "tbl_" + index)));
+    }
+}
@@ -18,12 +18,15 @@
 package org.apache.shardingsphere.infra.route;
 
 import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.route.context.RouteCacheKey;
 import org.apache.shardingsphere.infra.route.context.RouteContext;
 import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
 import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
 import org.apache.shardingsphere.spi.ordered.OrderedSPI;
 import org.apache.shardingsphere.infra.binder.LogicSQL;
 
+import java.util.Optional;
+
 /**
  * SQL Router.
  * 
@@ -42,6 +45,20 @@ public interface SQLRouter<T extends ShardingSphereRule> extends OrderedSPI<T> {
      */
     RouteContext createRouteContext(LogicSQL logicSQL, ShardingSphereMetaData metaData, T rule, ConfigurationProperties props);
     
+    /**
+     * Create route context with route cache key found by this router, which is called when route context is not cached yet.
+     *
+     * @param logicSQL logic SQL
+     * @param metaData ShardingSphere meta data
+     * @param rule rule
+     * @param props configuration properties
+     * @param routeCacheKey route cache key
+     * @return route context
+     */
+    default RouteContext createRouteContext(LogicSQL logicSQL, ShardingSphereMetaData metaData, T rule, ConfigurationProperties props, RouteCacheKey routeCacheKey) {
+        return createRouteContext(logicSQL, metaData, rule, props);
+    }
+    
     /**
      * Decorate route context.
      * 
@@ -52,4 +69,33 @@ public interface SQLRouter<T extends ShardingSphereRule> extends OrderedSPI<T> {
      * @param props configuration properties
      */
     void decorateRouteContext(RouteContext routeContext, LogicSQL logicSQL, ShardingSphereMetaData metaData, T rule, ConfigurationProperties props);
+    
+    /**
+     * Find route cache key.
+     * 
+     * <p>Route context created or decorated by this router must be decided only by SQL statement and route cache key, and must not be chosen randomly.
+     * Value of route cache key must be immutable and implement equals and hash code.</p>
+     *
+     * @param logicSQL logic SQL
+     * @param metaData ShardingSphere meta data
+     * @param rule rule
+     * @param props configuration properties
+     * @return route cache key, route context can not be cached if absent
+     */
+    default Optional<RouteCacheKey> findRouteCacheKey(LogicSQL logicSQL, ShardingSphereMetaData metaData, T rule, ConfigurationProperties props) {
+        return Optional.empty();
+    }
+    
+    /**
+     * Validate cached route context with route cache key found by this router, which is called instead of creating route context when route context is cached.
+     *
+     * @param routeContext cached route context
+     * @param logicSQL logic SQL
+     * @param metaData ShardingSphere meta data
+     * @param rule rule
+     * @param props configuration properties
+     * @param routeCacheKey route cache key
+     */
+    default void validateCachedRouteContext(RouteContext routeContext, LogicSQL logicSQL, ShardingSphereMetaData metaData, T rule, ConfigurationProperties props, RouteCacheKey routeCacheKey) {
+    }
 }
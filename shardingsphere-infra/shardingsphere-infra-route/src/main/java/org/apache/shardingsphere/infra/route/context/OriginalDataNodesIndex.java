@@ -0,0 +1,74 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.route.context;
+
+import org.apache.shardingsphere.infra.datanode.DataNode;
+
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Original data nodes index.
+ * 
+ * <p>Groups positions of original data nodes by data source name and actual table name, so positions belong to one route unit can be found without scanning all original data nodes.</p>
+ */
+public final class OriginalDataNodesIndex {
+    
+    private final BitSet unboundPositions = new BitSet();
+    
+    private final Map<String, BitSet> dataNodePositions = new HashMap<>();
+    
+    public OriginalDataNodesIndex(final Collection<Collection<DataNode>> originalDataNodes) {
+        int position = 0;
+        for (Collection<DataNode> each : originalDataNodes) {
+            if (each.isEmpty()) {
+                unboundPositions.set(position);
+            }
+            for (DataNode dataNode : each) {
+                dataNodePositions.computeIfAbsent(getKey(dataNode.getDataSourceName(), dataNode.getTableName()), key -> new BitSet()).set(position);
+            }
+            position++;
+        }
+    }
+    
+    /**
+     * Get positions of original data nodes which belong to route unit.
+     * 
+     * <p>Original data nodes without any data node belong to every route unit.</p>
+     *
+     * @param routeUnit route unit
+     * @return positions of original data nodes in ascending order
+     */
+    public BitSet getPositions(final RouteUnit routeUnit) {
+        BitSet result = (BitSet) unboundPositions.clone();
+        for (RouteMapper each : routeUnit.getTableMappers()) {
+            BitSet positions = dataNodePositions.get(getKey(routeUnit.getDataSourceMapper().getLogicName(), each.getActualName()));
+            if (null != positions) {
+                result.or(positions);
+            }
+        }
+        return result;
+    }
+    
+    private String getKey(final String dataSourceName, final String tableName) {
+        return String.join(".", dataSourceName, tableName).toLowerCase(Locale.ENGLISH);
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.route.engine;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.binder.LogicSQL;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
+
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
+
+/**
+ * Route context cache.
+ * 
+ * <p>
+ * Caches route context by SQL statement instance and route cache key, for prepared statements whose route only depends on values provided by routers.
+ * Cached route contexts are discarded once meta data, rules, properties or schema version are changed.
+ * Route cache key must be immutable, and cached route context must not be modified by callers.
+ * It is not thread safe, every prepared statement should hold its own cache.
+ * </p>
+ */
+@RequiredArgsConstructor
+public final class RouteContextCache {
+    
+    private final int maximumSize;
+    
+    private final Map<SQLStatement, Map<Object, RouteContext>> cachedRouteContexts = new IdentityHashMap<>();
+    
+    private ShardingSphereMetaData metaData;
+    
+    private Collection<ShardingSphereRule> rules;
+    
+    private ConfigurationProperties props;
+    
+    private long schemaVersion;
+    
+    /**
+     * Get cached route context.
+     *
+     * @param logicSQL logic SQL
+     * @param routeCacheKey route cache key
+     * @param metaData ShardingSphere meta data
+     * @param rules rules
+     * @param props configuration properties
+     * @return cached route context
+     */
+    public Optional<RouteContext> get(final LogicSQL logicSQL, final Object routeCacheKey,
+                                      final ShardingSphereMetaData metaData, final Collection<ShardingSphereRule> rules, final ConfigurationProperties props) {
+        if (!isAvailable(metaData, rules, props)) {
+            cachedRouteContexts.clear();
+            return Optional.empty();
+        }
+        Map<Object, RouteContext> routeContexts = cachedRouteContexts.get(logicSQL.getSqlStatementContext().getSqlStatement());
+        return null == routeContexts ? Optional.empty() : Optional.ofNullable(routeContexts.get(routeCacheKey));
+    }
+    
+    private boolean isAvailable(final ShardingSphereMetaData metaData, final Collection<ShardingSphereRule> rules, final ConfigurationProperties props) {
+        return this.metaData == metaData && this.rules == rules && this.props == props && schemaVersion == metaData.getSchema().getVersion();
+    }
+    
+    /**
+     * Put route context.
+     *
+     * @param logicSQL logic SQL
+     * @param routeCacheKey route cache key
+     * @param metaData ShardingSphere meta data
+     * @param rules rules
+     * @param props configuration properties
+     * @param routeContext route context
+     */
+    public void put(final LogicSQL logicSQL, final Object routeCacheKey,
+                    final ShardingSphereMetaData metaData, final Collection<ShardingSphereRule> rules, final ConfigurationProperties props, final RouteContext routeContext) {
+        if (!isAvailable(metaData, rules, props)) {
+            cachedRouteContexts.clear();
+            this.metaData = metaData;
+            this.rules = rules;
+            this.props = props;
+            schemaVersion = metaData.getSchema().getVersion();
+        }
+        cachedRouteContexts.computeIfAbsent(logicSQL.getSqlStatementContext().getSqlStatement(), key -> new LimitedLinkedHashMap<>(maximumSize))
+                .put(routeCacheKey, routeContext);
+    }
+    
+    private static final class LimitedLinkedHashMap<K, V> extends LinkedHashMap<K, V> {
+        
+        private static final long serialVersionUID = -6306582926416488796L;
+        
+        private final int maximumSize;
+        
+        LimitedLinkedHashMap(final int maximumSize) {
+            super(16, 0.75f, true);
+            this.maximumSize = maximumSize;
+        }
+        
+        @Override
+        protected boolean removeEldestEntry(final Entry<K, V> eldest) {
+            return size() > maximumSize;
+        }
+    }
+}
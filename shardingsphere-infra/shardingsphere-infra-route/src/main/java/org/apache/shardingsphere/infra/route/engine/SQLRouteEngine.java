@@ -21,15 +21,22 @@ import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.infra.binder.LogicSQL;
 import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
 import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.route.context.RouteCacheKey;
 import org.apache.shardingsphere.infra.route.context.RouteContext;
 import org.apache.shardingsphere.infra.route.engine.impl.AllSQLRouteExecutor;
 import org.apache.shardingsphere.infra.route.engine.impl.PartialSQLRouteExecutor;
 import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
+import org.apache.shardingsphere.infra.statistics.SQLExecuteStage;
+import org.apache.shardingsphere.infra.statistics.SQLStageRecorder;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.DeleteStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.SelectStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.UpdateStatement;
 import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dal.MySQLShowTableStatusStatement;
 import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dal.MySQLShowTablesStatement;
 
 import java.util.Collection;
+import java.util.Optional;
 
 /**
  * SQL route engine.
@@ -49,12 +56,58 @@ public final class SQLRouteEngine {
      * @return route context
      */
     public RouteContext route(final LogicSQL logicSQL, final ShardingSphereMetaData metaData) {
-        SQLRouteExecutor executor = isNeedAllSchemas(logicSQL.getSqlStatementContext().getSqlStatement()) ? new AllSQLRouteExecutor() : new PartialSQLRouteExecutor(rules, props);
-        return executor.route(logicSQL, metaData);
+        long startNanos = SQLStageRecorder.start();
+        RouteContext result = createSQLRouteExecutor(logicSQL).route(logicSQL, metaData);
+        SQLStageRecorder.record(logicSQL.getSqlStatementContext().getSqlStatement(), SQLExecuteStage.ROUTE, startNanos);
+        return result;
+    }
+    
+    /**
+     * Route SQL with route context cache.
+     * 
+     * <p>Only select, update and delete statements are cached, route context of insert statement depends on generated keys which are not parameters.</p>
+     *
+     * @param logicSQL logic SQL
+     * @param metaData ShardingSphere meta data
+     * @param routeContextCache route context cache
+     * @return route context
+     */
+    public RouteContext route(final LogicSQL logicSQL, final ShardingSphereMetaData metaData, final RouteContextCache routeContextCache) {
+        long startNanos = SQLStageRecorder.start();
+        RouteContext result = route0(logicSQL, metaData, routeContextCache);
+        SQLStageRecorder.record(logicSQL.getSqlStatementContext().getSqlStatement(), SQLExecuteStage.ROUTE, startNanos);
+        return result;
+    }
+    
+    private RouteContext route0(final LogicSQL logicSQL, final ShardingSphereMetaData metaData, final RouteContextCache routeContextCache) {
+        SQLRouteExecutor executor = createSQLRouteExecutor(logicSQL);
+        if (!isCacheableStatement(logicSQL.getSqlStatementContext().getSqlStatement())) {
+            return executor.route(logicSQL, metaData);
+        }
+        Optional<RouteCacheKey> routeCacheKey = executor.findRouteCacheKey(logicSQL, metaData);
+        if (!routeCacheKey.isPresent()) {
+            return executor.route(logicSQL, metaData);
+        }
+        Optional<RouteContext> cachedRouteContext = routeContextCache.get(logicSQL, routeCacheKey.get().getValue(), metaData, rules, props);
+        if (cachedRouteContext.isPresent()) {
+            executor.validateCachedRouteContext(cachedRouteContext.get(), logicSQL, metaData, routeCacheKey.get());
+            return cachedRouteContext.get();
+        }
+        RouteContext result = executor.route(logicSQL, metaData, routeCacheKey.get());
+        routeContextCache.put(logicSQL, routeCacheKey.get().getValue(), metaData, rules, props, result);
+        return result;
+    }
+    
+    private SQLRouteExecutor createSQLRouteExecutor(final LogicSQL logicSQL) {
+        return isNeedAllSchemas(logicSQL.getSqlStatementContext().getSqlStatement()) ? new AllSQLRouteExecutor() : new PartialSQLRouteExecutor(rules, props);
     }
     
     // TODO use dynamic config to judge UnconfiguredSchema
     private boolean isNeedAllSchemas(final SQLStatement sqlStatement) {
         return sqlStatement instanceof MySQLShowTablesStatement || sqlStatement instanceof MySQLShowTableStatusStatement;
     }
+    
+    private boolean isCacheableStatement(final SQLStatement sqlStatement) {
+        return sqlStatement instanceof SelectStatement || sqlStatement instanceof UpdateStatement || sqlStatement instanceof DeleteStatement;
+    }
 }
@@ -18,9 +18,12 @@
 package org.apache.shardingsphere.infra.route.engine;
 
 import org.apache.shardingsphere.infra.binder.LogicSQL;
+import org.apache.shardingsphere.infra.route.context.RouteCacheKey;
 import org.apache.shardingsphere.infra.route.context.RouteContext;
 import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
 
+import java.util.Optional;
+
 /**
  * SQL route executor.
  */
@@ -34,4 +37,33 @@ public interface SQLRouteExecutor {
      * @return route context
      */
     RouteContext route(LogicSQL logicSQL, ShardingSphereMetaData metaData);
+    
+    /**
+     * Route with route cache key found before.
+     *
+     * @param logicSQL logic SQL
+     * @param metaData ShardingSphere meta data
+     * @param routeCacheKey route cache key
+     * @return route context
+     */
+    RouteContext route(LogicSQL logicSQL, ShardingSphereMetaData metaData, RouteCacheKey routeCacheKey);
+    
+    /**
+     * Find route cache key.
+     *
+     * @param logicSQL logic SQL
+     * @param metaData ShardingSphere meta data
+     * @return route cache key, route context can not be cached if absent
+     */
+    Optional<RouteCacheKey> findRouteCacheKey(LogicSQL logicSQL, ShardingSphereMetaData metaData);
+    
+    /**
+     * Validate cached route context.
+     *
+     * @param routeContext cached route context
+     * @param logicSQL logic SQL
+     * @param metaData ShardingSphere meta data
+     * @param routeCacheKey route cache key
+     */
+    void validateCachedRouteContext(RouteContext routeContext, LogicSQL logicSQL, ShardingSphereMetaData metaData, RouteCacheKey routeCacheKey);
 }
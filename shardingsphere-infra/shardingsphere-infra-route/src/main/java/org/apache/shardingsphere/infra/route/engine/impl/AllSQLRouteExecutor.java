@@ -19,12 +19,14 @@ package org.apache.shardingsphere.infra.route.engine.impl;
 
 import org.apache.shardingsphere.infra.binder.LogicSQL;
 import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.route.context.RouteCacheKey;
 import org.apache.shardingsphere.infra.route.context.RouteContext;
 import org.apache.shardingsphere.infra.route.context.RouteMapper;
 import org.apache.shardingsphere.infra.route.context.RouteUnit;
 import org.apache.shardingsphere.infra.route.engine.SQLRouteExecutor;
 
 import java.util.Collections;
+import java.util.Optional;
 
 /**
  * All SQL route executor.
@@ -39,4 +41,18 @@ public final class AllSQLRouteExecutor implements SQLRouteExecutor {
         }
         return result;
     }
+    
+    @Override
+    public RouteContext route(final LogicSQL logicSQL, final ShardingSphereMetaData metaData, final RouteCacheKey routeCacheKey) {
+        return route(logicSQL, metaData);
+    }
+    
+    @Override
+    public Optional<RouteCacheKey> findRouteCacheKey(final LogicSQL logicSQL, final ShardingSphereMetaData metaData) {
+        return Optional.empty();
+    }
+    
+    @Override
+    public void validateCachedRouteContext(final RouteContext routeContext, final LogicSQL logicSQL, final ShardingSphereMetaData metaData, final RouteCacheKey routeCacheKey) {
+    }
 }
@@ -25,6 +25,7 @@ import org.apache.shardingsphere.infra.exception.ShardingSphereException;
 import org.apache.shardingsphere.infra.hint.HintManager;
 import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
 import org.apache.shardingsphere.infra.route.SQLRouter;
+import org.apache.shardingsphere.infra.route.context.RouteCacheKey;
 import org.apache.shardingsphere.infra.route.context.RouteContext;
 import org.apache.shardingsphere.infra.route.context.RouteMapper;
 import org.apache.shardingsphere.infra.route.context.RouteUnit;
@@ -34,8 +35,11 @@ import org.apache.shardingsphere.spi.ShardingSphereServiceLoader;
 import org.apache.shardingsphere.spi.ordered.OrderedSPIRegistry;
 
 import javax.sql.DataSource;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
@@ -60,8 +64,18 @@ public final class PartialSQLRouteExecutor implements SQLRouteExecutor {
     }
     
     @Override
-    @SuppressWarnings({"unchecked", "rawtypes"})
     public RouteContext route(final LogicSQL logicSQL, final ShardingSphereMetaData metaData) {
+        return route(logicSQL, metaData, Collections.emptyMap());
+    }
+    
+    @Override
+    @SuppressWarnings("unchecked")
+    public RouteContext route(final LogicSQL logicSQL, final ShardingSphereMetaData metaData, final RouteCacheKey routeCacheKey) {
+        return route(logicSQL, metaData, (Map<ShardingSphereRule, RouteCacheKey>) routeCacheKey.getAttachment());
+    }
+    
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private RouteContext route(final LogicSQL logicSQL, final ShardingSphereMetaData metaData, final Map<ShardingSphereRule, RouteCacheKey> routeCacheKeys) {
         RouteContext result = new RouteContext();
         Optional<String> dataSourceName = findDataSourceByHint(logicSQL.getSqlStatementContext(), metaData.getResource().getDataSources());
         if (dataSourceName.isPresent()) {
@@ -70,7 +84,9 @@ public final class PartialSQLRouteExecutor implements SQLRouteExecutor {
         }
         for (Entry<ShardingSphereRule, SQLRouter> entry : routers.entrySet()) {
             if (result.getRouteUnits().isEmpty()) {
-                result = entry.getValue().createRouteContext(logicSQL, metaData, entry.getKey(), props);
+                RouteCacheKey routeCacheKey = routeCacheKeys.get(entry.getKey());
+                result = null == routeCacheKey ? entry.getValue().createRouteContext(logicSQL, metaData, entry.getKey(), props)
+                        : entry.getValue().createRouteContext(logicSQL, metaData, entry.getKey(), props, routeCacheKey);
             } else {
                 entry.getValue().decorateRouteContext(result, logicSQL, metaData, entry.getKey(), props);
             }
@@ -82,6 +98,34 @@ public final class PartialSQLRouteExecutor implements SQLRouteExecutor {
         return result;
     }
     
+    @Override
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public Optional<RouteCacheKey> findRouteCacheKey(final LogicSQL logicSQL, final ShardingSphereMetaData metaData) {
+        if (HintManager.isInstantiated()) {
+            return Optional.empty();
+        }
+        List<Object> values = new ArrayList<>(routers.size());
+        Map<ShardingSphereRule, RouteCacheKey> routeCacheKeys = new HashMap<>(routers.size(), 1);
+        for (Entry<ShardingSphereRule, SQLRouter> entry : routers.entrySet()) {
+            Optional<RouteCacheKey> routeCacheKey = entry.getValue().findRouteCacheKey(logicSQL, metaData, entry.getKey(), props);
+            if (!routeCacheKey.isPresent()) {
+                return Optional.empty();
+            }
+            values.add(routeCacheKey.get().getValue());
+            routeCacheKeys.put(entry.getKey(), routeCacheKey.get());
+        }
+        return Optional.of(new RouteCacheKey(values, routeCacheKeys));
+    }
+    
+    @Override
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public void validateCachedRouteContext(final RouteContext routeContext, final LogicSQL logicSQL, final ShardingSphereMetaData metaData, final RouteCacheKey routeCacheKey) {
+        Map<ShardingSphereRule, RouteCacheKey> routeCacheKeys = (Map<ShardingSphereRule, RouteCacheKey>) routeCacheKey.getAttachment();
+        for (Entry<ShardingSphereRule, SQLRouter> entry : routers.entrySet()) {
+            entry.getValue().validateCachedRouteContext(routeContext, logicSQL, metaData, entry.getKey(), props, routeCacheKeys.get(entry.getKey()));
+        }
+    }
+    
     private Optional<String> findDataSourceByHint(final SQLStatementContext<?> sqlStatementContext, final Map<String, DataSource> dataSources) {
         Optional<String> result;
         if (HintManager.isInstantiated() && HintManager.getDataSourceName().isPresent()) {
@@ -0,0 +1,56 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.route.context;
+
+import org.apache.shardingsphere.infra.datanode.DataNode;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class OriginalDataNodesIndexTest {
+    
+    private final Collection<Collection<DataNode>> originalDataNodes = Arrays.asList(Collections.singletonList(new DataNode("ds_0", "t_order_0")),
+            Collections.singletonList(new DataNode("ds_1", "t_order_1")), Collections.emptyList(), Collections.singletonList(new DataNode("DS_0", "T_ORDER_0")));
+    
+    @Test
+    public void assertGetPositions() {
+        BitSet actual = new OriginalDataNodesIndex(originalDataNodes).getPositions(
+                new RouteUnit(new RouteMapper("ds_0", "ds_0_write"), Collections.singletonList(new RouteMapper("t_order", "t_order_0"))));
+        assertThat(actual.toString(), is("{0, 2, 3}"));
+    }
+    
+    @Test
+    public void assertGetPositionsWithMultipleTableMappers() {
+        BitSet actual = new OriginalDataNodesIndex(originalDataNodes).getPositions(
+                new RouteUnit(new RouteMapper("ds_1", "ds_1"), Arrays.asList(new RouteMapper("t_order", "t_order_0"), new RouteMapper("t_order", "t_order_1"))));
+        assertThat(actual.toString(), is("{1, 2}"));
+    }
+    
+    @Test
+    public void assertGetPositionsWithoutMatchedDataNode() {
+        BitSet actual = new OriginalDataNodesIndex(originalDataNodes).getPositions(
+                new RouteUnit(new RouteMapper("ds_2", "ds_2"), Collections.singletonList(new RouteMapper("t_order", "t_order_0"))));
+        assertThat(actual.toString(), is("{2}"));
+    }
+}
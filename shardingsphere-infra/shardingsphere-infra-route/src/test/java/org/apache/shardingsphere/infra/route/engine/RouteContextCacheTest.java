@@ -0,0 +1,122 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.route.engine;
+
+import org.apache.shardingsphere.infra.binder.LogicSQL;
+import org.apache.shardingsphere.infra.binder.statement.CommonSQLStatementContext;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.metadata.resource.ShardingSphereResource;
+import org.apache.shardingsphere.infra.metadata.rule.ShardingSphereRuleMetaData;
+import org.apache.shardingsphere.infra.metadata.schema.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.schema.model.TableMetaData;
+import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.SelectStatement;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class RouteContextCacheTest {
+    
+    private final Collection<ShardingSphereRule> rules = Collections.emptyList();
+    
+    private final ConfigurationProperties props = new ConfigurationProperties(new Properties());
+    
+    private ShardingSphereSchema schema;
+    
+    private ShardingSphereMetaData metaData;
+    
+    private CommonSQLStatementContext<?> sqlStatementContext;
+    
+    @Before
+    public void setUp() {
+        schema = new ShardingSphereSchema();
+        metaData = new ShardingSphereMetaData("logic_schema", mock(ShardingSphereResource.class), new ShardingSphereRuleMetaData(Collections.emptyList(), rules), schema);
+        sqlStatementContext = mock(CommonSQLStatementContext.class);
+        when(sqlStatementContext.getSqlStatement()).thenReturn(mock(SelectStatement.class));
+    }
+    
+    @Test
+    public void assertGetAfterPut() {
+        RouteContextCache routeContextCache = new RouteContextCache(16);
+        RouteContext routeContext = new RouteContext();
+        routeContextCache.put(createLogicSQL(), "foo", metaData, rules, props, routeContext);
+        assertThat(routeContextCache.get(createLogicSQL(), "foo", metaData, rules, props).get(), sameInstance(routeContext));
+        assertFalse(routeContextCache.get(createLogicSQL(), "bar", metaData, rules, props).isPresent());
+    }
+    
+    @Test
+    public void assertGetWithOtherSQLStatement() {
+        RouteContextCache routeContextCache = new RouteContextCache(16);
+        routeContextCache.put(createLogicSQL(), 1, metaData, rules, props, new RouteContext());
+        CommonSQLStatementContext<?> otherSQLStatementContext = mock(CommonSQLStatementContext.class);
+        when(otherSQLStatementContext.getSqlStatement()).thenReturn(mock(SelectStatement.class));
+        assertFalse(routeContextCache.get(new LogicSQL(otherSQLStatementContext, "SELECT 1", Collections.singletonList(1)), 1, metaData, rules, props).isPresent());
+    }
+    
+    @Test
+    public void assertGetAfterSchemaChanged() {
+        RouteContextCache routeContextCache = new RouteContextCache(16);
+        routeContextCache.put(createLogicSQL(), 1, metaData, rules, props, new RouteContext());
+        schema.put("tbl", new TableMetaData("tbl"));
+        assertFalse(routeContextCache.get(createLogicSQL(), 1, metaData, rules, props).isPresent());
+    }
+    
+    @Test
+    public void assertGetAfterMetaDataChanged() {
+        RouteContextCache routeContextCache = new RouteContextCache(16);
+        routeContextCache.put(createLogicSQL(), 1, metaData, rules, props, new RouteContext());
+        ShardingSphereMetaData newMetaData = new ShardingSphereMetaData("logic_schema", mock(ShardingSphereResource.class), new ShardingSphereRuleMetaData(Collections.emptyList(), rules), schema);
+        assertFalse(routeContextCache.get(createLogicSQL(), 1, newMetaData, rules, props).isPresent());
+        assertFalse(routeContextCache.get(createLogicSQL(), 1, metaData, rules, props).isPresent());
+    }
+    
+    @Test
+    public void assertGetAfterPropsChanged() {
+        RouteContextCache routeContextCache = new RouteContextCache(16);
+        routeContextCache.put(createLogicSQL(), 1, metaData, rules, props, new RouteContext());
+        assertFalse(routeContextCache.get(createLogicSQL(), 1, metaData, rules, new ConfigurationProperties(new Properties())).isPresent());
+    }
+    
+    @Test
+    public void assertEvictLeastRecentlyUsed() {
+        RouteContextCache routeContextCache = new RouteContextCache(2);
+        RouteContext routeContext = new RouteContext();
+        routeContextCache.put(createLogicSQL(), 1, metaData, rules, props, routeContext);
+        routeContextCache.put(createLogicSQL(), 2, metaData, rules, props, new RouteContext());
+        routeContextCache.get(createLogicSQL(), 1, metaData, rules, props);
+        routeContextCache.put(createLogicSQL(), 3, metaData, rules, props, new RouteContext());
+        assertThat(routeContextCache.get(createLogicSQL(), 1, metaData, rules, props).get(), is(routeContext));
+        assertFalse(routeContextCache.get(createLogicSQL(), 2, metaData, rules, props).isPresent());
+    }
+    
+    private LogicSQL createLogicSQL() {
+        return new LogicSQL(sqlStatementContext, "SELECT * FROM tbl WHERE id = ?", Collections.singletonList(1));
+    }
+}
@@ -28,6 +28,8 @@ import org.apache.shardingsphere.infra.route.context.RouteContext;
 import org.apache.shardingsphere.infra.route.context.RouteUnit;
 import org.apache.shardingsphere.infra.route.fixture.rule.RouteFailureRuleFixture;
 import org.apache.shardingsphere.infra.route.fixture.rule.RouteRuleFixture;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.InsertStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.SelectStatement;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.Mock;
@@ -36,10 +38,13 @@ import org.mockito.junit.MockitoJUnitRunner;
 import java.util.Collections;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 @RunWith(MockitoJUnitRunner.class)
 public final class SQLRouteEngineTest {
@@ -64,6 +69,44 @@ public final class SQLRouteEngineTest {
         assertTrue(routeUnit.getTableMappers().isEmpty());
     }
     
+    @Test
+    public void assertRouteWithCacheForSelectStatement() {
+        CommonSQLStatementContext<?> sqlStatementContext = mock(CommonSQLStatementContext.class);
+        when(sqlStatementContext.getSqlStatement()).thenReturn(mock(SelectStatement.class));
+        ShardingSphereRuleMetaData ruleMetaData = new ShardingSphereRuleMetaData(Collections.emptyList(), Collections.singleton(new RouteRuleFixture()));
+        ShardingSphereMetaData metaData = new ShardingSphereMetaData("logic_schema", mock(ShardingSphereResource.class, RETURNS_DEEP_STUBS), ruleMetaData, schema);
+        SQLRouteEngine sqlRouteEngine = new SQLRouteEngine(ruleMetaData.getRules(), props);
+        RouteContextCache routeContextCache = new RouteContextCache(16);
+        RouteContext expected = sqlRouteEngine.route(new LogicSQL(sqlStatementContext, "SELECT * FROM tbl WHERE id = ?", Collections.singletonList(1)), metaData, routeContextCache);
+        assertThat(sqlRouteEngine.route(new LogicSQL(sqlStatementContext, "SELECT * FROM tbl WHERE id = ?", Collections.singletonList(1)), metaData, routeContextCache), sameInstance(expected));
+        assertThat(sqlRouteEngine.route(new LogicSQL(sqlStatementContext, "SELECT * FROM tbl WHERE id = ?", Collections.singletonList(2)), metaData, routeContextCache), not(sameInstance(expected)));
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void assertRouteWithCacheValidateCachedRouteContext() {
+        CommonSQLStatementContext<?> sqlStatementContext = mock(CommonSQLStatementContext.class);
+        when(sqlStatementContext.getSqlStatement()).thenReturn(mock(SelectStatement.class));
+        ShardingSphereRuleMetaData ruleMetaData = new ShardingSphereRuleMetaData(Collections.emptyList(), Collections.singleton(new RouteRuleFixture()));
+        ShardingSphereMetaData metaData = new ShardingSphereMetaData("logic_schema", mock(ShardingSphereResource.class, RETURNS_DEEP_STUBS), ruleMetaData, schema);
+        SQLRouteEngine sqlRouteEngine = new SQLRouteEngine(ruleMetaData.getRules(), props);
+        RouteContextCache routeContextCache = new RouteContextCache(16);
+        LogicSQL logicSQL = new LogicSQL(sqlStatementContext, "SELECT * FROM tbl WHERE id = ?", Collections.singletonList(-1));
+        assertThat(sqlRouteEngine.route(logicSQL, metaData, routeContextCache).getRouteUnits().size(), is(1));
+        sqlRouteEngine.route(logicSQL, metaData, routeContextCache);
+    }
+    
+    @Test
+    public void assertRouteWithCacheForInsertStatement() {
+        CommonSQLStatementContext<?> sqlStatementContext = mock(CommonSQLStatementContext.class);
+        when(sqlStatementContext.getSqlStatement()).thenReturn(mock(InsertStatement.class));
+        ShardingSphereRuleMetaData ruleMetaData = new ShardingSphereRuleMetaData(Collections.emptyList(), Collections.singleton(new RouteRuleFixture()));
+        ShardingSphereMetaData metaData = new ShardingSphereMetaData("logic_schema", mock(ShardingSphereResource.class, RETURNS_DEEP_STUBS), ruleMetaData, schema);
+        SQLRouteEngine sqlRouteEngine = new SQLRouteEngine(ruleMetaData.getRules(), props);
+        RouteContextCache routeContextCache = new RouteContextCache(16);
+        LogicSQL logicSQL = new LogicSQL(sqlStatementContext, "INSERT INTO tbl (id) VALUES (?)", Collections.singletonList(1));
+        assertThat(sqlRouteEngine.route(logicSQL, metaData, routeContextCache), not(sameInstance(sqlRouteEngine.route(logicSQL, metaData, routeContextCache))));
+    }
+    
     @Test(expected = UnsupportedOperationException.class)
     public void assertRouteFailure() {
         LogicSQL logicSQL = new LogicSQL(mock(CommonSQLStatementContext.class), "SELECT 1", Collections.emptyList());
@@ -19,6 +19,7 @@ package org.apache.shardingsphere.infra.route.fixture.router;
 
 import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
 import org.apache.shardingsphere.infra.route.SQLRouter;
+import org.apache.shardingsphere.infra.route.context.RouteCacheKey;
 import org.apache.shardingsphere.infra.route.context.RouteContext;
 import org.apache.shardingsphere.infra.route.context.RouteMapper;
 import org.apache.shardingsphere.infra.route.context.RouteUnit;
@@ -26,7 +27,9 @@ import org.apache.shardingsphere.infra.route.fixture.rule.RouteRuleFixture;
 import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
 import org.apache.shardingsphere.infra.binder.LogicSQL;
 
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Optional;
 
 public final class SQLRouterFixture implements SQLRouter<RouteRuleFixture> {
     
@@ -43,6 +46,19 @@ public final class SQLRouterFixture implements SQLRouter<RouteRuleFixture> {
         routeContext.getRouteUnits().add(new RouteUnit(new RouteMapper("ds", "ds_0"), Collections.emptyList()));
     }
     
+    @Override
+    public Optional<RouteCacheKey> findRouteCacheKey(final LogicSQL logicSQL, final ShardingSphereMetaData metaData, final RouteRuleFixture rule, final ConfigurationProperties props) {
+        return Optional.of(new RouteCacheKey(new ArrayList<>(logicSQL.getParameters()), null));
+    }
+    
+    @Override
+    public void validateCachedRouteContext(final RouteContext routeContext, final LogicSQL logicSQL, final ShardingSphereMetaData metaData,
+                                           final RouteRuleFixture rule, final ConfigurationProperties props, final RouteCacheKey routeCacheKey) {
+        if (logicSQL.getParameters().contains(-1)) {
+            throw new IllegalArgumentException("Invalid parameter.");
+        }
+    }
+    
     @Override
     public int getOrder() {
         return -10;
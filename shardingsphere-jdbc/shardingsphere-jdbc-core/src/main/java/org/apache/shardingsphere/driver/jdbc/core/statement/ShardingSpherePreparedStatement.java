@@ -31,7 +31,7 @@ import org.apache.shardingsphere.driver.jdbc.core.resultset.ShardingSphereResult
 import org.apache.shardingsphere.driver.jdbc.core.statement.metadata.ShardingSphereParameterMetaData;
 import org.apache.shardingsphere.driver.jdbc.exception.SQLExceptionErrorCode;
 import org.apache.shardingsphere.infra.binder.LogicSQL;
-import org.apache.shardingsphere.infra.binder.SQLStatementContextFactory;
+import org.apache.shardingsphere.infra.binder.SQLStatementContextCache;
 import org.apache.shardingsphere.infra.binder.segment.insert.keygen.GeneratedKeyContext;
 import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.binder.statement.dml.InsertStatementContext;
@@ -67,6 +67,8 @@ import org.apache.shardingsphere.infra.merge.MergeEngine;
 import org.apache.shardingsphere.infra.merge.result.MergedResult;
 import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
 import org.apache.shardingsphere.infra.parser.ShardingSphereSQLParserEngine;
+import org.apache.shardingsphere.infra.rewrite.engine.SQLRewriteCache;
+import org.apache.shardingsphere.infra.route.engine.RouteContextCache;
 import org.apache.shardingsphere.infra.rule.identifier.type.DataNodeContainedRule;
 import org.apache.shardingsphere.infra.rule.identifier.type.RawExecutionRule;
 import org.apache.shardingsphere.mode.metadata.MetaDataContexts;
@@ -96,6 +98,10 @@ import java.util.stream.Collectors;
  */
 public final class ShardingSpherePreparedStatement extends AbstractPreparedStatementAdapter {
     
+    private static final int MAX_CACHED_ROUTE_CONTEXT_SIZE = 64;
+    
+    private static final int MAX_CACHED_REWRITTEN_SQL_SIZE = 64;
+    
     @Getter
     private final ShardingSphereConnection connection;
     
@@ -109,6 +115,12 @@ public final class ShardingSpherePreparedStatement extends AbstractPreparedState
     
     private final SQLStatement sqlStatement;
     
+    private final SQLStatementContextCache sqlStatementContextCache = new SQLStatementContextCache(1);
+    
+    private final RouteContextCache routeContextCache = new RouteContextCache(MAX_CACHED_ROUTE_CONTEXT_SIZE);
+    
+    private final SQLRewriteCache sqlRewriteCache = new SQLRewriteCache(MAX_CACHED_REWRITTEN_SQL_SIZE);
+    
     private final StatementOption statementOption;
     
     @Getter
@@ -418,14 +430,15 @@ public final class ShardingSpherePreparedStatement extends AbstractPreparedState
     private ExecutionContext createExecutionContext(final LogicSQL logicSQL) {
         SQLCheckEngine.check(logicSQL.getSqlStatementContext().getSqlStatement(), logicSQL.getParameters(), 
                 metaDataContexts.getMetaData(connection.getSchema()).getRuleMetaData().getRules(), connection.getSchema(), metaDataContexts.getMetaDataMap(), null);
-        ExecutionContext result = kernelProcessor.generateExecutionContext(logicSQL, metaDataContexts.getMetaData(connection.getSchema()), metaDataContexts.getProps());
+        ExecutionContext result = kernelProcessor.generateExecutionContext(
+                logicSQL, metaDataContexts.getMetaData(connection.getSchema()), metaDataContexts.getProps(), routeContextCache, sqlRewriteCache);
         findGeneratedKey(result).ifPresent(generatedKey -> generatedValues.addAll(generatedKey.getGeneratedValues()));
         return result;
     }
     
     private LogicSQL createLogicSQL() {
         List<Object> parameters = new ArrayList<>(getParameters());
-        SQLStatementContext<?> sqlStatementContext = SQLStatementContextFactory.newInstance(metaDataContexts.getMetaDataMap(), parameters, sqlStatement, connection.getSchema());
+        SQLStatementContext<?> sqlStatementContext = sqlStatementContextCache.get(metaDataContexts.getMetaDataMap(), parameters, sqlStatement, connection.getSchema());
         return new LogicSQL(sqlStatementContext, sql, parameters);
     }
     
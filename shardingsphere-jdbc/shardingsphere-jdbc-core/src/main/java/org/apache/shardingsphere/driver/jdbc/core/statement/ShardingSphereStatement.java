@@ -22,7 +22,9 @@ import lombok.AccessLevel;
 import lombok.Getter;
 import org.apache.shardingsphere.driver.executor.DriverExecutor;
 import org.apache.shardingsphere.driver.executor.callback.ExecuteCallback;
+import org.apache.shardingsphere.driver.executor.callback.ExecuteQueryCallback;
 import org.apache.shardingsphere.driver.executor.callback.ExecuteUpdateCallback;
+import org.apache.shardingsphere.driver.executor.callback.impl.PreparedStatementExecuteQueryCallback;
 import org.apache.shardingsphere.driver.executor.callback.impl.StatementExecuteQueryCallback;
 import org.apache.shardingsphere.driver.jdbc.adapter.AbstractStatementAdapter;
 import org.apache.shardingsphere.driver.jdbc.core.connection.ShardingSphereConnection;
@@ -38,6 +40,7 @@ import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementConte
 import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.context.kernel.KernelProcessor;
 import org.apache.shardingsphere.infra.database.DefaultSchema;
+import org.apache.shardingsphere.infra.database.type.DatabaseType;
 import org.apache.shardingsphere.infra.database.type.DatabaseTypeRegistry;
 import org.apache.shardingsphere.infra.exception.ShardingSphereException;
 import org.apache.shardingsphere.infra.executor.check.SQLCheckEngine;
@@ -63,6 +66,8 @@ import org.apache.shardingsphere.infra.merge.MergeEngine;
 import org.apache.shardingsphere.infra.merge.result.MergedResult;
 import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
 import org.apache.shardingsphere.infra.parser.ShardingSphereSQLParserEngine;
+import org.apache.shardingsphere.infra.parser.parallel.ParallelSQLParserEngine;
+import org.apache.shardingsphere.infra.parser.parameterized.ParameterizedSQLStatement;
 import org.apache.shardingsphere.infra.route.context.RouteUnit;
 import org.apache.shardingsphere.infra.rule.identifier.type.DataNodeContainedRule;
 import org.apache.shardingsphere.infra.rule.identifier.type.RawExecutionRule;
@@ -74,11 +79,14 @@ import org.apache.shardingsphere.traffic.context.TrafficContext;
 import org.apache.shardingsphere.traffic.engine.TrafficEngine;
 import org.apache.shardingsphere.traffic.rule.TrafficRule;
 
+import java.sql.BatchUpdateException;
 import java.sql.Connection;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedList;
@@ -105,6 +113,8 @@ public final class ShardingSphereStatement extends AbstractStatementAdapter {
     
     private final KernelProcessor kernelProcessor;
     
+    private final List<String> batchSQLs = new LinkedList<>();
+    
     private boolean returnGeneratedKeys;
     
     private ExecutionContext executionContext;
@@ -139,7 +149,7 @@ public final class ShardingSphereStatement extends AbstractStatementAdapter {
         }
         ResultSet result;
         try {
-            LogicSQL logicSQL = createLogicSQL(sql);
+            LogicSQL logicSQL = createLogicSQL(sql, true);
             trafficContext = createTrafficContext(logicSQL);
             if (trafficContext.isMatchTraffic()) {
                 JDBCExecutionUnit executionUnit = createTrafficExecutionUnit(trafficContext);
@@ -174,48 +184,79 @@ public final class ShardingSphereStatement extends AbstractStatementAdapter {
             return executor.getRawExecutor().execute(createRawExecutionContext(), executionContext.getLogicSQL(),
                     new RawSQLExecutorCallback()).stream().map(each -> (QueryResult) each).collect(Collectors.toList());
         }
-        ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext = createExecutionContext();
+        boolean parameterized = !executionContext.getLogicSQL().getParameters().isEmpty();
+        ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext = createDriverExecutionPrepareEngine(getDriverType(parameterized))
+                .prepare(executionContext.getRouteContext(), executionContext.getExecutionUnits());
         cacheStatements(executionGroupContext.getInputGroups());
-        StatementExecuteQueryCallback callback = new StatementExecuteQueryCallback(metaDataContexts.getMetaData(connection.getSchema()).getResource().getDatabaseType(),
-                executionContext.getSqlStatementContext().getSqlStatement(), SQLExecutorExceptionHandler.isExceptionThrown());
-        return executor.getRegularExecutor().executeQuery(executionGroupContext, executionContext.getLogicSQL(), callback);
+        if (parameterized) {
+            setParameters(executionGroupContext.getInputGroups());
+        }
+        return executor.getRegularExecutor().executeQuery(executionGroupContext, executionContext.getLogicSQL(), createExecuteQueryCallback(parameterized));
     }
     
     private ResultSet executeFederationQuery(final LogicSQL logicSQL) throws SQLException {
-        StatementExecuteQueryCallback callback = new StatementExecuteQueryCallback(metaDataContexts.getMetaData(connection.getSchema()).getResource().getDatabaseType(),
-                executionContext.getSqlStatementContext().getSqlStatement(), SQLExecutorExceptionHandler.isExceptionThrown());
+        boolean parameterized = !logicSQL.getParameters().isEmpty();
         FederationContext context = new FederationContext(false, logicSQL, metaDataContexts.getMetaDataMap());
-        return executor.getFederationExecutor().executeQuery(createDriverExecutionPrepareEngine(), callback, context);
+        return executor.getFederationExecutor().executeQuery(createDriverExecutionPrepareEngine(getDriverType(parameterized)), createExecuteQueryCallback(parameterized), context);
+    }
+    
+    private String getDriverType(final boolean parameterized) {
+        return parameterized ? JDBCDriverType.PREPARED_STATEMENT : JDBCDriverType.STATEMENT;
+    }
+    
+    private ExecuteQueryCallback createExecuteQueryCallback(final boolean parameterized) {
+        DatabaseType databaseType = metaDataContexts.getMetaData(connection.getSchema()).getResource().getDatabaseType();
+        SQLStatement sqlStatement = executionContext.getSqlStatementContext().getSqlStatement();
+        return parameterized ? new PreparedStatementExecuteQueryCallback(databaseType, sqlStatement, SQLExecutorExceptionHandler.isExceptionThrown())
+                : new StatementExecuteQueryCallback(databaseType, sqlStatement, SQLExecutorExceptionHandler.isExceptionThrown());
+    }
+    
+    private void setParameters(final Collection<ExecutionGroup<JDBCExecutionUnit>> executionGroups) throws SQLException {
+        for (ExecutionGroup<JDBCExecutionUnit> each : executionGroups) {
+            for (JDBCExecutionUnit executionUnit : each.getInputs()) {
+                int index = 1;
+                for (Object parameter : executionUnit.getExecutionUnit().getSqlUnit().getParameters()) {
+                    ((PreparedStatement) executionUnit.getStorageResource()).setObject(index++, parameter);
+                }
+            }
+        }
     }
     
     private DriverExecutionPrepareEngine<JDBCExecutionUnit, Connection> createDriverExecutionPrepareEngine() {
+        return createDriverExecutionPrepareEngine(JDBCDriverType.STATEMENT);
+    }
+    
+    private DriverExecutionPrepareEngine<JDBCExecutionUnit, Connection> createDriverExecutionPrepareEngine(final String driverType) {
         int maxConnectionsSizePerQuery = metaDataContexts.getProps().<Integer>getValue(ConfigurationPropertyKey.MAX_CONNECTIONS_SIZE_PER_QUERY);
-        return new DriverExecutionPrepareEngine<>(JDBCDriverType.STATEMENT, maxConnectionsSizePerQuery, connection.getConnectionManager(), 
+        return new DriverExecutionPrepareEngine<>(driverType, maxConnectionsSizePerQuery, connection.getConnectionManager(), 
                 statementOption, metaDataContexts.getMetaData(connection.getSchema()).getRuleMetaData().getRules());
     }
     
     @Override
     public int executeUpdate(final String sql) throws SQLException {
         try {
-            LogicSQL logicSQL = createLogicSQL(sql);
-            trafficContext = createTrafficContext(logicSQL);
-            if (trafficContext.isMatchTraffic()) {
-                JDBCExecutionUnit executionUnit = createTrafficExecutionUnit(trafficContext);
-                return executor.getTrafficExecutor().execute(executionUnit, Statement::executeUpdate);
-            }
-            executionContext = createExecutionContext(logicSQL);
-            if (metaDataContexts.getMetaData(connection.getSchema()).getRuleMetaData().getRules().stream().anyMatch(each -> each instanceof RawExecutionRule)) {
-                return accumulate(executor.getRawExecutor().execute(createRawExecutionContext(), executionContext.getLogicSQL(), new RawSQLExecutorCallback()));
-            }
-            ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext = createExecutionContext();
-            cacheStatements(executionGroupContext.getInputGroups());
-            return executeUpdate(executionGroupContext,
-                (actualSQL, statement) -> statement.executeUpdate(actualSQL), executionContext.getSqlStatementContext(), executionContext.getRouteContext().getRouteUnits());
+            return executeUpdate(createLogicSQL(sql));
         } finally {
             currentResultSet = null;
         }
     }
     
+    private int executeUpdate(final LogicSQL logicSQL) throws SQLException {
+        trafficContext = createTrafficContext(logicSQL);
+        if (trafficContext.isMatchTraffic()) {
+            JDBCExecutionUnit executionUnit = createTrafficExecutionUnit(trafficContext);
+            return executor.getTrafficExecutor().execute(executionUnit, Statement::executeUpdate);
+        }
+        executionContext = createExecutionContext(logicSQL);
+        if (metaDataContexts.getMetaData(connection.getSchema()).getRuleMetaData().getRules().stream().anyMatch(each -> each instanceof RawExecutionRule)) {
+            return accumulate(executor.getRawExecutor().execute(createRawExecutionContext(), executionContext.getLogicSQL(), new RawSQLExecutorCallback()));
+        }
+        ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext = createExecutionContext();
+        cacheStatements(executionGroupContext.getInputGroups());
+        return executeUpdate(executionGroupContext,
+            (actualSQL, statement) -> statement.executeUpdate(actualSQL), executionContext.getSqlStatementContext(), executionContext.getRouteContext().getRouteUnits());
+    }
+    
     @Override
     public int executeUpdate(final String sql, final int autoGeneratedKeys) throws SQLException {
         if (RETURN_GENERATED_KEYS == autoGeneratedKeys) {
@@ -385,6 +426,51 @@ public final class ShardingSphereStatement extends AbstractStatementAdapter {
         }
     }
     
+    @Override
+    public void addBatch(final String sql) throws SQLException {
+        if (Strings.isNullOrEmpty(sql)) {
+            SQLExceptionErrorCode errorCode = SQLExceptionErrorCode.SQL_STRING_NULL_OR_EMPTY;
+            throw new SQLException(errorCode.getErrorMessage(), errorCode.getSqlState(), errorCode.getErrorCode());
+        }
+        batchSQLs.add(sql);
+    }
+    
+    @Override
+    public void clearBatch() {
+        batchSQLs.clear();
+    }
+    
+    @Override
+    public int[] executeBatch() throws SQLException {
+        int[] result = new int[batchSQLs.size()];
+        int index = 0;
+        try {
+            List<SQLStatement> sqlStatements = parseBatchSQLs();
+            for (String each : batchSQLs) {
+                result[index] = executeUpdate(createLogicSQL(each, sqlStatements.get(index)));
+                index++;
+            }
+            return result;
+        } catch (final SQLException ex) {
+            throw new BatchUpdateException(ex.getMessage(), ex.getSQLState(), ex.getErrorCode(), Arrays.copyOf(result, index), ex);
+        } finally {
+            currentResultSet = null;
+            batchSQLs.clear();
+        }
+    }
+    
+    private List<SQLStatement> parseBatchSQLs() throws SQLException {
+        ParallelSQLParserEngine parallelSQLParserEngine = metaDataContexts.getParallelSQLParserEngine(
+                DatabaseTypeRegistry.getTrunkDatabaseTypeName(metaDataContexts.getMetaData(connection.getSchema()).getResource().getDatabaseType()));
+        try {
+            return parallelSQLParserEngine.parse(new ArrayList<>(batchSQLs), false);
+            // CHECKSTYLE:OFF
+        } catch (final RuntimeException ex) {
+            // CHECKSTYLE:ON
+            throw new SQLException(ex.getMessage(), ex);
+        }
+    }
+    
     private JDBCExecutionUnit createTrafficExecutionUnit(final TrafficContext trafficContext) throws SQLException {
         DriverExecutionPrepareEngine<JDBCExecutionUnit, Connection> prepareEngine = createDriverExecutionPrepareEngine();
         ExecutionGroupContext<JDBCExecutionUnit> context = prepareEngine.prepare(trafficContext.getRouteContext(), trafficContext.getExecutionUnits());
@@ -399,14 +485,34 @@ public final class ShardingSphereStatement extends AbstractStatementAdapter {
     }
     
     private LogicSQL createLogicSQL(final String sql) {
+        return createLogicSQL(sql, false);
+    }
+    
+    private LogicSQL createLogicSQL(final String sql, final boolean parameterizable) {
+        SQLParserRule sqlParserRule = findSQLParserRule();
         ShardingSphereSQLParserEngine sqlParserEngine = new ShardingSphereSQLParserEngine(
-                DatabaseTypeRegistry.getTrunkDatabaseTypeName(metaDataContexts.getMetaData(connection.getSchema()).getResource().getDatabaseType()), findSQLParserRule());
-        SQLStatement sqlStatement = sqlParserEngine.parse(sql, false);
+                DatabaseTypeRegistry.getTrunkDatabaseTypeName(metaDataContexts.getMetaData(connection.getSchema()).getResource().getDatabaseType()), sqlParserRule);
+        if (parameterizable && isSQLLiteralParameterizeEnabled(sqlParserRule)) {
+            ParameterizedSQLStatement parameterizedSQLStatement = sqlParserEngine.parseParameterized(sql);
+            SQLStatementContext<?> sqlStatementContext = SQLStatementContextFactory.newInstance(metaDataContexts.getMetaDataMap(), parameterizedSQLStatement.getParameters(),
+                    parameterizedSQLStatement.getSqlStatement(), connection.getSchema());
+            return new LogicSQL(sqlStatementContext, parameterizedSQLStatement.getSql(), parameterizedSQLStatement.getParameters());
+        }
+        return createLogicSQL(sql, sqlParserEngine.parse(sql, false));
+    }
+    
+    private LogicSQL createLogicSQL(final String sql, final SQLStatement sqlStatement) {
         SQLStatementContext<?> sqlStatementContext = SQLStatementContextFactory.newInstance(metaDataContexts.getMetaDataMap(), Collections.emptyList(), sqlStatement,
                 connection.getSchema());
         return new LogicSQL(sqlStatementContext, sql, Collections.emptyList());
     }
     
+    private boolean isSQLLiteralParameterizeEnabled(final SQLParserRule sqlParserRule) {
+        return null != sqlParserRule && sqlParserRule.isSqlLiteralParameterizeEnabled() && !metaDataContexts.getGlobalRuleMetaData().findSingleRule(TrafficRule.class).isPresent()
+                && "MySQL".equals(DatabaseTypeRegistry.getTrunkDatabaseTypeName(metaDataContexts.getMetaData(connection.getSchema()).getResource().getDatabaseType()))
+                && metaDataContexts.getMetaData(connection.getSchema()).getRuleMetaData().getRules().stream().noneMatch(each -> each instanceof RawExecutionRule);
+    }
+    
     private SQLParserRule findSQLParserRule() {
         Optional<SQLParserRule> optionalSQLParserRule = metaDataContexts.getGlobalRuleMetaData().findSingleRule(SQLParserRule.class);
         return optionalSQLParserRule.orElse(null);
@@ -29,7 +29,7 @@ import java.sql.Statement;
 public abstract class AbstractUnsupportedOperationStatement extends WrapperAdapter implements Statement {
 
     @Override
-    public final void addBatch(final String sql) throws SQLException {
+    public void addBatch(final String sql) throws SQLException {
         throw new SQLFeatureNotSupportedException("addBatch sql");
     }
     
@@ -18,19 +18,27 @@
 package org.apache.shardingsphere.driver.jdbc.core.statement;
 
 import org.apache.shardingsphere.driver.jdbc.base.AbstractShardingSphereDataSourceForShardingTest;
+import org.apache.shardingsphere.infra.config.RuleConfiguration;
 import org.apache.shardingsphere.infra.database.DefaultSchema;
+import org.apache.shardingsphere.mode.manager.ContextManager;
+import org.apache.shardingsphere.parser.config.SQLParserRuleConfiguration;
+import org.apache.shardingsphere.parser.rule.builder.DefaultSQLParserRuleConfigurationBuilder;
 import org.junit.Test;
 
+import java.sql.BatchUpdateException;
 import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.Collection;
+import java.util.Collections;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
 public final class ShardingSphereStatementTest extends AbstractShardingSphereDataSourceForShardingTest {
     
@@ -125,4 +133,73 @@ public final class ShardingSphereStatementTest extends AbstractShardingSphereDat
             assertThat(resultSet.getString(1), is(DefaultSchema.LOGIC_NAME));
         }
     }
+    
+    @Test
+    public void assertExecuteBatch() throws SQLException {
+        try (Statement statement = getShardingSphereDataSource().getConnection().createStatement()) {
+            statement.addBatch("UPDATE t_order SET status = 'a;b' WHERE user_id = 10");
+            statement.addBatch("DELETE FROM t_order WHERE user_id = 11 AND order_id = 1100");
+            statement.addBatch("UPDATE t_order SET status = 'none' WHERE user_id = 12");
+            assertThat(statement.executeBatch(), is(new int[]{2, 1, 0}));
+            assertThat(statement.executeBatch().length, is(0));
+            ResultSet resultSet = statement.executeQuery("SELECT status FROM t_order WHERE user_id = 10 AND order_id = 1000");
+            assertTrue(resultSet.next());
+            assertThat(resultSet.getString(1), is("a;b"));
+        }
+    }
+    
+    @Test
+    public void assertExecuteBatchWithInvalidSQL() throws SQLException {
+        try (Statement statement = getShardingSphereDataSource().getConnection().createStatement()) {
+            statement.addBatch("UPDATE t_order SET status = 'batch' WHERE user_id = 10");
+            statement.addBatch("UPDATE t_order SET status = 'batch' WHERE user_id = 11");
+            statement.clearBatch();
+            statement.addBatch("DELETE FROM t_order WHERE user_id = 10 AND order_id = 1000");
+            statement.addBatch("DELETE FROM t_order_not_existed WHERE user_id = 10");
+            try {
+                statement.executeBatch();
+                fail("Expected BatchUpdateException");
+            } catch (final BatchUpdateException ex) {
+                assertThat(ex.getUpdateCounts(), is(new int[]{1}));
+            }
+        }
+    }
+    
+    @Test
+    public void assertExecuteBatchWithUnparsableSQL() throws SQLException {
+        try (Statement statement = getShardingSphereDataSource().getConnection().createStatement()) {
+            statement.addBatch("DELETE FROM t_order WHERE user_id = 10 AND order_id = 1000");
+            statement.addBatch("DELETE t_order WHERE user_id = ");
+            try {
+                statement.executeBatch();
+                fail("Expected BatchUpdateException");
+            } catch (final BatchUpdateException ex) {
+                assertThat(ex.getUpdateCounts(), is(new int[0]));
+            }
+            assertThat(statement.executeBatch().length, is(0));
+        }
+    }
+    
+    @Test
+    public void assertExecuteQueryWithSQLLiteralParameterized() throws SQLException {
+        ContextManager contextManager = getShardingSphereDataSource().getContextManager();
+        Collection<RuleConfiguration> originalRuleConfigs = contextManager.getMetaDataContexts().getGlobalRuleMetaData().getConfigurations();
+        SQLParserRuleConfiguration sqlParserRuleConfig = new DefaultSQLParserRuleConfigurationBuilder().build();
+        sqlParserRuleConfig.setSqlLiteralParameterizeEnabled(true);
+        contextManager.alterGlobalRuleConfiguration(Collections.singleton(sqlParserRuleConfig));
+        String sql = "SELECT order_id, status FROM t_order WHERE user_id = %d AND order_id = %d AND status = 'init'";
+        try (Statement statement = getShardingSphereDataSource().getConnection().createStatement()) {
+            ResultSet resultSet = statement.executeQuery(String.format(sql, 10, 1001));
+            assertTrue(resultSet.next());
+            assertThat(resultSet.getInt(1), is(1001));
+            assertThat(resultSet.getString(2), is("init"));
+            assertFalse(resultSet.next());
+            resultSet = statement.executeQuery(String.format(sql, 11, 1100));
+            assertTrue(resultSet.next());
+            assertThat(resultSet.getInt(1), is(1100));
+            assertFalse(resultSet.next());
+        } finally {
+            contextManager.alterGlobalRuleConfiguration(originalRuleConfigs);
+        }
+    }
 }
@@ -31,21 +31,6 @@ public final class UnsupportedOperationStatementTest {
     
     private final ShardingSphereStatement shardingSphereStatement = new ShardingSphereStatement(mock(ShardingSphereConnection.class, RETURNS_DEEP_STUBS));
     
-    @Test(expected = SQLFeatureNotSupportedException.class)
-    public void assertAddBatch() throws SQLException {
-        shardingSphereStatement.addBatch("");
-    }
-    
-    @Test(expected = SQLFeatureNotSupportedException.class)
-    public void assertClearBatch() throws SQLException {
-        shardingSphereStatement.clearBatch();
-    }
-    
-    @Test(expected = SQLFeatureNotSupportedException.class)
-    public void assertExecuteBatch() throws SQLException {
-        shardingSphereStatement.executeBatch();
-    }
-    
     @Test(expected = SQLFeatureNotSupportedException.class)
     public void assertCloseOnCompletion() throws SQLException {
         shardingSphereStatement.closeOnCompletion();
@@ -23,6 +23,7 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 import org.apache.shardingsphere.infra.config.scope.GlobalRuleConfiguration;
 import org.apache.shardingsphere.sql.parser.api.CacheOption;
+import org.apache.shardingsphere.sql.parser.api.SQLParserEngine;
 
 /**
  * SQL parser rule configuration.
@@ -38,4 +39,10 @@ public class SQLParserRuleConfiguration implements GlobalRuleConfiguration {
     private CacheOption parseTreeCache;
     
     private CacheOption sqlStatementCache;
+    
+    private boolean sqlLiteralParameterizeEnabled;
+    
+    private boolean fastPathParseEnabled;
+    
+    private int trimParseTreeThreshold = SQLParserEngine.DEFAULT_TRIM_PARSE_TREE_THRESHOLD;
 }
@@ -34,10 +34,19 @@ public final class SQLParserRule implements GlobalRule {
 
     private final CacheOption parseTreeCache;
     
+    private final boolean sqlLiteralParameterizeEnabled;
+    
+    private final boolean fastPathParseEnabled;
+    
+    private final int trimParseTreeThreshold;
+    
     public SQLParserRule(final SQLParserRuleConfiguration ruleConfig) {
         this.sqlCommentParseEnabled = ruleConfig.isSqlCommentParseEnabled();
         this.sqlStatementCache = ruleConfig.getSqlStatementCache();
         this.parseTreeCache = ruleConfig.getParseTreeCache();
+        this.sqlLiteralParameterizeEnabled = ruleConfig.isSqlLiteralParameterizeEnabled();
+        this.fastPathParseEnabled = ruleConfig.isFastPathParseEnabled();
+        this.trimParseTreeThreshold = ruleConfig.getTrimParseTreeThreshold();
     }
     
     @Override
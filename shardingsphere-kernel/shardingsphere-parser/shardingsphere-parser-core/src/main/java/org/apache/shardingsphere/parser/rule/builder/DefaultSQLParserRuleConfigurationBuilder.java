@@ -21,6 +21,7 @@ import org.apache.shardingsphere.infra.rule.builder.global.DefaultGlobalRuleConf
 import org.apache.shardingsphere.parser.config.SQLParserRuleConfiguration;
 import org.apache.shardingsphere.parser.constant.SQLParserOrder;
 import org.apache.shardingsphere.sql.parser.api.CacheOption;
+import org.apache.shardingsphere.sql.parser.api.SQLParserEngine;
 
 /**
  * Default SQL parser rule configuration builder.
@@ -33,7 +34,7 @@ public final class DefaultSQLParserRuleConfigurationBuilder implements DefaultGl
     
     @Override
     public SQLParserRuleConfiguration build() {
-        return new SQLParserRuleConfiguration(false, PARSE_TREE_CACHE_OPTION, SQL_STATEMENT_CACHE_OPTION);
+        return new SQLParserRuleConfiguration(false, PARSE_TREE_CACHE_OPTION, SQL_STATEMENT_CACHE_OPTION, false, false, SQLParserEngine.DEFAULT_TRIM_PARSE_TREE_THRESHOLD);
     }
     
     @Override
@@ -33,4 +33,6 @@ public final class YamlSQLParserCacheOptionRuleConfiguration implements YamlConf
     private long maximumSize;
 
     private int concurrencyLevel;
+
+    private long maximumWeight;
 }
@@ -35,6 +35,12 @@ public final class YamlSQLParserRuleConfiguration implements YamlRuleConfigurati
     
     private YamlSQLParserCacheOptionRuleConfiguration parseTreeCache;
     
+    private boolean sqlLiteralParameterizeEnabled;
+    
+    private boolean fastPathParseEnabled;
+    
+    private Integer trimParseTreeThreshold;
+    
     @Override
     public Class<SQLParserRuleConfiguration> getRuleConfigurationType() {
         return SQLParserRuleConfiguration.class;
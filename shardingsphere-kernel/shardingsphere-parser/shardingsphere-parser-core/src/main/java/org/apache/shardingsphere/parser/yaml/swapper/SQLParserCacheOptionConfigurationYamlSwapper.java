@@ -32,12 +32,13 @@ public final class SQLParserCacheOptionConfigurationYamlSwapper implements YamlC
         result.setInitialCapacity(data.getInitialCapacity());
         result.setMaximumSize(data.getMaximumSize());
         result.setConcurrencyLevel(data.getConcurrencyLevel());
+        result.setMaximumWeight(data.getMaximumWeight());
         return result;
     }
     
     @Override
     public CacheOption swapToObject(final YamlSQLParserCacheOptionRuleConfiguration yamlConfig) {
-        return new CacheOption(yamlConfig.getInitialCapacity(), yamlConfig.getMaximumSize(), yamlConfig.getConcurrencyLevel());
+        return new CacheOption(yamlConfig.getInitialCapacity(), yamlConfig.getMaximumSize(), yamlConfig.getConcurrencyLevel(), yamlConfig.getMaximumWeight());
     }
 }
 
@@ -23,6 +23,7 @@ import org.apache.shardingsphere.parser.constant.SQLParserOrder;
 import org.apache.shardingsphere.parser.rule.builder.DefaultSQLParserRuleConfigurationBuilder;
 import org.apache.shardingsphere.parser.yaml.config.YamlSQLParserRuleConfiguration;
 import org.apache.shardingsphere.sql.parser.api.CacheOption;
+import org.apache.shardingsphere.sql.parser.api.SQLParserEngine;
 
 /**
  * SQL parser rule configuration YAML swapper.
@@ -37,6 +38,9 @@ public final class SQLParserRuleConfigurationYamlSwapper implements YamlRuleConf
         result.setSqlCommentParseEnabled(data.isSqlCommentParseEnabled());
         result.setParseTreeCache(cacheOptionSwapper.swapToYamlConfiguration(data.getParseTreeCache()));
         result.setSqlStatementCache(cacheOptionSwapper.swapToYamlConfiguration(data.getSqlStatementCache()));
+        result.setSqlLiteralParameterizeEnabled(data.isSqlLiteralParameterizeEnabled());
+        result.setFastPathParseEnabled(data.isFastPathParseEnabled());
+        result.setTrimParseTreeThreshold(data.getTrimParseTreeThreshold());
         return result;
     }
 
@@ -46,7 +50,9 @@ public final class SQLParserRuleConfigurationYamlSwapper implements YamlRuleConf
                 ? DefaultSQLParserRuleConfigurationBuilder.PARSE_TREE_CACHE_OPTION : cacheOptionSwapper.swapToObject(yamlConfig.getParseTreeCache());
         CacheOption sqlStatementCacheOption = null == yamlConfig.getSqlStatementCache()
                 ? DefaultSQLParserRuleConfigurationBuilder.SQL_STATEMENT_CACHE_OPTION : cacheOptionSwapper.swapToObject(yamlConfig.getSqlStatementCache());
-        return new SQLParserRuleConfiguration(yamlConfig.isSqlCommentParseEnabled(), parseTreeCacheOption, sqlStatementCacheOption);
+        int trimParseTreeThreshold = null == yamlConfig.getTrimParseTreeThreshold() ? SQLParserEngine.DEFAULT_TRIM_PARSE_TREE_THRESHOLD : yamlConfig.getTrimParseTreeThreshold();
+        return new SQLParserRuleConfiguration(yamlConfig.isSqlCommentParseEnabled(), parseTreeCacheOption, sqlStatementCacheOption,
+                yamlConfig.isSqlLiteralParameterizeEnabled(), yamlConfig.isFastPathParseEnabled(), trimParseTreeThreshold);
     }
     
     @Override
@@ -45,6 +45,7 @@ public class SQLParserSpringBootStarterTest {
         assertThat(sqlParserRuleConfiguration.isSqlCommentParseEnabled(), is(true));
         assertCacheOption(sqlParserRuleConfiguration.getParseTreeCache());
         assertCacheOption(sqlParserRuleConfiguration.getSqlStatementCache());
+        assertThat(sqlParserRuleConfiguration.getSqlStatementCache().getMaximumWeight(), is(65536L));
     }
 
     private void assertCacheOption(final CacheOption cacheOption) {
@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.parser.spring.namespace.parser;
 
+import com.google.common.base.Strings;
 import org.apache.shardingsphere.parser.spring.namespace.tag.SQLParserRuleBeanDefinitionTag;
 import org.apache.shardingsphere.sql.parser.api.CacheOption;
 import org.springframework.beans.factory.support.AbstractBeanDefinition;
@@ -36,6 +37,10 @@ public class CacheOptionBeanDefinitionParser extends AbstractBeanDefinitionParse
         factory.addPropertyValue("initialCapacity", element.getAttribute(SQLParserRuleBeanDefinitionTag.INITIAL_CAPACITY));
         factory.addPropertyValue("maximumSize", element.getAttribute(SQLParserRuleBeanDefinitionTag.MAXIMUM_SIZE));
         factory.addPropertyValue("concurrencyLevel", element.getAttribute(SQLParserRuleBeanDefinitionTag.CONCURRENCY_LEVEL));
+        String maximumWeight = element.getAttribute(SQLParserRuleBeanDefinitionTag.MAXIMUM_WEIGHT);
+        if (!Strings.isNullOrEmpty(maximumWeight)) {
+            factory.addPropertyValue("maximumWeight", maximumWeight);
+        }
         return factory.getBeanDefinition();
     }
 }
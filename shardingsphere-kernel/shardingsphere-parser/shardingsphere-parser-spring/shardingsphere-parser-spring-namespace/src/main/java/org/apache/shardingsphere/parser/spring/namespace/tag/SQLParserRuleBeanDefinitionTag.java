@@ -40,5 +40,7 @@ public final class SQLParserRuleBeanDefinitionTag {
     
     public static final String CONCURRENCY_LEVEL = "concurrency-level";
     
+    public static final String MAXIMUM_WEIGHT = "maximum-weight";
+    
     public static final String CACHE_OPTION = "cache-option";
 }
@@ -38,7 +38,9 @@ public final class SQLParserSpringNamespaceTest extends AbstractJUnit4SpringCont
     public void assertSQLParserRule() {
         assertThat(sqlParserRuleConfiguration.isSqlCommentParseEnabled(), is(true));
         assertCacheOption(sqlParserRuleConfiguration.getSqlStatementCache());
+        assertThat(sqlParserRuleConfiguration.getSqlStatementCache().getMaximumWeight(), is(65536L));
         assertCacheOption(sqlParserRuleConfiguration.getParseTreeCache());
+        assertThat(sqlParserRuleConfiguration.getParseTreeCache().getMaximumWeight(), is(0L));
     }
 
     private void assertCacheOption(final CacheOption cacheOption) {
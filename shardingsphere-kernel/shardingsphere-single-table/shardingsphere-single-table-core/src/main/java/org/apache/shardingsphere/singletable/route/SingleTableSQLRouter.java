@@ -26,6 +26,7 @@ import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
 import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
 import org.apache.shardingsphere.infra.route.SQLRouter;
+import org.apache.shardingsphere.infra.route.context.RouteCacheKey;
 import org.apache.shardingsphere.infra.route.context.RouteContext;
 import org.apache.shardingsphere.singletable.constant.SingleTableOrder;
 import org.apache.shardingsphere.singletable.rule.SingleTableRule;
@@ -33,7 +34,9 @@ import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.table.Sim
 import org.apache.shardingsphere.sql.parser.sql.common.statement.ddl.CreateTableStatement;
 
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.Optional;
 
 /**
  * Single table SQL router.
@@ -86,6 +89,11 @@ public final class SingleTableSQLRouter implements SQLRouter<SingleTableRule> {
         route(logicSQL.getSqlStatementContext(), rule, routeContext, props);
     }
     
+    @Override
+    public Optional<RouteCacheKey> findRouteCacheKey(final LogicSQL logicSQL, final ShardingSphereMetaData metaData, final SingleTableRule rule, final ConfigurationProperties props) {
+        return Optional.of(new RouteCacheKey(Collections.emptyList(), null));
+    }
+    
     @Override
     public int getOrder() {
         return SingleTableOrder.ORDER;
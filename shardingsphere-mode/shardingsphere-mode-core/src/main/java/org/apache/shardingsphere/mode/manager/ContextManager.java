@@ -141,6 +141,7 @@ public final class ContextManager implements AutoCloseable {
             metaDataContexts.getOptimizerContext().getFederationMetaData().getSchemas().remove(schemaName);
             metaDataContexts.getOptimizerContext().getParserContexts().remove(schemaName);
             metaDataContexts.getOptimizerContext().getPlannerContexts().remove(schemaName);
+            metaDataContexts.getDataNodeStatisticsRegistries().remove(schemaName);
             ShardingSphereMetaData removeMetaData = metaDataContexts.getMetaDataMap().remove(schemaName);
             closeDataSources(removeMetaData);
             removeAndCloseTransactionEngine(schemaName);
@@ -279,7 +280,8 @@ public final class ContextManager implements AutoCloseable {
      * @param props props
      */
     public void alterProps(final Properties props) {
-        renewMetaDataContexts(rebuildMetaDataContexts(new ConfigurationProperties(props)));
+        ConfigurationProperties configurationProps = new ConfigurationProperties(props);
+        renewMetaDataContexts(rebuildMetaDataContexts(configurationProps));
     }
     
     /**
@@ -382,19 +384,19 @@ public final class ContextManager implements AutoCloseable {
     private MetaDataContexts rebuildMetaDataContexts(final Map<String, ShardingSphereMetaData> schemaMetaData) {
         return new MetaDataContexts(metaDataContexts.getMetaDataPersistService().orElse(null),
                 schemaMetaData, metaDataContexts.getGlobalRuleMetaData(), metaDataContexts.getExecutorEngine(),
-                metaDataContexts.getProps(), metaDataContexts.getOptimizerContext());
+                metaDataContexts.getProps(), metaDataContexts.getOptimizerContext(), metaDataContexts.getDataNodeStatisticsRegistries());
     }
     
     private MetaDataContexts rebuildMetaDataContexts(final ShardingSphereRuleMetaData globalRuleMetaData) {
         return new MetaDataContexts(metaDataContexts.getMetaDataPersistService().orElse(null),
                 metaDataContexts.getMetaDataMap(), globalRuleMetaData, metaDataContexts.getExecutorEngine(),
-                metaDataContexts.getProps(), metaDataContexts.getOptimizerContext());
+                metaDataContexts.getProps(), metaDataContexts.getOptimizerContext(), metaDataContexts.getDataNodeStatisticsRegistries());
     }
     
     private MetaDataContexts rebuildMetaDataContexts(final ConfigurationProperties props) {
         return new MetaDataContexts(metaDataContexts.getMetaDataPersistService().orElse(null),
                 metaDataContexts.getMetaDataMap(), metaDataContexts.getGlobalRuleMetaData(), metaDataContexts.getExecutorEngine(),
-                props, metaDataContexts.getOptimizerContext());
+                props, metaDataContexts.getOptimizerContext(), metaDataContexts.getDataNodeStatisticsRegistries());
     }
     
     private void refreshMetaDataContext(final String schemaName, final Map<String, DataSourceProperties> dataSourceProps) throws SQLException {
@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.mode.metadata;
 
+import lombok.AccessLevel;
 import lombok.Getter;
 import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
 import org.apache.shardingsphere.infra.executor.kernel.ExecutorEngine;
@@ -25,7 +26,10 @@ import org.apache.shardingsphere.infra.federation.optimizer.context.OptimizerCon
 import org.apache.shardingsphere.infra.lock.ShardingSphereLock;
 import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
 import org.apache.shardingsphere.infra.metadata.rule.ShardingSphereRuleMetaData;
+import org.apache.shardingsphere.infra.parser.parallel.ParallelSQLParserEngine;
+import org.apache.shardingsphere.infra.statistics.DataNodeStatisticsRegistry;
 import org.apache.shardingsphere.mode.metadata.persist.MetaDataPersistService;
+import org.apache.shardingsphere.parser.rule.SQLParserRule;
 
 import java.util.Collection;
 import java.util.Collections;
@@ -34,6 +38,7 @@ import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Meta data contexts.
@@ -53,6 +58,11 @@ public final class MetaDataContexts implements AutoCloseable {
     
     private final ConfigurationProperties props;
     
+    private final Map<String, DataNodeStatisticsRegistry> dataNodeStatisticsRegistries;
+    
+    @Getter(AccessLevel.NONE)
+    private final Map<String, ParallelSQLParserEngine> parallelSQLParserEngines = new ConcurrentHashMap<>();
+    
     public MetaDataContexts(final MetaDataPersistService metaDataPersistService) {
         this(metaDataPersistService, new LinkedHashMap<>(), new ShardingSphereRuleMetaData(Collections.emptyList(), Collections.emptyList()), null, 
                 new ConfigurationProperties(new Properties()), OptimizerContextFactory.create(new HashMap<>(), new ShardingSphereRuleMetaData(Collections.emptyList(), Collections.emptyList())));
@@ -60,12 +70,19 @@ public final class MetaDataContexts implements AutoCloseable {
     
     public MetaDataContexts(final MetaDataPersistService metaDataPersistService, final Map<String, ShardingSphereMetaData> metaDataMap, final ShardingSphereRuleMetaData globalRuleMetaData,
                             final ExecutorEngine executorEngine, final ConfigurationProperties props, final OptimizerContext optimizerContext) {
+        this(metaDataPersistService, metaDataMap, globalRuleMetaData, executorEngine, props, optimizerContext, new ConcurrentHashMap<>());
+    }
+    
+    public MetaDataContexts(final MetaDataPersistService metaDataPersistService, final Map<String, ShardingSphereMetaData> metaDataMap, final ShardingSphereRuleMetaData globalRuleMetaData,
+                            final ExecutorEngine executorEngine, final ConfigurationProperties props, final OptimizerContext optimizerContext,
+                            final Map<String, DataNodeStatisticsRegistry> dataNodeStatisticsRegistries) {
         this.metaDataPersistService = metaDataPersistService;
         this.metaDataMap = new LinkedHashMap<>(metaDataMap);
         this.globalRuleMetaData = globalRuleMetaData;
         this.executorEngine = executorEngine;
         this.optimizerContext = optimizerContext;
         this.props = props;
+        this.dataNodeStatisticsRegistries = dataNodeStatisticsRegistries;
     }
     
     /**
@@ -96,6 +113,27 @@ public final class MetaDataContexts implements AutoCloseable {
         return metaDataMap.get(schemaName);
     }
     
+    /**
+     * Get data node statistics registry.
+     *
+     * @param schemaName schema name
+     * @return data node statistics registry of schema
+     */
+    public DataNodeStatisticsRegistry getDataNodeStatisticsRegistry(final String schemaName) {
+        return dataNodeStatisticsRegistries.computeIfAbsent(schemaName, key -> new DataNodeStatisticsRegistry());
+    }
+    
+    /**
+     * Get parallel SQL parser engine, which parses on SQL parser executor service of executor engine.
+     *
+     * @param databaseTypeName database type name
+     * @return parallel SQL parser engine
+     */
+    public ParallelSQLParserEngine getParallelSQLParserEngine(final String databaseTypeName) {
+        return parallelSQLParserEngines.computeIfAbsent(databaseTypeName, key -> new ParallelSQLParserEngine(
+                key, globalRuleMetaData.findSingleRule(SQLParserRule.class).orElse(null), executorEngine.getSqlParserExecutorServiceManager().getExecutorService()));
+    }
+    
     /**
      * Get lock.
      *
@@ -21,6 +21,7 @@ import io.netty.util.AttributeMap;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
+import org.apache.shardingsphere.infra.binder.SQLStatementContextCache;
 import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.exception.ShardingSphereException;
 import org.apache.shardingsphere.infra.metadata.user.Grantee;
@@ -41,6 +42,8 @@ import java.util.concurrent.atomic.AtomicBoolean;
 @Setter
 public final class ConnectionSession {
     
+    private static final int MAX_CACHED_SQL_STATEMENT_CONTEXT_SIZE = 64;
+    
     @Setter(AccessLevel.NONE)
     private volatile String schemaName;
     
@@ -57,6 +60,8 @@ public final class ConnectionSession {
     
     private final BackendConnection backendConnection;
     
+    private final SQLStatementContextCache sqlStatementContextCache = new SQLStatementContextCache(MAX_CACHED_SQL_STATEMENT_CONTEXT_SIZE);
+    
     public ConnectionSession(final TransactionType initialTransactionType, final AttributeMap attributeMap) {
         transactionStatus = new TransactionStatus(initialTransactionType);
         this.attributeMap = attributeMap;
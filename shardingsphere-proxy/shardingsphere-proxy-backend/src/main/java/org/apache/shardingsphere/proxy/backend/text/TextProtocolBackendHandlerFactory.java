@@ -25,8 +25,10 @@ import org.apache.shardingsphere.infra.binder.SQLStatementContextFactory;
 import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.binder.type.TableAvailable;
 import org.apache.shardingsphere.infra.database.type.DatabaseType;
+import org.apache.shardingsphere.infra.database.type.DatabaseTypeRegistry;
 import org.apache.shardingsphere.infra.executor.check.SQLCheckEngine;
 import org.apache.shardingsphere.infra.parser.ShardingSphereSQLParserEngine;
+import org.apache.shardingsphere.infra.parser.parameterized.ParameterizedSQLStatement;
 import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
 import org.apache.shardingsphere.mode.metadata.MetaDataContexts;
 import org.apache.shardingsphere.parser.rule.SQLParserRule;
@@ -46,7 +48,11 @@ import org.apache.shardingsphere.sql.parser.sql.common.statement.dal.FlushStatem
 import org.apache.shardingsphere.sql.parser.sql.common.statement.dcl.DCLStatement;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.ddl.CreateDatabaseStatement;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.ddl.DropDatabaseStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.DeleteStatement;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.EmptyStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.InsertStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.SelectStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.UpdateStatement;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.tcl.TCLStatement;
 import org.apache.shardingsphere.sql.parser.sql.common.util.SQLUtil;
 import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dal.MySQLShowCreateUserStatement;
@@ -78,17 +84,37 @@ public final class TextProtocolBackendHandlerFactory {
      * @return text protocol backend handler
      * @throws SQLException SQL exception
      */
-    @SuppressWarnings("unchecked")
     public static TextProtocolBackendHandler newInstance(final DatabaseType databaseType, final String sql, final Supplier<Optional<SQLStatement>> sqlStatementSupplier,
                                                          final ConnectionSession connectionSession) throws SQLException {
         String trimSQL = SQLUtil.trimComment(sql);
         if (Strings.isNullOrEmpty(trimSQL)) {
             return new SkipBackendHandler(new EmptyStatement());
         }
-        SQLStatement sqlStatement = sqlStatementSupplier.get().orElseGet(() -> {
-            Optional<SQLParserRule> sqlParserRule = ProxyContext.getInstance().getContextManager().getMetaDataContexts().getGlobalRuleMetaData().findSingleRule(SQLParserRule.class);
-            return new ShardingSphereSQLParserEngine(getBackendDatabaseType(databaseType, connectionSession).getName(), sqlParserRule.orElse(null)).parse(sql, false);
-        });
+        Optional<SQLStatement> suppliedSQLStatement = sqlStatementSupplier.get();
+        if (suppliedSQLStatement.isPresent()) {
+            return newInstance(databaseType, sql, suppliedSQLStatement.get(), connectionSession);
+        }
+        Optional<SQLParserRule> sqlParserRule = ProxyContext.getInstance().getContextManager().getMetaDataContexts().getGlobalRuleMetaData().findSingleRule(SQLParserRule.class);
+        DatabaseType backendDatabaseType = getBackendDatabaseType(databaseType, connectionSession);
+        ShardingSphereSQLParserEngine sqlParserEngine = new ShardingSphereSQLParserEngine(backendDatabaseType.getName(), sqlParserRule.orElse(null));
+        if (isSQLLiteralParameterizeEnabled(sqlParserRule.orElse(null), backendDatabaseType)) {
+            ParameterizedSQLStatement parameterizedSQLStatement = sqlParserEngine.parseParameterized(sql);
+            if (parameterizedSQLStatement.getParameters().isEmpty() || isSchemaAssignedDMLStatement(parameterizedSQLStatement.getSqlStatement())) {
+                return newInstance(databaseType, sql, parameterizedSQLStatement, connectionSession);
+            }
+        }
+        return newInstance(databaseType, sql, sqlParserEngine.parse(sql, false), connectionSession);
+    }
+    
+    private static TextProtocolBackendHandler newInstance(final DatabaseType databaseType, final String sql, final SQLStatement sqlStatement, 
+                                                          final ConnectionSession connectionSession) throws SQLException {
+        return newInstance(databaseType, sql, new ParameterizedSQLStatement(sql, Collections.emptyList(), sqlStatement), connectionSession);
+    }
+    
+    @SuppressWarnings("unchecked")
+    private static TextProtocolBackendHandler newInstance(final DatabaseType databaseType, final String sql, final ParameterizedSQLStatement parameterizedSQLStatement, 
+                                                          final ConnectionSession connectionSession) throws SQLException {
+        SQLStatement sqlStatement = parameterizedSQLStatement.getSqlStatement();
         checkUnsupportedSQLStatement(sqlStatement);
         if (sqlStatement instanceof DistSQLStatement) {
             return DistSQLBackendHandlerFactory.newInstance(databaseType, (DistSQLStatement) sqlStatement, connectionSession);
@@ -98,7 +124,7 @@ public final class TextProtocolBackendHandlerFactory {
             return backendHandler.get();
         }
         SQLStatementContext<?> sqlStatementContext = SQLStatementContextFactory.newInstance(ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaDataMap(), 
-                Collections.emptyList(), sqlStatement, connectionSession.getDefaultSchemaName());
+                parameterizedSQLStatement.getParameters(), sqlStatement, connectionSession.getDefaultSchemaName());
         // TODO optimize SQLStatementSchemaHolder
         if (sqlStatementContext instanceof TableAvailable) {
             ((TableAvailable) sqlStatementContext).getTablesContext().getSchemaName().ifPresent(SQLStatementSchemaHolder::set);
@@ -113,13 +139,23 @@ public final class TextProtocolBackendHandlerFactory {
         }
         String schemaName = sqlStatementContext.getTablesContext().getSchemaName().isPresent()
                 ? sqlStatementContext.getTablesContext().getSchemaName().get() : connectionSession.getSchemaName();
-        SQLCheckEngine.check(sqlStatement, Collections.emptyList(),
+        SQLCheckEngine.check(sqlStatement, parameterizedSQLStatement.getParameters(),
                 getRules(schemaName), schemaName, ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaDataMap(), connectionSession.getGrantee());
         if (sqlStatement instanceof TCLStatement) {
             return TransactionBackendHandlerFactory.newInstance((SQLStatementContext<TCLStatement>) sqlStatementContext, sql, connectionSession);
         }
         backendHandler = DatabaseAdminBackendHandlerFactory.newInstance(databaseType, sqlStatement, connectionSession);
-        return backendHandler.orElseGet(() -> DatabaseBackendHandlerFactory.newInstance(sqlStatementContext, sql, connectionSession));
+        return backendHandler.orElseGet(() -> parameterizedSQLStatement.getParameters().isEmpty() ? DatabaseBackendHandlerFactory.newInstance(sqlStatementContext, sql, connectionSession)
+                : DatabaseBackendHandlerFactory.newInstance(sqlStatementContext, parameterizedSQLStatement.getSql(), parameterizedSQLStatement.getParameters(), connectionSession));
+    }
+    
+    private static boolean isSQLLiteralParameterizeEnabled(final SQLParserRule sqlParserRule, final DatabaseType backendDatabaseType) {
+        return null != sqlParserRule && sqlParserRule.isSqlLiteralParameterizeEnabled() && "MySQL".equals(DatabaseTypeRegistry.getTrunkDatabaseTypeName(backendDatabaseType));
+    }
+    
+    private static boolean isSchemaAssignedDMLStatement(final SQLStatement sqlStatement) {
+        return sqlStatement instanceof SelectStatement && null != ((SelectStatement) sqlStatement).getFrom()
+                || sqlStatement instanceof InsertStatement || sqlStatement instanceof UpdateStatement || sqlStatement instanceof DeleteStatement;
     }
     
     private static DatabaseType getBackendDatabaseType(final DatabaseType defaultDatabaseType, final ConnectionSession connectionSession) {
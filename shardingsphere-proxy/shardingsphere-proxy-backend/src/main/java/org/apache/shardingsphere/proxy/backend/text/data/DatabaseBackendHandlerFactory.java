@@ -30,6 +30,8 @@ import org.apache.shardingsphere.sql.parser.sql.common.statement.dal.SetStatemen
 import org.apache.shardingsphere.sql.parser.sql.common.statement.dcl.DCLStatement;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.SelectStatement;
 
+import java.util.List;
+
 /**
  * Database backend handler factory.
  */
@@ -54,4 +56,17 @@ public final class DatabaseBackendHandlerFactory {
         }
         return new SchemaAssignedDatabaseBackendHandler(sqlStatementContext, sql, connectionSession);
     }
+    
+    /**
+     * New instance of database backend handler for DML with parameters extracted from literals of SQL.
+     *
+     * @param sqlStatementContext SQL statement context
+     * @param sql parameterized SQL
+     * @param parameters parameters extracted from literals of SQL
+     * @param connectionSession connection session
+     * @return database backend handler
+     */
+    public static DatabaseBackendHandler newInstance(final SQLStatementContext<?> sqlStatementContext, final String sql, final List<Object> parameters, final ConnectionSession connectionSession) {
+        return new SchemaAssignedDatabaseBackendHandler(sqlStatementContext, sql, parameters, connectionSession);
+    }
 }
@@ -47,6 +47,8 @@ import org.apache.shardingsphere.infra.federation.executor.FederationExecutor;
 import org.apache.shardingsphere.infra.federation.executor.FederationExecutorFactory;
 import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
 import org.apache.shardingsphere.infra.parser.ShardingSphereSQLParserEngine;
+import org.apache.shardingsphere.infra.statistics.SQLExecuteStage;
+import org.apache.shardingsphere.infra.statistics.SQLStageRecorder;
 import org.apache.shardingsphere.mode.metadata.MetaDataContexts;
 import org.apache.shardingsphere.parser.rule.SQLParserRule;
 import org.apache.shardingsphere.proxy.backend.communication.SQLStatementSchemaHolder;
@@ -73,7 +75,10 @@ import java.util.Collections;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Preview dist sql backend handler.
@@ -86,12 +91,14 @@ public final class PreviewDistSQLBackendHandler implements TextProtocolBackendHa
     
     private final ConnectionSession connectionSession;
     
-    private final KernelProcessor kernelProcessor = new KernelProcessor();
+    private final KernelProcessor kernelProcessor = new KernelProcessor(false);
     
     private List<QueryHeader> queryHeaders;
     
     private Iterator<ExecutionUnit> executionUnits;
     
+    private Map<SQLExecuteStage, Long> tracedStages;
+    
     @Override
     public ResponseHeader execute() throws SQLException {
         MetaDataContexts metaDataContexts = ProxyContext.getInstance().getContextManager().getMetaDataContexts();
@@ -110,11 +117,15 @@ public final class PreviewDistSQLBackendHandler implements TextProtocolBackendHa
         }
         LogicSQL logicSQL = new LogicSQL(sqlStatementContext, previewStatement.getSql(), Collections.emptyList());
         ExecutionContext executionContext = kernelProcessor.generateExecutionContext(logicSQL, metaData, metaDataContexts.getProps());
+        tracedStages = metaDataContexts.getProps().<Boolean>getValue(ConfigurationPropertyKey.SQL_STATISTICS_ENABLED) ? SQLStageRecorder.getTracedStages(sqlStatement) : Collections.emptyMap();
         executionUnits = executionContext.getRouteContext().isFederated() 
                 ? getFederationExecutionUnits(logicSQL, schemaName, metaDataContexts).iterator() : executionContext.getExecutionUnits().iterator();
-        queryHeaders = new ArrayList<>(2);
+        queryHeaders = new ArrayList<>(2 + tracedStages.size());
         queryHeaders.add(new QueryHeader("", "", "data_source_name", "", Types.CHAR, "CHAR", 255, 0, false, false, false, false));
         queryHeaders.add(new QueryHeader("", "", "sql", "", Types.CHAR, "CHAR", 255, 0, false, false, false, false));
+        for (SQLExecuteStage each : tracedStages.keySet()) {
+            queryHeaders.add(new QueryHeader("", "", each.name().toLowerCase(Locale.ENGLISH) + "_time_us", "", Types.BIGINT, "BIGINT", 20, 0, false, false, false, false));
+        }
         return new QueryResponseHeader(queryHeaders);
     }
     
@@ -162,6 +173,9 @@ public final class PreviewDistSQLBackendHandler implements TextProtocolBackendHa
         Collection<Object> result = new LinkedList<>();
         result.add(executionUnit.getDataSourceName());
         result.add(executionUnit.getSqlUnit().getSql());
+        for (long each : tracedStages.values()) {
+            result.add(TimeUnit.NANOSECONDS.toMicros(each));
+        }
         return result;
     }
     
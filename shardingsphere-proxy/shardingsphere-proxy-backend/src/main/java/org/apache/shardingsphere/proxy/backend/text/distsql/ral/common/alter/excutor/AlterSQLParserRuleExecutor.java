@@ -76,6 +76,9 @@ public final class AlterSQLParserRuleExecutor implements AlterStatementExecutor
                 : buildCacheOption(ruleConfiguration.getParseTreeCache(), sqlStatement.getParseTreeCache()));
         result.setSqlStatementCache(null == sqlStatement.getSqlStatementCache() ? ruleConfiguration.getSqlStatementCache()
                 : buildCacheOption(ruleConfiguration.getSqlStatementCache(), sqlStatement.getSqlStatementCache()));
+        result.setSqlLiteralParameterizeEnabled(ruleConfiguration.isSqlLiteralParameterizeEnabled());
+        result.setFastPathParseEnabled(ruleConfiguration.isFastPathParseEnabled());
+        result.setTrimParseTreeThreshold(ruleConfiguration.getTrimParseTreeThreshold());
         return result;
     }
     
@@ -84,6 +87,7 @@ public final class AlterSQLParserRuleExecutor implements AlterStatementExecutor
         result.setInitialCapacity(null == segment.getInitialCapacity() ? cacheOption.getInitialCapacity() : segment.getInitialCapacity());
         result.setMaximumSize(null == segment.getMaximumSize() ? cacheOption.getMaximumSize() : segment.getMaximumSize());
         result.setConcurrencyLevel(null == segment.getConcurrencyLevel() ? cacheOption.getConcurrencyLevel() : segment.getConcurrencyLevel());
+        result.setMaximumWeight(cacheOption.getMaximumWeight());
         return result;
     }
 }
@@ -0,0 +1,86 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.text.distsql.ral.common.show.executor;
+
+import org.apache.shardingsphere.infra.merge.result.MergedResult;
+import org.apache.shardingsphere.infra.statistics.DataNodeStatistics;
+import org.apache.shardingsphere.infra.statistics.DataNodeStatisticsRegistry;
+import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
+import org.apache.shardingsphere.proxy.backend.response.header.query.impl.QueryHeader;
+import org.apache.shardingsphere.sharding.merge.dal.common.MultipleLocalDataMergedResult;
+
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Show data node statistics executor.
+ * 
+ * <p>Elapsed time is shown in microseconds, data nodes of all schemas which are routed most come first.</p>
+ */
+public final class ShowDataNodeStatisticsExecutor extends AbstractShowExecutor {
+    
+    private static final String SCHEMA_NAME = "schema_name";
+    
+    private static final String DATA_SOURCE_NAME = "data_source_name";
+    
+    private static final String TABLE_NAME = "table_name";
+    
+    private static final String ROUTED_COUNT = "routed_count";
+    
+    private static final String RETURNED_ROW_COUNT = "returned_row_count";
+    
+    private static final String EXECUTE_COUNT = "execute_count";
+    
+    private static final String AVG_EXECUTE_TIME = "avg_execute_time_us";
+    
+    private static final String MAX_EXECUTE_TIME = "max_execute_time_us";
+    
+    @Override
+    protected List<QueryHeader> createQueryHeaders() {
+        return Arrays.asList(
+                new QueryHeader("", "", SCHEMA_NAME, SCHEMA_NAME, Types.VARCHAR, "VARCHAR", 64, 0, false, false, false, false),
+                new QueryHeader("", "", DATA_SOURCE_NAME, DATA_SOURCE_NAME, Types.VARCHAR, "VARCHAR", 64, 0, false, false, false, false),
+                new QueryHeader("", "", TABLE_NAME, TABLE_NAME, Types.VARCHAR, "VARCHAR", 64, 0, false, false, false, false),
+                new QueryHeader("", "", ROUTED_COUNT, ROUTED_COUNT, Types.BIGINT, "BIGINT", 20, 0, false, false, false, false),
+                new QueryHeader("", "", RETURNED_ROW_COUNT, RETURNED_ROW_COUNT, Types.BIGINT, "BIGINT", 20, 0, false, false, false, false),
+                new QueryHeader("", "", EXECUTE_COUNT, EXECUTE_COUNT, Types.BIGINT, "BIGINT", 20, 0, false, false, false, false),
+                new QueryHeader("", "", AVG_EXECUTE_TIME, AVG_EXECUTE_TIME, Types.BIGINT, "BIGINT", 20, 0, false, false, false, false),
+                new QueryHeader("", "", MAX_EXECUTE_TIME, MAX_EXECUTE_TIME, Types.BIGINT, "BIGINT", 20, 0, false, false, false, false)
+        );
+    }
+    
+    @Override
+    protected MergedResult createMergedResult() {
+        Map<String, DataNodeStatisticsRegistry> registries = ProxyContext.getInstance().getContextManager().getMetaDataContexts().getDataNodeStatisticsRegistries();
+        Collection<List<Object>> rows = registries.entrySet().stream().flatMap(entry -> entry.getValue().getAllStatistics().stream().map(each -> buildRow(entry.getKey(), each)))
+                .sorted(Comparator.comparingLong((List<Object> each) -> (Long) each.get(3)).reversed()).collect(Collectors.toCollection(LinkedList::new));
+        return new MultipleLocalDataMergedResult(rows);
+    }
+    
+    private List<Object> buildRow(final String schemaName, final DataNodeStatistics statistics) {
+        return Arrays.asList(schemaName, statistics.getDataNode().getDataSourceName(), statistics.getDataNode().getTableName(), statistics.getRoutedCount(), statistics.getReturnedRowCount(),
+                statistics.getExecuteTime().getCount(), TimeUnit.NANOSECONDS.toMicros(statistics.getExecuteTime().getAverage()), TimeUnit.NANOSECONDS.toMicros(statistics.getExecuteTime().getMax()));
+    }
+}
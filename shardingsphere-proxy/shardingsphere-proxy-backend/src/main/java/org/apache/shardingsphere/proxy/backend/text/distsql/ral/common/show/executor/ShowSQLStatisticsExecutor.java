@@ -0,0 +1,94 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.text.distsql.ral.common.show.executor;
+
+import org.apache.shardingsphere.infra.merge.result.MergedResult;
+import org.apache.shardingsphere.infra.statistics.SQLExecuteStage;
+import org.apache.shardingsphere.infra.statistics.SQLStatistics;
+import org.apache.shardingsphere.infra.statistics.SQLStatisticsRegistry;
+import org.apache.shardingsphere.infra.statistics.StatisticsAccumulator;
+import org.apache.shardingsphere.proxy.backend.response.header.query.impl.QueryHeader;
+import org.apache.shardingsphere.sharding.merge.dal.common.MultipleLocalDataMergedResult;
+
+import java.sql.Types;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Show SQL statistics executor.
+ * 
+ * <p>Elapsed time is shown in microseconds, SQL digests which are executed most come first.</p>
+ */
+public final class ShowSQLStatisticsExecutor extends AbstractShowExecutor {
+    
+    private static final String SQL_DIGEST = "sql_digest";
+    
+    private static final String EXECUTE_COUNT = "execute_count";
+    
+    private static final String AVG_FAN_OUT = "avg_fan_out";
+    
+    private static final String MAX_FAN_OUT = "max_fan_out";
+    
+    @Override
+    protected List<QueryHeader> createQueryHeaders() {
+        List<QueryHeader> result = new LinkedList<>();
+        result.add(new QueryHeader("", "", SQL_DIGEST, SQL_DIGEST, Types.VARCHAR, "VARCHAR", 1024, 0, false, false, false, false));
+        result.add(createNumericQueryHeader(EXECUTE_COUNT));
+        result.add(createNumericQueryHeader(AVG_FAN_OUT));
+        result.add(createNumericQueryHeader(MAX_FAN_OUT));
+        for (SQLExecuteStage each : SQLExecuteStage.values()) {
+            result.add(createNumericQueryHeader(getStageColumnName("avg", each)));
+            result.add(createNumericQueryHeader(getStageColumnName("max", each)));
+        }
+        return result;
+    }
+    
+    private QueryHeader createNumericQueryHeader(final String columnName) {
+        return new QueryHeader("", "", columnName, columnName, Types.BIGINT, "BIGINT", 20, 0, false, false, false, false);
+    }
+    
+    private String getStageColumnName(final String prefix, final SQLExecuteStage stage) {
+        return String.format("%s_%s_time_us", prefix, stage.name().toLowerCase(Locale.ENGLISH));
+    }
+    
+    @Override
+    protected MergedResult createMergedResult() {
+        Collection<List<Object>> rows = SQLStatisticsRegistry.getAllStatistics().stream()
+                .sorted(Comparator.comparingLong(SQLStatistics::getExecuteCount).reversed()).map(this::buildRow).collect(Collectors.toCollection(LinkedList::new));
+        return new MultipleLocalDataMergedResult(rows);
+    }
+    
+    private List<Object> buildRow(final SQLStatistics statistics) {
+        List<Object> result = new LinkedList<>();
+        result.add(statistics.getSqlDigest());
+        result.add(statistics.getExecuteCount());
+        result.add(statistics.getFanOut().getAverage());
+        result.add(statistics.getFanOut().getMax());
+        for (SQLExecuteStage each : SQLExecuteStage.values()) {
+            StatisticsAccumulator stage = statistics.getStage(each);
+            result.add(TimeUnit.NANOSECONDS.toMicros(stage.getAverage()));
+            result.add(TimeUnit.NANOSECONDS.toMicros(stage.getMax()));
+        }
+        return result;
+    }
+}
@@ -41,6 +41,7 @@ import org.apache.shardingsphere.proxy.backend.text.skip.SkipBackendHandler;
 import org.apache.shardingsphere.proxy.backend.text.transaction.TransactionAutoCommitHandler;
 import org.apache.shardingsphere.proxy.backend.text.transaction.TransactionBackendHandler;
 import org.apache.shardingsphere.sql.parser.api.CacheOption;
+import org.apache.shardingsphere.sql.parser.api.SQLParserEngine;
 import org.apache.shardingsphere.sql.parser.exception.SQLParsingException;
 import org.apache.shardingsphere.transaction.ShardingSphereTransactionManagerEngine;
 import org.apache.shardingsphere.transaction.context.TransactionContexts;
@@ -52,13 +53,17 @@ import org.mockito.Answers;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
+import java.lang.reflect.Field;
 import java.sql.SQLException;
 import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 import java.util.Properties;
 
 import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -91,7 +96,8 @@ public final class TextProtocolBackendHandlerFactoryTest {
         TransactionContexts transactionContexts = mockTransactionContexts();
         when(contextManager.getTransactionContexts()).thenReturn(transactionContexts);
         CacheOption cacheOption = new CacheOption(1024, 1024, 1024);
-        when(metaDataContexts.getGlobalRuleMetaData().findSingleRule(SQLParserRule.class)).thenReturn(Optional.of(new SQLParserRule(new SQLParserRuleConfiguration(true, cacheOption, cacheOption))));
+        SQLParserRuleConfiguration sqlParserRuleConfig = new SQLParserRuleConfiguration(true, cacheOption, cacheOption, false, false, SQLParserEngine.DEFAULT_TRIM_PARSE_TREE_THRESHOLD);
+        when(metaDataContexts.getGlobalRuleMetaData().findSingleRule(SQLParserRule.class)).thenReturn(Optional.of(new SQLParserRule(sqlParserRuleConfig)));
         ProxyContext.getInstance().init(contextManager);
     }
     
@@ -232,6 +238,38 @@ public final class TextProtocolBackendHandlerFactoryTest {
         assertThat(actual, instanceOf(DatabaseAdminQueryBackendHandler.class));
     }
     
+    @Test
+    public void assertNewInstanceWithLiteralParameterizedQuery() throws SQLException, ReflectiveOperationException {
+        mockSQLLiteralParameterizeEnabled();
+        String sql = "select * from t_order where order_date = '2020-01-01'";
+        TextProtocolBackendHandler actual = TextProtocolBackendHandlerFactory.newInstance(databaseType, sql, Optional::empty, connectionSession);
+        assertThat(actual, instanceOf(SchemaAssignedDatabaseBackendHandler.class));
+        assertThat(getParameters(actual), is(Collections.<Object>singletonList("2020-01-01")));
+    }
+    
+    @Test
+    public void assertNewInstanceWithLiteralParameterizeEnabledForPostgreSQL() throws SQLException, ReflectiveOperationException {
+        mockSQLLiteralParameterizeEnabled();
+        String sql = "select * from t_order where order_date = '2020-01-01'";
+        TextProtocolBackendHandler actual = TextProtocolBackendHandlerFactory.newInstance(DatabaseTypeRegistry.getActualDatabaseType("PostgreSQL"), sql, Optional::empty, connectionSession);
+        assertThat(actual, instanceOf(SchemaAssignedDatabaseBackendHandler.class));
+        assertTrue(getParameters(actual).isEmpty());
+    }
+    
+    private void mockSQLLiteralParameterizeEnabled() {
+        CacheOption cacheOption = new CacheOption(1024, 1024, 1024);
+        SQLParserRuleConfiguration sqlParserRuleConfig = new SQLParserRuleConfiguration(true, cacheOption, cacheOption, true, false, SQLParserEngine.DEFAULT_TRIM_PARSE_TREE_THRESHOLD);
+        MetaDataContexts metaDataContexts = ProxyContext.getInstance().getContextManager().getMetaDataContexts();
+        when(metaDataContexts.getGlobalRuleMetaData().findSingleRule(SQLParserRule.class)).thenReturn(Optional.of(new SQLParserRule(sqlParserRuleConfig)));
+    }
+    
+    @SuppressWarnings("unchecked")
+    private List<Object> getParameters(final TextProtocolBackendHandler backendHandler) throws ReflectiveOperationException {
+        Field field = SchemaAssignedDatabaseBackendHandler.class.getDeclaredField("parameters");
+        field.setAccessible(true);
+        return (List<Object>) field.get(backendHandler);
+    }
+    
     @Test
     public void assertNewInstanceWithEmptyString() throws SQLException {
         String sql = "";
@@ -25,6 +25,8 @@ import org.apache.shardingsphere.parser.config.SQLParserRuleConfiguration;
 import org.apache.shardingsphere.parser.rule.builder.DefaultSQLParserRuleConfigurationBuilder;
 import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
 import org.apache.shardingsphere.proxy.backend.text.distsql.ral.common.alter.excutor.AlterSQLParserRuleExecutor;
+import org.apache.shardingsphere.sql.parser.api.CacheOption;
+import org.apache.shardingsphere.sql.parser.api.SQLParserEngine;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.junit.MockitoJUnitRunner;
@@ -83,6 +85,24 @@ public final class AlterSQLParserRuleExecutorTest {
         assertThat(sqlParserRuleConfiguration.getParseTreeCache().getConcurrencyLevel(), is(3));
     }
     
+    @Test
+    public void assertExecuteWithWeightedRuleConfiguration() {
+        Collection<RuleConfiguration> globalRuleConfiguration = new LinkedList<>();
+        globalRuleConfiguration.add(new SQLParserRuleConfiguration(false, new CacheOption(128, 1024L, 4, 4096L), new CacheOption(2000, 65535L, 4, 65536L),
+                false, false, SQLParserEngine.DEFAULT_TRIM_PARSE_TREE_THRESHOLD));
+        ContextManager contextManager = mock(ContextManager.class, RETURNS_DEEP_STUBS);
+        when(contextManager.getMetaDataContexts().getGlobalRuleMetaData().getConfigurations()).thenReturn(globalRuleConfiguration);
+        ProxyContext.getInstance().init(contextManager);
+        new AlterSQLParserRuleExecutor(getSQLStatement()).execute();
+        Collection<RuleConfiguration> globalRuleConfigurations = contextManager.getMetaDataContexts().getGlobalRuleMetaData().getConfigurations();
+        SQLParserRuleConfiguration sqlParserRuleConfiguration = (SQLParserRuleConfiguration) globalRuleConfigurations.stream()
+                .filter(configuration -> configuration instanceof SQLParserRuleConfiguration).findAny().orElse(null);
+        assertNotNull(sqlParserRuleConfiguration);
+        assertThat(sqlParserRuleConfiguration.getParseTreeCache().getMaximumSize(), is(512L));
+        assertThat(sqlParserRuleConfiguration.getParseTreeCache().getMaximumWeight(), is(4096L));
+        assertThat(sqlParserRuleConfiguration.getSqlStatementCache().getMaximumWeight(), is(65536L));
+    }
+    
     private AlterSQLParserRuleStatement getSQLStatement() {
         AlterSQLParserRuleStatement result = new AlterSQLParserRuleStatement();
         result.setSqlCommentParseEnable(Boolean.TRUE);
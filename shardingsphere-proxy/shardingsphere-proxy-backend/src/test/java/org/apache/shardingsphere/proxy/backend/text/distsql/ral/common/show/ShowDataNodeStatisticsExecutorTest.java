@@ -0,0 +1,77 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.text.distsql.ral.common.show;
+
+import org.apache.shardingsphere.infra.statistics.DataNodeStatistics;
+import org.apache.shardingsphere.infra.statistics.DataNodeStatisticsRegistry;
+import org.apache.shardingsphere.mode.manager.ContextManager;
+import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
+import org.apache.shardingsphere.proxy.backend.response.header.query.QueryResponseHeader;
+import org.apache.shardingsphere.proxy.backend.text.distsql.ral.common.show.executor.ShowDataNodeStatisticsExecutor;
+import org.junit.Test;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class ShowDataNodeStatisticsExecutorTest {
+    
+    @Test
+    public void assertExecute() throws SQLException {
+        Map<String, DataNodeStatisticsRegistry> registries = new LinkedHashMap<>(2, 1);
+        registries.put("sharding_db", new DataNodeStatisticsRegistry());
+        registries.put("readwrite_splitting_db", new DataNodeStatisticsRegistry());
+        registries.get("sharding_db").getStatistics("ds_0", "t_order_0").recordRouted();
+        DataNodeStatistics hotDataNode = registries.get("readwrite_splitting_db").getStatistics("ds_1", "t_order_1");
+        hotDataNode.recordRouted();
+        hotDataNode.recordRouted();
+        hotDataNode.recordReturnedRow();
+        hotDataNode.recordExecuteTime(3000L);
+        hotDataNode.recordExecuteTime(5000L);
+        ContextManager contextManager = mock(ContextManager.class, RETURNS_DEEP_STUBS);
+        when(contextManager.getMetaDataContexts().getDataNodeStatisticsRegistries()).thenReturn(registries);
+        ProxyContext.getInstance().init(contextManager);
+        ShowDataNodeStatisticsExecutor executor = new ShowDataNodeStatisticsExecutor();
+        assertThat(((QueryResponseHeader) executor.execute()).getQueryHeaders().size(), is(8));
+        assertTrue(executor.next());
+        List<Object> hotDataNodeRow = new ArrayList<>(executor.getQueryResponseRow().getData());
+        assertThat(hotDataNodeRow.get(0), is("readwrite_splitting_db"));
+        assertThat(hotDataNodeRow.get(1), is("ds_1"));
+        assertThat(hotDataNodeRow.get(2), is("t_order_1"));
+        assertThat(hotDataNodeRow.get(3), is(2L));
+        assertThat(hotDataNodeRow.get(4), is(1L));
+        assertThat(hotDataNodeRow.get(5), is(2L));
+        assertThat(hotDataNodeRow.get(6), is(4L));
+        assertThat(hotDataNodeRow.get(7), is(5L));
+        assertTrue(executor.next());
+        List<Object> coldDataNodeRow = new ArrayList<>(executor.getQueryResponseRow().getData());
+        assertThat(coldDataNodeRow.get(0), is("sharding_db"));
+        assertThat(coldDataNodeRow.get(1), is("ds_0"));
+        assertFalse(executor.next());
+    }
+}
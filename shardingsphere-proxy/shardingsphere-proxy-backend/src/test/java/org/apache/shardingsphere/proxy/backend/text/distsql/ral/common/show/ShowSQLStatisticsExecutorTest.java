@@ -0,0 +1,68 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.text.distsql.ral.common.show;
+
+import org.apache.shardingsphere.infra.statistics.SQLExecuteStage;
+import org.apache.shardingsphere.infra.statistics.SQLStatistics;
+import org.apache.shardingsphere.infra.statistics.SQLStatisticsRegistry;
+import org.apache.shardingsphere.proxy.backend.response.data.QueryResponseRow;
+import org.apache.shardingsphere.proxy.backend.response.header.query.QueryResponseHeader;
+import org.apache.shardingsphere.proxy.backend.text.distsql.ral.common.show.executor.ShowSQLStatisticsExecutor;
+import org.junit.After;
+import org.junit.Test;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class ShowSQLStatisticsExecutorTest {
+    
+    @After
+    public void tearDown() {
+        SQLStatisticsRegistry.clear();
+    }
+    
+    @Test
+    public void assertExecute() throws SQLException {
+        SQLStatistics rarelyExecuted = SQLStatisticsRegistry.getStatistics("SELECT * FROM t_order");
+        rarelyExecuted.recordFanOut(4);
+        SQLStatistics oftenExecuted = SQLStatisticsRegistry.getStatistics("SELECT * FROM t_order WHERE order_id = ?");
+        oftenExecuted.recordFanOut(1);
+        oftenExecuted.recordFanOut(1);
+        oftenExecuted.recordStage(SQLExecuteStage.ROUTE, 3000L);
+        oftenExecuted.recordStage(SQLExecuteStage.ROUTE, 5000L);
+        ShowSQLStatisticsExecutor executor = new ShowSQLStatisticsExecutor();
+        assertThat(((QueryResponseHeader) executor.execute()).getQueryHeaders().size(), is(16));
+        assertTrue(executor.next());
+        List<Object> oftenExecutedRow = new ArrayList<>(executor.getQueryResponseRow().getData());
+        assertThat(oftenExecutedRow.get(0), is("SELECT * FROM t_order WHERE order_id = ?"));
+        assertThat(oftenExecutedRow.get(1), is(2L));
+        assertThat(oftenExecutedRow.get(2), is(1L));
+        assertThat(oftenExecutedRow.get(8), is(4L));
+        assertThat(oftenExecutedRow.get(9), is(5L));
+        assertTrue(executor.next());
+        QueryResponseRow rarelyExecutedRow = executor.getQueryResponseRow();
+        assertThat(new ArrayList<>(rarelyExecutedRow.getData()).get(3), is(4L));
+        assertFalse(executor.next());
+    }
+}
@@ -31,7 +31,10 @@ import java.io.File;
 import java.io.IOException;
 import java.net.URISyntaxException;
 import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.LinkedList;
@@ -49,6 +52,10 @@ public final class ProxyConfigurationLoader {
     
     private static final Pattern SCHEMA_CONFIG_FILE_PATTERN = Pattern.compile("config-.+\\.yaml");
     
+    private static final String WARM_UP_SQL_FILE = "warm-up.sql";
+    
+    private static final String WARM_UP_SQL_COMMENT_PREFIX = "--";
+    
     /**
      * Load configuration of ShardingSphere-Proxy.
      *
@@ -61,7 +68,7 @@ public final class ProxyConfigurationLoader {
         File configPath = getResourceFile(path);
         Collection<YamlProxySchemaConfiguration> schemaConfigs = loadSchemaConfigurations(configPath);
         return new YamlProxyConfiguration(serverConfig, schemaConfigs.stream().collect(Collectors.toMap(
-                YamlProxySchemaConfiguration::getSchemaName, each -> each, (oldValue, currentValue) -> oldValue, LinkedHashMap::new)));
+                YamlProxySchemaConfiguration::getSchemaName, each -> each, (oldValue, currentValue) -> oldValue, LinkedHashMap::new)), loadWarmUpSQLs(new File(configPath, WARM_UP_SQL_FILE)));
     }
 
     @SneakyThrows(URISyntaxException.class)
@@ -103,6 +110,14 @@ public final class ProxyConfigurationLoader {
         return Optional.of(result);
     }
     
+    private static Collection<String> loadWarmUpSQLs(final File warmUpSQLFile) throws IOException {
+        if (!warmUpSQLFile.isFile()) {
+            return Collections.emptyList();
+        }
+        return Files.readAllLines(warmUpSQLFile.toPath(), StandardCharsets.UTF_8).stream()
+                .map(String::trim).filter(each -> !each.isEmpty() && !each.startsWith(WARM_UP_SQL_COMMENT_PREFIX)).collect(Collectors.toList());
+    }
+    
     private static File[] findRuleConfigurationFiles(final File path) {
         return path.listFiles(each -> SCHEMA_CONFIG_FILE_PATTERN.matcher(each.getName()).matches());
     }
@@ -22,6 +22,7 @@ import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.proxy.config.yaml.YamlProxySchemaConfiguration;
 import org.apache.shardingsphere.proxy.config.yaml.YamlProxyServerConfiguration;
 
+import java.util.Collection;
 import java.util.Map;
 
 /**
@@ -34,4 +35,6 @@ public final class YamlProxyConfiguration {
     private final YamlProxyServerConfiguration serverConfiguration;
     
     private final Map<String, YamlProxySchemaConfiguration> schemaConfigurations;
+    
+    private final Collection<String> warmUpSQLs;
 }
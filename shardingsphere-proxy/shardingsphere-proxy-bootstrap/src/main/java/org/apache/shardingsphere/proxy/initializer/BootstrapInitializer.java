@@ -28,14 +28,18 @@ import org.apache.shardingsphere.db.protocol.postgresql.constant.PostgreSQLServe
 import org.apache.shardingsphere.infra.autogen.version.ShardingSphereVersion;
 import org.apache.shardingsphere.infra.config.datasource.pool.creator.DataSourcePoolCreator;
 import org.apache.shardingsphere.infra.config.mode.ModeConfiguration;
+import org.apache.shardingsphere.infra.database.type.DatabaseType;
+import org.apache.shardingsphere.infra.database.type.DatabaseTypeRegistry;
 import org.apache.shardingsphere.infra.instance.definition.InstanceDefinition;
 import org.apache.shardingsphere.infra.instance.definition.InstanceType;
 import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.parser.warmup.SQLParserWarmUpEngine;
 import org.apache.shardingsphere.infra.yaml.config.swapper.mode.ModeConfigurationYamlSwapper;
 import org.apache.shardingsphere.mode.manager.ContextManager;
 import org.apache.shardingsphere.mode.manager.ContextManagerBuilderFactory;
 import org.apache.shardingsphere.mode.manager.ContextManagerBuilderParameter;
 import org.apache.shardingsphere.mode.metadata.MetaDataContexts;
+import org.apache.shardingsphere.parser.rule.SQLParserRule;
 import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
 import org.apache.shardingsphere.proxy.config.ProxyConfiguration;
 import org.apache.shardingsphere.proxy.config.YamlProxyConfiguration;
@@ -46,7 +50,9 @@ import org.apache.shardingsphere.proxy.database.DatabaseServerInfo;
 
 import javax.sql.DataSource;
 import java.sql.SQLException;
+import java.util.Collection;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
@@ -70,6 +76,7 @@ public final class BootstrapInitializer {
                 ? null : new ModeConfigurationYamlSwapper().swapToObject(yamlConfig.getServerConfiguration().getMode());
         ContextManager contextManager = createContextManager(yamlConfig, modeConfig, port);
         initContext(contextManager);
+        warmUpSQLParser(yamlConfig.getWarmUpSQLs());
         initRuleAlteredJobWorker(modeConfig, contextManager);
         setDatabaseServerInfo();
     }
@@ -88,6 +95,27 @@ public final class BootstrapInitializer {
         ProxyContext.getInstance().init(contextManager);
     }
     
+    private void warmUpSQLParser(final Collection<String> warmUpSQLs) {
+        if (warmUpSQLs.isEmpty()) {
+            return;
+        }
+        MetaDataContexts metaDataContexts = ProxyContext.getInstance().getContextManager().getMetaDataContexts();
+        Optional<SQLParserRule> sqlParserRule = metaDataContexts.getGlobalRuleMetaData().findSingleRule(SQLParserRule.class);
+        if (!sqlParserRule.isPresent()) {
+            return;
+        }
+        Collection<String> databaseTypeNames = new LinkedHashSet<>();
+        for (ShardingSphereMetaData each : metaDataContexts.getMetaDataMap().values()) {
+            DatabaseType databaseType = each.getResource().getDatabaseType();
+            databaseTypeNames.add(databaseType.getName());
+            databaseTypeNames.add(DatabaseTypeRegistry.getTrunkDatabaseTypeName(databaseType));
+        }
+        for (String each : databaseTypeNames) {
+            int parsedCount = new SQLParserWarmUpEngine(each, sqlParserRule.get()).warmUp(warmUpSQLs);
+            log.info("SQL parser of `{}` warmed up with {} of {} SQLs", each, parsedCount, warmUpSQLs.size());
+        }
+    }
+    
     // TODO add ResourceConfiguration param to ContextManagerBuilder to avoid re-build data source
     private Map<String, Map<String, DataSource>> getDataSourcesMap(final Map<String, Map<String, ProxyResourceConfiguration>> resourceConfigMap) {
         Map<String, Map<String, DataSource>> result = new LinkedHashMap<>(resourceConfigMap.size(), 1);
@@ -51,6 +51,7 @@ public final class ProxyConfigurationLoaderTest {
         assertShardingRuleConfiguration(actual.getSchemaConfigurations().get("sharding_db"));
         assertReadwriteSplittingRuleConfiguration(actual.getSchemaConfigurations().get("readwrite_splitting_db"));
         assertEncryptRuleConfiguration(actual.getSchemaConfigurations().get("encrypt_db"));
+        assertThat(actual.getWarmUpSQLs().size(), is(2));
     }
     
     private void assertShardingRuleConfiguration(final YamlProxySchemaConfiguration actual) {
@@ -17,10 +17,15 @@
 
 package org.apache.shardingsphere.sql.parser.mysql.parser;
 
+import org.apache.shardingsphere.sql.parser.api.parser.SQLFastPathParser;
 import org.apache.shardingsphere.sql.parser.api.parser.SQLLexer;
 import org.apache.shardingsphere.sql.parser.api.parser.SQLParser;
+import org.apache.shardingsphere.sql.parser.api.visitor.ASTNode;
+import org.apache.shardingsphere.sql.parser.mysql.parser.fastpath.MySQLFastPathParser;
 import org.apache.shardingsphere.sql.parser.spi.DatabaseTypedSQLParserFacade;
 
+import java.util.Optional;
+
 /**
  * SQL parser facade for MySQL.
  */
@@ -40,4 +45,9 @@ public final class MySQLParserFacade implements DatabaseTypedSQLParserFacade {
     public String getDatabaseType() {
         return "MySQL";
     }
+    
+    @Override
+    public Optional<SQLFastPathParser> getFastPathParser() {
+        return Optional.of(sql -> new MySQLFastPathParser(sql).parse().map(ASTNode.class::cast));
+    }
 }
@@ -0,0 +1,216 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.mysql.parser.fastpath;
+
+import lombok.RequiredArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Fast path lexer.
+ *
+ * <p>Only tokenizes the plain subset of SQL which fast path parser can recognize, any comment, escape, semicolon or unknown character makes lexer give up.</p>
+ */
+@RequiredArgsConstructor
+public final class FastPathLexer {
+    
+    private static final Set<String> RESERVED_WORDS = new HashSet<>(Arrays.asList(
+            "ACCESSIBLE", "ADD", "ALL", "ALTER", "ANALYZE", "AND", "AS", "ASC", "ASENSITIVE", "BEFORE", "BETWEEN", "BIGINT", "BINARY", "BLOB", "BOTH", "BY", "CALL", "CASCADE", "CASE",
+            "CHANGE", "CHAR", "CHARACTER", "CHECK", "COLLATE", "COLUMN", "CONDITION", "CONSTRAINT", "CONTINUE", "CONVERT", "CREATE", "CROSS", "CUBE", "CUME_DIST", "CURRENT_DATE",
+            "CURRENT_TIME", "CURRENT_TIMESTAMP", "CURRENT_USER", "CURSOR", "DATABASE", "DATABASES", "DATE", "DAY_HOUR", "DAY_MICROSECOND", "DAY_MINUTE", "DAY_SECOND", "DEC", "DECIMAL",
+            "DECLARE", "DEFAULT", "DELAYED", "DELETE", "DENSE_RANK", "DESC", "DESCRIBE", "DETERMINISTIC", "DISTINCT", "DISTINCTROW", "DIV", "DOUBLE", "DROP", "DUAL", "EACH", "ELSE",
+            "ELSEIF", "EMPTY", "ENCLOSED", "ESCAPED", "EXCEPT", "EXISTS", "EXIT", "EXPLAIN", "FALSE", "FETCH", "FIRST_VALUE", "FLOAT", "FOR", "FORCE", "FOREIGN", "FROM", "FULLTEXT",
+            "FUNCTION", "GENERATED", "GET", "GRANT", "GROUP", "GROUPING", "GROUPS", "HAVING", "HIGH_PRIORITY", "HOUR_MICROSECOND", "HOUR_MINUTE", "HOUR_SECOND", "IF", "IGNORE", "IN",
+            "INDEX", "INFILE", "INNER", "INOUT", "INSENSITIVE", "INSERT", "INT", "INTEGER", "INTERVAL", "INTO", "IS", "ITERATE", "JOIN", "KEY", "KEYS", "KILL", "LAG", "LAST_VALUE",
+            "LEAD", "LEADING", "LEAVE", "LEFT", "LIKE", "LIMIT", "LINEAR", "LINES", "LOAD", "LOCALTIME", "LOCALTIMESTAMP", "LOCK", "LONG", "LOOP", "LOW_PRIORITY", "MATCH", "MAXVALUE",
+            "MINUTE_MICROSECOND", "MINUTE_SECOND", "MOD", "MODIFIES", "NATURAL", "NOT", "NO_WRITE_TO_BINLOG", "NTH_VALUE", "NTILE", "NULL", "NUMERIC", "OF", "ON", "OPTIMIZE", "OPTION",
+            "OPTIONALLY", "OR", "ORDER", "OUT", "OUTER", "OUTFILE", "OVER", "PARTITION", "PERCENT_RANK", "PRECISION", "PRIMARY", "PROCEDURE", "PURGE", "QUICK", "RANGE", "RANK", "READ",
+            "READS", "REAL", "RECURSIVE", "REFERENCES", "REGEXP", "RELEASE", "RENAME", "REPEAT", "REPLACE", "REQUIRE", "RESIGNAL", "RESTRICT", "RETURN", "REVOKE", "RIGHT", "RLIKE",
+            "ROW", "ROWS", "ROW_NUMBER", "SCHEMA", "SCHEMAS", "SECOND_MICROSECOND", "SELECT", "SENSITIVE", "SEPARATOR", "SET", "SHOW", "SIGNAL", "SMALLINT", "SOUNDS", "SPATIAL",
+            "SPECIFIC", "SQL", "SQLEXCEPTION", "SQLSTATE", "SQLWARNING", "SQL_BIG_RESULT", "SQL_CALC_FOUND_ROWS", "SQL_SMALL_RESULT", "SSL", "STARTING", "STORED", "STRAIGHT_JOIN",
+            "SYSTEM", "TABLE", "TERMINATED", "THEN", "TIME", "TIMESTAMP", "TO", "TRAILING", "TRIGGER", "TRUE", "UNDO", "UNION", "UNIQUE", "UNKNOWN", "UNLOCK", "UNSIGNED", "UPDATE",
+            "USAGE", "USE", "USING", "UTC_DATE", "UTC_TIME", "UTC_TIMESTAMP", "VALUE", "VALUES", "VARBINARY", "VARCHAR", "VARCHARACTER", "VARYING", "VIRTUAL", "WHEN", "WHERE", "WHILE",
+            "WINDOW", "WITH", "WRITE", "XOR", "YEAR_MONTH", "ZEROFILL"));
+    
+    private final String sql;
+    
+    private int position;
+    
+    /**
+     * Tokenize SQL.
+     *
+     * @return tokens, empty if SQL contains any character which fast path does not support
+     */
+    public Optional<List<FastPathToken>> tokenize() {
+        List<FastPathToken> result = new ArrayList<>(32);
+        while (true) {
+            skipWhitespaces();
+            if (position >= sql.length()) {
+                result.add(new FastPathToken(FastPathTokenType.EOF, position, position - 1, ""));
+                return Optional.of(result);
+            }
+            FastPathToken token = nextToken();
+            if (null == token) {
+                return Optional.empty();
+            }
+            result.add(token);
+        }
+    }
+    
+    private void skipWhitespaces() {
+        while (position < sql.length() && isWhitespace(sql.charAt(position))) {
+            position++;
+        }
+    }
+    
+    private boolean isWhitespace(final char ch) {
+        return ' ' == ch || '\t' == ch || '\n' == ch || '\r' == ch;
+    }
+    
+    private FastPathToken nextToken() {
+        char ch = sql.charAt(position);
+        if (isIdentifierStart(ch)) {
+            return scanIdentifier();
+        }
+        if (isDigit(ch)) {
+            return scanNumber();
+        }
+        switch (ch) {
+            case '`':
+                return scanQuoted(FastPathTokenType.IDENTIFIER, '`');
+            case '\'':
+                return scanQuoted(FastPathTokenType.STRING, '\'');
+            case '?':
+                return createSymbol(FastPathTokenType.PARAMETER_MARKER, 1);
+            case ',':
+                return createSymbol(FastPathTokenType.COMMA, 1);
+            case '.':
+                return createSymbol(FastPathTokenType.DOT, 1);
+            case '(':
+                return createSymbol(FastPathTokenType.LEFT_PAREN, 1);
+            case ')':
+                return createSymbol(FastPathTokenType.RIGHT_PAREN, 1);
+            case '*':
+                return createSymbol(FastPathTokenType.ASTERISK, 1);
+            case '=':
+                return createSymbol(FastPathTokenType.COMPARISON_OPERATOR, 1);
+            case '!':
+                return isNextChar('=') ? createSymbol(FastPathTokenType.COMPARISON_OPERATOR, 2) : null;
+            case '>':
+                return createSymbol(FastPathTokenType.COMPARISON_OPERATOR, isNextChar('=') ? 2 : 1);
+            case '<':
+                return scanLessThanOperator();
+            default:
+                return null;
+        }
+    }
+    
+    private boolean isIdentifierStart(final char ch) {
+        return ch >= 'a' && ch <= 'z' || ch >= 'A' && ch <= 'Z' || '_' == ch;
+    }
+    
+    private boolean isIdentifierPart(final char ch) {
+        return isIdentifierStart(ch) || isDigit(ch);
+    }
+    
+    private boolean isDigit(final char ch) {
+        return ch >= '0' && ch <= '9';
+    }
+    
+    private boolean isNextChar(final char ch) {
+        return position + 1 < sql.length() && ch == sql.charAt(position + 1);
+    }
+    
+    private FastPathToken scanIdentifier() {
+        int start = position;
+        while (position < sql.length() && isIdentifierPart(sql.charAt(position))) {
+            position++;
+        }
+        if (position < sql.length() && isUnsupportedIdentifierPart(sql.charAt(position))) {
+            return null;
+        }
+        String text = sql.substring(start, position);
+        FastPathTokenType type = RESERVED_WORDS.contains(text.toUpperCase(Locale.ENGLISH)) ? FastPathTokenType.KEYWORD : FastPathTokenType.IDENTIFIER;
+        return new FastPathToken(type, start, position - 1, text);
+    }
+    
+    private boolean isUnsupportedIdentifierPart(final char ch) {
+        return '$' == ch || '\'' == ch || '"' == ch || '`' == ch || ch > 127;
+    }
+    
+    private FastPathToken scanNumber() {
+        final int start = position;
+        scanDigits();
+        if (position < sql.length() && '.' == sql.charAt(position)) {
+            position++;
+            if (position >= sql.length() || !isDigit(sql.charAt(position))) {
+                return null;
+            }
+            scanDigits();
+        }
+        if (position < sql.length() && (isIdentifierPart(sql.charAt(position)) || isUnsupportedIdentifierPart(sql.charAt(position)) || '.' == sql.charAt(position))) {
+            return null;
+        }
+        return new FastPathToken(FastPathTokenType.NUMBER, start, position - 1, sql.substring(start, position));
+    }
+    
+    private void scanDigits() {
+        while (position < sql.length() && isDigit(sql.charAt(position))) {
+            position++;
+        }
+    }
+    
+    private FastPathToken scanQuoted(final FastPathTokenType type, final char quote) {
+        int start = position;
+        position++;
+        while (position < sql.length()) {
+            char ch = sql.charAt(position);
+            if ('\\' == ch || Character.isSurrogate(ch)) {
+                return null;
+            }
+            if (quote == ch) {
+                if (isNextChar(quote)) {
+                    return null;
+                }
+                position++;
+                return position - start > 2 || FastPathTokenType.STRING == type ? new FastPathToken(type, start, position - 1, sql.substring(start, position)) : null;
+            }
+            position++;
+        }
+        return null;
+    }
+    
+    private FastPathToken scanLessThanOperator() {
+        if (position + 2 < sql.length() && '=' == sql.charAt(position + 1) && '>' == sql.charAt(position + 2)) {
+            return createSymbol(FastPathTokenType.COMPARISON_OPERATOR, 3);
+        }
+        return createSymbol(FastPathTokenType.COMPARISON_OPERATOR, isNextChar('=') || isNextChar('>') ? 2 : 1);
+    }
+    
+    private FastPathToken createSymbol(final FastPathTokenType type, final int length) {
+        int start = position;
+        position += length;
+        return new FastPathToken(type, start, position - 1, sql.substring(start, position));
+    }
+}
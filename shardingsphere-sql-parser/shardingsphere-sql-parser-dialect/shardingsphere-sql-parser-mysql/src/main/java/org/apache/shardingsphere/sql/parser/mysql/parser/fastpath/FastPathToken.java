@@ -0,0 +1,47 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.mysql.parser.fastpath;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Fast path token.
+ */
+@RequiredArgsConstructor
+@Getter
+public final class FastPathToken {
+    
+    private final FastPathTokenType type;
+    
+    private final int startIndex;
+    
+    private final int stopIndex;
+    
+    private final String text;
+    
+    /**
+     * Judge whether token is the keyword.
+     *
+     * @param keyword keyword to be judged
+     * @return is the keyword or not
+     */
+    public boolean isKeyword(final String keyword) {
+        return FastPathTokenType.KEYWORD == type && keyword.equalsIgnoreCase(text);
+    }
+}
@@ -0,0 +1,364 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.mysql.parser.fastpath;
+
+import org.apache.shardingsphere.sql.parser.sql.common.constant.ParameterMarkerType;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.assignment.AssignmentSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.assignment.ColumnAssignmentSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.assignment.InsertValuesSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.assignment.SetAssignmentSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.column.ColumnSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.column.InsertColumnsSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.BinaryOperationExpression;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.ExpressionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.InExpression;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.ListExpression;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.simple.LiteralExpressionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.simple.ParameterMarkerExpressionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.item.ColumnProjectionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.item.ProjectionsSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.item.ShorthandProjectionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.predicate.WhereSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.OwnerSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.table.SimpleTableSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.table.TableNameSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.value.identifier.IdentifierValue;
+import org.apache.shardingsphere.sql.parser.sql.common.value.literal.impl.NumberLiteralValue;
+import org.apache.shardingsphere.sql.parser.sql.common.value.literal.impl.StringLiteralValue;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dml.MySQLDeleteStatement;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dml.MySQLInsertStatement;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dml.MySQLSelectStatement;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dml.MySQLUpdateStatement;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * MySQL fast path parser.
+ *
+ * <p>Recursive descent parser for simple point DML, which produces the same SQL statement as MySQL statement visitor does:</p>
+ * <ul>
+ *     <li>SELECT * | column [, column ...] FROM table [WHERE condition]</li>
+ *     <li>INSERT INTO table [(column [, column ...])] VALUES (value [, value ...]) [, (...)]</li>
+ *     <li>UPDATE table SET column = value [, column = value ...] [WHERE condition]</li>
+ *     <li>DELETE FROM table [WHERE condition]</li>
+ * </ul>
+ * <p>Condition is AND chain of comparison or IN list, value is parameter marker, number or string literal. Other SQL are not recognized and should be parsed by full grammar.</p>
+ */
+public final class MySQLFastPathParser {
+    
+    private final String sql;
+    
+    private List<FastPathToken> tokens;
+    
+    private int position;
+    
+    private int parameterIndex;
+    
+    public MySQLFastPathParser(final String sql) {
+        this.sql = sql;
+    }
+    
+    /**
+     * Parse SQL.
+     *
+     * @return SQL statement, empty if SQL is not simple point DML
+     */
+    public Optional<SQLStatement> parse() {
+        Optional<List<FastPathToken>> tokenized = new FastPathLexer(sql).tokenize();
+        if (!tokenized.isPresent()) {
+            return Optional.empty();
+        }
+        tokens = tokenized.get();
+        try {
+            return Optional.of(parseStatement());
+        } catch (final UnrecognizedSQLException ignore) {
+            return Optional.empty();
+        }
+    }
+    
+    private SQLStatement parseStatement() {
+        FastPathToken first = current();
+        if (first.isKeyword("SELECT")) {
+            return parseSelect();
+        }
+        if (first.isKeyword("INSERT")) {
+            return parseInsert();
+        }
+        if (first.isKeyword("UPDATE")) {
+            return parseUpdate();
+        }
+        if (first.isKeyword("DELETE")) {
+            return parseDelete();
+        }
+        throw UnrecognizedSQLException.INSTANCE;
+    }
+    
+    private MySQLSelectStatement parseSelect() {
+        acceptKeyword("SELECT");
+        MySQLSelectStatement result = new MySQLSelectStatement();
+        result.setProjections(parseProjections());
+        acceptKeyword("FROM");
+        result.setFrom(parseTableName());
+        parseWhere().ifPresent(result::setWhere);
+        acceptEOF();
+        result.setParameterCount(parameterIndex);
+        return result;
+    }
+    
+    private ProjectionsSegment parseProjections() {
+        FastPathToken start = current();
+        if (FastPathTokenType.ASTERISK == start.getType()) {
+            position++;
+            ProjectionsSegment result = new ProjectionsSegment(start.getStartIndex(), start.getStopIndex());
+            result.getProjections().add(new ShorthandProjectionSegment(start.getStartIndex(), start.getStopIndex()));
+            return result;
+        }
+        Collection<ColumnProjectionSegment> projections = new LinkedList<>();
+        projections.add(new ColumnProjectionSegment(parseColumn()));
+        while (FastPathTokenType.COMMA == current().getType()) {
+            position++;
+            projections.add(new ColumnProjectionSegment(parseColumn()));
+        }
+        ProjectionsSegment result = new ProjectionsSegment(start.getStartIndex(), previous().getStopIndex());
+        result.getProjections().addAll(projections);
+        return result;
+    }
+    
+    private MySQLInsertStatement parseInsert() {
+        acceptKeyword("INSERT");
+        acceptKeyword("INTO");
+        MySQLInsertStatement result = new MySQLInsertStatement();
+        result.setTable(parseTableName());
+        result.setInsertColumns(parseInsertColumns());
+        acceptKeyword("VALUES");
+        result.getValues().add(parseInsertValues());
+        while (FastPathTokenType.COMMA == current().getType()) {
+            position++;
+            result.getValues().add(parseInsertValues());
+        }
+        acceptEOF();
+        result.setParameterCount(parameterIndex);
+        return result;
+    }
+    
+    private InsertColumnsSegment parseInsertColumns() {
+        if (FastPathTokenType.LEFT_PAREN != current().getType()) {
+            int index = current().getStartIndex() - 1;
+            return new InsertColumnsSegment(index, index, Collections.emptyList());
+        }
+        FastPathToken leftParen = accept(FastPathTokenType.LEFT_PAREN);
+        List<ColumnSegment> columns = new LinkedList<>();
+        columns.add(parseColumn());
+        while (FastPathTokenType.COMMA == current().getType()) {
+            position++;
+            columns.add(parseColumn());
+        }
+        FastPathToken rightParen = accept(FastPathTokenType.RIGHT_PAREN);
+        return new InsertColumnsSegment(leftParen.getStartIndex(), rightParen.getStopIndex(), columns);
+    }
+    
+    private InsertValuesSegment parseInsertValues() {
+        FastPathToken leftParen = accept(FastPathTokenType.LEFT_PAREN);
+        List<ExpressionSegment> values = new LinkedList<>();
+        values.add(parseValue());
+        while (FastPathTokenType.COMMA == current().getType()) {
+            position++;
+            values.add(parseValue());
+        }
+        FastPathToken rightParen = accept(FastPathTokenType.RIGHT_PAREN);
+        return new InsertValuesSegment(leftParen.getStartIndex(), rightParen.getStopIndex(), values);
+    }
+    
+    private MySQLUpdateStatement parseUpdate() {
+        acceptKeyword("UPDATE");
+        MySQLUpdateStatement result = new MySQLUpdateStatement();
+        result.setTableSegment(parseTableName());
+        FastPathToken set = acceptKeyword("SET");
+        Collection<AssignmentSegment> assignments = new LinkedList<>();
+        assignments.add(parseAssignment());
+        while (FastPathTokenType.COMMA == current().getType()) {
+            position++;
+            assignments.add(parseAssignment());
+        }
+        result.setSetAssignment(new SetAssignmentSegment(set.getStartIndex(), previous().getStopIndex(), assignments));
+        parseWhere().ifPresent(result::setWhere);
+        acceptEOF();
+        result.setParameterCount(parameterIndex);
+        return result;
+    }
+    
+    private AssignmentSegment parseAssignment() {
+        ColumnSegment column = parseColumn();
+        FastPathToken operator = accept(FastPathTokenType.COMPARISON_OPERATOR);
+        if (!"=".equals(operator.getText())) {
+            throw UnrecognizedSQLException.INSTANCE;
+        }
+        ExpressionSegment value = parseValue();
+        List<ColumnSegment> columns = new LinkedList<>();
+        columns.add(column);
+        return new ColumnAssignmentSegment(column.getStartIndex(), value.getStopIndex(), columns, value);
+    }
+    
+    private MySQLDeleteStatement parseDelete() {
+        acceptKeyword("DELETE");
+        acceptKeyword("FROM");
+        MySQLDeleteStatement result = new MySQLDeleteStatement();
+        result.setTableSegment(parseTableName());
+        parseWhere().ifPresent(result::setWhere);
+        acceptEOF();
+        result.setParameterCount(parameterIndex);
+        return result;
+    }
+    
+    private SimpleTableSegment parseTableName() {
+        FastPathToken first = accept(FastPathTokenType.IDENTIFIER);
+        if (FastPathTokenType.DOT != current().getType()) {
+            return new SimpleTableSegment(new TableNameSegment(first.getStartIndex(), first.getStopIndex(), new IdentifierValue(first.getText())));
+        }
+        position++;
+        FastPathToken name = accept(FastPathTokenType.IDENTIFIER);
+        SimpleTableSegment result = new SimpleTableSegment(new TableNameSegment(name.getStartIndex(), name.getStopIndex(), new IdentifierValue(name.getText())));
+        result.setOwner(new OwnerSegment(first.getStartIndex(), first.getStopIndex(), new IdentifierValue(first.getText())));
+        return result;
+    }
+    
+    private ColumnSegment parseColumn() {
+        FastPathToken first = accept(FastPathTokenType.IDENTIFIER);
+        if (FastPathTokenType.DOT != current().getType()) {
+            return new ColumnSegment(first.getStartIndex(), first.getStopIndex(), new IdentifierValue(first.getText()));
+        }
+        position++;
+        FastPathToken name = accept(FastPathTokenType.IDENTIFIER);
+        ColumnSegment result = new ColumnSegment(first.getStartIndex(), name.getStopIndex(), new IdentifierValue(name.getText()));
+        result.setOwner(new OwnerSegment(first.getStartIndex(), first.getStopIndex(), new IdentifierValue(first.getText())));
+        return result;
+    }
+    
+    private Optional<WhereSegment> parseWhere() {
+        if (!current().isKeyword("WHERE")) {
+            return Optional.empty();
+        }
+        FastPathToken where = acceptKeyword("WHERE");
+        ExpressionSegment expr = parsePredicate();
+        while (current().isKeyword("AND")) {
+            String operator = current().getText();
+            position++;
+            ExpressionSegment right = parsePredicate();
+            expr = new BinaryOperationExpression(expr.getStartIndex(), right.getStopIndex(), expr, right, operator, getText(expr.getStartIndex(), right.getStopIndex()));
+        }
+        return Optional.of(new WhereSegment(where.getStartIndex(), expr.getStopIndex(), expr));
+    }
+    
+    private ExpressionSegment parsePredicate() {
+        ExpressionSegment left = parseSimpleExpression();
+        boolean not = current().isKeyword("NOT") && tokens.get(position + 1).isKeyword("IN");
+        if (not || current().isKeyword("IN")) {
+            position += not ? 2 : 1;
+            ListExpression right = parseInList();
+            return new InExpression(left.getStartIndex(), right.getStopIndex(), left, right, not);
+        }
+        FastPathToken operator = accept(FastPathTokenType.COMPARISON_OPERATOR);
+        ExpressionSegment right = parseSimpleExpression();
+        return new BinaryOperationExpression(left.getStartIndex(), right.getStopIndex(), left, right, operator.getText(), getText(left.getStartIndex(), right.getStopIndex()));
+    }
+    
+    private ListExpression parseInList() {
+        FastPathToken leftParen = accept(FastPathTokenType.LEFT_PAREN);
+        List<ExpressionSegment> items = new LinkedList<>();
+        items.add(parseSimpleExpression());
+        while (FastPathTokenType.COMMA == current().getType()) {
+            position++;
+            items.add(parseSimpleExpression());
+        }
+        FastPathToken rightParen = accept(FastPathTokenType.RIGHT_PAREN);
+        ListExpression result = new ListExpression(leftParen.getStartIndex(), rightParen.getStopIndex());
+        result.getItems().addAll(items);
+        return result;
+    }
+    
+    private ExpressionSegment parseSimpleExpression() {
+        return FastPathTokenType.IDENTIFIER == current().getType() ? parseColumn() : parseValue();
+    }
+    
+    private ExpressionSegment parseValue() {
+        FastPathToken token = current();
+        switch (token.getType()) {
+            case PARAMETER_MARKER:
+                position++;
+                return new ParameterMarkerExpressionSegment(token.getStartIndex(), token.getStopIndex(), parameterIndex++, ParameterMarkerType.QUESTION);
+            case NUMBER:
+                position++;
+                return new LiteralExpressionSegment(token.getStartIndex(), token.getStopIndex(), new NumberLiteralValue(token.getText()).getValue());
+            case STRING:
+                position++;
+                return new LiteralExpressionSegment(token.getStartIndex(), token.getStopIndex(), new StringLiteralValue(token.getText()).getValue());
+            default:
+                throw UnrecognizedSQLException.INSTANCE;
+        }
+    }
+    
+    private String getText(final int startIndex, final int stopIndex) {
+        return sql.substring(startIndex, stopIndex + 1);
+    }
+    
+    private FastPathToken current() {
+        return tokens.get(position);
+    }
+    
+    private FastPathToken previous() {
+        return tokens.get(position - 1);
+    }
+    
+    private FastPathToken accept(final FastPathTokenType type) {
+        FastPathToken result = current();
+        if (type != result.getType()) {
+            throw UnrecognizedSQLException.INSTANCE;
+        }
+        position++;
+        return result;
+    }
+    
+    private FastPathToken acceptKeyword(final String keyword) {
+        FastPathToken result = current();
+        if (!result.isKeyword(keyword)) {
+            throw UnrecognizedSQLException.INSTANCE;
+        }
+        position++;
+        return result;
+    }
+    
+    private void acceptEOF() {
+        accept(FastPathTokenType.EOF);
+    }
+    
+    private static final class UnrecognizedSQLException extends RuntimeException {
+    
+        private static final long serialVersionUID = -2462153489214722515L;
+    
+        private static final UnrecognizedSQLException INSTANCE = new UnrecognizedSQLException();
+    
+        private UnrecognizedSQLException() {
+            super(null, null, false, false);
+        }
+    }
+}
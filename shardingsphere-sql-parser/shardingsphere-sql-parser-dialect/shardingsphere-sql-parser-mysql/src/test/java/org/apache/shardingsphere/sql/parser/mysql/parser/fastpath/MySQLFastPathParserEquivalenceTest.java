@@ -0,0 +1,118 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.mysql.parser.fastpath;
+
+import org.apache.shardingsphere.sql.parser.api.CacheOption;
+import org.apache.shardingsphere.sql.parser.api.SQLParserEngine;
+import org.apache.shardingsphere.sql.parser.api.SQLVisitorEngine;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(Parameterized.class)
+public final class MySQLFastPathParserEquivalenceTest {
+    
+    private static final SQLParserEngine SQL_PARSER_ENGINE = new SQLParserEngine("MySQL", new CacheOption(128, 1024L, 4), false);
+    
+    private static final SQLVisitorEngine SQL_VISITOR_ENGINE = new SQLVisitorEngine("MySQL", "STATEMENT", new Properties());
+    
+    private final String sql;
+    
+    public MySQLFastPathParserEquivalenceTest(final String sql) {
+        this.sql = sql;
+    }
+    
+    @Parameters(name = "{0}")
+    public static Collection<String> getTestParameters() {
+        return Arrays.asList(
+                "SELECT * FROM t_order WHERE order_id = ?",
+                "SELECT order_id, user_id FROM t_order WHERE user_id = ? AND order_id = ?",
+                "select o.order_id, `status` from db.t_order where o.user_id = 10 and status in (?, 'paid')",
+                "SELECT * FROM t_order WHERE order_id NOT IN (?, ?, 3)",
+                "SELECT status FROM t_order WHERE status <> 'init' AND user_id >= ?",
+                "SELECT * FROM t_order",
+                "INSERT INTO t_order (order_id, user_id, status) VALUES (?, ?, 'init')",
+                "INSERT INTO t_order (order_id, status) VALUES (?, 'init'), (?, ?)",
+                "INSERT INTO `t_order` VALUES (?, ?)",
+                "insert into db.t_order (order_id, amount) values (1, 10.5)",
+                "UPDATE t_order SET status = ?, user_id = 1 WHERE order_id = ?",
+                "UPDATE t_order SET status = 'paid' WHERE order_id = ? AND user_id = ?",
+                "UPDATE t_order SET status = ?",
+                "DELETE FROM t_order WHERE order_id = ?",
+                "DELETE FROM t_order WHERE order_id IN (?, ?) AND user_id = ?");
+    }
+    
+    @Test
+    public void assertParseSameAsStatementVisitor() throws IllegalAccessException {
+        Optional<SQLStatement> actual = new MySQLFastPathParser(sql).parse();
+        assertTrue(actual.isPresent());
+        SQLStatement expected = SQL_VISITOR_ENGINE.visit(SQL_PARSER_ENGINE.parse(sql, false));
+        assertEquivalent("statement", actual.get(), expected);
+    }
+    
+    private void assertEquivalent(final String path, final Object actual, final Object expected) throws IllegalAccessException {
+        if (null == expected) {
+            assertNull(path, actual);
+            return;
+        }
+        if (expected instanceof Optional) {
+            assertEquivalent(path, ((Optional<?>) actual).orElse(null), ((Optional<?>) expected).orElse(null));
+        } else if (expected instanceof Collection) {
+            assertThat(path + ".size", ((Collection<?>) actual).size(), is(((Collection<?>) expected).size()));
+            Iterator<?> actualIterator = ((Collection<?>) actual).iterator();
+            int index = 0;
+            for (Object each : (Collection<?>) expected) {
+                assertEquivalent(path + "[" + index++ + "]", actualIterator.next(), each);
+            }
+        } else if (expected instanceof Map) {
+            assertThat(path + ".size", ((Map<?, ?>) actual).size(), is(((Map<?, ?>) expected).size()));
+            for (Entry<?, ?> entry : ((Map<?, ?>) expected).entrySet()) {
+                assertEquivalent(path + "[" + entry.getKey() + "]", ((Map<?, ?>) actual).get(entry.getKey()), entry.getValue());
+            }
+        } else if (expected instanceof CharSequence || expected instanceof Number || expected instanceof Boolean || expected instanceof Character || expected instanceof Enum) {
+            assertThat(path, actual, is(expected));
+        } else {
+            assertThat(path, null == actual ? null : actual.getClass(), is((Object) expected.getClass()));
+            for (Class<?> clazz = expected.getClass(); Object.class != clazz; clazz = clazz.getSuperclass()) {
+                for (Field each : clazz.getDeclaredFields()) {
+                    if (!Modifier.isStatic(each.getModifiers())) {
+                        each.setAccessible(true);
+                        assertEquivalent(path + "." + each.getName(), each.get(actual), each.get(expected));
+                    }
+                }
+            }
+        }
+    }
+}
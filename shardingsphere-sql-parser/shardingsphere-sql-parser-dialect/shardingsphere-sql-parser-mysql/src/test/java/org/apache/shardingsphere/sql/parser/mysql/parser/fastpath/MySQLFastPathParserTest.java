@@ -0,0 +1,149 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.mysql.parser.fastpath;
+
+import org.apache.shardingsphere.sql.parser.api.parser.SQLFastPathParser;
+import org.apache.shardingsphere.sql.parser.mysql.parser.MySQLParserFacade;
+import org.apache.shardingsphere.sql.parser.sql.common.constant.QuoteCharacter;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.assignment.ColumnAssignmentSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.assignment.InsertValuesSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.column.ColumnSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.BinaryOperationExpression;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.InExpression;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.ListExpression;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.simple.LiteralExpressionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.simple.ParameterMarkerExpressionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.item.ColumnProjectionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.item.ShorthandProjectionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.table.SimpleTableSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dml.MySQLDeleteStatement;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dml.MySQLInsertStatement;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dml.MySQLSelectStatement;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dml.MySQLUpdateStatement;
+import org.junit.Test;
+
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class MySQLFastPathParserTest {
+    
+    @Test
+    public void assertParseSelectWithShorthandProjection() {
+        Optional<SQLStatement> actual = new MySQLFastPathParser("SELECT * FROM t_order WHERE order_id = ?").parse();
+        assertTrue(actual.isPresent());
+        MySQLSelectStatement selectStatement = (MySQLSelectStatement) actual.get();
+        assertThat(selectStatement.getProjections().getProjections().iterator().next(), instanceOf(ShorthandProjectionSegment.class));
+        assertThat(((SimpleTableSegment) selectStatement.getFrom()).getTableName().getIdentifier().getValue(), is("t_order"));
+        BinaryOperationExpression expr = (BinaryOperationExpression) selectStatement.getWhere().get().getExpr();
+        assertThat(expr.getText(), is("order_id = ?"));
+        assertThat(expr.getStartIndex(), is(28));
+        assertThat(expr.getStopIndex(), is(39));
+        assertThat(((ParameterMarkerExpressionSegment) expr.getRight()).getParameterMarkerIndex(), is(0));
+        assertThat(selectStatement.getParameterCount(), is(1));
+    }
+    
+    @Test
+    public void assertParseSelectWithColumnsAndInList() {
+        Optional<SQLStatement> actual = new MySQLFastPathParser("select o.order_id, `status` from db.t_order where o.user_id = 10 and status in (?, 'paid')").parse();
+        assertTrue(actual.isPresent());
+        MySQLSelectStatement selectStatement = (MySQLSelectStatement) actual.get();
+        assertThat(selectStatement.getProjections().getProjections().size(), is(2));
+        ColumnSegment column = ((ColumnProjectionSegment) selectStatement.getProjections().getProjections().iterator().next()).getColumn();
+        assertThat(column.getOwner().get().getIdentifier().getValue(), is("o"));
+        assertThat(((SimpleTableSegment) selectStatement.getFrom()).getOwner().get().getIdentifier().getValue(), is("db"));
+        BinaryOperationExpression expr = (BinaryOperationExpression) selectStatement.getWhere().get().getExpr();
+        assertThat(expr.getOperator(), is("and"));
+        assertThat(((LiteralExpressionSegment) ((BinaryOperationExpression) expr.getLeft()).getRight()).getLiterals(), is(10));
+        InExpression inExpression = (InExpression) expr.getRight();
+        assertThat(((ListExpression) inExpression.getRight()).getItems().size(), is(2));
+        assertThat(selectStatement.getParameterCount(), is(1));
+    }
+    
+    @Test
+    public void assertParseInsert() {
+        Optional<SQLStatement> actual = new MySQLFastPathParser("INSERT INTO t_order (order_id, status) VALUES (?, 'init'), (?, ?)").parse();
+        assertTrue(actual.isPresent());
+        MySQLInsertStatement insertStatement = (MySQLInsertStatement) actual.get();
+        assertThat(insertStatement.getTable().getTableName().getIdentifier().getValue(), is("t_order"));
+        assertThat(insertStatement.getColumns().size(), is(2));
+        assertThat(insertStatement.getValues().size(), is(2));
+        InsertValuesSegment values = insertStatement.getValues().iterator().next();
+        assertThat(values.getStartIndex(), is(46));
+        assertThat(values.getStopIndex(), is(56));
+        assertThat(insertStatement.getParameterCount(), is(3));
+    }
+    
+    @Test
+    public void assertParseInsertWithoutColumns() {
+        Optional<SQLStatement> actual = new MySQLFastPathParser("INSERT INTO `t_order` VALUES (?, ?)").parse();
+        assertTrue(actual.isPresent());
+        MySQLInsertStatement insertStatement = (MySQLInsertStatement) actual.get();
+        assertThat(insertStatement.getTable().getTableName().getIdentifier().getQuoteCharacter(), is(QuoteCharacter.BACK_QUOTE));
+        assertTrue(insertStatement.getColumns().isEmpty());
+        assertThat(insertStatement.getInsertColumns().get().getStartIndex(), is(21));
+    }
+    
+    @Test
+    public void assertParseUpdate() {
+        Optional<SQLStatement> actual = new MySQLFastPathParser("UPDATE t_order SET status = ?, user_id = 1 WHERE order_id = ?").parse();
+        assertTrue(actual.isPresent());
+        MySQLUpdateStatement updateStatement = (MySQLUpdateStatement) actual.get();
+        assertThat(updateStatement.getSetAssignment().getAssignments().size(), is(2));
+        ColumnAssignmentSegment assignment = (ColumnAssignmentSegment) updateStatement.getSetAssignment().getAssignments().iterator().next();
+        assertThat(assignment.getColumns().get(0).getIdentifier().getValue(), is("status"));
+        assertThat(updateStatement.getSetAssignment().getStopIndex(), is(41));
+        assertThat(((ParameterMarkerExpressionSegment) ((BinaryOperationExpression) updateStatement.getWhere().get().getExpr()).getRight()).getParameterMarkerIndex(), is(1));
+        assertThat(updateStatement.getParameterCount(), is(2));
+    }
+    
+    @Test
+    public void assertParseDelete() {
+        Optional<SQLStatement> actual = new MySQLFastPathParser("DELETE FROM t_order WHERE order_id = ?").parse();
+        assertTrue(actual.isPresent());
+        MySQLDeleteStatement deleteStatement = (MySQLDeleteStatement) actual.get();
+        assertThat(((SimpleTableSegment) deleteStatement.getTableSegment()).getTableName().getIdentifier().getValue(), is("t_order"));
+        assertThat(deleteStatement.getParameterCount(), is(1));
+    }
+    
+    @Test
+    public void assertParseUnrecognizedSQL() {
+        assertFalse(new MySQLFastPathParser("SELECT * FROM t_order WHERE order_id = ? LIMIT 1").parse().isPresent());
+        assertFalse(new MySQLFastPathParser("SELECT * FROM t_order o WHERE o.order_id = ?").parse().isPresent());
+        assertFalse(new MySQLFastPathParser("SELECT COUNT(*) FROM t_order").parse().isPresent());
+        assertFalse(new MySQLFastPathParser("SELECT * FROM t_order WHERE order_id = ? OR user_id = ?").parse().isPresent());
+        assertFalse(new MySQLFastPathParser("SELECT * FROM t_order WHERE status = 'it''s'").parse().isPresent());
+        assertFalse(new MySQLFastPathParser("SELECT * FROM t_order /* comment */ WHERE order_id = ?").parse().isPresent());
+        assertFalse(new MySQLFastPathParser("DELETE FROM t_order WHERE order_id = ?;").parse().isPresent());
+        assertFalse(new MySQLFastPathParser("SELECT * FROM select").parse().isPresent());
+        assertFalse(new MySQLFastPathParser("SHOW TABLES").parse().isPresent());
+    }
+    
+    @Test
+    public void assertGetFastPathParserFromParserFacade() {
+        Optional<SQLFastPathParser> fastPathParser = new MySQLParserFacade().getFastPathParser();
+        assertTrue(fastPathParser.isPresent());
+        assertThat(fastPathParser.get().parse("DELETE FROM t_order WHERE order_id = ?").orElse(null), instanceOf(MySQLDeleteStatement.class));
+        assertFalse(fastPathParser.get().parse("DELETE FROM t_order WHERE order_id = ? LIMIT 1").isPresent());
+    }
+}
@@ -171,6 +171,7 @@ import org.apache.shardingsphere.sql.parser.sql.dialect.statement.opengauss.dml.
 import org.apache.shardingsphere.sql.parser.sql.dialect.statement.opengauss.dml.OpenGaussSelectStatement;
 import org.apache.shardingsphere.sql.parser.sql.dialect.statement.opengauss.dml.OpenGaussUpdateStatement;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedList;
@@ -442,14 +443,24 @@ public abstract class OpenGaussStatementSQLVisitor extends OpenGaussStatementBas
         return result;
     }
     
-    @SuppressWarnings("unchecked")
     @Override
     public ASTNode visitExprList(final ExprListContext ctx) {
         CollectionValue<ExpressionSegment> result = new CollectionValue<>();
-        if (null != ctx.exprList()) {
-            result.combine((CollectionValue<ExpressionSegment>) visitExprList(ctx.exprList()));
+        result.getValue().addAll(createExpressionSegments(ctx));
+        return result;
+    }
+    
+    private List<ExpressionSegment> createExpressionSegments(final ExprListContext ctx) {
+        LinkedList<ExprListContext> exprLists = new LinkedList<>();
+        ExprListContext exprList = ctx;
+        while (null != exprList) {
+            exprLists.addFirst(exprList);
+            exprList = exprList.exprList();
+        }
+        List<ExpressionSegment> result = new ArrayList<>(exprLists.size());
+        for (ExprListContext each : exprLists) {
+            result.add((ExpressionSegment) visit(each.aExpr()));
         }
-        result.getValue().add((ExpressionSegment) visit(ctx.aExpr()));
         return result;
     }
     
@@ -681,25 +692,16 @@ public abstract class OpenGaussStatementSQLVisitor extends OpenGaussStatementBas
     }
     
     private Collection<InsertValuesSegment> createInsertValuesSegments(final ValuesClauseContext ctx) {
-        Collection<InsertValuesSegment> result = new LinkedList<>();
-        if (null != ctx.valuesClause()) {
-            Collection<InsertValuesSegment> expressions = createInsertValuesSegments(ctx.valuesClause());
-            result.addAll(expressions);
-        }
-        Collection<ExpressionSegment> expressions = createInsertValuesSegments(ctx.exprList());
-        InsertValuesSegment insertValuesSegment = new InsertValuesSegment(ctx.LP_().getSymbol().getStartIndex(), ctx.RP_().getSymbol().getStopIndex(), (List<ExpressionSegment>) expressions);
-        result.add(insertValuesSegment);
-        return result;
-    }
-    
-    private Collection<ExpressionSegment> createInsertValuesSegments(final ExprListContext ctx) {
-        Collection<ExpressionSegment> result = new LinkedList<>();
-        if (null != ctx.exprList()) {
-            Collection<ExpressionSegment> tmpResult = createInsertValuesSegments(ctx.exprList());
-            result.addAll(tmpResult);
+        LinkedList<ValuesClauseContext> valuesClauses = new LinkedList<>();
+        ValuesClauseContext valuesClause = ctx;
+        do {
+            valuesClauses.addFirst(valuesClause);
+            valuesClause = valuesClause.valuesClause();
+        } while (null != valuesClause);
+        Collection<InsertValuesSegment> result = new ArrayList<>(valuesClauses.size());
+        for (ValuesClauseContext each : valuesClauses) {
+            result.add(new InsertValuesSegment(each.LP_().getSymbol().getStartIndex(), each.RP_().getSymbol().getStopIndex(), createExpressionSegments(each.exprList())));
         }
-        ExpressionSegment expr = (ExpressionSegment) visit(ctx.aExpr());
-        result.add(expr);
         return result;
     }
     
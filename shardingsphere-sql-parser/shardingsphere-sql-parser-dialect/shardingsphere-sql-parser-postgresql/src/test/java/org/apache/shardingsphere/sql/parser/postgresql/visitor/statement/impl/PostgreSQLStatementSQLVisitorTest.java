@@ -0,0 +1,85 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.postgresql.visitor.statement.impl;
+
+import org.apache.shardingsphere.sql.parser.api.CacheOption;
+import org.apache.shardingsphere.sql.parser.api.SQLParserEngine;
+import org.apache.shardingsphere.sql.parser.api.SQLVisitorEngine;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.assignment.InsertValuesSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.ExpressionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.InExpression;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.ListExpression;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.simple.LiteralExpressionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.simple.ParameterMarkerExpressionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.postgresql.dml.PostgreSQLInsertStatement;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.postgresql.dml.PostgreSQLSelectStatement;
+import org.junit.Test;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class PostgreSQLStatementSQLVisitorTest {
+    
+    private static final int VALUE_COUNT = 5000;
+    
+    @Test
+    public void assertVisitInsertWithDeepValuesClause() {
+        StringBuilder sql = new StringBuilder("INSERT INTO t_order (order_id, user_id) VALUES ");
+        for (int i = 0; i < VALUE_COUNT; i++) {
+            sql.append(0 == i ? "" : ", ").append("(?, ").append(i).append(')');
+        }
+        PostgreSQLInsertStatement actual = (PostgreSQLInsertStatement) parse(sql.toString());
+        assertThat(actual.getValues().size(), is(VALUE_COUNT));
+        assertThat(actual.getParameterCount(), is(VALUE_COUNT));
+        int index = 0;
+        for (InsertValuesSegment each : actual.getValues()) {
+            List<ExpressionSegment> values = each.getValues();
+            assertThat(values.size(), is(2));
+            assertThat(((ParameterMarkerExpressionSegment) values.get(0)).getParameterMarkerIndex(), is(index));
+            assertThat(((Number) ((LiteralExpressionSegment) values.get(1)).getLiterals()).intValue(), is(index));
+            assertThat(sql.charAt(each.getStartIndex()), is('('));
+            assertThat(sql.charAt(each.getStopIndex()), is(')'));
+            index++;
+        }
+    }
+    
+    @Test
+    public void assertVisitSelectWithDeepExprList() {
+        StringBuilder sql = new StringBuilder("SELECT * FROM t_order WHERE order_id IN (");
+        for (int i = 0; i < VALUE_COUNT; i++) {
+            sql.append(0 == i ? "" : ", ").append(i);
+        }
+        sql.append(')');
+        PostgreSQLSelectStatement actual = (PostgreSQLSelectStatement) parse(sql.toString());
+        ListExpression listExpression = (ListExpression) ((InExpression) actual.getWhere().get().getExpr()).getRight();
+        assertThat(listExpression.getItems().size(), is(VALUE_COUNT));
+        Iterator<ExpressionSegment> items = listExpression.getItems().iterator();
+        for (int i = 0; i < VALUE_COUNT; i++) {
+            assertThat(((Number) ((LiteralExpressionSegment) items.next()).getLiterals()).intValue(), is(i));
+        }
+    }
+    
+    private SQLStatement parse(final String sql) {
+        return new SQLVisitorEngine("PostgreSQL", "STATEMENT", new Properties()).visit(new SQLParserEngine("PostgreSQL", new CacheOption(128, 1024L, 4), false).parse(sql, false));
+    }
+}
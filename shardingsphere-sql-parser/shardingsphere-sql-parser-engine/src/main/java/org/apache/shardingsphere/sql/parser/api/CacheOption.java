@@ -24,6 +24,8 @@ import lombok.Setter;
 
 /**
  * Cache option.
+ *
+ * <p>Cache is weighted by estimated size of cached value if maximum weight is positive, otherwise bounded by entry count of maximum size.</p>
  */
 @Getter
 @Setter
@@ -35,5 +37,26 @@ public final class CacheOption {
     
     private long maximumSize;
     
+    /**
+     * Concurrency level.
+     *
+     * @deprecated Caffeine cache has no concurrency level, this option is kept for configuration compatibility only and takes no effect
+     */
+    @Deprecated
     private int concurrencyLevel;
+    
+    private long maximumWeight;
+    
+    public CacheOption(final int initialCapacity, final long maximumSize, final int concurrencyLevel) {
+        this(initialCapacity, maximumSize, concurrencyLevel, 0L);
+    }
+    
+    /**
+     * Judge whether cache is weighted.
+     *
+     * @return cache is weighted or not
+     */
+    public boolean isWeighted() {
+        return maximumWeight > 0L;
+    }
 }
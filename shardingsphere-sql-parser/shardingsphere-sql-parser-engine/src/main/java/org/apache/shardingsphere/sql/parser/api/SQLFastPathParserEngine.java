@@ -0,0 +1,46 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.api;
+
+import org.apache.shardingsphere.sql.parser.api.parser.SQLFastPathParser;
+import org.apache.shardingsphere.sql.parser.core.database.parser.DatabaseTypedSQLParserFacadeRegistry;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
+
+import java.util.Optional;
+
+/**
+ * SQL fast path parser engine.
+ */
+public final class SQLFastPathParserEngine {
+    
+    private final SQLFastPathParser fastPathParser;
+    
+    public SQLFastPathParserEngine(final String databaseType) {
+        fastPathParser = DatabaseTypedSQLParserFacadeRegistry.getFacade(databaseType).getFastPathParser().orElse(null);
+    }
+    
+    /**
+     * Parse simple point DML without full grammar.
+     *
+     * @param sql SQL to be parsed
+     * @return SQL statement, empty if SQL should be parsed by full grammar
+     */
+    public Optional<SQLStatement> parse(final String sql) {
+        return null == fastPathParser ? Optional.empty() : fastPathParser.parse(sql).map(SQLStatement.class::cast);
+    }
+}
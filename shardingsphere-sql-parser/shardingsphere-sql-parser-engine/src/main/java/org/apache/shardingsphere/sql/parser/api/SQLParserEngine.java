@@ -17,7 +17,8 @@
 
 package org.apache.shardingsphere.sql.parser.api;
 
-import com.google.common.cache.LoadingCache;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
 import org.apache.shardingsphere.sql.parser.core.ParseContext;
 import org.apache.shardingsphere.sql.parser.core.database.cache.ParseTreeCacheBuilder;
 import org.apache.shardingsphere.sql.parser.core.database.parser.SQLParserExecutor;
@@ -27,13 +28,19 @@ import org.apache.shardingsphere.sql.parser.core.database.parser.SQLParserExecut
  */
 public final class SQLParserEngine {
     
+    public static final int DEFAULT_TRIM_PARSE_TREE_THRESHOLD = 8192;
+    
     private final SQLParserExecutor sqlParserExecutor;
     
     private final LoadingCache<String, ParseContext> parseTreeCache;
     
     public SQLParserEngine(final String databaseType, final CacheOption cacheOption, final boolean sqlCommentParseEnabled) {
-        sqlParserExecutor = new SQLParserExecutor(databaseType, sqlCommentParseEnabled);
-        parseTreeCache = ParseTreeCacheBuilder.build(cacheOption, databaseType, sqlCommentParseEnabled);
+        this(databaseType, cacheOption, sqlCommentParseEnabled, DEFAULT_TRIM_PARSE_TREE_THRESHOLD);
+    }
+    
+    public SQLParserEngine(final String databaseType, final CacheOption cacheOption, final boolean sqlCommentParseEnabled, final int trimParseTreeThreshold) {
+        sqlParserExecutor = new SQLParserExecutor(databaseType, sqlCommentParseEnabled, trimParseTreeThreshold);
+        parseTreeCache = ParseTreeCacheBuilder.build(cacheOption, databaseType, sqlCommentParseEnabled, trimParseTreeThreshold);
     }
     
     /**
@@ -44,6 +51,15 @@ public final class SQLParserEngine {
      * @return parse tree
      */
     public ParseContext parse(final String sql, final boolean useCache) {
-        return useCache ? parseTreeCache.getUnchecked(sql) : sqlParserExecutor.parse(sql);
+        return useCache ? parseTreeCache.get(sql) : sqlParserExecutor.parse(sql);
+    }
+    
+    /**
+     * Get parse tree cache statistics.
+     *
+     * @return parse tree cache statistics
+     */
+    public CacheStats getCacheStats() {
+        return parseTreeCache.stats();
     }
 }
@@ -35,6 +35,8 @@ import org.apache.shardingsphere.sql.parser.api.parser.SQLParser;
 import java.lang.reflect.Method;
 import java.nio.CharBuffer;
 import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
 
 /**
  * SQL parser factory.
@@ -42,6 +44,10 @@ import java.util.Arrays;
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public final class SQLParserFactory {
     
+    private static final int MAX_REUSABLE_SQL_LENGTH = 8192;
+    
+    private static final ThreadLocal<Map<String, SQLParser>> REUSABLE_PARSERS = ThreadLocal.withInitial(HashMap::new);
+    
     /**
      * New instance of SQL parser.
      * 
@@ -55,6 +61,51 @@ public final class SQLParserFactory {
         return createSQLParser(createTokenStream(sql, lexerClass), parserClass, sqlCommentParseEnabled);
     }
     
+    /**
+     * Get reusable instance of SQL parser.
+     * 
+     * <p>
+     * SQL parser, token stream and lexer are cached per thread and reset with new SQL instead of rebuilt.
+     * Parser of SQL longer than 8192 characters is always new created, so that threads do not hold the token buffers of large SQL.
+     * Parse tree of SQL longer than trim parse tree threshold is trimmed to size while parsing, because large IN lists and batched INSERT values dominate parser heap.
+     * </p>
+     *
+     * @param sql SQL
+     * @param lexerClass lexer class
+     * @param parserClass parser class
+     * @param sqlCommentParseEnabled enable sql comment parse
+     * @param trimParseTreeThreshold SQL length threshold to trim parse tree
+     * @return SQL parser
+     */
+    public static SQLParser getReusableInstance(final String sql, final Class<? extends SQLLexer> lexerClass, final Class<? extends SQLParser> parserClass,
+                                                final boolean sqlCommentParseEnabled, final int trimParseTreeThreshold) {
+        SQLParser result = sql.length() > MAX_REUSABLE_SQL_LENGTH
+                ? newInstance(sql, lexerClass, parserClass, sqlCommentParseEnabled) : getReusableInstance(sql, lexerClass, parserClass, sqlCommentParseEnabled);
+        ((Parser) result).setTrimParseTree(sql.length() > trimParseTreeThreshold);
+        return result;
+    }
+    
+    private static SQLParser getReusableInstance(final String sql, final Class<? extends SQLLexer> lexerClass, final Class<? extends SQLParser> parserClass, final boolean sqlCommentParseEnabled) {
+        Map<String, SQLParser> reusableParsers = REUSABLE_PARSERS.get();
+        String key = parserClass.getName() + sqlCommentParseEnabled;
+        SQLParser result = reusableParsers.get(key);
+        if (null == result) {
+            result = newInstance(sql, lexerClass, parserClass, sqlCommentParseEnabled);
+            reusableParsers.put(key, result);
+            return result;
+        }
+        resetSQLParser((Parser) result, sql);
+        return result;
+    }
+    
+    private static void resetSQLParser(final Parser parser, final String sql) {
+        CommonTokenStream tokenStream = (CommonTokenStream) parser.getInputStream();
+        Lexer lexer = (Lexer) tokenStream.getTokenSource();
+        lexer.setInputStream(getSQLCharStream(sql));
+        tokenStream.setTokenSource(lexer);
+        parser.setInputStream(tokenStream);
+    }
+    
     @SneakyThrows(ReflectiveOperationException.class)
     private static SQLParser createSQLParser(final TokenStream tokenStream, final Class<? extends SQLParser> parserClass, final boolean sqlCommentParseEnabled) {
         SQLParser result = parserClass.getConstructor(TokenStream.class).newInstance(tokenStream);
@@ -17,8 +17,8 @@
 
 package org.apache.shardingsphere.sql.parser.core.database.cache;
 
-import com.google.common.cache.CacheBuilder;
-import com.google.common.cache.LoadingCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 import org.apache.shardingsphere.sql.parser.api.CacheOption;
@@ -36,11 +36,14 @@ public final class ParseTreeCacheBuilder {
      * @param option cache option
      * @param databaseType database type
      * @param sqlCommentParseEnabled sql comment parse enabled
+     * @param trimParseTreeThreshold SQL length threshold to trim parse tree
      * @return built parse tree cache
      */
-    public static LoadingCache<String, ParseContext> build(final CacheOption option, final String databaseType, final boolean sqlCommentParseEnabled) {
-        return CacheBuilder.newBuilder().softValues()
-                .initialCapacity(option.getInitialCapacity()).maximumSize(option.getMaximumSize()).concurrencyLevel(option.getConcurrencyLevel())
-                .build(new ParseTreeCacheLoader(databaseType, sqlCommentParseEnabled));
+    public static LoadingCache<String, ParseContext> build(final CacheOption option, final String databaseType, final boolean sqlCommentParseEnabled, final int trimParseTreeThreshold) {
+        Caffeine<Object, Object> builder = Caffeine.newBuilder().initialCapacity(option.getInitialCapacity()).recordStats();
+        ParseTreeCacheLoader loader = new ParseTreeCacheLoader(databaseType, sqlCommentParseEnabled, trimParseTreeThreshold);
+        return option.isWeighted()
+                ? builder.maximumWeight(option.getMaximumWeight()).weigher(new SQLLengthWeigher()).build(loader)
+                : builder.maximumSize(option.getMaximumSize()).build(loader);
     }
 }
@@ -17,24 +17,21 @@
 
 package org.apache.shardingsphere.sql.parser.core.database.cache;
 
-import com.google.common.cache.CacheLoader;
+import com.github.benmanes.caffeine.cache.CacheLoader;
 import org.apache.shardingsphere.sql.parser.core.ParseContext;
 import org.apache.shardingsphere.sql.parser.core.database.parser.SQLParserExecutor;
 
-import javax.annotation.ParametersAreNonnullByDefault;
-
 /**
  * Parse context cache loader.
  */
-public final class ParseTreeCacheLoader extends CacheLoader<String, ParseContext> {
+public final class ParseTreeCacheLoader implements CacheLoader<String, ParseContext> {
     
     private final SQLParserExecutor sqlParserExecutor;
     
-    public ParseTreeCacheLoader(final String databaseType, final boolean sqlCommentParseEnabled) {
-        sqlParserExecutor = new SQLParserExecutor(databaseType, sqlCommentParseEnabled);
+    public ParseTreeCacheLoader(final String databaseType, final boolean sqlCommentParseEnabled, final int trimParseTreeThreshold) {
+        sqlParserExecutor = new SQLParserExecutor(databaseType, sqlCommentParseEnabled, trimParseTreeThreshold);
     }
     
-    @ParametersAreNonnullByDefault
     @Override
     public ParseContext load(final String sql) {
         return sqlParserExecutor.parse(sql);
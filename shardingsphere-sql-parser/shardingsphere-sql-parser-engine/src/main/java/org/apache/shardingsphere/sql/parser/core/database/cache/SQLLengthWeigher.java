@@ -0,0 +1,33 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.core.database.cache;
+
+import com.github.benmanes.caffeine.cache.Weigher;
+
+/**
+ * SQL length weigher.
+ *
+ * <p>Parse tree and SQL statement grow linearly with tokens of SQL, so length of SQL is used as estimated size of cached value.</p>
+ */
+public final class SQLLengthWeigher implements Weigher<String, Object> {
+    
+    @Override
+    public int weigh(final String sql, final Object value) {
+        return Math.max(1, sql.length());
+    }
+}
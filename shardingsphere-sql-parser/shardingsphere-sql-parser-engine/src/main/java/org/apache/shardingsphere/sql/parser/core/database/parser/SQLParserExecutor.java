@@ -39,6 +39,8 @@ public final class SQLParserExecutor {
     
     private final boolean sqlCommentParseEnabled;
     
+    private final int trimParseTreeThreshold;
+    
     /**
      * Parse SQL.
      * 
@@ -55,7 +57,7 @@ public final class SQLParserExecutor {
     
     private ParseASTNode twoPhaseParse(final String sql) {
         DatabaseTypedSQLParserFacade sqlParserFacade = DatabaseTypedSQLParserFacadeRegistry.getFacade(databaseType);
-        SQLParser sqlParser = SQLParserFactory.newInstance(sql, sqlParserFacade.getLexerClass(), sqlParserFacade.getParserClass(), sqlCommentParseEnabled);
+        SQLParser sqlParser = SQLParserFactory.getReusableInstance(sql, sqlParserFacade.getLexerClass(), sqlParserFacade.getParserClass(), sqlCommentParseEnabled, trimParseTreeThreshold);
         try {
             ((Parser) sqlParser).getInterpreter().setPredictionMode(PredictionMode.SLL);
             return (ParseASTNode) sqlParser.parse();
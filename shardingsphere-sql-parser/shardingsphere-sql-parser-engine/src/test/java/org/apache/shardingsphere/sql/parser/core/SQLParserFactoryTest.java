@@ -17,6 +17,9 @@
 
 package org.apache.shardingsphere.sql.parser.core;
 
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.Parser;
+import org.apache.shardingsphere.sql.parser.api.SQLParserEngine;
 import org.apache.shardingsphere.sql.parser.api.parser.SQLLexer;
 import org.apache.shardingsphere.sql.parser.api.parser.SQLParser;
 import org.apache.shardingsphere.sql.parser.fixture.LexerFixture;
@@ -24,8 +27,13 @@ import org.apache.shardingsphere.sql.parser.fixture.ParserFixture;
 import org.junit.Test;
 
 import static org.mockito.Mockito.mock;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
 import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
 
 public final class SQLParserFactoryTest {
     
@@ -38,4 +46,34 @@ public final class SQLParserFactoryTest {
         SQLParser result = SQLParserFactory.newInstance(SQL, sqlLexer.getClass(), sqlParser.getClass(), false);
         assertThat(result, instanceOf(ParserFixture.class));
     }
+    
+    @Test
+    public void assertGetReusableInstance() {
+        SQLParser expected = SQLParserFactory.getReusableInstance(SQL, LexerFixture.class, ParserFixture.class, false, SQLParserEngine.DEFAULT_TRIM_PARSE_TREE_THRESHOLD);
+        SQLParser actual = SQLParserFactory.getReusableInstance("SELECT 1", LexerFixture.class, ParserFixture.class, false, SQLParserEngine.DEFAULT_TRIM_PARSE_TREE_THRESHOLD);
+        assertThat(actual, sameInstance(expected));
+        assertThat(((CommonTokenStream) ((Parser) actual).getInputStream()).getTokenSource().getInputStream().toString(), is("SELECT 1"));
+        assertThat(SQLParserFactory.getReusableInstance(SQL, LexerFixture.class, ParserFixture.class, true, SQLParserEngine.DEFAULT_TRIM_PARSE_TREE_THRESHOLD), not(sameInstance(expected)));
+    }
+    
+    @Test
+    public void assertGetReusableInstanceWithLargeSQL() {
+        StringBuilder sql = new StringBuilder("SELECT * FROM user WHERE id IN (0");
+        for (int i = 1; i < 2000; i++) {
+            sql.append(", ").append(i);
+        }
+        sql.append(")");
+        SQLParser actual = SQLParserFactory.getReusableInstance(sql.toString(), LexerFixture.class, ParserFixture.class, false, SQLParserEngine.DEFAULT_TRIM_PARSE_TREE_THRESHOLD);
+        assertThat(actual, not(sameInstance(SQLParserFactory.getReusableInstance(sql.toString(), LexerFixture.class, ParserFixture.class, false, SQLParserEngine.DEFAULT_TRIM_PARSE_TREE_THRESHOLD))));
+        assertTrue(((Parser) actual).getTrimParseTree());
+        assertFalse(((Parser) SQLParserFactory.getReusableInstance(SQL, LexerFixture.class, ParserFixture.class, false, SQLParserEngine.DEFAULT_TRIM_PARSE_TREE_THRESHOLD)).getTrimParseTree());
+    }
+    
+    @Test
+    public void assertGetReusableInstanceWithConfiguredTrimParseTreeThreshold() {
+        SQLParser actual = SQLParserFactory.getReusableInstance(SQL, LexerFixture.class, ParserFixture.class, false, SQL.length() - 1);
+        assertTrue(((Parser) actual).getTrimParseTree());
+        assertThat(actual, sameInstance(SQLParserFactory.getReusableInstance(SQL, LexerFixture.class, ParserFixture.class, false, SQL.length() - 1)));
+        assertFalse(((Parser) SQLParserFactory.getReusableInstance(SQL, LexerFixture.class, ParserFixture.class, false, SQL.length())).getTrimParseTree());
+    }
 }
@@ -17,19 +17,31 @@
 
 package org.apache.shardingsphere.sql.parser.core.database.cache;
 
-import com.google.common.cache.LoadingCache;
+import com.github.benmanes.caffeine.cache.LoadingCache;
 import org.apache.shardingsphere.sql.parser.api.CacheOption;
+import org.apache.shardingsphere.sql.parser.api.SQLParserEngine;
 import org.apache.shardingsphere.sql.parser.core.ParseContext;
 import org.junit.Test;
 
+import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.isA;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
 
 public final class ParseTreeCacheBuilderTest {
     
     @Test
     public void assertParseTreeCacheBuild() {
-        LoadingCache<String, ParseContext> cache = ParseTreeCacheBuilder.build(new CacheOption(1, 10, 1), "MySQL", false);
+        LoadingCache<String, ParseContext> cache = ParseTreeCacheBuilder.build(new CacheOption(1, 10, 1), "MySQL", false, SQLParserEngine.DEFAULT_TRIM_PARSE_TREE_THRESHOLD);
         assertThat(cache, isA(LoadingCache.class));
+        assertFalse(cache.policy().eviction().get().isWeighted());
+    }
+    
+    @Test
+    public void assertWeightedParseTreeCacheBuild() {
+        LoadingCache<String, ParseContext> cache = ParseTreeCacheBuilder.build(new CacheOption(1, 10, 1, 1024L), "MySQL", false, SQLParserEngine.DEFAULT_TRIM_PARSE_TREE_THRESHOLD);
+        assertTrue(cache.policy().eviction().get().isWeighted());
+        assertThat(cache.policy().eviction().get().getMaximum(), is(1024L));
     }
 }
@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.sql.parser.core.database.cache;
 
+import org.apache.shardingsphere.sql.parser.api.SQLParserEngine;
 import org.apache.shardingsphere.sql.parser.core.ParseContext;
 import org.apache.shardingsphere.sql.parser.core.database.parser.SQLParserExecutor;
 import org.junit.Test;
@@ -35,7 +36,7 @@ public final class ParseTreeCacheLoaderTest {
     @Test
     public void assertParseTreeCacheLoader() throws NoSuchFieldException, IllegalAccessException {
         SQLParserExecutor sqlParserExecutor = mock(SQLParserExecutor.class, RETURNS_DEEP_STUBS);
-        ParseTreeCacheLoader loader = new ParseTreeCacheLoader("MySQL", false);
+        ParseTreeCacheLoader loader = new ParseTreeCacheLoader("MySQL", false, SQLParserEngine.DEFAULT_TRIM_PARSE_TREE_THRESHOLD);
         Field sqlParserExecutorField = loader.getClass().getDeclaredField("sqlParserExecutor");
         sqlParserExecutorField.setAccessible(true);
         sqlParserExecutorField.set(loader, sqlParserExecutor);
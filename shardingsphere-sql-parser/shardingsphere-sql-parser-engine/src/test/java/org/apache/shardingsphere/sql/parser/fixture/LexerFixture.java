@@ -28,6 +28,10 @@ public final class LexerFixture extends Lexer implements SQLLexer {
         super(input);
     }
     
+    @Override
+    public void reset() {
+    }
+    
     @Override
     public String[] getRuleNames() {
         return new String[0];
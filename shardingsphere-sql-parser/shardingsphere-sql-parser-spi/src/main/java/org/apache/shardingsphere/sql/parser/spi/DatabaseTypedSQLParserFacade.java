@@ -17,6 +17,10 @@
 
 package org.apache.shardingsphere.sql.parser.spi;
 
+import org.apache.shardingsphere.sql.parser.api.parser.SQLFastPathParser;
+
+import java.util.Optional;
+
 /**
  * Database type based SQL parser facade.
  */
@@ -28,4 +32,13 @@ public interface DatabaseTypedSQLParserFacade extends SQLParserFacade {
      * @return database type
      */
     String getDatabaseType();
+    
+    /**
+     * Get SQL fast path parser.
+     *
+     * @return SQL fast path parser, empty if database type has no fast path parser
+     */
+    default Optional<SQLFastPathParser> getFastPathParser() {
+        return Optional.empty();
+    }
 }
@@ -21,7 +21,7 @@ import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.Setter;
 
-import java.util.LinkedList;
+import java.util.ArrayList;
 import java.util.List;
 
 @RequiredArgsConstructor
@@ -33,6 +33,6 @@ public final class ListExpression implements ExpressionSegment {
     
     private final int stopIndex;
     
-    private final List<ExpressionSegment> items = new LinkedList<>();
+    private final List<ExpressionSegment> items = new ArrayList<>();
 }
 
@@ -0,0 +1,118 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.test.benchmark.binder;
+
+import org.apache.shardingsphere.infra.binder.SQLStatementContextFactory;
+import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.metadata.rule.ShardingSphereRuleMetaData;
+import org.apache.shardingsphere.infra.metadata.schema.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.schema.model.ColumnMetaData;
+import org.apache.shardingsphere.infra.metadata.schema.model.TableMetaData;
+import org.apache.shardingsphere.sql.parser.api.CacheOption;
+import org.apache.shardingsphere.sql.parser.api.SQLParserEngine;
+import org.apache.shardingsphere.sql.parser.api.SQLVisitorEngine;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
+import org.apache.shardingsphere.test.benchmark.fixture.BenchmarkSQLCorpus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for {@code SQLStatementContextFactory}, SQL statement is prepared once and bound in every invocation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SQLStatementContextFactoryBenchmark {
+    
+    private static final String SCHEMA_NAME = "sharding_db";
+    
+    @Param({"MySQL", "PostgreSQL", "openGauss", "Oracle", "SQLServer", "SQL92"})
+    private String databaseType;
+    
+    @Param
+    private BenchmarkSQLCorpus corpus;
+    
+    private Map<String, ShardingSphereMetaData> metaDataMap;
+    
+    private List<Object> parameters;
+    
+    private SQLStatement sqlStatement;
+    
+    /**
+     * Set up.
+     */
+    @Setup
+    public void setUp() {
+        metaDataMap = Collections.singletonMap(SCHEMA_NAME,
+                new ShardingSphereMetaData(SCHEMA_NAME, null, new ShardingSphereRuleMetaData(Collections.emptyList(), Collections.emptyList()), createSchema()));
+        parameters = createParameters(corpus.getSql());
+        sqlStatement = new SQLVisitorEngine(databaseType, "STATEMENT", new Properties()).visit(new SQLParserEngine(databaseType, new CacheOption(128, 1024L, 4), false).parse(corpus.getSql(), false));
+    }
+    
+    private ShardingSphereSchema createSchema() {
+        Map<String, TableMetaData> tables = new HashMap<>(2, 1);
+        tables.put("t_order", new TableMetaData("t_order", Arrays.asList(new ColumnMetaData("order_id", Types.INTEGER, true, false, false),
+                new ColumnMetaData("user_id", Types.INTEGER, false, false, false), new ColumnMetaData("status", Types.VARCHAR, false, false, false)), Collections.emptyList()));
+        tables.put("t_order_item", new TableMetaData("t_order_item", Arrays.asList(new ColumnMetaData("item_id", Types.INTEGER, true, false, false),
+                new ColumnMetaData("order_id", Types.INTEGER, false, false, false), new ColumnMetaData("status", Types.VARCHAR, false, false, false)), Collections.emptyList()));
+        return new ShardingSphereSchema(tables);
+    }
+    
+    private List<Object> createParameters(final String sql) {
+        List<Object> result = new ArrayList<>();
+        for (int i = 0; i < sql.length(); i++) {
+            if ('?' == sql.charAt(i)) {
+                result.add(i);
+            }
+        }
+        return result;
+    }
+    
+    /**
+     * Benchmark new instance.
+     *
+     * @return SQL statement context
+     */
+    @Benchmark
+    public SQLStatementContext<?> newInstance() {
+        return SQLStatementContextFactory.newInstance(metaDataMap, parameters, sqlStatement, SCHEMA_NAME);
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.test.benchmark.fixture;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Benchmark SQL corpus.
+ *
+ * <p>All SQL are written in the common subset of every dialect, so results of different dialects are comparable.</p>
+ */
+@RequiredArgsConstructor
+@Getter
+public enum BenchmarkSQLCorpus {
+    
+    POINT_SELECT("SELECT order_id, user_id, status FROM t_order WHERE order_id = ?"),
+    
+    POINT_UPDATE("UPDATE t_order SET status = ? WHERE order_id = ?"),
+    
+    POINT_DELETE("DELETE FROM t_order WHERE order_id = ?"),
+    
+    JOIN_SELECT("SELECT o.order_id, o.user_id, i.item_id, i.status FROM t_order o JOIN t_order_item i ON o.order_id = i.order_id "
+            + "WHERE o.user_id = ? AND o.order_id IN (?, ?, ?) ORDER BY o.order_id"),
+    
+    BULK_INSERT(createBulkInsertSQL(100)),
+    
+    CREATE_TABLE("CREATE TABLE t_order (order_id INT NOT NULL, user_id INT NOT NULL, status VARCHAR(45), PRIMARY KEY (order_id))");
+    
+    private final String sql;
+    
+    private static String createBulkInsertSQL(final int rowCount) {
+        StringBuilder result = new StringBuilder("INSERT INTO t_order (order_id, user_id, status) VALUES ");
+        for (int i = 0; i < rowCount; i++) {
+            if (i > 0) {
+                result.append(", ");
+            }
+            result.append("(?, ?, ?)");
+        }
+        return result.toString();
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.test.benchmark.parser;
+
+import org.apache.shardingsphere.sql.parser.api.CacheOption;
+import org.apache.shardingsphere.sql.parser.api.SQLFastPathParserEngine;
+import org.apache.shardingsphere.sql.parser.api.SQLParserEngine;
+import org.apache.shardingsphere.sql.parser.api.SQLVisitorEngine;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
+import org.apache.shardingsphere.test.benchmark.fixture.BenchmarkSQLCorpus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for MySQL fast path parser against full grammar parsing and visiting of the same point DML.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MySQLFastPathParserBenchmark {
+    
+    private static final String DATABASE_TYPE = "MySQL";
+    
+    @Param({"POINT_SELECT", "POINT_UPDATE", "POINT_DELETE", "BULK_INSERT"})
+    private BenchmarkSQLCorpus corpus;
+    
+    private SQLFastPathParserEngine fastPathParserEngine;
+    
+    private SQLParserEngine parserEngine;
+    
+    private SQLVisitorEngine visitorEngine;
+    
+    /**
+     * Set up.
+     */
+    @Setup
+    public void setUp() {
+        fastPathParserEngine = new SQLFastPathParserEngine(DATABASE_TYPE);
+        parserEngine = new SQLParserEngine(DATABASE_TYPE, new CacheOption(128, 1024L, 4), false);
+        visitorEngine = new SQLVisitorEngine(DATABASE_TYPE, "STATEMENT", new Properties());
+        if (!fastPathParserEngine.parse(corpus.getSql()).isPresent()) {
+            throw new IllegalStateException(String.format("Fast path can not recognize SQL `%s`.", corpus.getSql()));
+        }
+    }
+    
+    /**
+     * Benchmark fast path parser.
+     *
+     * @return SQL statement
+     */
+    @Benchmark
+    public SQLStatement fastPath() {
+        return fastPathParserEngine.parse(corpus.getSql()).get();
+    }
+    
+    /**
+     * Benchmark full grammar parser and visitor.
+     *
+     * @return SQL statement
+     */
+    @Benchmark
+    public SQLStatement fullGrammar() {
+        return visitorEngine.visit(parserEngine.parse(corpus.getSql(), false));
+    }
+}